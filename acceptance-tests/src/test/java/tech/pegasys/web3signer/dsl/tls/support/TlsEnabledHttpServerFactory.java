@@ -89,7 +89,7 @@ public class TlsEnabledHttpServerFactory {
           .handler(ResponseContentTypeHandler.create())
           .handler(BodyHandler.create())
           .failureHandler(new JsonRpcErrorHandler(new HttpResponseFactory()))
-          .handler(new JsonRpcHandler(null, requestMapper, jsonDecoder));
+          .handler(new JsonRpcHandler(null, requestMapper, jsonDecoder, 1024));
 
       final HttpServer web3ProviderHttpServer = vertx.createHttpServer(web3HttpServerOptions);
 
@@ -18,6 +18,7 @@ import tech.pegasys.web3signer.commandline.CommandlineParser;
 import tech.pegasys.web3signer.commandline.Web3SignerBaseCommand;
 import tech.pegasys.web3signer.commandline.subcommands.Eth1SubCommand;
 import tech.pegasys.web3signer.commandline.subcommands.Eth2SubCommand;
+import tech.pegasys.web3signer.core.StartupPhases;
 
 import java.io.PrintWriter;
 import java.util.Map;
@@ -25,6 +26,7 @@ import java.util.Map;
 public class Web3SignerApp {
 
   public static void main(final String... args) {
+    StartupPhases.recordJvmStartup();
     executeWithEnvironment(System.getenv(), args);
   }
 
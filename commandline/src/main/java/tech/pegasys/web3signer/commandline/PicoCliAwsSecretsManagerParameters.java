@@ -37,6 +37,8 @@ public class PicoCliAwsSecretsManagerParameters implements AwsVaultParameters {
   public static final String AWS_SECRETS_PREFIXES_FILTER_OPTION = "--aws-secrets-prefixes-filter";
   public static final String AWS_SECRETS_TAG_OPTION = "--aws-secrets-tag";
   public static final String AWS_CONNECTION_CACHE_SIZE_OPTION = "--aws-connection-cache-size";
+  public static final String AWS_SECRETS_FETCH_CONCURRENCY_OPTION =
+      "--aws-secrets-fetch-concurrency";
 
   @Option(
       names = AWS_SECRETS_ENABLED_OPTION,
@@ -105,6 +107,14 @@ public class PicoCliAwsSecretsManagerParameters implements AwsVaultParameters {
           "Maximum number of connections to cache to the AWS Secrets Manager (default: ${DEFAULT-VALUE})")
   private long cacheMaximumSize = 1;
 
+  @Option(
+      names = AWS_SECRETS_FETCH_CONCURRENCY_OPTION,
+      description =
+          "Maximum number of concurrent BatchGetSecretValue requests used to fetch secrets while bulk loading."
+              + " (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<INTEGER>")
+  private int fetchConcurrency = AwsVaultParameters.DEFAULT_FETCH_CONCURRENCY;
+
   @Override
   public boolean isEnabled() {
     return awsSecretsManagerEnabled;
@@ -135,6 +145,11 @@ public class PicoCliAwsSecretsManagerParameters implements AwsVaultParameters {
     return cacheMaximumSize;
   }
 
+  @Override
+  public int getFetchConcurrency() {
+    return fetchConcurrency;
+  }
+
   @Override
   public Collection<String> getPrefixesFilter() {
     return prefixesFilter;
@@ -22,6 +22,9 @@ import picocli.CommandLine;
 import picocli.CommandLine.Option;
 
 public class PicoCliAzureKeyVaultParameters implements AzureKeyVaultParameters {
+  public static final String AZURE_VAULT_FETCH_CONCURRENCY_OPTION =
+      "--azure-vault-fetch-concurrency";
+  public static final String AZURE_TOKEN_REFRESH_MARGIN_OPTION = "--azure-token-refresh-margin";
 
   @Option(
       names = {"--azure-vault-enabled"},
@@ -80,6 +83,22 @@ public class PicoCliAzureKeyVaultParameters implements AzureKeyVaultParameters {
       paramLabel = "<TAG_NAME>=<TAG_VALUE>")
   private Map<String, String> tags = new LinkedHashMap<>();
 
+  @Option(
+      names = AZURE_VAULT_FETCH_CONCURRENCY_OPTION,
+      description =
+          "Maximum number of concurrent requests used to fetch secrets or keys while bulk loading."
+              + " (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<INTEGER>")
+  private int fetchConcurrency = AzureKeyVaultParameters.DEFAULT_FETCH_CONCURRENCY;
+
+  @Option(
+      names = AZURE_TOKEN_REFRESH_MARGIN_OPTION,
+      description =
+          "How long before the access token used to sign with Azure keys expires that it is renewed"
+              + " in the background (in seconds). (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<SECONDS>")
+  private long tokenRefreshMargin = AzureKeyVaultParameters.DEFAULT_TOKEN_REFRESH_MARGIN_SECONDS;
+
   @Override
   public boolean isAzureKeyVaultEnabled() {
     return azureKeyVaultEnabled;
@@ -119,4 +138,14 @@ public class PicoCliAzureKeyVaultParameters implements AzureKeyVaultParameters {
   public Map<String, String> getTags() {
     return tags;
   }
+
+  @Override
+  public int getFetchConcurrency() {
+    return fetchConcurrency;
+  }
+
+  @Override
+  public long getTokenRefreshMargin() {
+    return tokenRefreshMargin;
+  }
 }
@@ -22,6 +22,8 @@ public class PicoCliGcpSecretManagerParameters implements GcpSecretManagerParame
   public static final String GCP_SECRETS_ENABLED_OPTION = "--gcp-secrets-enabled";
   public static final String GCP_SECRETS_FILTER_OPTION = "--gcp-secrets-filter";
   public static final String GCP_PROJECT_ID_OPTION = "--gcp-project-id";
+  public static final String GCP_SECRETS_FETCH_CONCURRENCY_OPTION =
+      "--gcp-secrets-fetch-concurrency";
 
   @Option(
       names = GCP_SECRETS_ENABLED_OPTION,
@@ -47,6 +49,14 @@ public class PicoCliGcpSecretManagerParameters implements GcpSecretManagerParame
               + "specified project are loaded into the application.")
   private Optional<String> filter = Optional.empty();
 
+  @Option(
+      names = GCP_SECRETS_FETCH_CONCURRENCY_OPTION,
+      description =
+          "Maximum number of concurrent requests used to fetch secret versions while bulk loading."
+              + " (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<INTEGER>")
+  private int fetchConcurrency = GcpSecretManagerParameters.DEFAULT_FETCH_CONCURRENCY;
+
   @Override
   public boolean isEnabled() {
     return gcpSecretsEnabledOption;
@@ -61,4 +71,9 @@ public class PicoCliGcpSecretManagerParameters implements GcpSecretManagerParame
   public Optional<String> getFilter() {
     return filter;
   }
+
+  @Override
+  public int getFetchConcurrency() {
+    return fetchConcurrency;
+  }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline;
+
+import tech.pegasys.web3signer.signing.config.RemoteSigningParameters;
+
+import java.time.Duration;
+
+import picocli.CommandLine.Option;
+
+public class PicoCliRemoteSigningParameters implements RemoteSigningParameters {
+  public static final String AWS_KMS_TIMEOUT_OPTION = "--remote-signing-aws-kms-timeout";
+  public static final String AZURE_TIMEOUT_OPTION = "--remote-signing-azure-timeout";
+  public static final String MAX_CONCURRENT_REQUESTS_OPTION =
+      "--remote-signing-max-concurrent-requests";
+  public static final String HEDGING_ENABLED_OPTION = "--remote-signing-hedging-enabled";
+  public static final String MIN_HEDGE_DELAY_OPTION = "--remote-signing-min-hedge-delay";
+  public static final String CIRCUIT_BREAKER_FAILURE_RATE_OPTION =
+      "--remote-signing-circuit-breaker-failure-rate";
+  public static final String CIRCUIT_BREAKER_OPEN_DURATION_OPTION =
+      "--remote-signing-circuit-breaker-open-duration";
+
+  @Option(
+      names = AWS_KMS_TIMEOUT_OPTION,
+      description =
+          "How long to wait for AWS KMS to sign before failing the request (in milliseconds)."
+              + " (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<MILLISECONDS>")
+  private long awsKmsTimeout = DEFAULT_TIMEOUT_MILLIS;
+
+  @Option(
+      names = AZURE_TIMEOUT_OPTION,
+      description =
+          "How long to wait for Azure Key Vault to sign before failing the request (in"
+              + " milliseconds). (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<MILLISECONDS>")
+  private long azureTimeout = DEFAULT_TIMEOUT_MILLIS;
+
+  @Option(
+      names = MAX_CONCURRENT_REQUESTS_OPTION,
+      description =
+          "Maximum number of signing requests in progress to each of AWS KMS and Azure Key Vault."
+              + " Further requests fail immediately. (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<INTEGER>")
+  private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+  @Option(
+      names = HEDGING_ENABLED_OPTION,
+      description =
+          "Set true to send a second signing request to AWS KMS or Azure Key Vault when the first"
+              + " has not completed within the recent 95th percentile latency."
+              + " (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<BOOL>",
+      arity = "1")
+  private boolean hedgingEnabled = false;
+
+  @Option(
+      names = MIN_HEDGE_DELAY_OPTION,
+      description =
+          "The shortest time to wait before sending a hedged signing request (in milliseconds)."
+              + " (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<MILLISECONDS>")
+  private long minHedgeDelay = DEFAULT_MIN_HEDGE_DELAY_MILLIS;
+
+  @Option(
+      names = CIRCUIT_BREAKER_FAILURE_RATE_OPTION,
+      description =
+          "Percentage of recent signing requests to AWS KMS or Azure Key Vault which must fail for"
+              + " further requests to fail immediately. (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<PERCENTAGE>")
+  private int circuitBreakerFailureRate = DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE;
+
+  @Option(
+      names = CIRCUIT_BREAKER_OPEN_DURATION_OPTION,
+      description =
+          "How long signing requests fail immediately once the failure rate is reached, before a"
+              + " trial request is sent (in milliseconds). (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<MILLISECONDS>")
+  private long circuitBreakerOpenDuration = DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_MILLIS;
+
+  @Override
+  public Duration getAwsKmsTimeout() {
+    return Duration.ofMillis(awsKmsTimeout);
+  }
+
+  @Override
+  public Duration getAzureTimeout() {
+    return Duration.ofMillis(azureTimeout);
+  }
+
+  @Override
+  public int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  @Override
+  public boolean isHedgingEnabled() {
+    return hedgingEnabled;
+  }
+
+  @Override
+  public Duration getMinHedgeDelay() {
+    return Duration.ofMillis(minHedgeDelay);
+  }
+
+  @Override
+  public int getCircuitBreakerFailureRate() {
+    return circuitBreakerFailureRate;
+  }
+
+  @Override
+  public Duration getCircuitBreakerOpenDuration() {
+    return Duration.ofMillis(circuitBreakerOpenDuration);
+  }
+}
@@ -12,10 +12,12 @@
  */
 package tech.pegasys.web3signer.commandline;
 
+import static tech.pegasys.web3signer.commandline.DefaultCommandValues.BOOL_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.CONFIG_FILE_OPTION_NAME;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.FILE_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.HOST_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.INTEGER_FORMAT_HELP;
+import static tech.pegasys.web3signer.commandline.DefaultCommandValues.LONG_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.PORT_FORMAT_HELP;
 import static tech.pegasys.web3signer.common.Web3SignerMetricCategory.DEFAULT_METRIC_CATEGORIES;
 
@@ -211,6 +213,34 @@ public class Web3SignerBaseCommand implements BaseConfig, Runnable {
       paramLabel = INTEGER_FORMAT_HELP)
   private Integer vertxWorkerPoolSize = null;
 
+  @Option(
+      names = "--native-transport-enabled",
+      description =
+          "Use the native epoll (Linux) or kqueue (macOS) transport for network connections, "
+              + "falling back to the NIO transport when it is not available "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = BOOL_FORMAT_HELP,
+      arity = "1")
+  private boolean nativeTransportEnabled = false;
+
+  @Option(
+      names = "--http-max-request-body-size",
+      description =
+          "Maximum size in bytes of a request body read into memory, larger requests are rejected "
+              + "with 413 (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long httpMaxRequestBodySize = DEFAULT_HTTP_MAX_REQUEST_BODY_SIZE;
+
+  @Option(
+      names = "--signing-max-request-body-size",
+      description =
+          "Maximum size in bytes of a request body to the eth1 and eth2 signing endpoints, larger "
+              + "requests are rejected with 413 (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long signingMaxRequestBodySize = DEFAULT_SIGNING_MAX_REQUEST_BODY_SIZE;
+
   // Reload endpoint timeout (Vert.x Worker Executor)
   @CommandLine.Option(
       names = {"--reload-timeout"},
@@ -269,6 +299,16 @@ public class Web3SignerBaseCommand implements BaseConfig, Runnable {
       arity = "1")
   private boolean signerLoadParallel = true;
 
+  @CommandLine.Option(
+      names = {"--Xexit-after-startup"},
+      description =
+          "Exit once startup has completed, used by the training run which records the class "
+              + "data sharing archive. (Default: ${DEFAULT-VALUE})",
+      paramLabel = "<BOOL>",
+      arity = "1",
+      hidden = true)
+  private boolean exitAfterStartup = false;
+
   @CommandLine.Mixin private PicoCliTlsServerOptions picoCliTlsServerOptions;
 
   public Level getLogLevel() {
@@ -375,6 +415,21 @@ public class Web3SignerBaseCommand implements BaseConfig, Runnable {
     return VERTX_WORKER_POOL_SIZE_DEFAULT;
   }
 
+  @Override
+  public boolean isNativeTransportEnabled() {
+    return nativeTransportEnabled;
+  }
+
+  @Override
+  public long getHttpMaxRequestBodySize() {
+    return httpMaxRequestBodySize;
+  }
+
+  @Override
+  public long getSigningMaxRequestBodySize() {
+    return signingMaxRequestBodySize;
+  }
+
   @Override
   public SignerLoaderConfig getSignerLoaderConfig() {
     return new SignerLoaderConfig(
@@ -390,6 +445,10 @@ public class Web3SignerBaseCommand implements BaseConfig, Runnable {
     return reloadTimeoutMinutes;
   }
 
+  public boolean isExitAfterStartup() {
+    return exitAfterStartup;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
@@ -409,6 +468,9 @@ public class Web3SignerBaseCommand implements BaseConfig, Runnable {
         .add("picoCliTlsServerOptions", picoCliTlsServerOptions)
         .add("idleConnectionTimeoutSeconds", idleConnectionTimeoutSeconds)
         .add("vertxWorkerPoolSize", vertxWorkerPoolSize)
+        .add("nativeTransportEnabled", nativeTransportEnabled)
+        .add("httpMaxRequestBodySize", httpMaxRequestBodySize)
+        .add("signingMaxRequestBodySize", signingMaxRequestBodySize)
         .add("signerLoaderConfig", getSignerLoaderConfig())
         .toString();
   }
@@ -439,6 +501,16 @@ public class Web3SignerBaseCommand implements BaseConfig, Runnable {
               + "time.  Please refer to CLI reference for more details about this constraint.");
     }
 
+    if (httpMaxRequestBodySize < 1) {
+      throw new CommandLine.ParameterException(
+          spec.commandLine(), "--http-max-request-body-size must be at least 1");
+    }
+
+    if (signingMaxRequestBodySize < 1) {
+      throw new CommandLine.ParameterException(
+          spec.commandLine(), "--signing-max-request-body-size must be at least 1");
+    }
+
     // reload endpoint handler timeout option validation
     if (reloadTimeoutMinutes < 1) {
       throw new CommandLine.ParameterException(
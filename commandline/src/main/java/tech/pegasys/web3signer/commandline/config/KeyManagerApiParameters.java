@@ -34,6 +34,33 @@ public class KeyManagerApiParameters implements KeyManagerApiConfig {
       hidden = true)
   private boolean skipKeystoreStorage = false;
 
+  @Option(
+      names = "--key-manager-api-max-request-body-size",
+      description =
+          "Maximum size in bytes of a key manager import request body. Import bodies are written "
+              + "to a temporary file rather than read into memory (default: ${DEFAULT-VALUE}).",
+      paramLabel = "<LONG>",
+      arity = "1")
+  private long maxRequestBodySize = DEFAULT_MAX_REQUEST_BODY_SIZE;
+
+  @Option(
+      names = "--key-manager-api-max-pending-import-jobs",
+      description =
+          "Maximum number of queued or running asynchronous key manager import jobs, further "
+              + "imports are rejected with 429 (default: ${DEFAULT-VALUE}).",
+      paramLabel = "<INTEGER>",
+      arity = "1")
+  private int maxPendingImportJobs = DEFAULT_MAX_PENDING_IMPORT_JOBS;
+
+  @Option(
+      names = "--key-manager-api-import-timeout",
+      description =
+          "Maximum time allowed for an asynchronous key manager import job "
+              + "(default: ${DEFAULT-VALUE} minutes).",
+      paramLabel = "<MINUTES>",
+      arity = "1")
+  private long importTimeoutMinutes = DEFAULT_IMPORT_TIMEOUT_MINUTES;
+
   @Override
   public boolean isKeyManagerApiEnabled() {
     return isKeyManagerApiEnabled;
@@ -43,4 +70,19 @@ public class KeyManagerApiParameters implements KeyManagerApiConfig {
   public boolean skipKeystoreStorage() {
     return skipKeystoreStorage;
   }
+
+  @Override
+  public long getMaxRequestBodySize() {
+    return maxRequestBodySize;
+  }
+
+  @Override
+  public int getMaxPendingImportJobs() {
+    return maxPendingImportJobs;
+  }
+
+  @Override
+  public long getImportTimeoutMinutes() {
+    return importTimeoutMinutes;
+  }
 }
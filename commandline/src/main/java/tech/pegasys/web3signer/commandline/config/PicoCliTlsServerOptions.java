@@ -50,6 +50,15 @@ public class PicoCliTlsServerOptions implements TlsOptions {
       arity = "1")
   Boolean tlsAllowAnyClient = false; // package level access for validator
 
+  @Option(
+      names = "--tls-openssl-engine-enabled",
+      description =
+          "Use the OpenSSL TLS engine for inbound connections, falling back to the JDK TLS engine "
+              + "when OpenSSL is not available (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOL_FORMAT_HELP,
+      arity = "1")
+  private boolean openSslEngineEnabled = false;
+
   @CommandLine.Mixin
   PicoCliClientAuthConstraints clientAuthConstraints; // package level access for validator
 
@@ -68,4 +77,9 @@ public class PicoCliTlsServerOptions implements TlsOptions {
     // assuming custom validation method has been called.
     return tlsAllowAnyClient ? Optional.empty() : Optional.of(clientAuthConstraints);
   }
+
+  @Override
+  public boolean isOpenSslEngineEnabled() {
+    return openSslEngineEnabled;
+  }
 }
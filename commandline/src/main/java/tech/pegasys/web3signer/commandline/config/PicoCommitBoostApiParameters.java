@@ -12,9 +12,10 @@
  */
 package tech.pegasys.web3signer.commandline.config;
 
+import static tech.pegasys.web3signer.commandline.DefaultCommandValues.INTEGER_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.PATH_FORMAT_HELP;
 
-import tech.pegasys.web3signer.signing.config.KeystoresParameters;
+import tech.pegasys.web3signer.signing.config.CommitBoostParameters;
 
 import java.nio.file.Path;
 
@@ -24,7 +25,7 @@ import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 import picocli.CommandLine.Spec;
 
-public class PicoCommitBoostApiParameters implements KeystoresParameters {
+public class PicoCommitBoostApiParameters implements CommitBoostParameters {
   @Spec private CommandSpec commandSpec; // injected by picocli
 
   @CommandLine.Option(
@@ -48,6 +49,35 @@ public class PicoCommitBoostApiParameters implements KeystoresParameters {
       paramLabel = PATH_FORMAT_HELP)
   private Path keystoresPasswordFile;
 
+  @Option(
+      names = {"--commit-boost-api-proxy-key-pool-size"},
+      description =
+          "Number of proxy keys of each signature scheme to generate and encrypt in advance of "
+              + "generate proxy key requests. Pooled keys are only written to disk once they are "
+              + "bound to a consensus key. 0 generates each proxy key on request "
+              + "(default: ${DEFAULT-VALUE}).",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private int proxyKeyPoolSize = DEFAULT_PROXY_KEY_POOL_SIZE;
+
+  @Option(
+      names = {"--commit-boost-api-proxy-key-pool-refill-rate"},
+      description =
+          "Maximum number of proxy keys of each signature scheme generated per minute to refill "
+              + "the proxy key pool (default: ${DEFAULT-VALUE}).",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private int proxyKeyPoolRefillRate = DEFAULT_PROXY_KEY_POOL_REFILL_RATE;
+
+  @Option(
+      names = {"--commit-boost-api-proxy-key-max-concurrent-encryptions"},
+      description =
+          "Maximum number of proxy keystores encrypted at once. Each ECDSA keystore encryption "
+              + "uses around 256MB of memory (default: ${DEFAULT-VALUE}).",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private int proxyKeyMaxConcurrentEncryptions = DEFAULT_PROXY_KEY_MAX_CONCURRENT_ENCRYPTIONS;
+
   @Override
   public Path getKeystoresPath() {
     return keystoresPath;
@@ -68,6 +98,21 @@ public class PicoCommitBoostApiParameters implements KeystoresParameters {
     return isCommitBoostApiEnabled;
   }
 
+  @Override
+  public int getProxyKeyPoolSize() {
+    return proxyKeyPoolSize;
+  }
+
+  @Override
+  public int getProxyKeyPoolRefillRate() {
+    return proxyKeyPoolRefillRate;
+  }
+
+  @Override
+  public int getProxyKeyMaxConcurrentEncryptions() {
+    return proxyKeyMaxConcurrentEncryptions;
+  }
+
   public void validateParameters() throws ParameterException {
     if (!isCommitBoostApiEnabled) {
       return;
@@ -84,5 +129,23 @@ public class PicoCommitBoostApiParameters implements KeystoresParameters {
           commandSpec.commandLine(),
           "Commit boost API is enabled, but --proxy-keystores-password-file not set");
     }
+
+    if (proxyKeyPoolSize < 0) {
+      throw new ParameterException(
+          commandSpec.commandLine(),
+          "--commit-boost-api-proxy-key-pool-size must not be negative");
+    }
+
+    if (proxyKeyPoolRefillRate < 1) {
+      throw new ParameterException(
+          commandSpec.commandLine(),
+          "--commit-boost-api-proxy-key-pool-refill-rate must be greater than 0");
+    }
+
+    if (proxyKeyMaxConcurrentEncryptions < 1) {
+      throw new ParameterException(
+          commandSpec.commandLine(),
+          "--commit-boost-api-proxy-key-max-concurrent-encryptions must be greater than 0");
+    }
   }
 }
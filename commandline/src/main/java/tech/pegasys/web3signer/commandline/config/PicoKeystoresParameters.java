@@ -50,6 +50,15 @@ public class PicoKeystoresParameters implements KeystoresParameters {
       paramLabel = PATH_FORMAT_HELP)
   private Path keystoresPasswordFile;
 
+  @Option(
+      names = {KEYSTORES_UNLOCKED_CACHE_PASSWORD_FILE},
+      description =
+          "The path to a file containing the password used to encrypt a cache of the decrypted"
+              + " keystore keys under --data-path. When set, keys of unchanged keystores are read"
+              + " from the cache on restart instead of decrypting every keystore.",
+      paramLabel = PATH_FORMAT_HELP)
+  private Path keystoresUnlockedCachePasswordFile;
+
   @Override
   public Path getKeystoresPath() {
     return keystoresPath;
@@ -64,4 +73,9 @@ public class PicoKeystoresParameters implements KeystoresParameters {
   public Path getKeystoresPasswordFile() {
     return keystoresPasswordFile;
   }
+
+  @Override
+  public Path getKeystoresUnlockedCachePasswordFile() {
+    return keystoresUnlockedCachePasswordFile;
+  }
 }
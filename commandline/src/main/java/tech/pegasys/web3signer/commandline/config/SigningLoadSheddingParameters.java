@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.config;
+
+import tech.pegasys.web3signer.core.config.SigningLoadSheddingConfig;
+
+import java.util.Optional;
+
+import picocli.CommandLine.Option;
+
+public class SigningLoadSheddingParameters implements SigningLoadSheddingConfig {
+  @Option(
+      names = "--signing-load-shedding-enabled",
+      description =
+          "Reject signing requests which have queued for too long or whose duty deadline has "
+              + "passed (default: ${DEFAULT-VALUE}).",
+      paramLabel = "<BOOL>",
+      arity = "1")
+  private boolean loadSheddingEnabled = false;
+
+  @Option(
+      names = "--signing-load-shedding-max-queue-delay",
+      description =
+          "Maximum time in milliseconds a signing request may wait for a worker thread before it "
+              + "is rejected (default: ${DEFAULT-VALUE}).",
+      paramLabel = "<LONG>",
+      arity = "1")
+  private long maxQueueDelayMillis = DEFAULT_MAX_QUEUE_DELAY_MILLIS;
+
+  @Option(
+      names = "--signing-load-shedding-genesis-time",
+      description =
+          "Genesis time of the network in seconds since the epoch. When set, requests for slots "
+              + "or epochs whose deadline has passed are rejected.",
+      paramLabel = "<LONG>",
+      arity = "1")
+  private Long genesisTime;
+
+  @Option(
+      names = "--signing-load-shedding-deadline-slots",
+      description =
+          "Number of slots after the end of a duty's slot before a signing request for it is "
+              + "rejected (default: ${DEFAULT-VALUE}).",
+      paramLabel = "<INTEGER>",
+      arity = "1")
+  private int deadlineSlots = DEFAULT_DEADLINE_SLOTS;
+
+  @Override
+  public boolean isLoadSheddingEnabled() {
+    return loadSheddingEnabled;
+  }
+
+  @Override
+  public long getMaxQueueDelayMillis() {
+    return maxQueueDelayMillis;
+  }
+
+  @Override
+  public Optional<Long> getGenesisTime() {
+    return Optional.ofNullable(genesisTime);
+  }
+
+  @Override
+  public int getDeadlineSlots() {
+    return deadlineSlots;
+  }
+}
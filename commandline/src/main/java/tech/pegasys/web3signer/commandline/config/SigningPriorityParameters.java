@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.config;
+
+import tech.pegasys.web3signer.core.config.SigningPriorityConfig;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import picocli.CommandLine.Option;
+
+public class SigningPriorityParameters implements SigningPriorityConfig {
+  @Option(
+      names = "--signing-priority-scheduling-enabled",
+      description =
+          "Sign queued eth2 requests in order of priority by artifact type, rather than in the "
+              + "order they were received (default: ${DEFAULT-VALUE}).",
+      paramLabel = "<BOOL>",
+      arity = "1")
+  private boolean prioritySchedulingEnabled = false;
+
+  @Option(
+      names = "--signing-priority-weight",
+      description =
+          "Weight of a priority class (BLOCK, ATTESTATION, AGGREGATE, SYNC_COMMITTEE or OTHER) "
+              + "when several classes have requests queued, e.g. ATTESTATION=8. Can be repeated. "
+              + "Defaults to BLOCK=16, ATTESTATION=8, AGGREGATE=4, SYNC_COMMITTEE=2 and OTHER=1.",
+      paramLabel = "<CLASS=INTEGER>")
+  private Map<PriorityClass, Integer> weightOverrides = Map.of();
+
+  @Override
+  public boolean isPrioritySchedulingEnabled() {
+    return prioritySchedulingEnabled;
+  }
+
+  @Override
+  public Map<PriorityClass, Integer> getWeights() {
+    final Map<PriorityClass, Integer> weights = new EnumMap<>(DEFAULT_WEIGHTS);
+    weights.putAll(weightOverrides);
+    return weights;
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.loadtest;
+
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.web3signer.commandline.loadtest.ValidatorFleet.ScheduledRequest;
+import tech.pegasys.web3signer.commandline.loadtest.ValidatorFleet.SlotPhase;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+import tech.pegasys.web3signer.core.service.http.SigningObjectMapperFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Drives a running web3signer instance with the signing requests of a simulated validator fleet,
+ * slot by slot, and reports the throughput, latency and slashing protection contention it observed.
+ */
+public class LoadGenerator {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String PUBLIC_KEYS_PATH = "/api/v1/eth2/publicKeys";
+  private static final String SIGN_PATH = "/api/v1/eth2/sign/";
+  private static final String RELOAD_PATH = "/reload";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration KEY_LOAD_TIMEOUT = Duration.ofMinutes(10);
+
+  /**
+   * The parameters of a load test.
+   *
+   * @param targetUrl base URL of the web3signer instance
+   * @param validatorCount number of validators to simulate, all keys loaded by the target if empty
+   *     and existing keys are used
+   * @param keyOutputPath directory loaded by the target into which generated keys are written and
+   *     from which they are deleted once the load test ends, the target's existing keys are used
+   *     if empty
+   * @param genesisValidatorsRoot genesis validators root sent in the fork info of each request
+   * @param startSlot first simulated slot
+   * @param epochs number of epochs to simulate
+   * @param slotDuration time taken by each simulated slot
+   * @param maxConcurrentRequests maximum requests in flight to the target
+   * @param metricsUrl the target's Prometheus metrics endpoint, if slashing protection stage
+   *     durations are to be reported
+   */
+  public record Parameters(
+      URI targetUrl,
+      Optional<Integer> validatorCount,
+      Optional<Path> keyOutputPath,
+      Bytes32 genesisValidatorsRoot,
+      UInt64 startSlot,
+      int epochs,
+      Duration slotDuration,
+      int maxConcurrentRequests,
+      Optional<URI> metricsUrl) {}
+
+  private final Spec spec;
+  private final Parameters parameters;
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper = SigningObjectMapperFactory.createObjectMapper();
+  private final Semaphore inFlightRequests;
+  private final LoadTestResults results = new LoadTestResults();
+  private final List<Path> generatedKeyFiles = new ArrayList<>();
+
+  public LoadGenerator(final Spec spec, final Parameters parameters) {
+    this.spec = spec;
+    this.parameters = parameters;
+    this.httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    this.inFlightRequests = new Semaphore(parameters.maxConcurrentRequests());
+  }
+
+  public void run(final PrintWriter out) throws InterruptedException {
+    try {
+      simulate(out);
+    } finally {
+      removeGeneratedKeys();
+    }
+  }
+
+  private void simulate(final PrintWriter out) throws InterruptedException {
+    final ValidatorFleet fleet =
+        new ValidatorFleet(spec, loadPublicKeys(), parameters.genesisValidatorsRoot());
+    final int slots = parameters.epochs() * spec.getSlotsPerEpoch(parameters.startSlot());
+    LOG.info(
+        "Simulating {} validators for {} slots of {} ms from slot {}",
+        fleet.size(),
+        slots,
+        parameters.slotDuration().toMillis(),
+        parameters.startSlot());
+
+    final Optional<SlashingProtectionStages> stagesBefore = readSlashingProtectionStages();
+    final long startNanos = System.nanoTime();
+    final long slotNanos = parameters.slotDuration().toNanos();
+    for (int i = 0; i < slots; i++) {
+      final UInt64 slot = parameters.startSlot().plus(i);
+      final long slotStartNanos = startNanos + i * slotNanos;
+      final List<ScheduledRequest> requests = fleet.requestsForSlot(slot);
+      for (final SlotPhase phase : SlotPhase.values()) {
+        sleepUntil(slotStartNanos + (long) (phase.getFraction() * slotNanos));
+        for (final ScheduledRequest request : requests) {
+          if (request.phase() == phase) {
+            send(request);
+          }
+        }
+      }
+      LOG.debug("Sent requests for slot {}", slot);
+    }
+    inFlightRequests.acquire(parameters.maxConcurrentRequests());
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+    results.report(out, elapsed);
+    if (stagesBefore.isPresent()) {
+      final SlashingProtectionStages stagesAfter = readSlashingProtectionStages().orElseThrow();
+      SlashingProtectionStages.report(out, stagesAfter.meanMillisSince(stagesBefore.get()));
+    }
+    out.flush();
+  }
+
+  private void send(final ScheduledRequest request) throws InterruptedException {
+    final byte[] body;
+    try {
+      body = objectMapper.writeValueAsBytes(request.body());
+    } catch (final JsonProcessingException e) {
+      throw new IllegalStateException("Unable to serialise signing request", e);
+    }
+    final HttpRequest httpRequest =
+        HttpRequest.newBuilder(parameters.targetUrl().resolve(SIGN_PATH + request.publicKey()))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    final ArtifactType type = request.body().type();
+
+    inFlightRequests.acquire();
+    final long sentNanos = System.nanoTime();
+    httpClient
+        .sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+        .whenComplete(
+            (response, error) -> {
+              final long latencyNanos = System.nanoTime() - sentNanos;
+              if (error == null) {
+                results.recordResponse(type, response.statusCode(), latencyNanos);
+              } else {
+                LOG.debug("Signing request for {} failed", type, error);
+                results.recordFailure(type, latencyNanos);
+              }
+              inFlightRequests.release();
+            });
+  }
+
+  private List<String> loadPublicKeys() throws InterruptedException {
+    if (parameters.keyOutputPath().isPresent()) {
+      final Set<String> generatedKeys =
+          generateKeys(parameters.keyOutputPath().get(), parameters.validatorCount().orElse(1));
+      post(RELOAD_PATH);
+      return awaitKeysLoaded(generatedKeys);
+    }
+    final List<String> publicKeys = getPublicKeys();
+    if (publicKeys.isEmpty()) {
+      throw new IllegalStateException("Target has no eth2 keys loaded");
+    }
+    return publicKeys.subList(
+        0, Math.min(publicKeys.size(), parameters.validatorCount().orElse(publicKeys.size())));
+  }
+
+  private Set<String> generateKeys(final Path directory, final int count) {
+    final SecureRandom secureRandom = new SecureRandom();
+    final Set<String> publicKeys = new HashSet<>();
+    try {
+      Files.createDirectories(directory);
+      for (int i = 0; i < count; i++) {
+        final BLSKeyPair keyPair = BLSKeyPair.random(secureRandom);
+        final String publicKey = keyPair.getPublicKey().toString();
+        final Path keyFile = directory.resolve(publicKey + ".yaml");
+        generatedKeyFiles.add(keyFile);
+        Files.writeString(
+            keyFile,
+            String.format(
+                "type: \"file-raw\"%nkeyType: \"BLS\"%nprivateKey: \"%s\"%n",
+                keyPair.getSecretKey().toBytes().toHexString()));
+        publicKeys.add(publicKey);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to write generated keys to " + directory, e);
+    }
+    LOG.info("Generated {} keys in {}", count, directory);
+    return publicKeys;
+  }
+
+  /** Deletes the generated key files and reloads the target so that it unloads their keys. */
+  private void removeGeneratedKeys() throws InterruptedException {
+    if (generatedKeyFiles.isEmpty()) {
+      return;
+    }
+    for (final Path keyFile : generatedKeyFiles) {
+      try {
+        Files.deleteIfExists(keyFile);
+      } catch (final IOException e) {
+        LOG.warn("Unable to delete generated key file {}", keyFile, e);
+      }
+    }
+    LOG.info("Deleted {} generated keys", generatedKeyFiles.size());
+    generatedKeyFiles.clear();
+    try {
+      post(RELOAD_PATH);
+    } catch (final RuntimeException e) {
+      LOG.warn("Unable to reload target after deleting generated keys", e);
+    }
+  }
+
+  private List<String> awaitKeysLoaded(final Set<String> generatedKeys)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + KEY_LOAD_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      final List<String> loadedKeys = new ArrayList<>(getPublicKeys());
+      loadedKeys.retainAll(generatedKeys);
+      if (loadedKeys.size() == generatedKeys.size()) {
+        return loadedKeys;
+      }
+      Thread.sleep(1000);
+    }
+    throw new IllegalStateException(
+        "Target did not load the generated keys within " + KEY_LOAD_TIMEOUT.toMinutes() + " min");
+  }
+
+  private List<String> getPublicKeys() throws InterruptedException {
+    final String response = get(parameters.targetUrl().resolve(PUBLIC_KEYS_PATH));
+    try {
+      return objectMapper.readValue(response, new TypeReference<>() {});
+    } catch (final JsonProcessingException e) {
+      throw new IllegalStateException("Unable to parse public keys returned by target", e);
+    }
+  }
+
+  private Optional<SlashingProtectionStages> readSlashingProtectionStages()
+      throws InterruptedException {
+    if (parameters.metricsUrl().isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(SlashingProtectionStages.parse(get(parameters.metricsUrl().get())));
+  }
+
+  private String get(final URI uri) throws InterruptedException {
+    return send(HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build());
+  }
+
+  private void post(final String path) throws InterruptedException {
+    send(
+        HttpRequest.newBuilder(parameters.targetUrl().resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build());
+  }
+
+  private String send(final HttpRequest request) throws InterruptedException {
+    final HttpResponse<String> response;
+    try {
+      response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Request to " + request.uri() + " failed", e);
+    }
+    if (response.statusCode() / 100 != 2) {
+      throw new IllegalStateException(
+          "Request to " + request.uri() + " failed with status " + response.statusCode());
+    }
+    return response.body();
+  }
+
+  private static void sleepUntil(final long nanoTime) throws InterruptedException {
+    final long delay = nanoTime - System.nanoTime();
+    if (delay > 0) {
+      TimeUnit.NANOSECONDS.sleep(delay);
+    }
+  }
+}
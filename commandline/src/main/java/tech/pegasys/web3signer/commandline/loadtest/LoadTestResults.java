@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.loadtest;
+
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Collects the outcome and latency of each signing request sent by the load generator, and
+ * reports throughput and latency percentiles for each artifact type.
+ */
+public class LoadTestResults {
+  private static final int SLASHING_PROTECTION_REFUSED = 412;
+  private static final int SERVICE_UNAVAILABLE = 503;
+
+  private final Map<ArtifactType, ArtifactResults> results = new EnumMap<>(ArtifactType.class);
+
+  public LoadTestResults() {
+    for (final ArtifactType type : ArtifactType.values()) {
+      results.put(type, new ArtifactResults());
+    }
+  }
+
+  public void recordResponse(
+      final ArtifactType type, final int statusCode, final long latencyNanos) {
+    results.get(type).record(statusCode, latencyNanos);
+  }
+
+  public void recordFailure(final ArtifactType type, final long latencyNanos) {
+    results.get(type).record(-1, latencyNanos);
+  }
+
+  public long getRequestCount(final ArtifactType type) {
+    return results.get(type).snapshot().requests;
+  }
+
+  /**
+   * Nearest rank percentile of the latency of requests of a type.
+   *
+   * @param type the artifact type
+   * @param percentile percentile between 0 and 100
+   * @return latency in milliseconds, zero if no requests were sent
+   */
+  public double getLatencyPercentileMillis(final ArtifactType type, final double percentile) {
+    return results.get(type).snapshot().percentileMillis(percentile);
+  }
+
+  public void report(final PrintWriter out, final Duration elapsed) {
+    long totalRequests = 0;
+    long totalSigned = 0;
+    out.printf(
+        "%-38s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+        "Artifact type",
+        "Requests",
+        "Signed",
+        "Refused",
+        "Shed",
+        "Failed",
+        "p50 ms",
+        "p99 ms",
+        "max ms");
+    for (final Map.Entry<ArtifactType, ArtifactResults> entry : results.entrySet()) {
+      final Snapshot snapshot = entry.getValue().snapshot();
+      if (snapshot.requests == 0) {
+        continue;
+      }
+      totalRequests += snapshot.requests;
+      totalSigned += snapshot.signed;
+      out.printf(
+          "%-38s %9d %9d %9d %9d %9d %9.2f %9.2f %9.2f%n",
+          entry.getKey(),
+          snapshot.requests,
+          snapshot.signed,
+          snapshot.refused,
+          snapshot.shed,
+          snapshot.failed(),
+          snapshot.percentileMillis(50),
+          snapshot.percentileMillis(99),
+          snapshot.percentileMillis(100));
+    }
+    final double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+    out.printf(
+        "%d requests in %.1f seconds, %.1f requests/s, %.1f signatures/s%n",
+        totalRequests, seconds, totalRequests / seconds, totalSigned / seconds);
+  }
+
+  /** The outcomes of the requests of one artifact type. */
+  private static class Snapshot {
+    private final long requests;
+    private final long signed;
+    // refused by slashing protection
+    private final long refused;
+    // rejected as the signer was overloaded
+    private final long shed;
+    private final long[] sortedLatencyNanos;
+
+    Snapshot(
+        final long requests,
+        final long signed,
+        final long refused,
+        final long shed,
+        final long[] sortedLatencyNanos) {
+      this.requests = requests;
+      this.signed = signed;
+      this.refused = refused;
+      this.shed = shed;
+      this.sortedLatencyNanos = sortedLatencyNanos;
+    }
+
+    long failed() {
+      return requests - signed - refused - shed;
+    }
+
+    double percentileMillis(final double percentile) {
+      if (sortedLatencyNanos.length == 0) {
+        return 0;
+      }
+      final int rank = (int) Math.ceil(percentile / 100 * sortedLatencyNanos.length);
+      return sortedLatencyNanos[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+  }
+
+  private static class ArtifactResults {
+    private long[] latencyNanos = new long[64]; // guarded by this
+    private int requests; // guarded by this
+    private long signed; // guarded by this
+    private long refused; // guarded by this
+    private long shed; // guarded by this
+
+    synchronized void record(final int statusCode, final long latency) {
+      if (requests == latencyNanos.length) {
+        latencyNanos = Arrays.copyOf(latencyNanos, requests * 2);
+      }
+      latencyNanos[requests++] = latency;
+      switch (statusCode) {
+        case 200 -> signed++;
+        case SLASHING_PROTECTION_REFUSED -> refused++;
+        case SERVICE_UNAVAILABLE -> shed++;
+        default -> {}
+      }
+    }
+
+    synchronized Snapshot snapshot() {
+      final long[] sorted = Arrays.copyOf(latencyNanos, requests);
+      Arrays.sort(sorted);
+      return new Snapshot(requests, signed, refused, shed, sorted);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.loadtest;
+
+import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The totals of the slashing protection stages of the target's eth2 stage duration histogram, read
+ * from its Prometheus metrics endpoint. The difference between the totals before and after a load
+ * test gives the mean time requests spent waiting for validator locks and running slashing checks.
+ */
+public class SlashingProtectionStages {
+  private static final Set<String> STAGES =
+      Set.of("slashing_lock_wait", "slashing_checks", "slashing_commit");
+  private static final Pattern SAMPLE =
+      Pattern.compile("^signing_eth2_stage_duration_seconds_(sum|count)\\{([^}]*)}\\s+(\\S+)");
+  private static final Pattern LABEL = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+
+  private record Key(String artifactType, String stage) {}
+
+  private record Totals(double seconds, double count) {}
+
+  private final Map<Key, Totals> totals;
+
+  private SlashingProtectionStages(final Map<Key, Totals> totals) {
+    this.totals = totals;
+  }
+
+  /**
+   * Parses the stage totals from metrics in the Prometheus text format.
+   *
+   * @param metrics the response of the target's metrics endpoint
+   * @return the slashing protection stage totals
+   */
+  public static SlashingProtectionStages parse(final String metrics) {
+    final Map<Key, double[]> samples = new HashMap<>();
+    metrics
+        .lines()
+        .forEach(
+            line -> {
+              final Matcher matcher = SAMPLE.matcher(line);
+              if (!matcher.find()) {
+                return;
+              }
+              final Map<String, String> labels = new HashMap<>();
+              final Matcher labelMatcher = LABEL.matcher(matcher.group(2));
+              while (labelMatcher.find()) {
+                labels.put(labelMatcher.group(1), labelMatcher.group(2));
+              }
+              final String stage = labels.get("stage");
+              if (stage == null || !STAGES.contains(stage)) {
+                return;
+              }
+              final double[] sample =
+                  samples.computeIfAbsent(
+                      new Key(labels.get("artifactType"), stage), key -> new double[2]);
+              sample[matcher.group(1).equals("sum") ? 0 : 1] = Double.parseDouble(matcher.group(3));
+            });
+    final Map<Key, Totals> totals = new HashMap<>();
+    samples.forEach((key, sample) -> totals.put(key, new Totals(sample[0], sample[1])));
+    return new SlashingProtectionStages(totals);
+  }
+
+  /**
+   * The mean duration of each stage of requests completed since an earlier reading.
+   *
+   * @param before the totals read before the load test
+   * @return mean duration in milliseconds by artifact type and stage
+   */
+  public Map<String, Map<String, Double>> meanMillisSince(final SlashingProtectionStages before) {
+    final Map<String, Map<String, Double>> means = new TreeMap<>();
+    totals.forEach(
+        (key, after) -> {
+          final Totals previous = before.totals.getOrDefault(key, new Totals(0, 0));
+          final double count = after.count() - previous.count();
+          if (count > 0) {
+            means
+                .computeIfAbsent(key.artifactType(), type -> new TreeMap<>())
+                .put(key.stage(), (after.seconds() - previous.seconds()) * 1000 / count);
+          }
+        });
+    return means;
+  }
+
+  public static void report(final PrintWriter out, final Map<String, Map<String, Double>> means) {
+    out.println("Slashing protection mean stage duration (ms):");
+    means.forEach(
+        (artifactType, stages) -> {
+          out.printf("  %-38s", artifactType);
+          stages.forEach((stage, millis) -> out.printf(" %s=%.3f", stage, millis));
+          out.println();
+        });
+  }
+}
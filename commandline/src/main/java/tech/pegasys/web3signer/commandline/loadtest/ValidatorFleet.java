@@ -0,0 +1,372 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.loadtest;
+
+import tech.pegasys.teku.infrastructure.bytes.Bytes20;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.AggregateAndProofV2;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.AggregationSlot;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.BlockRequest;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.Eth2SigningRequestBody;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.ForkInfo;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.RandaoReveal;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.SyncAggregatorSelectionData;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.SyncCommitteeMessage;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.ValidatorRegistration;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.AggregateAndProof;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.Attestation;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.AttestationData;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.BLSPubKey;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.BLSSignature;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.BeaconBlockHeader;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.Checkpoint;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.Fork;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Generates the signing requests a validator client sends for a fleet of validators in each slot.
+ * Blocks and randao reveals are signed at the start of the slot by one proposer, attestations,
+ * aggregation selection proofs and sync committee messages one third into the slot, and aggregates
+ * and sync committee selection proofs two thirds into the slot. Validator registrations are signed
+ * for the whole fleet at the start of each epoch.
+ *
+ * <p>Each validator attests once per epoch, with the source and target epochs advancing every
+ * epoch, and proposes at increasing slots, so requests are not refused by slashing protection
+ * unless the database already holds a later history for the validators.
+ */
+public class ValidatorFleet {
+  // mainnet target of 16 aggregators in committees of roughly 500 validators
+  static final int AGGREGATOR_MODULO = 32;
+  static final int SYNC_COMMITTEE_SIZE = 512;
+  static final int SYNC_COMMITTEE_SUBNET_COUNT = 4;
+  private static final Bytes20 FEE_RECIPIENT = new Bytes20(Bytes.wrap(new byte[20]));
+  private static final UInt64 GAS_LIMIT = UInt64.valueOf(36_000_000);
+  // compressed point at infinity, the signatures within requests are not verified
+  private static final BLSSignature PLACEHOLDER_SIGNATURE =
+      new BLSSignature(Bytes.concatenate(Bytes.of(0xc0), Bytes.wrap(new byte[95])));
+  // a single set bit followed by the bitlist length marker
+  private static final Bytes AGGREGATION_BITS = Bytes.of(0x03);
+
+  /** When in the slot a request is sent, as a fraction of the slot duration. */
+  public enum SlotPhase {
+    START(0),
+    ONE_THIRD(1.0 / 3),
+    TWO_THIRDS(2.0 / 3);
+
+    private final double fraction;
+
+    SlotPhase(final double fraction) {
+      this.fraction = fraction;
+    }
+
+    public double getFraction() {
+      return fraction;
+    }
+  }
+
+  /** A signing request for a validator's public key. */
+  public record ScheduledRequest(SlotPhase phase, String publicKey, Eth2SigningRequestBody body) {}
+
+  private final Spec spec;
+  private final List<String> publicKeys;
+  private final Bytes32 genesisValidatorsRoot;
+
+  public ValidatorFleet(
+      final Spec spec, final List<String> publicKeys, final Bytes32 genesisValidatorsRoot) {
+    this.spec = spec;
+    this.publicKeys = List.copyOf(publicKeys);
+    this.genesisValidatorsRoot = genesisValidatorsRoot;
+  }
+
+  public int size() {
+    return publicKeys.size();
+  }
+
+  /**
+   * Creates the signing requests sent by the fleet during a slot, ordered by phase.
+   *
+   * @param slot the slot being simulated
+   * @return the requests for the slot
+   */
+  public List<ScheduledRequest> requestsForSlot(final UInt64 slot) {
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
+    final ForkInfo forkInfo =
+        new ForkInfo(new Fork(spec.getForkSchedule().getFork(epoch)), genesisValidatorsRoot);
+    final SpecMilestone milestone = spec.atSlot(slot).getMilestone();
+    final Bytes32 blockRoot = Bytes32.leftPad(Bytes.ofUnsignedLong(slot.longValue()));
+    final List<ScheduledRequest> requests = new ArrayList<>();
+
+    final String proposer = publicKeys.get(slot.mod(publicKeys.size()).intValue());
+    requests.add(new ScheduledRequest(SlotPhase.START, proposer, randaoReveal(forkInfo, epoch)));
+    requests.add(
+        new ScheduledRequest(
+            SlotPhase.START, proposer, block(forkInfo, milestone, slot, blockRoot)));
+    if (spec.computeStartSlotAtEpoch(epoch).equals(slot)) {
+      final UInt64 timestamp = UInt64.valueOf(System.currentTimeMillis() / 1000);
+      publicKeys.forEach(
+          publicKey ->
+              requests.add(
+                  new ScheduledRequest(
+                      SlotPhase.START, publicKey, validatorRegistration(publicKey, timestamp))));
+    }
+
+    final List<String> attesters = attestersForSlot(slot);
+    final AttestationData attestationData = attestationData(slot, epoch, blockRoot);
+    attesters.forEach(
+        attester -> {
+          requests.add(
+              new ScheduledRequest(
+                  SlotPhase.ONE_THIRD, attester, attestation(forkInfo, attestationData)));
+          requests.add(
+              new ScheduledRequest(SlotPhase.ONE_THIRD, attester, aggregationSlot(forkInfo, slot)));
+        });
+    final List<String> syncCommittee =
+        publicKeys.subList(0, Math.min(SYNC_COMMITTEE_SIZE, publicKeys.size()));
+    syncCommittee.forEach(
+        member ->
+            requests.add(
+                new ScheduledRequest(
+                    SlotPhase.ONE_THIRD, member, syncCommitteeMessage(forkInfo, slot, blockRoot))));
+
+    for (int i = 0; i < attesters.size(); i += AGGREGATOR_MODULO) {
+      requests.add(
+          new ScheduledRequest(
+              SlotPhase.TWO_THIRDS,
+              attesters.get(i),
+              aggregateAndProof(forkInfo, milestone, i, attestationData)));
+    }
+    final int subcommitteeSize = SYNC_COMMITTEE_SIZE / SYNC_COMMITTEE_SUBNET_COUNT;
+    for (int i = 0; i < syncCommittee.size(); i++) {
+      requests.add(
+          new ScheduledRequest(
+              SlotPhase.TWO_THIRDS,
+              syncCommittee.get(i),
+              syncCommitteeSelectionProof(forkInfo, slot, i / subcommitteeSize)));
+    }
+    return requests;
+  }
+
+  private List<String> attestersForSlot(final UInt64 slot) {
+    final int slotsPerEpoch = spec.getSlotsPerEpoch(slot);
+    final int slotIndex = slot.mod(slotsPerEpoch).intValue();
+    final List<String> attesters = new ArrayList<>();
+    for (int i = slotIndex; i < publicKeys.size(); i += slotsPerEpoch) {
+      attesters.add(publicKeys.get(i));
+    }
+    return attesters;
+  }
+
+  private AttestationData attestationData(
+      final UInt64 slot, final UInt64 epoch, final Bytes32 blockRoot) {
+    final UInt64 sourceEpoch = epoch.isZero() ? epoch : epoch.minus(1);
+    return new AttestationData(
+        slot,
+        UInt64.ZERO,
+        blockRoot,
+        new Checkpoint(sourceEpoch, Bytes32.ZERO),
+        new Checkpoint(epoch, blockRoot));
+  }
+
+  private Bytes committeeBits(final SpecMilestone milestone, final UInt64 slot) {
+    if (milestone.isLessThan(SpecMilestone.ELECTRA)) {
+      return null;
+    }
+    final int maxCommitteesPerSlot = spec.atSlot(slot).getConfig().getMaxCommitteesPerSlot();
+    final byte[] bits = new byte[(maxCommitteesPerSlot + 7) / 8];
+    bits[0] = 1;
+    return Bytes.wrap(bits);
+  }
+
+  private Eth2SigningRequestBody randaoReveal(final ForkInfo forkInfo, final UInt64 epoch) {
+    return new Eth2SigningRequestBody(
+        ArtifactType.RANDAO_REVEAL,
+        null,
+        forkInfo,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        new RandaoReveal(epoch),
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private Eth2SigningRequestBody block(
+      final ForkInfo forkInfo,
+      final SpecMilestone milestone,
+      final UInt64 slot,
+      final Bytes32 blockRoot) {
+    final BeaconBlockHeader header =
+        new BeaconBlockHeader(slot, slot.mod(publicKeys.size()), blockRoot, blockRoot, blockRoot);
+    return new Eth2SigningRequestBody(
+        ArtifactType.BLOCK_V2,
+        null,
+        forkInfo,
+        null,
+        new BlockRequest(milestone, header),
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private Eth2SigningRequestBody attestation(
+      final ForkInfo forkInfo, final AttestationData attestationData) {
+    return new Eth2SigningRequestBody(
+        ArtifactType.ATTESTATION,
+        null,
+        forkInfo,
+        null,
+        null,
+        attestationData,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private Eth2SigningRequestBody aggregationSlot(final ForkInfo forkInfo, final UInt64 slot) {
+    return new Eth2SigningRequestBody(
+        ArtifactType.AGGREGATION_SLOT,
+        null,
+        forkInfo,
+        null,
+        null,
+        null,
+        new AggregationSlot(slot),
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private Eth2SigningRequestBody aggregateAndProof(
+      final ForkInfo forkInfo,
+      final SpecMilestone milestone,
+      final int aggregatorIndex,
+      final AttestationData attestationData) {
+    final Attestation aggregate =
+        new Attestation(
+            AGGREGATION_BITS,
+            attestationData,
+            committeeBits(milestone, attestationData.slot),
+            PLACEHOLDER_SIGNATURE);
+    final AggregateAndProof aggregateAndProof =
+        new AggregateAndProof(UInt64.valueOf(aggregatorIndex), aggregate, PLACEHOLDER_SIGNATURE);
+    return new Eth2SigningRequestBody(
+        ArtifactType.AGGREGATE_AND_PROOF_V2,
+        null,
+        forkInfo,
+        null,
+        null,
+        null,
+        null,
+        new AggregateAndProofV2(milestone, aggregateAndProof),
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  private Eth2SigningRequestBody syncCommitteeMessage(
+      final ForkInfo forkInfo, final UInt64 slot, final Bytes32 blockRoot) {
+    return new Eth2SigningRequestBody(
+        ArtifactType.SYNC_COMMITTEE_MESSAGE,
+        null,
+        forkInfo,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        new SyncCommitteeMessage(blockRoot, slot),
+        null,
+        null,
+        null);
+  }
+
+  private Eth2SigningRequestBody syncCommitteeSelectionProof(
+      final ForkInfo forkInfo, final UInt64 slot, final int subcommitteeIndex) {
+    return new Eth2SigningRequestBody(
+        ArtifactType.SYNC_COMMITTEE_SELECTION_PROOF,
+        null,
+        forkInfo,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        new SyncAggregatorSelectionData(slot, UInt64.valueOf(subcommitteeIndex)),
+        null,
+        null);
+  }
+
+  private Eth2SigningRequestBody validatorRegistration(
+      final String publicKey, final UInt64 timestamp) {
+    return new Eth2SigningRequestBody(
+        ArtifactType.VALIDATOR_REGISTRATION,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        new ValidatorRegistration(
+            FEE_RECIPIENT, GAS_LIMIT, timestamp, BLSPubKey.fromHexString(publicKey)));
+  }
+}
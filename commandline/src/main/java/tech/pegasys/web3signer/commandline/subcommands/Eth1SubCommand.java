@@ -12,7 +12,9 @@
  */
 package tech.pegasys.web3signer.commandline.subcommands;
 
+import static tech.pegasys.web3signer.commandline.DefaultCommandValues.BOOL_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.HOST_FORMAT_HELP;
+import static tech.pegasys.web3signer.commandline.DefaultCommandValues.INTEGER_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.LONG_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.PATH_FORMAT_HELP;
 import static tech.pegasys.web3signer.commandline.DefaultCommandValues.PORT_FORMAT_HELP;
@@ -22,6 +24,7 @@ import static tech.pegasys.web3signer.signing.config.KeystoresParameters.KEYSTOR
 
 import tech.pegasys.web3signer.commandline.PicoCliAwsKmsParameters;
 import tech.pegasys.web3signer.commandline.PicoCliAzureKeyVaultParameters;
+import tech.pegasys.web3signer.commandline.PicoCliRemoteSigningParameters;
 import tech.pegasys.web3signer.commandline.VersionProvider;
 import tech.pegasys.web3signer.commandline.annotations.RequiredOption;
 import tech.pegasys.web3signer.commandline.config.PicoV3KeystoresBulkloadParameters;
@@ -35,6 +38,7 @@ import tech.pegasys.web3signer.core.service.jsonrpc.handlers.signing.Configurati
 import tech.pegasys.web3signer.signing.config.AwsVaultParameters;
 import tech.pegasys.web3signer.signing.config.AzureKeyVaultParameters;
 import tech.pegasys.web3signer.signing.config.KeystoresParameters;
+import tech.pegasys.web3signer.signing.config.RemoteSigningParameters;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -115,6 +119,36 @@ public class Eth1SubCommand extends ModeSubCommand implements Eth1Config {
       arity = "1")
   private long downstreamHttpRequestTimeout = Duration.ofSeconds(5).toMillis();
 
+  @SuppressWarnings("FieldMayBeFinal")
+  @CommandLine.Option(
+      names = {"--downstream-http-max-pool-size"},
+      description =
+          "Maximum number of connections kept open to the downstream node "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private int downstreamHttpMaxPoolSize = 32;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @CommandLine.Option(
+      names = {"--downstream-http2-enabled"},
+      description =
+          "Connect to the downstream node with HTTP/2, negotiated with ALPN when TLS is "
+              + "enabled and without an upgrade otherwise (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOL_FORMAT_HELP,
+      arity = "1")
+  private boolean downstreamHttp2Enabled = false;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @CommandLine.Option(
+      names = {"--downstream-http-streaming-enabled"},
+      description =
+          "Stream the bodies of requests proxied to the downstream node and of its responses "
+              + "rather than reading them whole (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOL_FORMAT_HELP,
+      arity = "1")
+  private boolean downstreamHttpStreamingEnabled = false;
+
   @SuppressWarnings("FieldMayBeFinal") // Because PicoCLI requires Strings to not be final.
   @CommandLine.Option(
       names = {"--downstream-http-proxy-host"},
@@ -148,6 +182,38 @@ public class Eth1SubCommand extends ModeSubCommand implements Eth1Config {
       arity = "1")
   private String httpProxyPassword = null;
 
+  @SuppressWarnings("FieldMayBeFinal")
+  @CommandLine.Option(
+      names = {"--local-nonce-management-enabled"},
+      description =
+          "Allocate the nonces of eth_sendTransaction requests without a nonce within Web3Signer, "
+              + "requesting each account's nonce from the downstream node only on first use or "
+              + "after the node rejects a transaction. Only suitable when Web3Signer is the only "
+              + "sender for its accounts (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOL_FORMAT_HELP,
+      arity = "1")
+  private boolean localNonceManagementEnabled = false;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @CommandLine.Option(
+      names = {"--local-nonce-idle-timeout"},
+      description =
+          "Seconds after an account's last transaction before its locally managed nonce is "
+              + "discarded (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long localNonceIdleTimeout = Duration.ofMinutes(5).toSeconds();
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @CommandLine.Option(
+      names = {"--jsonrpc-max-batch-size"},
+      description =
+          "Maximum number of requests in a JSON-RPC batch request. Larger batches are rejected "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private int jsonRpcMaxBatchSize = 1024;
+
   private long awsKmsClientCacheSize = 1;
 
   @CommandLine.Mixin private PicoCliClientTlsOptions clientTlsOptions;
@@ -158,6 +224,8 @@ public class Eth1SubCommand extends ModeSubCommand implements Eth1Config {
 
   @CommandLine.Mixin private PicoCliAwsKmsParameters awsParameters;
 
+  @CommandLine.Mixin private PicoCliRemoteSigningParameters remoteSigningParameters;
+
   @Override
   public Runner createRunner() {
     return new Eth1Runner(config, this);
@@ -172,6 +240,64 @@ public class Eth1SubCommand extends ModeSubCommand implements Eth1Config {
   protected void validateArgs() {
     checkIfRequiredOptionsAreInitialized(this);
     validateV3KeystoresBulkloadingParameters();
+    validateAzureParameters();
+    validateRemoteSigningParameters();
+    validatePositive("--local-nonce-idle-timeout", localNonceIdleTimeout);
+    validatePositive("--downstream-http-max-pool-size", downstreamHttpMaxPoolSize);
+    validatePositive("--jsonrpc-max-batch-size", jsonRpcMaxBatchSize);
+  }
+
+  private void validateAzureParameters() {
+    if (azureKeyVaultParameters.isAzureKeyVaultEnabled()
+        && azureKeyVaultParameters.getFetchConcurrency() < 1) {
+      throw new CommandLine.ParameterException(
+          spec.commandLine(),
+          String.format(
+              "%s must be 1 or more. Value was %d.",
+              PicoCliAzureKeyVaultParameters.AZURE_VAULT_FETCH_CONCURRENCY_OPTION,
+              azureKeyVaultParameters.getFetchConcurrency()));
+    }
+    if (azureKeyVaultParameters.getTokenRefreshMargin() < 0) {
+      throw new CommandLine.ParameterException(
+          spec.commandLine(),
+          String.format(
+              "%s must be 0 or more. Value was %d.",
+              PicoCliAzureKeyVaultParameters.AZURE_TOKEN_REFRESH_MARGIN_OPTION,
+              azureKeyVaultParameters.getTokenRefreshMargin()));
+    }
+  }
+
+  private void validateRemoteSigningParameters() {
+    validatePositive(
+        PicoCliRemoteSigningParameters.AWS_KMS_TIMEOUT_OPTION,
+        remoteSigningParameters.getAwsKmsTimeout().toMillis());
+    validatePositive(
+        PicoCliRemoteSigningParameters.AZURE_TIMEOUT_OPTION,
+        remoteSigningParameters.getAzureTimeout().toMillis());
+    validatePositive(
+        PicoCliRemoteSigningParameters.MAX_CONCURRENT_REQUESTS_OPTION,
+        remoteSigningParameters.getMaxConcurrentRequests());
+    validatePositive(
+        PicoCliRemoteSigningParameters.MIN_HEDGE_DELAY_OPTION,
+        remoteSigningParameters.getMinHedgeDelay().toMillis());
+    validatePositive(
+        PicoCliRemoteSigningParameters.CIRCUIT_BREAKER_OPEN_DURATION_OPTION,
+        remoteSigningParameters.getCircuitBreakerOpenDuration().toMillis());
+    final int failureRate = remoteSigningParameters.getCircuitBreakerFailureRate();
+    if (failureRate < 1 || failureRate > 100) {
+      throw new CommandLine.ParameterException(
+          spec.commandLine(),
+          String.format(
+              "%s must be between 1 and 100. Value was %d.",
+              PicoCliRemoteSigningParameters.CIRCUIT_BREAKER_FAILURE_RATE_OPTION, failureRate));
+    }
+  }
+
+  private void validatePositive(final String option, final long value) {
+    if (value < 1) {
+      throw new CommandLine.ParameterException(
+          spec.commandLine(), String.format("%s must be 1 or more. Value was %d.", option, value));
+    }
   }
 
   private void validateV3KeystoresBulkloadingParameters() {
@@ -211,6 +337,21 @@ public class Eth1SubCommand extends ModeSubCommand implements Eth1Config {
     return Duration.ofMillis(downstreamHttpRequestTimeout);
   }
 
+  @Override
+  public int getDownstreamHttpMaxPoolSize() {
+    return downstreamHttpMaxPoolSize;
+  }
+
+  @Override
+  public boolean isDownstreamHttp2Enabled() {
+    return downstreamHttp2Enabled;
+  }
+
+  @Override
+  public boolean isDownstreamHttpStreamingEnabled() {
+    return downstreamHttpStreamingEnabled;
+  }
+
   @Override
   public String getHttpProxyHost() {
     return httpProxyHost;
@@ -274,4 +415,24 @@ public class Eth1SubCommand extends ModeSubCommand implements Eth1Config {
   public KeystoresParameters getV3KeystoresBulkLoadParameters() {
     return picoV3KeystoresBulkloadParameters;
   }
+
+  @Override
+  public RemoteSigningParameters getRemoteSigningParameters() {
+    return remoteSigningParameters;
+  }
+
+  @Override
+  public boolean isLocalNonceManagementEnabled() {
+    return localNonceManagementEnabled;
+  }
+
+  @Override
+  public Duration getLocalNonceIdleTimeout() {
+    return Duration.ofSeconds(localNonceIdleTimeout);
+  }
+
+  @Override
+  public int getJsonRpcMaxBatchSize() {
+    return jsonRpcMaxBatchSize;
+  }
 }
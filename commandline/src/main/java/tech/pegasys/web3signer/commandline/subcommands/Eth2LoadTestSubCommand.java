@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.subcommands;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.web3signer.commandline.VersionProvider;
+import tech.pegasys.web3signer.commandline.loadtest.LoadGenerator;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes32;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.HelpCommand;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
+
+@Command(
+    name = "load-test",
+    description =
+        "Sends the signing requests of a simulated validator fleet to a running Web3Signer, "
+            + "and reports throughput, latency percentiles per artifact type and slashing "
+            + "protection contention. Use a separate slashing protection database for load tests, "
+            + "signing writes watermarks which are then enforced for real duties.",
+    subcommands = {HelpCommand.class},
+    versionProvider = VersionProvider.class,
+    mixinStandardHelpOptions = true)
+public class Eth2LoadTestSubCommand implements Runnable {
+  @Spec private CommandSpec spec;
+
+  @CommandLine.ParentCommand private Eth2SubCommand eth2Config;
+
+  @Option(
+      names = "--target-url",
+      paramLabel = "<URL>",
+      description = "Base URL of the Web3Signer to send requests to. (Default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private URI targetUrl = URI.create("http://127.0.0.1:9000");
+
+  @Option(
+      names = "--validator-count",
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of validators to simulate. Defaults to 1 when generating keys, or to all eth2 "
+              + "keys loaded by the target with --use-existing-keys.",
+      arity = "1")
+  private Integer validatorCount;
+
+  @Option(
+      names = "--key-output-path",
+      paramLabel = "<PATH>",
+      description =
+          "Directory loaded by the target (its --key-store-path) into which ephemeral keys are "
+              + "generated before the target is reloaded. The keys are deleted and the target is "
+              + "reloaded again once the load test ends. Required unless --use-existing-keys is "
+              + "set.",
+      arity = "1")
+  private Path keyOutputPath;
+
+  @Option(
+      names = "--use-existing-keys",
+      description =
+          "Sign with the keys already loaded by the target rather than generated keys. This "
+              + "writes slashing protection watermarks for those keys, never use it against a "
+              + "signer of live validators. (Default: ${DEFAULT-VALUE})")
+  private boolean useExistingKeys = false;
+
+  @Option(
+      names = "--epochs",
+      paramLabel = "<INTEGER>",
+      description = "Number of epochs to simulate. (Default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private int epochs = 2;
+
+  @Option(
+      names = "--slot-duration",
+      paramLabel = "<MILLISECONDS>",
+      description =
+          "Duration of each simulated slot, shorter than the network's slot time to compress "
+              + "load. Defaults to the network's slot time.",
+      arity = "1")
+  private Long slotDurationMillis;
+
+  @Option(
+      names = "--start-slot",
+      paramLabel = "<SLOT>",
+      description =
+          "First simulated slot. Defaults to the first slot of the next epoch of the network, "
+              + "calculated from --genesis-time, so that successive runs sign later slots.",
+      arity = "1")
+  private Long startSlot;
+
+  @Option(
+      names = "--genesis-time",
+      paramLabel = "<SECONDS>",
+      description =
+          "Genesis time of the network in seconds since the epoch, used to calculate the "
+              + "current slot. Required unless --start-slot is set.",
+      arity = "1")
+  private Long genesisTime;
+
+  @Option(
+      names = "--genesis-validators-root",
+      paramLabel = "<HEX>",
+      description =
+          "Genesis validators root sent with each request, which must match the slashing "
+              + "protection database of the target.",
+      required = true,
+      arity = "1")
+  private String genesisValidatorsRoot;
+
+  @Option(
+      names = "--max-concurrent-requests",
+      paramLabel = "<INTEGER>",
+      description = "Maximum signing requests in flight to the target. (Default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private int maxConcurrentRequests = 512;
+
+  @Option(
+      names = "--target-metrics-url",
+      paramLabel = "<URL>",
+      description =
+          "Prometheus metrics endpoint of the target, used to report the time spent waiting "
+              + "for slashing protection locks and checks, e.g. http://127.0.0.1:9001/metrics",
+      arity = "1")
+  private URI targetMetricsUrl;
+
+  @Override
+  public void run() {
+    final tech.pegasys.teku.spec.Spec eth2Spec = eth2Config.createEth2Spec();
+    if (validatorCount != null && validatorCount < 1) {
+      throw new ParameterException(spec.commandLine(), "--validator-count must be positive");
+    }
+    if (epochs < 1) {
+      throw new ParameterException(spec.commandLine(), "--epochs must be positive");
+    }
+    if (maxConcurrentRequests < 1) {
+      throw new ParameterException(
+          spec.commandLine(), "--max-concurrent-requests must be positive");
+    }
+    if (useExistingKeys == (keyOutputPath != null)) {
+      throw new ParameterException(
+          spec.commandLine(),
+          "Exactly one of --key-output-path or --use-existing-keys must be set");
+    }
+    if (startSlot == null && genesisTime == null) {
+      throw new ParameterException(
+          spec.commandLine(), "--genesis-time is required when --start-slot is not set");
+    }
+
+    final UInt64 firstSlot =
+        Optional.ofNullable(startSlot)
+            .map(UInt64::valueOf)
+            .orElseGet(() -> nextEpochSlot(eth2Spec, genesisTime));
+    if (eth2Spec.atSlot(firstSlot).getMilestone().isLessThan(SpecMilestone.BELLATRIX)) {
+      throw new ParameterException(
+          spec.commandLine(), "--start-slot must be at or after the Bellatrix fork");
+    }
+    final Duration slotDuration =
+        Optional.ofNullable(slotDurationMillis)
+            .map(Duration::ofMillis)
+            .orElseGet(() -> Duration.ofSeconds(eth2Spec.getSecondsPerSlot(firstSlot)));
+
+    final LoadGenerator.Parameters parameters =
+        new LoadGenerator.Parameters(
+            targetUrl,
+            Optional.ofNullable(validatorCount),
+            Optional.ofNullable(keyOutputPath),
+            Bytes32.fromHexString(genesisValidatorsRoot),
+            firstSlot,
+            epochs,
+            slotDuration,
+            maxConcurrentRequests,
+            Optional.ofNullable(targetMetricsUrl));
+    try {
+      new LoadGenerator(eth2Spec, parameters).run(spec.commandLine().getOut());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Load test was interrupted", e);
+    }
+  }
+
+  private static UInt64 nextEpochSlot(
+      final tech.pegasys.teku.spec.Spec eth2Spec, final long genesisTime) {
+    final long secondsSinceGenesis = Math.max(0, System.currentTimeMillis() / 1000 - genesisTime);
+    final UInt64 currentSlot =
+        UInt64.valueOf(secondsSinceGenesis / eth2Spec.getSecondsPerSlot(UInt64.ZERO));
+    return eth2Spec.computeStartSlotAtEpoch(eth2Spec.computeEpochAtSlot(currentSlot).plus(1));
+  }
+}
@@ -14,6 +14,7 @@ package tech.pegasys.web3signer.commandline.subcommands;
 
 import static tech.pegasys.web3signer.commandline.PicoCliAwsSecretsManagerParameters.AWS_SECRETS_ACCESS_KEY_ID_OPTION;
 import static tech.pegasys.web3signer.commandline.PicoCliAwsSecretsManagerParameters.AWS_SECRETS_AUTH_MODE_OPTION;
+import static tech.pegasys.web3signer.commandline.PicoCliAwsSecretsManagerParameters.AWS_SECRETS_FETCH_CONCURRENCY_OPTION;
 import static tech.pegasys.web3signer.commandline.PicoCliAwsSecretsManagerParameters.AWS_SECRETS_REGION_OPTION;
 import static tech.pegasys.web3signer.commandline.PicoCliAwsSecretsManagerParameters.AWS_SECRETS_SECRET_ACCESS_KEY_OPTION;
 import static tech.pegasys.web3signer.signing.config.AzureAuthenticationMode.CLIENT_SECRET;
@@ -33,9 +34,12 @@ import tech.pegasys.web3signer.commandline.VersionProvider;
 import tech.pegasys.web3signer.commandline.config.KeyManagerApiParameters;
 import tech.pegasys.web3signer.commandline.config.PicoCommitBoostApiParameters;
 import tech.pegasys.web3signer.commandline.config.PicoKeystoresParameters;
+import tech.pegasys.web3signer.commandline.config.SigningLoadSheddingParameters;
+import tech.pegasys.web3signer.commandline.config.SigningPriorityParameters;
 import tech.pegasys.web3signer.common.config.AwsAuthenticationMode;
 import tech.pegasys.web3signer.core.Eth2Runner;
 import tech.pegasys.web3signer.core.Runner;
+import tech.pegasys.web3signer.core.StartupPhases;
 import tech.pegasys.web3signer.signing.config.KeystoresParameters;
 import tech.pegasys.web3signer.slashingprotection.SlashingProtectionParameters;
 
@@ -43,7 +47,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -64,7 +71,8 @@ import picocli.CommandLine.Spec;
       HelpCommand.class,
       Eth2ExportSubCommand.class,
       Eth2ImportSubCommand.class,
-      Eth2WatermarkRepairSubCommand.class
+      Eth2WatermarkRepairSubCommand.class,
+      Eth2LoadTestSubCommand.class
     },
     versionProvider = VersionProvider.class,
     mixinStandardHelpOptions = true)
@@ -165,6 +173,16 @@ public class Eth2SubCommand extends ModeSubCommand {
       hidden = true)
   private boolean signingExtEnabled = false;
 
+  @CommandLine.Option(
+      names = "--signing-tracing-enabled",
+      description =
+          "Set to true to report eth2 signing requests and their stages as OpenTelemetry spans, "
+              + "which are exported by an OpenTelemetry SDK or Java agent "
+              + "(default: ${DEFAULT-VALUE}).",
+      paramLabel = "<BOOL>",
+      arity = "1")
+  private boolean signingTracingEnabled = false;
+
   @Mixin private PicoCliSlashingProtectionParameters slashingProtectionParameters;
   @Mixin private PicoCliAzureKeyVaultParameters azureKeyVaultParameters;
   @Mixin private PicoKeystoresParameters keystoreParameters;
@@ -172,7 +190,9 @@ public class Eth2SubCommand extends ModeSubCommand {
   @Mixin private PicoCliGcpSecretManagerParameters gcpSecretManagerParameters;
   @Mixin private KeyManagerApiParameters keyManagerApiParameters;
   @Mixin private PicoCommitBoostApiParameters commitBoostApiParameters;
-  private tech.pegasys.teku.spec.Spec eth2Spec;
+  @Mixin private SigningLoadSheddingParameters loadSheddingParameters;
+  @Mixin private SigningPriorityParameters signingPriorityParameters;
+  private CompletableFuture<tech.pegasys.teku.spec.Spec> eth2Spec;
 
   public Eth2SubCommand() {
     network = "mainnet";
@@ -180,8 +200,6 @@ public class Eth2SubCommand extends ModeSubCommand {
 
   @Override
   public Runner createRunner() {
-    logNetworkSpecInformation();
-
     return new Eth2Runner(
         config,
         slashingProtectionParameters,
@@ -189,14 +207,23 @@ public class Eth2SubCommand extends ModeSubCommand {
         keystoreParameters,
         awsSecretsManagerParameters,
         gcpSecretManagerParameters,
-        eth2Spec,
+        this::awaitEth2Spec,
         keyManagerApiParameters,
         signingExtEnabled,
-        commitBoostApiParameters);
+        commitBoostApiParameters,
+        loadSheddingParameters,
+        signingPriorityParameters,
+        signingTracingEnabled);
+  }
+
+  private tech.pegasys.teku.spec.Spec awaitEth2Spec() {
+    final tech.pegasys.teku.spec.Spec networkSpec = eth2Spec.join();
+    logNetworkSpecInformation(networkSpec);
+    return networkSpec;
   }
 
-  private void logNetworkSpecInformation() {
-    final ForkSchedule forkSchedule = eth2Spec.getForkSchedule();
+  private void logNetworkSpecInformation(final tech.pegasys.teku.spec.Spec networkSpec) {
+    final ForkSchedule forkSchedule = networkSpec.getForkSchedule();
     final Map<SpecMilestone, UInt64> milestoneSlotMap =
         forkSchedule
             .streamMilestoneBoundarySlots()
@@ -245,17 +272,49 @@ public class Eth2SubCommand extends ModeSubCommand {
     return builder.build();
   }
 
-  @Override
-  protected void validateArgs() {
+  public tech.pegasys.teku.spec.Spec createEth2Spec() {
     try {
-      Eth2NetworkConfiguration eth2NetworkConfig = createEth2NetworkConfig();
-      eth2Spec = eth2NetworkConfig.getSpec();
+      return createEth2NetworkConfig().getSpec();
     } catch (final IllegalArgumentException e) {
       throw new ParameterException(
           commandSpec.commandLine(),
           "Failed to load network " + network + " due to " + e.getMessage(),
           e);
     }
+  }
+
+  /**
+   * The spec of a predefined network without overrides cannot fail to build, so it is built in the
+   * background while the slashing protection database is opened and keys are loaded. Any other
+   * network is built immediately so that invalid configuration is reported as a parameter error.
+   */
+  private CompletableFuture<tech.pegasys.teku.spec.Spec> buildEth2Spec() {
+    final boolean hasOverrides =
+        Stream.of(
+                altairForkEpoch,
+                bellatrixForkEpoch,
+                capellaForkEpoch,
+                denebForkEpoch,
+                electraForkEpoch,
+                fuluForkEpoch,
+                trustedSetup)
+            .anyMatch(Objects::nonNull);
+    if (hasOverrides || Eth2Network.fromStringLenient(network).isEmpty()) {
+      return CompletableFuture.completedFuture(timedCreateEth2Spec());
+    }
+    return CompletableFuture.supplyAsync(this::timedCreateEth2Spec);
+  }
+
+  private tech.pegasys.teku.spec.Spec timedCreateEth2Spec() {
+    final long start = System.nanoTime();
+    final tech.pegasys.teku.spec.Spec spec = createEth2Spec();
+    StartupPhases.record("network_spec", start);
+    return spec;
+  }
+
+  @Override
+  protected void validateArgs() {
+    eth2Spec = buildEth2Spec();
 
     if (slashingProtectionParameters.isEnabled()
         && slashingProtectionParameters.getDbUrl() == null) {
@@ -268,6 +327,22 @@ public class Eth2SubCommand extends ModeSubCommand {
     validatePositiveValue(slashingProtectionParameters.getPruningInterval(), "Pruning interval");
     validatePositiveValue(
         slashingProtectionParameters.getPruningSlotsPerEpoch(), "Pruning slots per epoch");
+    validatePositiveValue(
+        keyManagerApiParameters.getMaxRequestBodySize(), "Key manager API max request body size");
+    validatePositiveValue(
+        keyManagerApiParameters.getMaxPendingImportJobs(),
+        "Key manager API max pending import jobs");
+    validatePositiveValue(
+        keyManagerApiParameters.getImportTimeoutMinutes(), "Key manager API import timeout");
+    validatePositiveValue(
+        loadSheddingParameters.getMaxQueueDelayMillis(), "Signing load shedding max queue delay");
+    validatePositiveValue(
+        loadSheddingParameters.getDeadlineSlots(), "Signing load shedding deadline slots");
+    signingPriorityParameters
+        .getWeights()
+        .forEach(
+            (priorityClass, weight) ->
+                validatePositiveValue(weight, "Signing priority weight of " + priorityClass));
 
     validateAzureParameters();
     validateKeystoreParameters(keystoreParameters);
@@ -289,6 +364,9 @@ public class Eth2SubCommand extends ModeSubCommand {
                 String.join(", ", specifiedAuthModeMissingFields));
         throw new ParameterException(commandSpec.commandLine(), errorMsg);
       }
+      validatePositiveValue(
+          gcpSecretManagerParameters.getFetchConcurrency(),
+          PicoCliGcpSecretManagerParameters.GCP_SECRETS_FETCH_CONCURRENCY_OPTION);
     }
   }
 
@@ -302,6 +380,9 @@ public class Eth2SubCommand extends ModeSubCommand {
                 String.join(",", missingAzureFields));
         throw new ParameterException(commandSpec.commandLine(), errorMsg);
       }
+      validatePositiveValue(
+          azureKeyVaultParameters.getFetchConcurrency(),
+          PicoCliAzureKeyVaultParameters.AZURE_VAULT_FETCH_CONCURRENCY_OPTION);
     }
   }
 
@@ -338,6 +419,12 @@ public class Eth2SubCommand extends ModeSubCommand {
           commandSpec.commandLine(),
           "Only one of --keystores-passwords-path or --keystores-password-file options can be specified");
     }
+
+    if (keystoresParameters.isUnlockedKeyCacheEnabled() && config.getDataPath() == null) {
+      throw new ParameterException(
+          commandSpec.commandLine(),
+          KeystoresParameters.KEYSTORES_UNLOCKED_CACHE_PASSWORD_FILE + " requires --data-path");
+    }
   }
 
   private void validateAwsSecretsManageParameters() {
@@ -353,6 +440,8 @@ public class Eth2SubCommand extends ModeSubCommand {
                 String.join(", ", specifiedAuthModeMissingFields));
         throw new ParameterException(commandSpec.commandLine(), errorMsg);
       }
+      validatePositiveValue(
+          awsSecretsManagerParameters.getFetchConcurrency(), AWS_SECRETS_FETCH_CONCURRENCY_OPTION);
     }
   }
 
@@ -14,6 +14,7 @@ package tech.pegasys.web3signer.commandline.subcommands;
 
 import tech.pegasys.web3signer.commandline.Web3SignerBaseCommand;
 import tech.pegasys.web3signer.core.Runner;
+import tech.pegasys.web3signer.core.StartupPhases;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,11 +27,19 @@ public abstract class ModeSubCommand implements Runnable {
 
   @Override
   public void run() {
+    final long configStart = System.nanoTime();
     config.validateArgs();
     validateArgs();
+    final long runnerStart = StartupPhases.record("configuration", configStart);
     final Runner runner = createRunner();
+    StartupPhases.record("runner", runnerStart);
     addShutdownHook(runner);
     runner.run();
+
+    if (config.isExitAfterStartup()) {
+      LOG.info("Exiting after startup");
+      System.exit(0);
+    }
   }
 
   public abstract Runner createRunner();
@@ -592,6 +592,19 @@ class CommandlineParserTest {
     assertThat(mockEth2SubCommand.getConfig().getVertxWorkerPoolSize()).isEqualTo(40);
   }
 
+  @Test
+  void nativeTransportEnabledParsesSuccessfully() {
+    String cmdline = validBaseCommandOptions();
+    cmdline += "--native-transport-enabled=true eth2 --slashing-protection-enabled=false";
+
+    MockEth2SubCommand mockEth2SubCommand = new MockEth2SubCommand();
+    parser.registerSubCommands(mockEth2SubCommand);
+    final int result = parser.parseCommandLine(cmdline.split(" "));
+
+    assertThat(result).isZero();
+    assertThat(mockEth2SubCommand.getConfig().isNativeTransportEnabled()).isTrue();
+  }
+
   @Test
   void commitBoostApiEnabledWithoutKeystorePathFailsToParse() {
     String cmdline = validBaseCommandOptions();
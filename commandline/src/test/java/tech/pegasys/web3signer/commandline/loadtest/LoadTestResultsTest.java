@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class LoadTestResultsTest {
+  private final LoadTestResults results = new LoadTestResults();
+
+  @Test
+  void latencyPercentilesUseNearestRank() {
+    for (int i = 1; i <= 100; i++) {
+      results.recordResponse(ArtifactType.ATTESTATION, 200, i * 1_000_000L);
+    }
+
+    assertThat(results.getLatencyPercentileMillis(ArtifactType.ATTESTATION, 50)).isEqualTo(50);
+    assertThat(results.getLatencyPercentileMillis(ArtifactType.ATTESTATION, 99)).isEqualTo(99);
+    assertThat(results.getLatencyPercentileMillis(ArtifactType.ATTESTATION, 100)).isEqualTo(100);
+    assertThat(results.getLatencyPercentileMillis(ArtifactType.BLOCK_V2, 50)).isZero();
+  }
+
+  @Test
+  void reportIncludesOnlyArtifactTypesWhichWereSent() {
+    results.recordResponse(ArtifactType.BLOCK_V2, 200, 2_000_000);
+    results.recordResponse(ArtifactType.BLOCK_V2, 412, 3_000_000);
+    results.recordResponse(ArtifactType.ATTESTATION, 503, 1_000_000);
+    results.recordFailure(ArtifactType.ATTESTATION, 1_000_000);
+
+    final StringWriter report = new StringWriter();
+    results.report(new PrintWriter(report), Duration.ofSeconds(2));
+
+    assertThat(report.toString())
+        .containsPattern("BLOCK_V2\\s+2\\s+1\\s+1\\s+0\\s+0\\s")
+        .containsPattern("ATTESTATION\\s+2\\s+0\\s+0\\s+1\\s+1\\s")
+        .doesNotContain("RANDAO_REVEAL")
+        .contains("4 requests in 2.0 seconds, 2.0 requests/s, 0.5 signatures/s");
+    assertThat(results.getRequestCount(ArtifactType.BLOCK_V2)).isEqualTo(2);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class SlashingProtectionStagesTest {
+  private static final String BEFORE =
+      """
+      # TYPE signing_eth2_stage_duration_seconds histogram
+      signing_eth2_stage_duration_seconds_count{artifactType="attestation",stage="slashing_lock_wait",} 10.0
+      signing_eth2_stage_duration_seconds_sum{artifactType="attestation",stage="slashing_lock_wait",} 0.5
+      signing_eth2_stage_duration_seconds_count{artifactType="attestation",stage="sign",} 10.0
+      signing_eth2_stage_duration_seconds_sum{artifactType="attestation",stage="sign",} 0.1
+      """;
+  private static final String AFTER =
+      """
+      signing_eth2_stage_duration_seconds_count{artifactType="attestation",stage="slashing_lock_wait",} 20.0
+      signing_eth2_stage_duration_seconds_sum{artifactType="attestation",stage="slashing_lock_wait",} 1.5
+      signing_eth2_stage_duration_seconds_count{artifactType="attestation",stage="sign",} 20.0
+      signing_eth2_stage_duration_seconds_sum{artifactType="attestation",stage="sign",} 0.2
+      signing_eth2_stage_duration_seconds_count{artifactType="block_v2",stage="slashing_checks",} 4.0
+      signing_eth2_stage_duration_seconds_sum{artifactType="block_v2",stage="slashing_checks",} 0.008
+      """;
+
+  @Test
+  void meanStageDurationIsCalculatedFromRequestsSinceEarlierReading() {
+    final Map<String, Map<String, Double>> means =
+        SlashingProtectionStages.parse(AFTER)
+            .meanMillisSince(SlashingProtectionStages.parse(BEFORE));
+
+    assertThat(means)
+        .containsOnlyKeys("attestation", "block_v2")
+        .containsEntry("attestation", Map.of("slashing_lock_wait", 100.0))
+        .containsEntry("block_v2", Map.of("slashing_checks", 2.0));
+  }
+
+  @Test
+  void stagesWithoutNewRequestsAreOmitted() {
+    final SlashingProtectionStages stages = SlashingProtectionStages.parse(BEFORE);
+
+    assertThat(stages.meanMillisSince(stages)).isEmpty();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.commandline.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networks.Eth2NetworkConfiguration;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.web3signer.commandline.loadtest.ValidatorFleet.ScheduledRequest;
+import tech.pegasys.web3signer.commandline.loadtest.ValidatorFleet.SlotPhase;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+import tech.pegasys.web3signer.core.service.http.SigningObjectMapperFactory;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.Eth2SigningRequestBody;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+class ValidatorFleetTest {
+  private static final Spec SPEC =
+      Eth2NetworkConfiguration.builder()
+          .applyNetworkDefaults(Eth2Network.MAINNET)
+          .build()
+          .getSpec();
+  // an epoch after the Electra fork
+  private static final UInt64 EPOCH_START_SLOT =
+      SPEC.computeStartSlotAtEpoch(UInt64.valueOf(400_000));
+  private static final List<String> PUBLIC_KEYS =
+      IntStream.range(0, 64)
+          .mapToObj(i -> BLSKeyPair.random(i).getPublicKey().toString())
+          .toList();
+
+  private final ValidatorFleet fleet = new ValidatorFleet(SPEC, PUBLIC_KEYS, Bytes32.ZERO);
+
+  @Test
+  void firstSlotOfEpochIncludesRegistrationsForWholeFleet() {
+    final Map<ArtifactType, Long> counts = countByType(fleet.requestsForSlot(EPOCH_START_SLOT));
+
+    assertThat(counts)
+        .containsOnly(
+            Map.entry(ArtifactType.RANDAO_REVEAL, 1L),
+            Map.entry(ArtifactType.BLOCK_V2, 1L),
+            Map.entry(ArtifactType.VALIDATOR_REGISTRATION, 64L),
+            Map.entry(ArtifactType.ATTESTATION, 2L),
+            Map.entry(ArtifactType.AGGREGATION_SLOT, 2L),
+            Map.entry(ArtifactType.AGGREGATE_AND_PROOF_V2, 1L),
+            Map.entry(ArtifactType.SYNC_COMMITTEE_MESSAGE, 64L),
+            Map.entry(ArtifactType.SYNC_COMMITTEE_SELECTION_PROOF, 64L));
+  }
+
+  @Test
+  void eachValidatorAttestsOncePerEpoch() {
+    final List<String> attesters =
+        IntStream.range(0, SPEC.getSlotsPerEpoch(EPOCH_START_SLOT))
+            .mapToObj(i -> fleet.requestsForSlot(EPOCH_START_SLOT.plus(i)))
+            .flatMap(List::stream)
+            .filter(request -> request.body().type() == ArtifactType.ATTESTATION)
+            .map(ScheduledRequest::publicKey)
+            .toList();
+
+    assertThat(attesters).containsExactlyInAnyOrderElementsOf(PUBLIC_KEYS);
+  }
+
+  @Test
+  void requestsAreSentInSlotPhaseOrder() {
+    final List<SlotPhase> phases =
+        fleet.requestsForSlot(EPOCH_START_SLOT.plus(1)).stream()
+            .map(ScheduledRequest::phase)
+            .toList();
+
+    assertThat(phases).isSortedAccordingTo(Enum::compareTo);
+    assertThat(phases).startsWith(SlotPhase.START, SlotPhase.START);
+  }
+
+  @Test
+  void requestsCanBeSerialisedAndParsedBySigner() throws Exception {
+    final ObjectMapper objectMapper = SigningObjectMapperFactory.createObjectMapper();
+
+    for (final ScheduledRequest request : fleet.requestsForSlot(EPOCH_START_SLOT)) {
+      final byte[] json = objectMapper.writeValueAsBytes(request.body());
+      final Eth2SigningRequestBody parsed =
+          objectMapper.readValue(json, Eth2SigningRequestBody.class);
+
+      assertThat(parsed.type()).isEqualTo(request.body().type());
+    }
+  }
+
+  @Test
+  void aggregatesIncludeCommitteeBitsFromElectra() {
+    final Eth2SigningRequestBody aggregate =
+        fleet.requestsForSlot(EPOCH_START_SLOT).stream()
+            .map(ScheduledRequest::body)
+            .filter(body -> body.type() == ArtifactType.AGGREGATE_AND_PROOF_V2)
+            .findFirst()
+            .orElseThrow();
+
+    assertThat(aggregate.aggregateAndProofV2().data().aggregate.committee_bits).isNotNull();
+  }
+
+  private static Map<ArtifactType, Long> countByType(final List<ScheduledRequest> requests) {
+    return requests.stream()
+        .map(request -> request.body().type())
+        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+  }
+}
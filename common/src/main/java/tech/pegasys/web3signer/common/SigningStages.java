@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.common;
+
+/**
+ * Times the stages of the signing request being handled on the current thread. Stages can be timed
+ * in any module, such as slashing protection, without passing a recorder down the call chain.
+ * Durations are discarded when no request is being recorded on the thread.
+ */
+public final class SigningStages {
+
+  /** Receives the stages timed while a request is being recorded. */
+  @FunctionalInterface
+  public interface Recorder {
+    void record(String stage, long startNanos, long durationNanos);
+  }
+
+  /** Ends the timing of a stage, or the recording of a request. */
+  @FunctionalInterface
+  public interface Timer extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  private static final Timer NO_OP = () -> {};
+  private static final ThreadLocal<Recorder> RECORDER = new ThreadLocal<>();
+
+  private SigningStages() {}
+
+  /**
+   * Records stages timed on this thread with the recorder until the returned timer is closed.
+   *
+   * @param recorder receives the stage durations
+   * @return closed to stop recording, restoring any previous recorder
+   */
+  public static Timer recordWith(final Recorder recorder) {
+    final Recorder previous = RECORDER.get();
+    RECORDER.set(recorder);
+    return () -> {
+      if (previous == null) {
+        RECORDER.remove();
+      } else {
+        RECORDER.set(previous);
+      }
+    };
+  }
+
+  /**
+   * Starts timing a stage of the current request.
+   *
+   * @param stage name of the stage
+   * @return closed when the stage completes
+   */
+  public static Timer time(final String stage) {
+    final Recorder recorder = RECORDER.get();
+    if (recorder == null) {
+      return NO_OP;
+    }
+    final long startNanos = System.nanoTime();
+    return () -> recorder.record(stage, startNanos, System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Records a stage of the current request which has already completed.
+   *
+   * @param stage name of the stage
+   * @param startNanos {@link System#nanoTime()} when the stage started
+   * @param durationNanos duration of the stage
+   */
+  public static void record(final String stage, final long startNanos, final long durationNanos) {
+    final Recorder recorder = RECORDER.get();
+    if (recorder != null) {
+      recorder.record(stage, startNanos, durationNanos);
+    }
+  }
+}
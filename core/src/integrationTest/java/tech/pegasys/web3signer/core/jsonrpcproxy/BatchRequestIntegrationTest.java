@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.jsonrpcproxy;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcError;
+
+import java.util.List;
+
+import io.restassured.response.Response;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+class BatchRequestIntegrationTest extends IntegrationTestBase {
+
+  private static final JsonObject NET_VERSION =
+      new JsonObject().put("jsonrpc", "2.0").put("method", "net_version").put("id", 2);
+  private static final JsonObject BLOCK_NUMBER =
+      new JsonObject().put("jsonrpc", "2.0").put("method", "eth_blockNumber").put("id", 3);
+
+  @Test
+  void signingRequestsAreHandledAndOtherRequestsAreForwardedAsOneBatch() {
+    final JsonObject ethAccounts =
+        new JsonObject().put("jsonrpc", "2.0").put("method", "eth_accounts").put("id", 1);
+    final JsonArray forwardedBatch = new JsonArray().add(NET_VERSION).add(BLOCK_NUMBER);
+    // the downstream responses are returned out of order
+    final JsonArray downstreamResponse =
+        new JsonArray()
+            .add(new JsonObject().put("jsonrpc", "2.0").put("id", 3).put("result", "0x10"))
+            .add(new JsonObject().put("jsonrpc", "2.0").put("id", 2).put("result", "9"));
+    setUpEthNodeResponse(
+        request.ethNode(forwardedBatch.encode()), response.ethNode(downstreamResponse.encode()));
+
+    final JsonArray responses =
+        sendBatch(new JsonArray().add(NET_VERSION).add(ethAccounts).add(BLOCK_NUMBER));
+
+    assertThat(responses).hasSize(3);
+    assertThat(responses.getJsonObject(0).getInteger("id")).isEqualTo(2);
+    assertThat(responses.getJsonObject(0).getString("result")).isEqualTo("9");
+    assertThat(responses.getJsonObject(1).getInteger("id")).isEqualTo(1);
+    assertThat(responses.getJsonObject(1).getJsonArray("result").getList())
+        .isEqualTo(List.of(unlockedAccount));
+    assertThat(responses.getJsonObject(2).getInteger("id")).isEqualTo(3);
+    assertThat(responses.getJsonObject(2).getString("result")).isEqualTo("0x10");
+    verifyEthNodeReceived(forwardedBatch.encode());
+  }
+
+  @Test
+  void batchOfSigningRequestsIsNotForwarded() {
+    final JsonArray batch = new JsonArray();
+    for (int id = 0; id < 5; id++) {
+      batch.add(
+          new JsonObject()
+              .put("jsonrpc", "2.0")
+              .put("method", "eth_sign")
+              .put("params", new JsonArray().add(unlockedAccount).add("0x0" + id))
+              .put("id", id));
+    }
+
+    final JsonArray responses = sendBatch(batch);
+
+    assertThat(responses).hasSize(5);
+    for (int id = 0; id < 5; id++) {
+      assertThat(responses.getJsonObject(id).getInteger("id")).isEqualTo(id);
+      assertThat(responses.getJsonObject(id).getString("result")).startsWith("0x");
+    }
+    clientAndServer.verifyZeroInteractions();
+  }
+
+  @Test
+  void invalidEntriesAndSendTransactionReceiveErrorResponses() {
+    final JsonObject sendTransaction =
+        new JsonObject()
+            .put("jsonrpc", "2.0")
+            .put("method", "eth_sendTransaction")
+            .put("params", new JsonArray().add(new JsonObject().put("from", unlockedAccount)))
+            .put("id", 5);
+
+    final JsonArray responses =
+        sendBatch(new JsonArray().add(1).add(new JsonObject().put("id", 4)).add(sendTransaction));
+
+    assertThat(responses).hasSize(3);
+    assertError(responses.getJsonObject(0), JsonRpcError.INVALID_REQUEST);
+    assertError(responses.getJsonObject(1), JsonRpcError.INVALID_REQUEST);
+    assertThat(responses.getJsonObject(1).getInteger("id")).isEqualTo(4);
+    assertError(responses.getJsonObject(2), JsonRpcError.ETH_SEND_TX_NOT_AVAILABLE_IN_BATCH);
+    assertThat(responses.getJsonObject(2).getInteger("id")).isEqualTo(5);
+    clientAndServer.verifyZeroInteractions();
+  }
+
+  @Test
+  void emptyBatchIsAnInvalidRequest() {
+    final Response response = given().when().body("[]").post("/");
+
+    assertThat(response.statusCode()).isEqualTo(400);
+    assertError(new JsonObject(response.body().asString()), JsonRpcError.INVALID_REQUEST);
+  }
+
+  @Test
+  void batchLargerThanMaxBatchSizeIsRejected() {
+    final JsonArray batch = new JsonArray();
+    for (int id = 0; id <= 1024; id++) {
+      batch.add(NET_VERSION.copy().put("id", id));
+    }
+
+    final Response response = given().when().body(batch.encode()).post("/");
+
+    assertThat(response.statusCode()).isEqualTo(400);
+    assertError(new JsonObject(response.body().asString()), JsonRpcError.EXCEEDS_MAX_BATCH_SIZE);
+    clientAndServer.verifyZeroInteractions();
+  }
+
+  @Test
+  void batchOfNotificationsHasNoResponseBody() {
+    final JsonObject notification =
+        new JsonObject().put("jsonrpc", "2.0").put("method", "eth_accounts");
+
+    final Response response =
+        given().when().body(new JsonArray().add(notification).add(notification).encode()).post("/");
+
+    assertThat(response.statusCode()).isEqualTo(204);
+    assertThat(response.body().asString()).isEmpty();
+    clientAndServer.verifyZeroInteractions();
+  }
+
+  @Test
+  void downstreamFailureIsReportedForEachForwardedRequest() {
+    final JsonArray forwardedBatch = new JsonArray().add(NET_VERSION).add(BLOCK_NUMBER);
+    timeoutRequest(request.ethNode(forwardedBatch.encode()));
+
+    final JsonArray responses = sendBatch(forwardedBatch);
+
+    assertThat(responses).hasSize(2);
+    assertError(responses.getJsonObject(0), JsonRpcError.CONNECTION_TO_DOWNSTREAM_NODE_TIMED_OUT);
+    assertError(responses.getJsonObject(1), JsonRpcError.CONNECTION_TO_DOWNSTREAM_NODE_TIMED_OUT);
+  }
+
+  private JsonArray sendBatch(final JsonArray batch) {
+    final Response response = given().when().body(batch.encode()).post("/");
+    assertThat(response.statusCode()).isEqualTo(200);
+    return new JsonArray(response.body().asString());
+  }
+
+  private static void assertError(final JsonObject response, final JsonRpcError error) {
+    assertThat(response.getJsonObject("error").getInteger("code")).isEqualTo(error.getCode());
+    assertThat(response.getJsonObject("error").getString("message"))
+        .isEqualTo(error.getMessage());
+  }
+}
@@ -127,6 +127,15 @@ public class IntegrationTestBase {
       final String downstreamHttpRequestPath,
       final List<String> allowedCorsOrigin)
       throws Exception {
+    setupWeb3Signer(chainId, downstreamHttpRequestPath, allowedCorsOrigin, false);
+  }
+
+  static void setupWeb3Signer(
+      final long chainId,
+      final String downstreamHttpRequestPath,
+      final List<String> allowedCorsOrigin,
+      final boolean downstreamHttpStreamingEnabled)
+      throws Exception {
     clientAndServer = startClientAndServer();
 
     final File keyFile = createKeyFile();
@@ -145,7 +154,8 @@ public class IntegrationTestBase {
             LOCALHOST,
             clientAndServer.getLocalPort(),
             downstreamTimeout,
-            new ConfigurationChainId(chainId));
+            new ConfigurationChainId(chainId),
+            downstreamHttpStreamingEnabled);
     vertx = Vertx.vertx();
     runner = new Eth1Runner(baseConfig, eth1Config);
     runner.run();
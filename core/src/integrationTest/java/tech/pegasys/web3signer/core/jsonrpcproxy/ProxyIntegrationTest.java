@@ -37,16 +37,16 @@ public class ProxyIntegrationTest extends IntegrationTestBase {
   private static final String NON_RPC_REQUEST =
       "{\"username\":\"username1\",\"password\":\"pegasys\"}";
   private static final String NON_RPC_RESPONSE = "{\"token\":\"eyJ0\"}";
-  private static final String RPC_REQUEST =
+  static final String RPC_REQUEST =
       "{\"jsonrpc\":\"2.0\",\"method\":\"net_version\",\"params\":[],\"id\":0}";
-  private static final String RPC_RESPONSE =
+  static final String RPC_RESPONSE =
       "{\"id\":0,\"jsonrpc\":2.0,\"result\":\"4\",\"error\":null,\"rawResponse\":null,\"netVersion\":\"4\"}";
-  private static final Iterable<Entry<String, String>> REQUEST_HEADERS =
+  static final Iterable<Entry<String, String>> REQUEST_HEADERS =
       singletonList(ImmutablePair.of("Accept", "*/*"));
-  private static final Iterable<Entry<String, String>> RESPONSE_HEADERS =
+  static final Iterable<Entry<String, String>> RESPONSE_HEADERS =
       singletonList(ImmutablePair.of("Content-Type", "Application/Json"));
 
-  private static final String ROOT_PATH = "/arbitraryRootPath";
+  static final String ROOT_PATH = "/arbitraryRootPath";
   private static final String NOT_FOUND_BODY =
       "<html><body><h1>Resource not found</h1></body></html>";
 
@@ -141,6 +141,22 @@ public class ProxyIntegrationTest extends IntegrationTestBase {
     verifyEthNodeReceived(REQUEST_HEADERS, RPC_REQUEST, ROOT_PATH + "/login");
   }
 
+  @Test
+  void batchRequestToNonRootPathIsProxied() {
+    final String batchRequest = "[" + RPC_REQUEST + "]";
+    final String batchResponse = "[" + RPC_RESPONSE + "]";
+    setUpEthNodeResponse(
+        request.ethNode(batchRequest),
+        response.ethNode(RESPONSE_HEADERS, batchResponse, HttpResponseStatus.OK));
+
+    sendPostRequestAndVerifyResponse(
+        request.web3Signer(REQUEST_HEADERS, batchRequest),
+        response.web3Signer(RESPONSE_HEADERS, batchResponse),
+        "/login");
+
+    verifyEthNodeReceived(REQUEST_HEADERS, batchRequest, ROOT_PATH + "/login");
+  }
+
   @ParameterizedTest
   @EnumSource(value = HttpMethod.class, names = "POST", mode = EnumSource.Mode.EXCLUDE)
   void rpcNonPostRequestsAreNotProxied(final HttpMethod httpMethod) {
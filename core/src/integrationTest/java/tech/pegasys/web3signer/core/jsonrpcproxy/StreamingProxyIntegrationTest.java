@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.jsonrpcproxy;
+
+import java.util.List;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Runs the proxy tests with request and response bodies streamed to and from the node. */
+public class StreamingProxyIntegrationTest extends ProxyIntegrationTest {
+
+  @BeforeAll
+  public static void localSetup() {
+    try {
+      setupWeb3Signer(DEFAULT_CHAIN_ID, ROOT_PATH, List.of("sample.com"), true);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to setup web3signer", e);
+    }
+  }
+
+  @Test
+  void largeResponseIsStreamedToClient() {
+    final String largeResponse =
+        new JsonObject()
+            .put("jsonrpc", "2.0")
+            .put("id", 0)
+            .put("result", "0x" + "ab".repeat(100_000))
+            .encode();
+    setUpEthNodeResponse(
+        request.ethNode(RPC_REQUEST),
+        response.ethNode(RESPONSE_HEADERS, largeResponse, HttpResponseStatus.OK));
+
+    sendPostRequestAndVerifyResponse(
+        request.web3Signer(REQUEST_HEADERS, RPC_REQUEST),
+        response.web3Signer(RESPONSE_HEADERS, largeResponse),
+        "/login");
+
+    verifyEthNodeReceived(REQUEST_HEADERS, RPC_REQUEST, ROOT_PATH + "/login");
+  }
+
+  @Test
+  void largeRequestIsStreamedToNode() {
+    final String largeRequest =
+        new JsonObject()
+            .put("jsonrpc", "2.0")
+            .put("method", "eth_sendRawTransaction")
+            .put("params", new JsonArray().add("0x" + "cd".repeat(100_000)))
+            .put("id", 0)
+            .encode();
+    setUpEthNodeResponse(
+        request.ethNode(largeRequest),
+        response.ethNode(RESPONSE_HEADERS, RPC_RESPONSE, HttpResponseStatus.OK));
+
+    sendPostRequestAndVerifyResponse(
+        request.web3Signer(REQUEST_HEADERS, largeRequest),
+        response.web3Signer(RESPONSE_HEADERS, RPC_RESPONSE),
+        "/login");
+
+    verifyEthNodeReceived(REQUEST_HEADERS, largeRequest, ROOT_PATH + "/login");
+  }
+
+  @Test
+  void requestWithVersionAfterSniffedPrefixIsProxied() {
+    final String rpcRequest =
+        new JsonObject()
+            .put("method", "eth_sendRawTransaction")
+            .put("params", new JsonArray().add("0x" + "cd".repeat(10_000)))
+            .put("id", 0)
+            .put("jsonrpc", "2.0")
+            .encode();
+    setUpEthNodeResponse(
+        request.ethNode(rpcRequest),
+        response.ethNode(RESPONSE_HEADERS, RPC_RESPONSE, HttpResponseStatus.OK));
+
+    sendPostRequestAndVerifyResponse(
+        request.web3Signer(REQUEST_HEADERS, rpcRequest),
+        response.web3Signer(RESPONSE_HEADERS, RPC_RESPONSE),
+        "/login");
+
+    verifyEthNodeReceived(REQUEST_HEADERS, rpcRequest, ROOT_PATH + "/login");
+  }
+}
@@ -127,6 +127,21 @@ public class TestBaseConfig implements BaseConfig {
     return 20;
   }
 
+  @Override
+  public boolean isNativeTransportEnabled() {
+    return false;
+  }
+
+  @Override
+  public long getHttpMaxRequestBodySize() {
+    return DEFAULT_HTTP_MAX_REQUEST_BODY_SIZE;
+  }
+
+  @Override
+  public long getSigningMaxRequestBodySize() {
+    return DEFAULT_SIGNING_MAX_REQUEST_BODY_SIZE;
+  }
+
   @Override
   public SignerLoaderConfig getSignerLoaderConfig() {
     return new SignerLoaderConfig(getKeyConfigPath(), true, 500, 60, 100);
@@ -21,6 +21,7 @@ import tech.pegasys.web3signer.signing.config.AwsVaultParametersBuilder;
 import tech.pegasys.web3signer.signing.config.AzureKeyVaultParameters;
 import tech.pegasys.web3signer.signing.config.DefaultAzureKeyVaultParameters;
 import tech.pegasys.web3signer.signing.config.KeystoresParameters;
+import tech.pegasys.web3signer.signing.config.RemoteSigningParameters;
 
 import java.nio.file.Path;
 import java.time.Duration;
@@ -33,6 +34,7 @@ public class TestEth1Config implements Eth1Config {
   private final int downstreamHttpPort;
   private final Duration downstreamHttpRequestTimeout;
   private final ConfigurationChainId chainId;
+  private final boolean downstreamHttpStreamingEnabled;
 
   public TestEth1Config(
       final String downstreamHttpRequestPath,
@@ -40,11 +42,28 @@ public class TestEth1Config implements Eth1Config {
       final int downstreamHttpPort,
       final Duration downstreamHttpRequestTimeout,
       final ConfigurationChainId chainId) {
+    this(
+        downstreamHttpRequestPath,
+        downstreamHttpHost,
+        downstreamHttpPort,
+        downstreamHttpRequestTimeout,
+        chainId,
+        false);
+  }
+
+  public TestEth1Config(
+      final String downstreamHttpRequestPath,
+      final String downstreamHttpHost,
+      final int downstreamHttpPort,
+      final Duration downstreamHttpRequestTimeout,
+      final ConfigurationChainId chainId,
+      final boolean downstreamHttpStreamingEnabled) {
     this.downstreamHttpRequestPath = downstreamHttpRequestPath;
     this.downstreamHttpHost = downstreamHttpHost;
     this.downstreamHttpPort = downstreamHttpPort;
     this.downstreamHttpRequestTimeout = downstreamHttpRequestTimeout;
     this.chainId = chainId;
+    this.downstreamHttpStreamingEnabled = downstreamHttpStreamingEnabled;
   }
 
   @Override
@@ -67,6 +86,21 @@ public class TestEth1Config implements Eth1Config {
     return downstreamHttpRequestTimeout;
   }
 
+  @Override
+  public int getDownstreamHttpMaxPoolSize() {
+    return 32;
+  }
+
+  @Override
+  public boolean isDownstreamHttp2Enabled() {
+    return false;
+  }
+
+  @Override
+  public boolean isDownstreamHttpStreamingEnabled() {
+    return downstreamHttpStreamingEnabled;
+  }
+
   @Override
   public String getHttpProxyHost() {
     return null;
@@ -136,4 +170,24 @@ public class TestEth1Config implements Eth1Config {
       }
     };
   }
+
+  @Override
+  public RemoteSigningParameters getRemoteSigningParameters() {
+    return new RemoteSigningParameters() {};
+  }
+
+  @Override
+  public boolean isLocalNonceManagementEnabled() {
+    return false;
+  }
+
+  @Override
+  public Duration getLocalNonceIdleTimeout() {
+    return Duration.ofMinutes(5);
+  }
+
+  @Override
+  public int getJsonRpcMaxBatchSize() {
+    return 1024;
+  }
 }
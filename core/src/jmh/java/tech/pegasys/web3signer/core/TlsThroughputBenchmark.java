@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.JdkSSLEngineOptions;
+import io.vertx.core.net.OpenSSLEngineOptions;
+import io.vertx.core.net.PfxOptions;
+import io.vertx.core.net.SSLEngineOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares TLS request throughput of a local Vert.x server using the JDK and OpenSSL TLS engines,
+ * with the NIO and native transports. Requests are sent over a kept alive connection, measuring
+ * record encryption, and over a new connection each time, which includes the TLS handshake.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TlsThroughputBenchmark {
+  private static final String KEYSTORE_RESOURCE = "/tls/cert1.pfx";
+  private static final String KEYSTORE_PASSWORD = "password";
+
+  @Param({"jdk", "openssl"})
+  private String engine;
+
+  @Param({"false", "true"})
+  private boolean nativeTransport;
+
+  @Param({"1024", "65536"})
+  private int bodySize;
+
+  private Vertx vertx;
+  private HttpServer server;
+  private HttpClient keepAliveClient;
+  private HttpClient handshakeClient;
+  private Buffer body;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    if (engine.equals("openssl") && !OpenSSLEngineOptions.isAvailable()) {
+      throw new IllegalStateException("OpenSSL TLS engine is not available");
+    }
+    vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(nativeTransport));
+    if (nativeTransport && !vertx.isNativeTransportEnabled()) {
+      throw new IllegalStateException(
+          "Native transport is not available", vertx.unavailableNativeTransportCause());
+    }
+    body = Buffer.buffer("a".repeat(bodySize));
+
+    server =
+        vertx
+            .createHttpServer(
+                new HttpServerOptions()
+                    .setHost("127.0.0.1")
+                    .setPort(0)
+                    .setSsl(true)
+                    .setSslEngineOptions(sslEngineOptions())
+                    .setKeyCertOptions(
+                        new PfxOptions().setValue(readKeystore()).setPassword(KEYSTORE_PASSWORD)))
+            .requestHandler(
+                request -> request.body().onSuccess(requestBody -> request.response().end(body)))
+            .listen()
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get(30, TimeUnit.SECONDS);
+
+    keepAliveClient = vertx.createHttpClient(clientOptions().setKeepAlive(true));
+    handshakeClient = vertx.createHttpClient(clientOptions().setKeepAlive(false));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    keepAliveClient.close();
+    handshakeClient.close();
+    server.close();
+    vertx.close().toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Buffer keepAliveRequest() throws Exception {
+    return send(keepAliveClient);
+  }
+
+  @Benchmark
+  public Buffer handshakeRequest() throws Exception {
+    return send(handshakeClient);
+  }
+
+  private Buffer send(final HttpClient client) throws Exception {
+    return client
+        .request(HttpMethod.POST, server.actualPort(), "127.0.0.1", "/")
+        .compose(request -> request.send(body))
+        .compose(HttpClientResponse::body)
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get(30, TimeUnit.SECONDS);
+  }
+
+  private HttpClientOptions clientOptions() {
+    return new HttpClientOptions()
+        .setSsl(true)
+        .setTrustAll(true)
+        .setVerifyHost(false)
+        .setSslEngineOptions(sslEngineOptions())
+        .setMaxPoolSize(1);
+  }
+
+  private SSLEngineOptions sslEngineOptions() {
+    return engine.equals("openssl") ? new OpenSSLEngineOptions() : new JdkSSLEngineOptions();
+  }
+
+  private static Buffer readKeystore() throws IOException {
+    try (final InputStream keystore =
+        TlsThroughputBenchmark.class.getResourceAsStream(KEYSTORE_RESOURCE)) {
+      return Buffer.buffer(keystore.readAllBytes());
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.metrics;
+
+import tech.pegasys.web3signer.common.SigningStages;
+import tech.pegasys.web3signer.common.Web3SignerMetricCategory;
+import tech.pegasys.web3signer.core.metrics.SigningStageMetrics.RequestStages;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.SignerForIdentifier;
+import tech.pegasys.web3signer.slashingprotection.DbLocker;
+import tech.pegasys.web3signer.slashingprotection.DbSlashingProtection;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.vertx.core.MultiMap;
+import org.hyperledger.besu.metrics.MetricsSystemFactory;
+import org.hyperledger.besu.metrics.prometheus.MetricsConfiguration;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the overhead stage instrumentation adds to an eth2 signing request with the stages of an
+ * attestation signed with slashing protection. The stages themselves do no work, so the result is
+ * the instrumentation cost alone. The budget is 2 microseconds per request for the stage
+ * histograms and 20 microseconds with tracing enabled, against signing latency of around a
+ * millisecond. Tracing installs an OpenTelemetry SDK without exporters, measuring span creation but
+ * not export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SigningStageBenchmark {
+  private static final List<String> STAGES =
+      List.of(
+          SigningStageMetrics.PARSE_STAGE,
+          SigningStageMetrics.SIGNING_ROOT_STAGE,
+          SignerForIdentifier.SIGNER_LOOKUP_STAGE,
+          SignerForIdentifier.SIGN_STAGE,
+          SigningStageMetrics.SLASHING_PROTECTION_STAGE,
+          DbLocker.LOCK_WAIT_STAGE,
+          DbSlashingProtection.CHECKS_STAGE,
+          SigningStageMetrics.RESPONSE_STAGE);
+
+  @Param({"false", "true"})
+  private boolean tracing;
+
+  private SigningStageMetrics stageMetrics;
+  private OpenTelemetrySdk openTelemetry;
+  private final MultiMap headers =
+      MultiMap.caseInsensitiveMultiMap()
+          .add(SigningStageMetrics.REQUEST_ID_HEADER, "benchmark")
+          .add("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+
+  @Setup(Level.Trial)
+  public void setup() {
+    final MetricsSystem metricsSystem =
+        MetricsSystemFactory.create(
+            MetricsConfiguration.builder()
+                .enabled(true)
+                .metricCategories(Set.of(Web3SignerMetricCategory.SIGNING))
+                .build());
+    if (tracing) {
+      openTelemetry =
+          OpenTelemetrySdk.builder()
+              .setTracerProvider(SdkTracerProvider.builder().build())
+              .build();
+      GlobalOpenTelemetry.resetForTest();
+      GlobalOpenTelemetry.set(openTelemetry);
+    }
+    stageMetrics = new SigningStageMetrics(metricsSystem, tracing);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (openTelemetry != null) {
+      openTelemetry.close();
+      GlobalOpenTelemetry.resetForTest();
+    }
+  }
+
+  @Benchmark
+  public void uninstrumented(final Blackhole blackhole) {
+    for (final String stage : STAGES) {
+      try (final SigningStages.Timer ignored = SigningStages.time(stage)) {
+        blackhole.consume(stage);
+      }
+    }
+  }
+
+  @Benchmark
+  public void instrumented(final Blackhole blackhole) {
+    try (final RequestStages stages = stageMetrics.startRequest(headers)) {
+      stages.setArtifactType(ArtifactType.ATTESTATION);
+      for (final String stage : STAGES) {
+        try (final SigningStages.Timer ignored = SigningStages.time(stage)) {
+          blackhole.consume(stage);
+        }
+      }
+    }
+  }
+}
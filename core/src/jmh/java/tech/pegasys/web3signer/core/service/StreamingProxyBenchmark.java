@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service;
+
+import tech.pegasys.web3signer.core.metrics.DownstreamProxyMetrics;
+import tech.pegasys.web3signer.core.service.jsonrpc.Eth1JsonDecoderFactory;
+import tech.pegasys.web3signer.core.service.jsonrpc.JsonDecoder;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.PassThroughHandler;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.StreamingPassThroughHandler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.handler.BodyHandler;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares proxying JSON-RPC requests through the buffered pass-through handler against the
+ * streaming handler. A local Vert.x server stands in for the downstream node, returning a response
+ * of the configured size, such as a large eth_getLogs result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamingProxyBenchmark {
+
+  private static final String RPC_REQUEST =
+      "{\"jsonrpc\":\"2.0\",\"method\":\"eth_getLogs\",\"params\":[{}],\"id\":1}";
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  @Param({"1024", "1048576", "16777216"})
+  private int responseSize;
+
+  private Vertx vertx;
+  private HttpServer node;
+  private HttpServer proxy;
+  private HttpClient client;
+  private URI bufferedUri;
+  private URI streamingUri;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    final Buffer nodeResponse =
+        Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x")
+            .appendString("a".repeat(Math.max(0, responseSize - 40)))
+            .appendString("\"}");
+    node =
+        vertx
+            .createHttpServer(new HttpServerOptions().setHost("127.0.0.1").setPort(0))
+            .requestHandler(
+                request -> request.body().onSuccess(_body -> request.response().end(nodeResponse)))
+            .listen()
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get();
+
+    final io.vertx.core.http.HttpClient downstreamClient =
+        vertx.createHttpClient(
+            new HttpClientOptions()
+                .setDefaultHost("127.0.0.1")
+                .setDefaultPort(node.actualPort())
+                .setKeepAlive(true)
+                .setMaxPoolSize(32));
+    final DownstreamPathCalculator pathCalculator = new DownstreamPathCalculator("");
+    final JsonDecoder decoder = Eth1JsonDecoderFactory.create();
+    final VertxRequestTransmitterFactory transmitterFactory =
+        responseHandler ->
+            new VertxRequestTransmitter(
+                vertx, downstreamClient, TIMEOUT, pathCalculator, responseHandler);
+
+    final Router router = Router.router(vertx);
+    router
+        .post("/buffered")
+        .handler(BodyHandler.create())
+        .handler(new PassThroughHandler(transmitterFactory, decoder));
+    router
+        .post("/streaming")
+        .handler(
+            new StreamingPassThroughHandler(
+                transmitterFactory,
+                decoder,
+                new StreamingDownstreamProxy(
+                    downstreamClient,
+                    TIMEOUT,
+                    pathCalculator,
+                    new DownstreamProxyMetrics(new NoOpMetricsSystem())),
+                Long.MAX_VALUE));
+    proxy =
+        vertx
+            .createHttpServer(new HttpServerOptions().setHost("127.0.0.1").setPort(0))
+            .requestHandler(router)
+            .listen()
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get();
+
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    bufferedUri = URI.create("http://127.0.0.1:" + proxy.actualPort() + "/buffered");
+    streamingUri = URI.create("http://127.0.0.1:" + proxy.actualPort() + "/streaming");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    client.close();
+    vertx.close().toCompletionStage().toCompletableFuture().get();
+  }
+
+  @Benchmark
+  public long buffered() throws IOException, InterruptedException {
+    return send(bufferedUri);
+  }
+
+  @Benchmark
+  public long streaming() throws IOException, InterruptedException {
+    return send(streamingUri);
+  }
+
+  private long send(final URI uri) throws IOException, InterruptedException {
+    final HttpResponse<byte[]> response =
+        client.send(
+            HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(RPC_REQUEST))
+                .build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Proxy responded with status " + response.statusCode());
+    }
+    return response.body().length;
+  }
+}
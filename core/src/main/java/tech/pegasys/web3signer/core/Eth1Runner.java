@@ -23,6 +23,7 @@ import tech.pegasys.web3signer.core.routes.ReloadRoute;
 import tech.pegasys.web3signer.core.routes.eth1.Eth1SignRoute;
 import tech.pegasys.web3signer.core.routes.eth1.JsonRpcRoute;
 import tech.pegasys.web3signer.keystorage.azure.AzureKeyVault;
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
 import tech.pegasys.web3signer.keystorage.common.MappedResults;
 import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnectionFactory;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
@@ -31,10 +32,12 @@ import tech.pegasys.web3signer.signing.EthSecpArtifactSigner;
 import tech.pegasys.web3signer.signing.bulkloading.SecpAwsBulkLoader;
 import tech.pegasys.web3signer.signing.bulkloading.SecpAzureBulkLoader;
 import tech.pegasys.web3signer.signing.bulkloading.SecpV3KeystoresBulkLoader;
+import tech.pegasys.web3signer.signing.bulkloading.VaultBulkLoadingMetrics;
 import tech.pegasys.web3signer.signing.config.AzureKeyVaultFactory;
 import tech.pegasys.web3signer.signing.config.AzureKeyVaultParameters;
 import tech.pegasys.web3signer.signing.config.DefaultArtifactSignerProvider;
 import tech.pegasys.web3signer.signing.config.KeystoresParameters;
+import tech.pegasys.web3signer.signing.config.RemoteSigningParameters;
 import tech.pegasys.web3signer.signing.config.SecpArtifactSignerProviderAdapter;
 import tech.pegasys.web3signer.signing.config.SignerLoader;
 import tech.pegasys.web3signer.signing.config.metadata.Secp256k1ArtifactSignerFactory;
@@ -45,12 +48,17 @@ import tech.pegasys.web3signer.signing.secp256k1.aws.AwsKmsSignerFactory;
 import tech.pegasys.web3signer.signing.secp256k1.aws.CachedAwsKmsClientFactory;
 import tech.pegasys.web3signer.signing.secp256k1.azure.AzureHttpClientFactory;
 import tech.pegasys.web3signer.signing.secp256k1.azure.AzureKeyVaultSignerFactory;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningExecutor;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningMetrics;
+import tech.pegasys.web3signer.signing.secp256k1.remote.ResilientRemoteSigningExecutor;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.healthchecks.Status;
 import org.apache.logging.log4j.LogManager;
@@ -79,32 +87,69 @@ public class Eth1Runner extends Runner {
   @Override
   protected void populateRouter(final Context context) {
     new PublicKeysListRoute(context, "eth1").register();
-    new Eth1SignRoute(context).register();
+    new Eth1SignRoute(context, baseConfig.getSigningMaxRequestBodySize()).register();
     new ReloadRoute(context).register();
-    new JsonRpcRoute(context, eth1Config).register();
+    new JsonRpcRoute(context, eth1Config, baseConfig.getHttpMaxRequestBodySize()).register();
+  }
+
+  @Override
+  protected boolean isRequestBodyBuffered(final HttpServerRequest request) {
+    final String path = request.path();
+    // signing requests are read by the signing route with its own, smaller body limit
+    if (path.startsWith(Eth1SignRoute.SIGN_PATH_PREFIX)) {
+      return false;
+    }
+    if (!eth1Config.isDownstreamHttpStreamingEnabled()) {
+      return true;
+    }
+    // JSON-RPC requests are handled by web3signer, the rest may be streamed downstream
+    return path.equals("/") || path.startsWith("/api/") || path.equals("/reload");
   }
 
   @Override
   protected List<ArtifactSignerProvider> createArtifactSignerProvider(
       final Vertx vertx, final MetricsSystem metricsSystem) {
     // Create factories ONCE at startup
-    final AzureKeyVaultFactory azureKeyVaultFactory = new AzureKeyVaultFactory();
+    final AzureKeyVaultFactory azureKeyVaultFactory =
+        new AzureKeyVaultFactory(
+            Duration.ofSeconds(eth1Config.getAzureKeyVaultConfig().getTokenRefreshMargin()));
     final AzureHttpClientFactory azureHttpClientFactory = new AzureHttpClientFactory();
     final CachedAwsKmsClientFactory cachedAwsKmsClientFactory =
         new CachedAwsKmsClientFactory(eth1Config.getAwsKmsClientCacheSize());
     final SignerLoader signerLoader = new SignerLoader(baseConfig.getSignerLoaderConfig());
+    final VaultBulkLoadingMetrics bulkLoadingMetrics = new VaultBulkLoadingMetrics(metricsSystem);
+    // keeps Hashicorp connections and client tokens across reloads
+    final HashicorpConnectionFactory hashicorpConnectionFactory = new HashicorpConnectionFactory();
 
     // Register ALL for cleanup ONCE
     registerClose(azureKeyVaultFactory);
     registerClose(azureHttpClientFactory);
     registerClose(cachedAwsKmsClientFactory);
     registerClose(signerLoader);
+    registerClose(hashicorpConnectionFactory::close);
+
+    // Signing requests to each remote service have their own deadline, limits and circuit breaker
+    final RemoteSigningParameters remoteSigningParameters = eth1Config.getRemoteSigningParameters();
+    final RemoteSigningMetrics remoteSigningMetrics = new RemoteSigningMetrics(metricsSystem);
+    final RemoteSigningExecutor azureSigningExecutor =
+        new ResilientRemoteSigningExecutor(
+            "azure",
+            remoteSigningParameters.getAzureTimeout(),
+            remoteSigningParameters,
+            remoteSigningMetrics);
+    final RemoteSigningExecutor awsKmsSigningExecutor =
+        new ResilientRemoteSigningExecutor(
+            "aws_kms",
+            remoteSigningParameters.getAwsKmsTimeout(),
+            remoteSigningParameters,
+            remoteSigningMetrics);
 
     // Create signer factories that use the shared instances
     final AzureKeyVaultSignerFactory azureSignerFactory =
-        new AzureKeyVaultSignerFactory(azureKeyVaultFactory, azureHttpClientFactory);
+        new AzureKeyVaultSignerFactory(
+            azureKeyVaultFactory, azureHttpClientFactory, azureSigningExecutor);
     final AwsKmsSignerFactory awsKmsSignerFactory =
-        new AwsKmsSignerFactory(cachedAwsKmsClientFactory, true);
+        new AwsKmsSignerFactory(cachedAwsKmsClientFactory, true, awsKmsSigningExecutor);
 
     final ArtifactSignerProvider signerProvider =
         new DefaultArtifactSignerProvider(
@@ -112,13 +157,18 @@ public class Eth1Runner extends Runner {
               // Supplier reuses the same factory instances on every reload
               final MappedResults<ArtifactSigner> configFileResults =
                   loadSignersFromKeyConfigFiles(
-                      azureKeyVaultFactory, azureSignerFactory, awsKmsSignerFactory, signerLoader);
+                      hashicorpConnectionFactory,
+                      azureKeyVaultFactory,
+                      azureSignerFactory,
+                      awsKmsSignerFactory,
+                      signerLoader);
               final MappedResults<ArtifactSigner> bulkLoadResults =
                   bulkLoadSigners(
                       azureKeyVaultFactory,
                       azureSignerFactory,
                       cachedAwsKmsClientFactory,
-                      awsKmsSignerFactory);
+                      awsKmsSignerFactory,
+                      bulkLoadingMetrics);
 
               return MappedResults.merge(configFileResults, bulkLoadResults);
             },
@@ -134,40 +184,42 @@ public class Eth1Runner extends Runner {
   }
 
   private MappedResults<ArtifactSigner> loadSignersFromKeyConfigFiles(
+      final HashicorpConnectionFactory hashicorpConnectionFactory,
       final AzureKeyVaultFactory azureKeyVaultFactory,
       final AzureKeyVaultSignerFactory azureSignerFactory,
       final AwsKmsSignerFactory awsKmsSignerFactory,
       final SignerLoader signerLoader) {
-    try (final HashicorpConnectionFactory hashicorpConnectionFactory =
-        new HashicorpConnectionFactory()) {
-      final Secp256k1ArtifactSignerFactory ethSecpArtifactSignerFactory =
-          new Secp256k1ArtifactSignerFactory(
-              hashicorpConnectionFactory,
-              baseConfig.getKeyConfigPath(),
-              azureSignerFactory,
-              EthSecpArtifactSigner::new,
-              azureKeyVaultFactory,
-              awsKmsSignerFactory,
-              true);
+    final Secp256k1ArtifactSignerFactory ethSecpArtifactSignerFactory =
+        new Secp256k1ArtifactSignerFactory(
+            hashicorpConnectionFactory,
+            baseConfig.getKeyConfigPath(),
+            azureSignerFactory,
+            EthSecpArtifactSigner::new,
+            azureKeyVaultFactory,
+            awsKmsSignerFactory,
+            true);
 
-      final SignerParser signerParser =
-          new YamlSignerParser(
-              List.of(ethSecpArtifactSignerFactory),
-              YamlMapperFactory.createYamlMapper(baseConfig.getKeyStoreConfigFileMaxSize()));
+    final SignerParser signerParser =
+        new YamlSignerParser(
+            List.of(ethSecpArtifactSignerFactory),
+            YamlMapperFactory.createYamlMapper(baseConfig.getKeyStoreConfigFileMaxSize()));
 
-      return signerLoader.load(signerParser);
-    }
+    return signerLoader.load(signerParser);
   }
 
   private MappedResults<ArtifactSigner> bulkLoadSigners(
       final AzureKeyVaultFactory azureKeyVaultFactory,
       final AzureKeyVaultSignerFactory azureSignerFactory,
       final CachedAwsKmsClientFactory cachedAwsKmsClientFactory,
-      final AwsKmsSignerFactory awsKmsSignerFactory) {
+      final AwsKmsSignerFactory awsKmsSignerFactory,
+      final VaultBulkLoadingMetrics bulkLoadingMetrics) {
     MappedResults<ArtifactSigner> results = MappedResults.newSetInstance();
     if (eth1Config.getAzureKeyVaultConfig().isAzureKeyVaultEnabled()) {
       results =
-          MappedResults.merge(results, bulkLoadAzureKeys(azureKeyVaultFactory, azureSignerFactory));
+          MappedResults.merge(
+              results,
+              bulkLoadAzureKeys(
+                  azureKeyVaultFactory, azureSignerFactory, bulkLoadingMetrics.forVault("azure")));
     }
     if (eth1Config.getAwsVaultParameters().isEnabled()) {
       results =
@@ -182,7 +234,9 @@ public class Eth1Runner extends Runner {
   }
 
   private MappedResults<ArtifactSigner> bulkLoadAzureKeys(
-      AzureKeyVaultFactory azureKeyVaultFactory, AzureKeyVaultSignerFactory azureSignerFactory) {
+      AzureKeyVaultFactory azureKeyVaultFactory,
+      AzureKeyVaultSignerFactory azureSignerFactory,
+      BulkLoadingMetrics bulkLoadingMetrics) {
     LOG.info("Bulk loading keys from Azure key vault ... ");
     final AzureKeyVaultParameters azureKeyVaultConfig = eth1Config.getAzureKeyVaultConfig();
     final AzureKeyVault azureKeyVault =
@@ -194,7 +248,7 @@ public class Eth1Runner extends Runner {
             azureKeyVaultConfig.getAuthenticationMode(),
             azureKeyVaultConfig.getTimeout());
     final SecpAzureBulkLoader secpAzureBulkLoader =
-        new SecpAzureBulkLoader(azureKeyVault, azureSignerFactory);
+        new SecpAzureBulkLoader(azureKeyVault, azureSignerFactory, bulkLoadingMetrics);
     final MappedResults<ArtifactSigner> azureResult = secpAzureBulkLoader.load(azureKeyVaultConfig);
     LOG.info(
         "Keys loaded from Azure: [{}], with error count: [{}]",
@@ -24,6 +24,8 @@ import tech.pegasys.teku.bls.BLSSecretKey;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.web3signer.core.config.BaseConfig;
 import tech.pegasys.web3signer.core.config.KeyManagerApiConfig;
+import tech.pegasys.web3signer.core.config.SigningLoadSheddingConfig;
+import tech.pegasys.web3signer.core.config.SigningPriorityConfig;
 import tech.pegasys.web3signer.core.routes.PublicKeysListRoute;
 import tech.pegasys.web3signer.core.routes.ReloadRoute;
 import tech.pegasys.web3signer.core.routes.eth2.CommitBoostGenerateProxyKeyRoute;
@@ -33,9 +35,14 @@ import tech.pegasys.web3signer.core.routes.eth2.Eth2SignExtensionRoute;
 import tech.pegasys.web3signer.core.routes.eth2.Eth2SignRoute;
 import tech.pegasys.web3signer.core.routes.eth2.HighWatermarkRoute;
 import tech.pegasys.web3signer.core.routes.eth2.KeyManagerApiRoute;
+import tech.pegasys.web3signer.core.service.http.handlers.commitboost.ProxyKeyPool;
+import tech.pegasys.web3signer.core.service.http.handlers.commitboost.ProxyKeysGenerator;
+import tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.KeystoreDecryptionExecutor;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.Eth2SigningPriorityExecutor;
 import tech.pegasys.web3signer.core.util.ExecutorShutdownUtil;
 import tech.pegasys.web3signer.keystorage.aws.AwsSecretsManagerProvider;
 import tech.pegasys.web3signer.keystorage.azure.AzureKeyVault;
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
 import tech.pegasys.web3signer.keystorage.common.MappedResults;
 import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnectionFactory;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
@@ -44,9 +51,13 @@ import tech.pegasys.web3signer.signing.BlsArtifactSigner;
 import tech.pegasys.web3signer.signing.bulkloading.BlsAwsBulkLoader;
 import tech.pegasys.web3signer.signing.bulkloading.BlsGcpBulkLoader;
 import tech.pegasys.web3signer.signing.bulkloading.BlsKeystoreBulkLoader;
+import tech.pegasys.web3signer.signing.bulkloading.KeystoreSignerCache;
+import tech.pegasys.web3signer.signing.bulkloading.UnlockedKeyCache;
+import tech.pegasys.web3signer.signing.bulkloading.VaultBulkLoadingMetrics;
 import tech.pegasys.web3signer.signing.config.AwsVaultParameters;
 import tech.pegasys.web3signer.signing.config.AzureKeyVaultFactory;
 import tech.pegasys.web3signer.signing.config.AzureKeyVaultParameters;
+import tech.pegasys.web3signer.signing.config.CommitBoostParameters;
 import tech.pegasys.web3signer.signing.config.DefaultArtifactSignerProvider;
 import tech.pegasys.web3signer.signing.config.GcpSecretManagerParameters;
 import tech.pegasys.web3signer.signing.config.KeystoresParameters;
@@ -64,9 +75,15 @@ import tech.pegasys.web3signer.slashingprotection.SlashingProtectionContext;
 import tech.pegasys.web3signer.slashingprotection.SlashingProtectionContextFactory;
 import tech.pegasys.web3signer.slashingprotection.SlashingProtectionParameters;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -74,6 +91,8 @@ import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.healthchecks.Status;
 import org.apache.logging.log4j.LogManager;
@@ -92,10 +111,13 @@ public class Eth2Runner extends Runner {
   private final SlashingProtectionParameters slashingProtectionParameters;
   private final boolean pruningEnabled;
   private final KeystoresParameters keystoresParameters;
-  private final Spec eth2Spec;
+  private final Supplier<Spec> eth2SpecSupplier;
   private final KeyManagerApiConfig keyManagerApiConfig;
   private final boolean signingExtEnabled;
-  private final KeystoresParameters commitBoostApiParameters;
+  private final CommitBoostParameters commitBoostApiParameters;
+  private final SigningLoadSheddingConfig loadSheddingConfig;
+  private final SigningPriorityConfig signingPriorityConfig;
+  private final boolean signingTracingEnabled;
 
   public Eth2Runner(
       final BaseConfig baseConfig,
@@ -104,22 +126,28 @@ public class Eth2Runner extends Runner {
       final KeystoresParameters keystoresParameters,
       final AwsVaultParameters awsVaultParameters,
       final GcpSecretManagerParameters gcpSecretManagerParameters,
-      final Spec eth2Spec,
+      final Supplier<Spec> eth2SpecSupplier,
       final KeyManagerApiConfig keyManagerApiConfig,
       final boolean signingExtEnabled,
-      final KeystoresParameters commitBoostApiParameters) {
+      final CommitBoostParameters commitBoostApiParameters,
+      final SigningLoadSheddingConfig loadSheddingConfig,
+      final SigningPriorityConfig signingPriorityConfig,
+      final boolean signingTracingEnabled) {
     super(baseConfig);
     this.slashingProtectionContext = createSlashingProtection(slashingProtectionParameters);
     this.azureKeyVaultParameters = azureKeyVaultParameters;
     this.slashingProtectionParameters = slashingProtectionParameters;
     this.pruningEnabled = slashingProtectionParameters.isPruningEnabled();
     this.keystoresParameters = keystoresParameters;
-    this.eth2Spec = eth2Spec;
+    this.eth2SpecSupplier = eth2SpecSupplier;
     this.keyManagerApiConfig = keyManagerApiConfig;
     this.awsVaultParameters = awsVaultParameters;
     this.gcpSecretManagerParameters = gcpSecretManagerParameters;
     this.signingExtEnabled = signingExtEnabled;
     this.commitBoostApiParameters = commitBoostApiParameters;
+    this.loadSheddingConfig = loadSheddingConfig;
+    this.signingPriorityConfig = signingPriorityConfig;
+    this.signingTracingEnabled = signingTracingEnabled;
   }
 
   private Optional<SlashingProtectionContext> createSlashingProtection(
@@ -137,64 +165,179 @@ public class Eth2Runner extends Runner {
 
   @Override
   public void populateRouter(final Context context) {
+    // the spec may still be building in the background, it is not needed until routes are created
+    final long specWaitStart = System.nanoTime();
+    final Spec eth2Spec = eth2SpecSupplier.get();
+    StartupPhases.record("network_spec_wait", specWaitStart);
+
     new PublicKeysListRoute(context, "eth2").register();
-    new Eth2SignRoute(context, eth2Spec, slashingProtectionContext).register();
+    new Eth2SignRoute(
+            context,
+            eth2Spec,
+            slashingProtectionContext,
+            loadSheddingConfig,
+            createPriorityExecutor(context),
+            signingTracingEnabled,
+            baseConfig.getSigningMaxRequestBodySize())
+        .register();
     new ReloadRoute(context).register();
     new HighWatermarkRoute(context, slashingProtectionContext).register();
     if (signingExtEnabled) {
       new Eth2SignExtensionRoute(context).register();
     }
     if (keyManagerApiConfig.isKeyManagerApiEnabled()) {
-      new KeyManagerApiRoute(context, baseConfig, keyManagerApiConfig, slashingProtectionContext)
+      final KeystoreDecryptionExecutor keystoreDecryptionExecutor =
+          KeystoreDecryptionExecutor.createDefault();
+      registerClose(keystoreDecryptionExecutor);
+      new KeyManagerApiRoute(
+              context,
+              baseConfig,
+              keyManagerApiConfig,
+              slashingProtectionContext,
+              keystoreDecryptionExecutor)
           .register();
     }
     if (commitBoostApiParameters.isEnabled()) {
       new CommitBoostPublicKeysRoute(context).register();
-      new CommitBoostGenerateProxyKeyRoute(context, commitBoostApiParameters, eth2Spec).register();
+      final ProxyKeyPool proxyKeyPool =
+          new ProxyKeyPool(
+              new ProxyKeysGenerator(
+                  commitBoostApiParameters,
+                  commitBoostApiParameters.getProxyKeyMaxConcurrentEncryptions()),
+              commitBoostApiParameters.getProxyKeyPoolSize(),
+              commitBoostApiParameters.getProxyKeyPoolRefillRate());
+      registerClose(proxyKeyPool);
+      new CommitBoostGenerateProxyKeyRoute(context, proxyKeyPool, eth2Spec).register();
       new CommitBoostRequestSignatureRoute(context, eth2Spec).register();
     }
   }
 
+  private Optional<Eth2SigningPriorityExecutor> createPriorityExecutor(final Context context) {
+    if (!signingPriorityConfig.isPrioritySchedulingEnabled()) {
+      return Optional.empty();
+    }
+    final Eth2SigningPriorityExecutor priorityExecutor =
+        new Eth2SigningPriorityExecutor(
+            signingPriorityConfig.getWeights(),
+            baseConfig.getVertxWorkerPoolSize(),
+            context.getMetricsSystem());
+    registerClose(priorityExecutor);
+    return Optional.of(priorityExecutor);
+  }
+
+  @Override
+  protected boolean isRequestBodyBuffered(final HttpServerRequest request) {
+    // signing requests are read by the signing route with its own, smaller body limit
+    if (request.path().startsWith(Eth2SignRoute.SIGN_PATH_PREFIX)) {
+      return false;
+    }
+    return !(keyManagerApiConfig.isKeyManagerApiEnabled()
+        && request.method().equals(HttpMethod.POST)
+        && KeyManagerApiRoute.STREAMED_BODY_PATHS.contains(request.path()));
+  }
+
   @Override
   protected List<ArtifactSignerProvider> createArtifactSignerProvider(
       final Vertx vertx, final MetricsSystem metricsSystem) {
     // create factory instance ONCE at startup
     final SignerLoader signerLoader = new SignerLoader(baseConfig.getSignerLoaderConfig());
+    // keeps Hashicorp connections and client tokens across reloads
+    final HashicorpConnectionFactory hashicorpConnectionFactory = new HashicorpConnectionFactory();
 
     // Register for cleanup ONCE
     registerClose(signerLoader);
+    registerClose(hashicorpConnectionFactory::close);
 
     return List.of(
         new DefaultArtifactSignerProvider(
-            createArtifactSignerSupplier(signerLoader, metricsSystem),
+            createArtifactSignerSupplier(signerLoader, hashicorpConnectionFactory, metricsSystem),
             slashingProtectionContext.<BiConsumer<Set<String>, Set<String>>>map(
                 PostLoadingValidatorsProcessor::new),
             Optional.of(commitBoostApiParameters)));
   }
 
   private Supplier<MappedResults<ArtifactSigner>> createArtifactSignerSupplier(
-      final SignerLoader signerLoader, final MetricsSystem metricsSystem) {
+      final SignerLoader signerLoader,
+      final HashicorpConnectionFactory hashicorpConnectionFactory,
+      final MetricsSystem metricsSystem) {
+    final VaultBulkLoadingMetrics bulkLoadingMetrics = new VaultBulkLoadingMetrics(metricsSystem);
+    // keeps the signers of unchanged keystores across reloads so that they are not decrypted again
+    final KeystoreSignerCache keystoreSignerCache = new KeystoreSignerCache();
     return () -> {
       try (final AzureKeyVaultFactory azureKeyVaultFactory = new AzureKeyVaultFactory()) {
+        final List<KeySource> keySources = new ArrayList<>();
         // load keys from key config files
-        MappedResults<ArtifactSigner> configFileResults =
-            loadSignersFromKeyConfigFiles(signerLoader, azureKeyVaultFactory, metricsSystem);
+        keySources.add(
+            new KeySource(
+                "key config files",
+                KEYS_CHECK_CONFIG_FILE_LOADING,
+                () ->
+                    loadSignersFromKeyConfigFiles(
+                        signerLoader,
+                        hashicorpConnectionFactory,
+                        azureKeyVaultFactory,
+                        metricsSystem)));
         // bulkload keys
-        MappedResults<ArtifactSigner> bulkLoadResults = bulkLoadSigners(azureKeyVaultFactory);
+        keySources.addAll(
+            bulkLoadingKeySources(azureKeyVaultFactory, bulkLoadingMetrics, keystoreSignerCache));
 
-        return MappedResults.merge(configFileResults, bulkLoadResults);
+        return loadKeySources(keySources);
       }
     };
   }
 
+  /**
+   * Loads every key source on its own virtual thread, so that loading takes as long as the slowest
+   * source rather than the sum of all of them. Health checks are registered and results are merged
+   * in source order once all sources have loaded.
+   */
+  private MappedResults<ArtifactSigner> loadKeySources(final List<KeySource> keySources) {
+    final List<CompletableFuture<MappedResults<ArtifactSigner>>> loads;
+    try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      loads =
+          keySources.stream()
+              .map(source -> CompletableFuture.supplyAsync(() -> timedLoad(source), executor))
+              .toList();
+    }
+
+    MappedResults<ArtifactSigner> results = MappedResults.newSetInstance();
+    for (int i = 0; i < keySources.size(); i++) {
+      final MappedResults<ArtifactSigner> sourceResult = join(loads.get(i));
+      registerSignerLoadingHealthCheck(keySources.get(i).healthCheckName(), sourceResult);
+      results = MappedResults.merge(results, sourceResult);
+    }
+    return results;
+  }
+
+  private static MappedResults<ArtifactSigner> timedLoad(final KeySource source) {
+    final long start = System.nanoTime();
+    final MappedResults<ArtifactSigner> result = source.loader().get();
+    LOG.info(
+        "Loading keys from {} took {} ms",
+        source.description(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return result;
+  }
+
+  private static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      // rethrow the loader's own exception as it was before sources were loaded concurrently
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
   private MappedResults<ArtifactSigner> loadSignersFromKeyConfigFiles(
       final SignerLoader signerLoader,
+      final HashicorpConnectionFactory hashicorpConnectionFactory,
       final AzureKeyVaultFactory azureKeyVaultFactory,
       final MetricsSystem metricsSystem) {
-    try (final HashicorpConnectionFactory hashicorpConnectionFactory =
-            new HashicorpConnectionFactory();
-        final AwsSecretsManagerProvider awsSecretsManagerProvider =
-            new AwsSecretsManagerProvider(awsVaultParameters.getCacheMaximumSize())) {
+    try (final AwsSecretsManagerProvider awsSecretsManagerProvider =
+        new AwsSecretsManagerProvider(awsVaultParameters.getCacheMaximumSize())) {
       final AbstractArtifactSignerFactory artifactSignerFactory =
           new BlsArtifactSignerFactory(
               baseConfig.getKeyConfigPath(),
@@ -208,79 +351,122 @@ public class Eth2Runner extends Runner {
           new YamlSignerParser(
               List.of(artifactSignerFactory),
               YamlMapperFactory.createYamlMapper(baseConfig.getKeyStoreConfigFileMaxSize()));
-      final MappedResults<ArtifactSigner> results = signerLoader.load(signerParser);
-
-      registerSignerLoadingHealthCheck(KEYS_CHECK_CONFIG_FILE_LOADING, results);
-
-      return results;
+      return signerLoader.load(signerParser);
     }
   }
 
-  private MappedResults<ArtifactSigner> bulkLoadSigners(
-      final AzureKeyVaultFactory azureKeyVaultFactory) {
-    MappedResults<ArtifactSigner> results = MappedResults.newSetInstance();
+  private List<KeySource> bulkLoadingKeySources(
+      final AzureKeyVaultFactory azureKeyVaultFactory,
+      final VaultBulkLoadingMetrics bulkLoadingMetrics,
+      final KeystoreSignerCache keystoreSignerCache) {
+    final List<KeySource> keySources = new ArrayList<>();
     if (azureKeyVaultParameters.isAzureKeyVaultEnabled()) {
-      LOG.info("Bulk loading keys from Azure key vault ... ");
-      /*
-       Note: Azure supports 25K bytes per secret. https://learn.microsoft.com/en-us/azure/key-vault/secrets/about-secrets
-       Each raw bls private key in hex format is approximately 100 bytes. We should store about 200 or fewer
-       `\n` delimited keys per secret.
-      */
-      final MappedResults<ArtifactSigner> azureResult = loadAzureSigners(azureKeyVaultFactory);
-      LOG.info(
-          "Keys loaded from Azure: [{}], with error count: [{}]",
-          azureResult.getValues().size(),
-          azureResult.getErrorCount());
-      registerSignerLoadingHealthCheck(KEYS_CHECK_AZURE_BULK_LOADING, azureResult);
-      results = MappedResults.merge(results, azureResult);
+      keySources.add(
+          new KeySource(
+              "Azure key vault",
+              KEYS_CHECK_AZURE_BULK_LOADING,
+              () -> {
+                LOG.info("Bulk loading keys from Azure key vault ... ");
+                /*
+                 Note: Azure supports 25K bytes per secret. https://learn.microsoft.com/en-us/azure/key-vault/secrets/about-secrets
+                 Each raw bls private key in hex format is approximately 100 bytes. We should store about 200 or fewer
+                 `\n` delimited keys per secret.
+                */
+                final MappedResults<ArtifactSigner> azureResult =
+                    loadAzureSigners(azureKeyVaultFactory, bulkLoadingMetrics.forVault("azure"));
+                LOG.info(
+                    "Keys loaded from Azure: [{}], with error count: [{}]",
+                    azureResult.getValues().size(),
+                    azureResult.getErrorCount());
+                return azureResult;
+              }));
     }
 
     if (keystoresParameters.isEnabled()) {
-      LOG.info("Bulk loading keys from local keystores ... ");
-      final MappedResults<ArtifactSigner> keystoreSignersResult =
-          keystoresParameters.hasKeystoresPasswordsPath()
-              ? BlsKeystoreBulkLoader.loadKeystoresUsingPasswordDir(
-                  keystoresParameters.getKeystoresPath(),
-                  keystoresParameters.getKeystoresPasswordsPath())
-              : BlsKeystoreBulkLoader.loadKeystoresUsingPasswordFile(
-                  keystoresParameters.getKeystoresPath(),
-                  keystoresParameters.getKeystoresPasswordFile());
-      LOG.info(
-          "Keys loaded from local keystores: [{}], with error count: [{}]",
-          keystoreSignersResult.getValues().size(),
-          keystoreSignersResult.getErrorCount());
-
-      registerSignerLoadingHealthCheck(KEYS_CHECK_KEYSTORE_BULK_LOADING, keystoreSignersResult);
-      results = MappedResults.merge(results, keystoreSignersResult);
+      keySources.add(
+          new KeySource(
+              "local keystores",
+              KEYS_CHECK_KEYSTORE_BULK_LOADING,
+              () -> {
+                LOG.info("Bulk loading keys from local keystores ... ");
+                final Optional<UnlockedKeyCache> unlockedKeyCache = openUnlockedKeyCache();
+                final MappedResults<ArtifactSigner> keystoreSignersResult =
+                    keystoresParameters.hasKeystoresPasswordsPath()
+                        ? BlsKeystoreBulkLoader.loadKeystoresUsingPasswordDir(
+                            keystoresParameters.getKeystoresPath(),
+                            keystoresParameters.getKeystoresPasswordsPath(),
+                            unlockedKeyCache,
+                            Optional.of(keystoreSignerCache))
+                        : BlsKeystoreBulkLoader.loadKeystoresUsingPasswordFile(
+                            keystoresParameters.getKeystoresPath(),
+                            keystoresParameters.getKeystoresPasswordFile(),
+                            unlockedKeyCache,
+                            Optional.of(keystoreSignerCache));
+                unlockedKeyCache.ifPresent(UnlockedKeyCache::save);
+                LOG.info(
+                    "Keys loaded from local keystores: [{}], with error count: [{}]",
+                    keystoreSignersResult.getValues().size(),
+                    keystoreSignersResult.getErrorCount());
+                return keystoreSignersResult;
+              }));
     }
 
     if (awsVaultParameters.isEnabled()) {
-      LOG.info("Bulk loading keys from AWS Secrets Manager ... ");
-      final BlsAwsBulkLoader blsAwsBulkLoader = new BlsAwsBulkLoader();
-
-      final MappedResults<ArtifactSigner> awsResult = blsAwsBulkLoader.load(awsVaultParameters);
-      LOG.info(
-          "Keys loaded from AWS Secrets Manager: [{}], with error count: [{}]",
-          awsResult.getValues().size(),
-          awsResult.getErrorCount());
-      registerSignerLoadingHealthCheck(KEYS_CHECK_AWS_BULK_LOADING, awsResult);
-      results = MappedResults.merge(results, awsResult);
+      keySources.add(
+          new KeySource(
+              "AWS Secrets Manager",
+              KEYS_CHECK_AWS_BULK_LOADING,
+              () -> {
+                LOG.info("Bulk loading keys from AWS Secrets Manager ... ");
+                final BlsAwsBulkLoader blsAwsBulkLoader =
+                    new BlsAwsBulkLoader(bulkLoadingMetrics.forVault("aws"));
+
+                final MappedResults<ArtifactSigner> awsResult =
+                    blsAwsBulkLoader.load(awsVaultParameters);
+                LOG.info(
+                    "Keys loaded from AWS Secrets Manager: [{}], with error count: [{}]",
+                    awsResult.getValues().size(),
+                    awsResult.getErrorCount());
+                return awsResult;
+              }));
     }
 
     if (gcpSecretManagerParameters.isEnabled()) {
-      LOG.info("Bulk loading keys from GCP Secret Manager ... ");
-      final BlsGcpBulkLoader blsGcpBulkLoader = new BlsGcpBulkLoader();
-      final MappedResults<ArtifactSigner> gcpResult =
-          blsGcpBulkLoader.load(gcpSecretManagerParameters);
-      LOG.info(
-          "Keys loaded from GCP Secret Manager: [{}], with error count: [{}]",
-          gcpResult.getValues().size(),
-          gcpResult.getErrorCount());
-      registerSignerLoadingHealthCheck(KEYS_CHECK_GCP_BULK_LOADING, gcpResult);
-      results = MappedResults.merge(results, gcpResult);
+      keySources.add(
+          new KeySource(
+              "GCP Secret Manager",
+              KEYS_CHECK_GCP_BULK_LOADING,
+              () -> {
+                LOG.info("Bulk loading keys from GCP Secret Manager ... ");
+                final BlsGcpBulkLoader blsGcpBulkLoader =
+                    new BlsGcpBulkLoader(bulkLoadingMetrics.forVault("gcp"));
+                final MappedResults<ArtifactSigner> gcpResult =
+                    blsGcpBulkLoader.load(gcpSecretManagerParameters);
+                LOG.info(
+                    "Keys loaded from GCP Secret Manager: [{}], with error count: [{}]",
+                    gcpResult.getValues().size(),
+                    gcpResult.getErrorCount());
+                return gcpResult;
+              }));
     }
 
-    return results;
+    return keySources;
+  }
+
+  private Optional<UnlockedKeyCache> openUnlockedKeyCache() {
+    if (!keystoresParameters.isUnlockedKeyCacheEnabled() || baseConfig.getDataPath() == null) {
+      return Optional.empty();
+    }
+
+    final Path cacheFile = baseConfig.getDataPath().resolve(UnlockedKeyCache.CACHE_FILE_NAME);
+    try {
+      return Optional.of(
+          UnlockedKeyCache.open(
+              cacheFile, keystoresParameters.getKeystoresUnlockedCachePasswordFile()));
+    } catch (final IOException e) {
+      LOG.warn("Unable to read unlocked key cache password file, keystores will be decrypted", e);
+      return Optional.empty();
+    }
   }
 
   private void registerSignerLoadingHealthCheck(
@@ -357,7 +543,7 @@ public class Eth2Runner extends Runner {
   }
 
   final MappedResults<ArtifactSigner> loadAzureSigners(
-      final AzureKeyVaultFactory azureKeyVaultFactory) {
+      final AzureKeyVaultFactory azureKeyVaultFactory, final BulkLoadingMetrics metrics) {
     final AzureKeyVault keyVault =
         azureKeyVaultFactory.createAzureKeyVault(azureKeyVaultParameters);
 
@@ -373,6 +559,12 @@ public class Eth2Runner extends Runner {
             return null;
           }
         },
-        azureKeyVaultParameters.getTags());
+        azureKeyVaultParameters.getTags(),
+        azureKeyVaultParameters.getFetchConcurrency(),
+        metrics);
   }
+
+  /** A source of signers which is loaded alongside the other sources. */
+  private record KeySource(
+      String description, String healthCheckName, Supplier<MappedResults<ArtifactSigner>> loader) {}
 }
@@ -55,6 +55,7 @@ import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.net.OpenSSLEngineOptions;
 import io.vertx.core.net.PfxOptions;
 import io.vertx.ext.healthchecks.HealthCheckHandler;
 import io.vertx.ext.healthchecks.Status;
@@ -91,6 +92,7 @@ public abstract class Runner implements Runnable, AutoCloseable {
 
   @Override
   public void run() {
+    long phaseStart = System.nanoTime();
     final MetricsConfiguration metricsConfiguration = createMetricsConfiguration();
     final MetricsSystem metricsSystem = MetricsSystemFactory.create(metricsConfiguration);
     Optional<MetricsService> metricsService = Optional.empty();
@@ -100,6 +102,8 @@ public abstract class Runner implements Runnable, AutoCloseable {
             .with(createVertxOptions())
             .withMetrics(new VertxMetricsAdapterFactory(metricsSystem))
             .build();
+    logTransport(vertx);
+    phaseStart = StartupPhases.record("vertx", phaseStart);
     final Router router = Router.router(vertx);
 
     final LogErrorHandler errorHandler = new LogErrorHandler();
@@ -112,6 +116,7 @@ public abstract class Runner implements Runnable, AutoCloseable {
       createVersionMetric(metricsSystem);
       metricsService = MetricsService.create(metricsConfiguration, metricsSystem);
       metricsService.ifPresent(MetricsService::start);
+      phaseStart = StartupPhases.record("metrics", phaseStart);
 
       // load the artifact signer providers in order ...
       artifactSignerProviders.forEach(
@@ -124,6 +129,7 @@ public abstract class Runner implements Runnable, AutoCloseable {
                   KEYS_CHECK_UNEXPECTED, promise -> promise.complete(Status.KO()));
             }
           });
+      phaseStart = StartupPhases.record("key_loading", phaseStart);
 
       // register access log handler first
       if (baseConfig.isAccessLogsEnabled()) {
@@ -146,7 +152,18 @@ public abstract class Runner implements Runnable, AutoCloseable {
        Add our own instance of BodyHandler as the default BodyHandler doesn't seem to handle large json bodies.
        BodyHandler must be first handler after platform and security handlers
       */
-      router.route().handler(BodyHandler.create());
+      final BodyHandler bodyHandler =
+          BodyHandler.create().setBodyLimit(baseConfig.getHttpMaxRequestBodySize());
+      router
+          .route()
+          .handler(
+              routingContext -> {
+                if (isRequestBodyBuffered(routingContext.request())) {
+                  bodyHandler.handle(routingContext);
+                } else {
+                  routingContext.next();
+                }
+              });
       registerUpcheckRoute(router, errorHandler);
 
       router
@@ -178,14 +195,17 @@ public abstract class Runner implements Runnable, AutoCloseable {
               reloadWorkerExecutor);
 
       populateRouter(context);
+      phaseStart = StartupPhases.record("routes", phaseStart);
 
       final HttpServer httpServer = createServerAndWait(vertx, router);
+      StartupPhases.record("http_server", phaseStart);
       final String tlsStatus = baseConfig.getTlsOptions().isPresent() ? "enabled" : "disabled";
       LOG.info(
           "Web3Signer has started with TLS {}, and ready to handle signing requests on {}:{}",
           tlsStatus,
           baseConfig.getHttpListenHost(),
           httpServer.actualPort());
+      StartupPhases.startupCompleted(metricsSystem);
 
       persistPortInformation(
           httpServer.actualPort(), metricsService.flatMap(MetricsService::getPort));
@@ -246,14 +266,39 @@ public abstract class Runner implements Runnable, AutoCloseable {
   private VertxOptions createVertxOptions() {
     return new VertxOptions()
         .setWorkerPoolSize(baseConfig.getVertxWorkerPoolSize())
+        .setPreferNativeTransport(baseConfig.isNativeTransportEnabled())
         .setMetricsOptions(new MetricsOptions().setEnabled(true));
   }
 
+  private void logTransport(final Vertx vertx) {
+    if (vertx.isNativeTransportEnabled()) {
+      LOG.info("Using native transport for network connections");
+    } else if (baseConfig.isNativeTransportEnabled()) {
+      final Throwable cause = vertx.unavailableNativeTransportCause();
+      LOG.warn(
+          "Native transport is not available, using NIO transport: {}",
+          cause == null ? "unknown cause" : cause.getMessage());
+    } else {
+      LOG.info("Using NIO transport for network connections");
+    }
+  }
+
   protected abstract List<ArtifactSignerProvider> createArtifactSignerProvider(
       final Vertx vertx, final MetricsSystem metricsSystem);
 
   protected abstract void populateRouter(final Context context);
 
+  /**
+   * Whether the request body is read before routing. Routes which stream request bodies rather
+   * than reading them whole must return false for their requests.
+   *
+   * @param request the request received
+   * @return true if the body is read before the request is routed
+   */
+  protected boolean isRequestBodyBuffered(final HttpServerRequest request) {
+    return true;
+  }
+
   private void registerUpcheckRoute(final Router router, final LogErrorHandler errorHandler) {
     router
         .route(HttpMethod.GET, UPCHECK_PATH)
@@ -311,6 +356,7 @@ public abstract class Runner implements Runnable, AutoCloseable {
     final TlsOptions tlsConfig = baseConfig.getTlsOptions().get();
 
     result = applyTlsKeyStore(result, tlsConfig);
+    result = applySslEngine(result, tlsConfig);
 
     if (tlsConfig.getClientAuthConstraints().isPresent()) {
       result = applyClientAuthentication(result, tlsConfig.getClientAuthConstraints().get());
@@ -341,6 +387,21 @@ public abstract class Runner implements Runnable, AutoCloseable {
     }
   }
 
+  private static HttpServerOptions applySslEngine(
+      final HttpServerOptions input, final TlsOptions tlsConfig) {
+    if (!tlsConfig.isOpenSslEngineEnabled()) {
+      LOG.info("Using JDK TLS engine");
+      return input;
+    }
+    if (!OpenSSLEngineOptions.isAvailable()) {
+      LOG.warn("OpenSSL TLS engine is not available, using JDK TLS engine");
+      return input;
+    }
+
+    LOG.info("Using OpenSSL TLS engine");
+    return new HttpServerOptions(input).setSslEngineOptions(new OpenSSLEngineOptions());
+  }
+
   private static HttpServerOptions applyClientAuthentication(
       final HttpServerOptions input, final ClientAuthConstraints constraints) {
     final HttpServerOptions result = new HttpServerOptions(input);
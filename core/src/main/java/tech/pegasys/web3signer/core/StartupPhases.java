@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core;
+
+import static java.util.stream.Collectors.joining;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.metrics.StandardMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+
+/**
+ * Records how long each phase of startup takes, from the JVM starting until Web3Signer is ready to
+ * handle signing requests. Phases may overlap when work runs in the background, so their durations
+ * need not add up to the total startup time.
+ */
+public class StartupPhases {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Map<String, Duration> PHASES =
+      Collections.synchronizedMap(new LinkedHashMap<>());
+
+  private StartupPhases() {}
+
+  /**
+   * Records the time from the JVM starting until the main method is called, which is mostly spent
+   * loading classes and is reduced by a class data sharing archive.
+   */
+  public static void recordJvmStartup() {
+    record("jvm", uptime());
+  }
+
+  /**
+   * Records a phase which has just completed.
+   *
+   * @param phase the name of the phase
+   * @param startNanos the {@link System#nanoTime()} at which the phase started
+   * @return the current {@link System#nanoTime()}, for use as the start of the following phase
+   */
+  public static long record(final String phase, final long startNanos) {
+    final long now = System.nanoTime();
+    record(phase, Duration.ofNanos(now - startNanos));
+    return now;
+  }
+
+  private static void record(final String phase, final Duration duration) {
+    PHASES.put(phase, duration);
+    LOG.debug("Startup phase {} took {} ms", phase, duration.toMillis());
+  }
+
+  public static Map<String, Duration> getPhases() {
+    synchronized (PHASES) {
+      return Collections.unmodifiableMap(new LinkedHashMap<>(PHASES));
+    }
+  }
+
+  /**
+   * Logs the startup phases and reports them as metrics, called once Web3Signer is ready to handle
+   * signing requests.
+   *
+   * @param metricsSystem the metrics system to report the startup durations to
+   */
+  public static void startupCompleted(final MetricsSystem metricsSystem) {
+    final Duration startupDuration = uptime();
+    final Map<String, Duration> phases = getPhases();
+    LOG.info(
+        "Startup completed {} ms after the JVM started ({})",
+        startupDuration.toMillis(),
+        phases.entrySet().stream()
+            .map(phase -> phase.getKey() + ": " + phase.getValue().toMillis() + " ms")
+            .collect(joining(", ")));
+
+    metricsSystem.createGauge(
+        StandardMetricCategory.PROCESS,
+        "startup_duration_seconds",
+        "Time from the JVM starting until Web3Signer was ready to handle signing requests",
+        () -> toSeconds(startupDuration));
+    final LabelledSuppliedMetric phaseDurations =
+        metricsSystem.createLabelledSuppliedGauge(
+            StandardMetricCategory.PROCESS,
+            "startup_phase_duration_seconds",
+            "Time taken by each phase of startup",
+            "phase");
+    phases.forEach((phase, duration) -> phaseDurations.labels(() -> toSeconds(duration), phase));
+  }
+
+  private static Duration uptime() {
+    return Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+  }
+
+  private static double toSeconds(final Duration duration) {
+    return duration.toNanos() / 1_000_000_000.0;
+  }
+}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.PfxOptions;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.ext.web.client.WebClientOptions;
@@ -35,8 +36,19 @@ public class WebClientOptionsFactory {
             .setDefaultPort(eth1Config.getDownstreamHttpPort())
             .setDefaultHost(eth1Config.getDownstreamHttpHost())
             .setDecompressionSupported(true)
+            .setKeepAlive(true)
+            .setMaxPoolSize(eth1Config.getDownstreamHttpMaxPoolSize())
             .setProxyOptions(getProxyOptions(eth1Config).orElse(null));
 
+    if (eth1Config.isDownstreamHttp2Enabled()) {
+      // negotiated with ALPN over TLS, otherwise the downstream node must accept h2c directly
+      clientOptions
+          .setProtocolVersion(HttpVersion.HTTP_2)
+          .setUseAlpn(true)
+          .setHttp2ClearTextUpgrade(false)
+          .setHttp2MaxPoolSize(eth1Config.getDownstreamHttpMaxPoolSize());
+    }
+
     applyTlsOptions(clientOptions, eth1Config);
     return clientOptions;
   }
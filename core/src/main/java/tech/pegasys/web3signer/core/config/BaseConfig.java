@@ -23,6 +23,8 @@ import java.util.Set;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 
 public interface BaseConfig {
+  long DEFAULT_HTTP_MAX_REQUEST_BODY_SIZE = 10L * 1024 * 1024;
+  long DEFAULT_SIGNING_MAX_REQUEST_BODY_SIZE = 128L * 1024;
 
   String getHttpListenHost();
 
@@ -60,6 +62,12 @@ public interface BaseConfig {
 
   int getVertxWorkerPoolSize();
 
+  long getHttpMaxRequestBodySize();
+
+  long getSigningMaxRequestBodySize();
+
+  boolean isNativeTransportEnabled();
+
   SignerLoaderConfig getSignerLoaderConfig();
 
   long getReloadTimeoutMinutes();
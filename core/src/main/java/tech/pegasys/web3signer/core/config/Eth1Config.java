@@ -17,6 +17,7 @@ import tech.pegasys.web3signer.core.service.jsonrpc.handlers.signing.ChainIdProv
 import tech.pegasys.web3signer.signing.config.AwsVaultParameters;
 import tech.pegasys.web3signer.signing.config.AzureKeyVaultParameters;
 import tech.pegasys.web3signer.signing.config.KeystoresParameters;
+import tech.pegasys.web3signer.signing.config.RemoteSigningParameters;
 
 import java.time.Duration;
 import java.util.Optional;
@@ -31,6 +32,12 @@ public interface Eth1Config {
 
   Duration getDownstreamHttpRequestTimeout();
 
+  int getDownstreamHttpMaxPoolSize();
+
+  boolean isDownstreamHttp2Enabled();
+
+  boolean isDownstreamHttpStreamingEnabled();
+
   String getHttpProxyHost();
 
   Integer getHttpProxyPort();
@@ -50,4 +57,12 @@ public interface Eth1Config {
   long getAwsKmsClientCacheSize();
 
   KeystoresParameters getV3KeystoresBulkLoadParameters();
+
+  RemoteSigningParameters getRemoteSigningParameters();
+
+  boolean isLocalNonceManagementEnabled();
+
+  Duration getLocalNonceIdleTimeout();
+
+  int getJsonRpcMaxBatchSize();
 }
@@ -13,7 +13,17 @@
 package tech.pegasys.web3signer.core.config;
 
 public interface KeyManagerApiConfig {
+  long DEFAULT_MAX_REQUEST_BODY_SIZE = 256L * 1024 * 1024;
+  int DEFAULT_MAX_PENDING_IMPORT_JOBS = 4;
+  long DEFAULT_IMPORT_TIMEOUT_MINUTES = 30;
+
   boolean isKeyManagerApiEnabled();
 
   boolean skipKeystoreStorage();
+
+  long getMaxRequestBodySize();
+
+  int getMaxPendingImportJobs();
+
+  long getImportTimeoutMinutes();
 }
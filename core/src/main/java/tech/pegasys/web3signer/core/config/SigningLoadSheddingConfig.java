@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.config;
+
+import java.util.Optional;
+
+/** Controls rejection of eth2 signing requests which can no longer be used by the validator. */
+public interface SigningLoadSheddingConfig {
+  long DEFAULT_MAX_QUEUE_DELAY_MILLIS = 2_000;
+  int DEFAULT_DEADLINE_SLOTS = 1;
+
+  boolean isLoadSheddingEnabled();
+
+  /**
+   * Longest time a signing request may wait for a worker thread before it is rejected
+   *
+   * @return maximum queueing delay in milliseconds
+   */
+  long getMaxQueueDelayMillis();
+
+  /**
+   * Genesis time of the network, required to reject requests for slots which have passed
+   *
+   * @return genesis time in seconds since the epoch, empty if deadlines are not checked
+   */
+  Optional<Long> getGenesisTime();
+
+  /**
+   * Number of slots after the end of a duty's slot before a request for it is rejected
+   *
+   * @return deadline in slots
+   */
+  int getDeadlineSlots();
+}
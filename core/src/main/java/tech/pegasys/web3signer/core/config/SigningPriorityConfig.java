@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.config;
+
+import java.util.Map;
+
+/** Controls the order in which queued eth2 signing requests are signed. */
+public interface SigningPriorityConfig {
+
+  /** Groups of eth2 signing requests which share a deadline, highest priority first. */
+  enum PriorityClass {
+    BLOCK,
+    ATTESTATION,
+    AGGREGATE,
+    SYNC_COMMITTEE,
+    OTHER
+  }
+
+  Map<PriorityClass, Integer> DEFAULT_WEIGHTS =
+      Map.of(
+          PriorityClass.BLOCK,
+          16,
+          PriorityClass.ATTESTATION,
+          8,
+          PriorityClass.AGGREGATE,
+          4,
+          PriorityClass.SYNC_COMMITTEE,
+          2,
+          PriorityClass.OTHER,
+          1);
+
+  boolean isPrioritySchedulingEnabled();
+
+  /**
+   * Relative share of worker threads given to each priority class while several classes have
+   * requests queued
+   *
+   * @return weight of every priority class
+   */
+  Map<PriorityClass, Integer> getWeights();
+}
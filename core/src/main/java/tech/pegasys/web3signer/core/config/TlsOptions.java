@@ -22,4 +22,14 @@ public interface TlsOptions {
   File getKeyStorePasswordFile();
 
   Optional<ClientAuthConstraints> getClientAuthConstraints();
+
+  /**
+   * Whether TLS uses the OpenSSL engine provided by netty-tcnative rather than the JDK engine. The
+   * JDK engine is used if OpenSSL is not available.
+   *
+   * @return true if the OpenSSL engine is preferred
+   */
+  default boolean isOpenSslEngineEnabled() {
+    return false;
+  }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.metrics;
+
+import static tech.pegasys.web3signer.common.Web3SignerMetricCategory.HTTP;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+public class DownstreamProxyMetrics {
+
+  private final Counter requestBytes;
+  private final Counter responseBytes;
+  private final OperationTimer latencyTimer;
+
+  public DownstreamProxyMetrics(final MetricsSystem metricsSystem) {
+    final LabelledMetric<Counter> proxiedBytes =
+        metricsSystem.createLabelledCounter(
+            HTTP,
+            "downstream_proxied_bytes_total",
+            "Total number of body bytes streamed between clients and the downstream node",
+            "direction");
+    this.requestBytes = proxiedBytes.labels("request");
+    this.responseBytes = proxiedBytes.labels("response");
+
+    this.latencyTimer =
+        metricsSystem.createTimer(
+            HTTP,
+            "downstream_request_latency",
+            "Time from sending a request to the downstream node until its response headers arrive");
+  }
+
+  public Counter getRequestBytes() {
+    return requestBytes;
+  }
+
+  public Counter getResponseBytes() {
+    return responseBytes;
+  }
+
+  public OperationTimer getLatencyTimer() {
+    return latencyTimer;
+  }
+}
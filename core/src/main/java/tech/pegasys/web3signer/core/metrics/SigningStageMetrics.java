@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.metrics;
+
+import tech.pegasys.web3signer.common.SigningStages;
+import tech.pegasys.web3signer.common.Web3SignerMetricCategory;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.vertx.core.MultiMap;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+/**
+ * Records the duration of each stage of an eth2 signing request, labelled by artifact type, and
+ * optionally reports the request and its stages as OpenTelemetry spans. Spans are exported when
+ * web3signer runs with an OpenTelemetry SDK or agent installed, and are parented to the trace in
+ * the request's W3C trace context headers.
+ */
+public class SigningStageMetrics {
+  public static final String PARSE_STAGE = "parse";
+  public static final String SIGNING_ROOT_STAGE = "signing_root";
+  public static final String SLASHING_PROTECTION_STAGE = "slashing_protection";
+  public static final String RESPONSE_STAGE = "response";
+  public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+  private static final String UNKNOWN_ARTIFACT_TYPE = "unknown";
+  // most stages complete in microseconds, slashing protection can take much longer under load
+  private static final double[] STAGE_BUCKETS = {
+    0.00001, 0.000025, 0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05,
+    0.1, 0.25, 0.5, 1
+  };
+  private static final TextMapGetter<MultiMap> HEADER_GETTER =
+      new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(final MultiMap headers) {
+          return headers.names();
+        }
+
+        @Override
+        public String get(final MultiMap headers, final String key) {
+          return headers == null ? null : headers.get(key);
+        }
+      };
+
+  private final LabelledMetric<Histogram> stageHistogram;
+  private final Optional<Tracer> tracer;
+
+  public SigningStageMetrics(final MetricsSystem metricsSystem, final boolean tracingEnabled) {
+    stageHistogram =
+        metricsSystem.createLabelledHistogram(
+            Web3SignerMetricCategory.SIGNING,
+            "eth2_stage_duration_seconds",
+            "Duration of each stage of eth2 signing requests",
+            STAGE_BUCKETS,
+            "artifactType",
+            "stage");
+    tracer =
+        tracingEnabled
+            ? Optional.of(GlobalOpenTelemetry.getTracer("web3signer"))
+            : Optional.empty();
+  }
+
+  /**
+   * Starts recording the stages timed on the current thread for a signing request.
+   *
+   * @param headers headers of the signing request
+   * @return closed once the response has been sent, recording the stages
+   */
+  public RequestStages startRequest(final MultiMap headers) {
+    return new RequestStages(headers);
+  }
+
+  private record Stage(String name, long startNanos, long durationNanos) {}
+
+  /** The stages of one signing request, recorded when it is closed. */
+  public class RequestStages implements SigningStages.Recorder, SigningStages.Timer {
+    private final List<Stage> stages = new ArrayList<>();
+    private final SigningStages.Timer recording;
+    private final long startNanos = System.nanoTime();
+    private final long startEpochNanos;
+    private final Optional<Span> span;
+    private String artifactType = UNKNOWN_ARTIFACT_TYPE;
+
+    private RequestStages(final MultiMap headers) {
+      final Instant now = Instant.now();
+      startEpochNanos = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+      span = tracer.map(t -> startSpan(t, headers));
+      recording = SigningStages.recordWith(this);
+    }
+
+    private Span startSpan(final Tracer spanTracer, final MultiMap headers) {
+      final Context parent =
+          GlobalOpenTelemetry.getPropagators()
+              .getTextMapPropagator()
+              .extract(Context.current(), headers, HEADER_GETTER);
+      final Span requestSpan =
+          spanTracer
+              .spanBuilder("eth2 sign")
+              .setParent(parent)
+              .setSpanKind(SpanKind.SERVER)
+              .setStartTimestamp(startEpochNanos, TimeUnit.NANOSECONDS)
+              .startSpan();
+      final String requestId = headers.get(REQUEST_ID_HEADER);
+      if (requestId != null) {
+        requestSpan.setAttribute("web3signer.request_id", requestId);
+      }
+      return requestSpan;
+    }
+
+    public void setArtifactType(final ArtifactType artifactType) {
+      this.artifactType = artifactType.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void record(final String stage, final long startNanos, final long durationNanos) {
+      stages.add(new Stage(stage, startNanos, durationNanos));
+    }
+
+    @Override
+    public void close() {
+      recording.close();
+      for (final Stage stage : stages) {
+        stageHistogram.labels(artifactType, stage.name()).observe(stage.durationNanos() / 1e9);
+      }
+      span.ifPresent(this::endSpan);
+    }
+
+    private void endSpan(final Span requestSpan) {
+      final Context parent = Context.current().with(requestSpan);
+      for (final Stage stage : stages) {
+        final long stageStart = startEpochNanos + (stage.startNanos() - startNanos);
+        tracer
+            .orElseThrow()
+            .spanBuilder(stage.name())
+            .setParent(parent)
+            .setStartTimestamp(stageStart, TimeUnit.NANOSECONDS)
+            .startSpan()
+            .end(stageStart + stage.durationNanos(), TimeUnit.NANOSECONDS);
+      }
+      requestSpan.setAttribute("web3signer.artifact_type", artifactType);
+      requestSpan.end(startEpochNanos + (System.nanoTime() - startNanos), TimeUnit.NANOSECONDS);
+    }
+  }
+}
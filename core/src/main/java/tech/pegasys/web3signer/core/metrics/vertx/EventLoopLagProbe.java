@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.metrics.vertx;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjLongConsumer;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Measures how late a task scheduled on each event loop runs. A handler which blocks an event loop
+ * delays every task queued behind it, so the lag shows blocking as it happens rather than once the
+ * blocked thread checker warns about it. Each event loop is labelled by its index, which matches
+ * the number in its thread name.
+ */
+public class EventLoopLagProbe {
+  private final List<EventExecutor> eventLoops = new ArrayList<>();
+  private final long intervalNanos;
+  private final ObjLongConsumer<String> lagRecorder;
+  private volatile boolean stopped;
+
+  /**
+   * @param eventLoopGroup the event loops to probe
+   * @param interval how often the lag of each event loop is measured
+   * @param lagRecorder called on the event loop with its label and lag in nanoseconds
+   */
+  public EventLoopLagProbe(
+      final EventLoopGroup eventLoopGroup,
+      final Duration interval,
+      final ObjLongConsumer<String> lagRecorder) {
+    eventLoopGroup.forEach(eventLoops::add);
+    this.intervalNanos = interval.toNanos();
+    this.lagRecorder = lagRecorder;
+  }
+
+  public void start() {
+    for (int i = 0; i < eventLoops.size(); i++) {
+      schedule(eventLoops.get(i), String.valueOf(i));
+    }
+  }
+
+  public void stop() {
+    stopped = true;
+  }
+
+  private void schedule(final EventExecutor eventLoop, final String label) {
+    if (stopped || eventLoop.isShuttingDown()) {
+      return;
+    }
+    final long expectedNanos = System.nanoTime() + intervalNanos;
+    try {
+      eventLoop.schedule(
+          () -> {
+            lagRecorder.accept(label, Math.max(0, System.nanoTime() - expectedNanos));
+            schedule(eventLoop, label);
+          },
+          intervalNanos,
+          TimeUnit.NANOSECONDS);
+    } catch (final RejectedExecutionException e) {
+      // the event loop is shutting down, there is nothing left to measure
+    }
+  }
+}
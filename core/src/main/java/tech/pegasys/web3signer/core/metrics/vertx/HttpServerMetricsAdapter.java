@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.metrics.vertx;
+
+import tech.pegasys.web3signer.common.Web3SignerMetricCategory;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+/**
+ * Records HTTP server requests and connections. Requests are labelled by the template of the route
+ * which handled them, such as {@code /api/v1/eth2/sign/:identifier}, rather than their path so that
+ * the number of label values is bounded by the routes web3signer registers. Non-standard methods
+ * are labelled {@code OTHER} for the same reason.
+ *
+ * <p>One instance is shared by all HTTP servers of a Vert.x instance, as each metric can only be
+ * registered once.
+ */
+public class HttpServerMetricsAdapter
+    implements HttpServerMetrics<HttpServerMetricsAdapter.RequestMetric, Void, Void> {
+  static final String UNMATCHED_ROUTE = "unmatched";
+  static final String OTHER_METHOD = "OTHER";
+
+  private static final Set<HttpMethod> STANDARD_METHODS = Set.copyOf(HttpMethod.values());
+  private static final double[] DURATION_BUCKETS = {
+    0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+  };
+  private static final double[] SIZE_BUCKETS = {
+    128, 512, 2048, 8192, 32768, 131072, 524288, 2097152, 8388608
+  };
+
+  private final LabelledMetric<Counter> requestCounter;
+  private final LabelledMetric<Histogram> requestDuration;
+  private final LabelledMetric<Histogram> requestSize;
+  private final LabelledMetric<Histogram> responseSize;
+  private final Counter requestResetCounter;
+  private final Counter connectionCounter;
+  private final Counter connectionErrorCounter;
+  private final AtomicInteger activeConnections = new AtomicInteger();
+
+  public HttpServerMetricsAdapter(final MetricsSystem metricsSystem) {
+    requestCounter =
+        metricsSystem.createLabelledCounter(
+            Web3SignerMetricCategory.HTTP,
+            "vertx_http_server_requests_total",
+            "Total number of HTTP requests by route and response status",
+            "method",
+            "route",
+            "status");
+    requestDuration =
+        metricsSystem.createLabelledHistogram(
+            Web3SignerMetricCategory.HTTP,
+            "vertx_http_server_request_duration_seconds",
+            "Time from an HTTP request arriving until its response was written",
+            DURATION_BUCKETS,
+            "method",
+            "route");
+    requestSize =
+        metricsSystem.createLabelledHistogram(
+            Web3SignerMetricCategory.HTTP,
+            "vertx_http_server_request_size_bytes",
+            "Size of HTTP request bodies",
+            SIZE_BUCKETS,
+            "method",
+            "route");
+    responseSize =
+        metricsSystem.createLabelledHistogram(
+            Web3SignerMetricCategory.HTTP,
+            "vertx_http_server_response_size_bytes",
+            "Size of HTTP response bodies",
+            SIZE_BUCKETS,
+            "method",
+            "route");
+    requestResetCounter =
+        metricsSystem.createCounter(
+            Web3SignerMetricCategory.HTTP,
+            "vertx_http_server_request_resets_total",
+            "Total number of HTTP requests reset before their response was written");
+    connectionCounter =
+        metricsSystem.createCounter(
+            Web3SignerMetricCategory.HTTP,
+            "vertx_http_server_connections_total",
+            "Total number of connections accepted by the HTTP server");
+    connectionErrorCounter =
+        metricsSystem.createCounter(
+            Web3SignerMetricCategory.HTTP,
+            "vertx_http_server_connection_errors_total",
+            "Total number of errors on HTTP server connections");
+    metricsSystem.createIntegerGauge(
+        Web3SignerMetricCategory.HTTP,
+        "vertx_http_server_active_connections",
+        "Number of open connections to the HTTP server",
+        activeConnections::get);
+  }
+
+  /** The state of one request, which is owned by the event loop of its connection. */
+  public static class RequestMetric {
+    private final long startNanos = System.nanoTime();
+    private final String method;
+    private String route = UNMATCHED_ROUTE;
+    private long bytesRead;
+
+    private RequestMetric(final String method) {
+      this.method = method;
+    }
+
+    String getRoute() {
+      return route;
+    }
+  }
+
+  static String methodLabel(final HttpMethod method) {
+    return STANDARD_METHODS.contains(method) ? method.name() : OTHER_METHOD;
+  }
+
+  @Override
+  public RequestMetric requestBegin(final Void socketMetric, final HttpRequest request) {
+    return new RequestMetric(methodLabel(request.method()));
+  }
+
+  @Override
+  public void requestRouted(final RequestMetric requestMetric, final String route) {
+    // called for each matching route with a path, the last is the route which handled the request
+    if (route != null) {
+      requestMetric.route = route;
+    }
+  }
+
+  @Override
+  public void requestEnd(
+      final RequestMetric requestMetric, final HttpRequest request, final long bytesRead) {
+    requestMetric.bytesRead = bytesRead;
+  }
+
+  @Override
+  public void requestReset(final RequestMetric requestMetric) {
+    requestResetCounter.inc();
+  }
+
+  @Override
+  public void responseEnd(
+      final RequestMetric requestMetric, final HttpResponse response, final long bytesWritten) {
+    final String method = requestMetric.method;
+    final String route = requestMetric.route;
+    requestCounter.labels(method, route, String.valueOf(response.statusCode())).inc();
+    requestDuration
+        .labels(method, route)
+        .observe((System.nanoTime() - requestMetric.startNanos) / 1_000_000_000.0);
+    requestSize.labels(method, route).observe(requestMetric.bytesRead);
+    responseSize.labels(method, route).observe(bytesWritten);
+  }
+
+  @Override
+  public Void connected(final SocketAddress remoteAddress, final String remoteName) {
+    connectionCounter.inc();
+    activeConnections.incrementAndGet();
+    return null;
+  }
+
+  @Override
+  public void disconnected(final Void socketMetric, final SocketAddress remoteAddress) {
+    activeConnections.decrementAndGet();
+  }
+
+  @Override
+  public void exceptionOccurred(
+      final Void socketMetric, final SocketAddress remoteAddress, final Throwable t) {
+    connectionErrorCounter.inc();
+  }
+}
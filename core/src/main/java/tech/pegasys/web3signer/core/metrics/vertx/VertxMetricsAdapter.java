@@ -12,16 +12,56 @@
  */
 package tech.pegasys.web3signer.core.metrics.vertx;
 
+import tech.pegasys.web3signer.common.Web3SignerMetricCategory;
+
+import java.time.Duration;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 
 public class VertxMetricsAdapter implements VertxMetrics {
+  private static final Duration EVENT_LOOP_LAG_INTERVAL = Duration.ofMillis(100);
+  private static final double[] EVENT_LOOP_LAG_BUCKETS = {
+    0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5
+  };
 
   private final MetricsSystem metricsSystem;
+  private final HttpServerMetricsAdapter httpServerMetrics;
+  private volatile EventLoopLagProbe eventLoopLagProbe;
 
   public VertxMetricsAdapter(final MetricsSystem metricsSystem) {
     this.metricsSystem = metricsSystem;
+    this.httpServerMetrics = new HttpServerMetricsAdapter(metricsSystem);
+  }
+
+  @Override
+  public void vertxCreated(final Vertx vertx) {
+    final LabelledMetric<Histogram> eventLoopLag =
+        metricsSystem.createLabelledHistogram(
+            Web3SignerMetricCategory.HTTP,
+            "vertx_event_loop_lag_seconds",
+            "Delay before a task scheduled on each Vertx event loop was run",
+            EVENT_LOOP_LAG_BUCKETS,
+            "eventLoop");
+    eventLoopLagProbe =
+        new EventLoopLagProbe(
+            vertx.nettyEventLoopGroup(),
+            EVENT_LOOP_LAG_INTERVAL,
+            (eventLoop, lagNanos) -> eventLoopLag.labels(eventLoop).observe(lagNanos / 1e9));
+    eventLoopLagProbe.start();
+  }
+
+  @Override
+  public HttpServerMetrics<?, ?, ?> createHttpServerMetrics(
+      final HttpServerOptions options, final SocketAddress localAddress) {
+    return httpServerMetrics;
   }
 
   @Override
@@ -29,4 +69,11 @@ public class VertxMetricsAdapter implements VertxMetrics {
       final String poolType, final String poolName, final int maxPoolSize) {
     return new PoolMetricsAdapter(metricsSystem, poolType, poolName);
   }
+
+  @Override
+  public void close() {
+    if (eventLoopLagProbe != null) {
+      eventLoopLagProbe.stop();
+    }
+  }
 }
@@ -25,17 +25,21 @@ import tech.pegasys.web3signer.signing.config.DefaultArtifactSignerProvider;
 import java.util.Optional;
 
 import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.impl.BlockingHandlerDecorator;
 
 public class Eth1SignRoute implements Web3SignerRoute {
-  private static final String SIGN_PATH = "/api/v1/eth1/sign/:identifier";
+  public static final String SIGN_PATH_PREFIX = "/api/v1/eth1/sign/";
+  private static final String SIGN_PATH = SIGN_PATH_PREFIX + ":identifier";
 
   private final Context context;
   private final ArtifactSignerProvider signerProvider;
   private final SignerForIdentifier secpSigner;
+  private final long maxRequestBodySize;
 
-  public Eth1SignRoute(final Context context) {
+  public Eth1SignRoute(final Context context, final long maxRequestBodySize) {
     this.context = context;
+    this.maxRequestBodySize = maxRequestBodySize;
 
     // we need signerProvider which is an instance of DefaultArtifactSignerProvider
     final Optional<ArtifactSignerProvider> first =
@@ -57,6 +61,7 @@ public class Eth1SignRoute implements Web3SignerRoute {
     context
         .getRouter()
         .route(HttpMethod.POST, SIGN_PATH)
+        .handler(BodyHandler.create(false).setBodyLimit(maxRequestBodySize))
         .handler(
             new BlockingHandlerDecorator(
                 new Eth1SignForIdentifierHandler(
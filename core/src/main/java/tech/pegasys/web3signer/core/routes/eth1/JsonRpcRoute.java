@@ -16,8 +16,10 @@ import tech.pegasys.web3signer.core.Context;
 import tech.pegasys.web3signer.core.Runner;
 import tech.pegasys.web3signer.core.WebClientOptionsFactory;
 import tech.pegasys.web3signer.core.config.Eth1Config;
+import tech.pegasys.web3signer.core.metrics.DownstreamProxyMetrics;
 import tech.pegasys.web3signer.core.routes.Web3SignerRoute;
 import tech.pegasys.web3signer.core.service.DownstreamPathCalculator;
+import tech.pegasys.web3signer.core.service.StreamingDownstreamProxy;
 import tech.pegasys.web3signer.core.service.VertxRequestTransmitter;
 import tech.pegasys.web3signer.core.service.VertxRequestTransmitterFactory;
 import tech.pegasys.web3signer.core.service.http.handlers.signing.SignerForIdentifier;
@@ -29,15 +31,19 @@ import tech.pegasys.web3signer.core.service.jsonrpc.handlers.JsonRpcErrorHandler
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.JsonRpcHandler;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.PassThroughHandler;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.RequestMapper;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.StreamingPassThroughHandler;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.internalresponse.EthSignResultProvider;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.internalresponse.EthSignTransactionResultProvider;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.internalresponse.EthSignTypedDataResultProvider;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.internalresponse.InternalResponseHandler;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction.LocalNonceManager;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction.SendTransactionHandler;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction.transaction.TransactionFactory;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
 import tech.pegasys.web3signer.signing.config.SecpArtifactSignerProviderAdapter;
 
+import java.util.Optional;
+
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpMethod;
@@ -52,10 +58,17 @@ public class JsonRpcRoute implements Web3SignerRoute {
 
   private final Context context;
   private final VertxRequestTransmitterFactory transmitterFactory;
+  private final PassThroughHandler passThroughHandler;
+  private final boolean streamingEnabled;
   private final RequestMapper requestMapper;
+  private final long maxRequestBodySize;
+  private final int maxBatchSize;
 
-  public JsonRpcRoute(final Context context, final Eth1Config eth1Config) {
+  public JsonRpcRoute(
+      final Context context, final Eth1Config eth1Config, final long maxRequestBodySize) {
     this.context = context;
+    this.maxRequestBodySize = maxRequestBodySize;
+    this.maxBatchSize = eth1Config.getJsonRpcMaxBatchSize();
 
     // we need signerProvider which is an instance of SecpArtifactSignerProviderAdapter which uses
     // eth1 address as identifier
@@ -83,8 +96,33 @@ public class JsonRpcRoute implements Web3SignerRoute {
                 downstreamPathCalculator,
                 responseBodyHandler);
 
+    streamingEnabled = eth1Config.isDownstreamHttpStreamingEnabled();
+    passThroughHandler =
+        streamingEnabled
+            ? new StreamingPassThroughHandler(
+                transmitterFactory,
+                JSON_DECODER,
+                new StreamingDownstreamProxy(
+                    downstreamHttpClient,
+                    eth1Config.getDownstreamHttpRequestTimeout(),
+                    downstreamPathCalculator,
+                    new DownstreamProxyMetrics(context.getMetricsSystem())),
+                maxRequestBodySize)
+            : new PassThroughHandler(transmitterFactory, JSON_DECODER);
+
+    // nonces allocated locally must be shared by all requests
+    final Optional<LocalNonceManager> localNonceManager =
+        eth1Config.isLocalNonceManagementEnabled()
+            ? Optional.of(new LocalNonceManager(eth1Config.getLocalNonceIdleTimeout()))
+            : Optional.empty();
+
     requestMapper =
-        createRequestMapper(transmitterFactory, signerProvider, eth1Config.getChainId().id());
+        createRequestMapper(
+            transmitterFactory,
+            passThroughHandler,
+            signerProvider,
+            eth1Config.getChainId().id(),
+            localNonceManager);
   }
 
   @Override
@@ -94,17 +132,23 @@ public class JsonRpcRoute implements Web3SignerRoute {
         .route(HttpMethod.POST, ROOT_PATH)
         .produces(Runner.JSON)
         .handler(ResponseContentTypeHandler.create())
-        .handler(BodyHandler.create())
+        .handler(BodyHandler.create().setBodyLimit(maxRequestBodySize))
         .failureHandler(new JsonRpcErrorHandler(new HttpResponseFactory()))
         .blockingHandler(
-            new JsonRpcHandler(HTTP_RESPONSE_FACTORY, requestMapper, JSON_DECODER), false);
+            new JsonRpcHandler(HTTP_RESPONSE_FACTORY, requestMapper, JSON_DECODER, maxBatchSize),
+            false);
 
     // proxy everything else to Besu using passThrough handler
-    context
-        .getRouter()
-        .route()
-        .handler(BodyHandler.create())
-        .handler(new PassThroughHandler(transmitterFactory, JSON_DECODER));
+    if (streamingEnabled) {
+      // the streaming handler reads the body itself
+      context.getRouter().route().handler(passThroughHandler);
+    } else {
+      context
+          .getRouter()
+          .route()
+          .handler(BodyHandler.create().setBodyLimit(maxRequestBodySize))
+          .handler(passThroughHandler);
+    }
   }
 
   private static HttpClient createDownstreamHttpClient(
@@ -116,14 +160,14 @@ public class JsonRpcRoute implements Web3SignerRoute {
 
   private static RequestMapper createRequestMapper(
       final VertxRequestTransmitterFactory transmitterFactory,
+      final PassThroughHandler defaultHandler,
       final ArtifactSignerProvider signerProviderMappedToEth1Address,
-      final long chainId) {
-    final PassThroughHandler defaultHandler =
-        new PassThroughHandler(transmitterFactory, JSON_DECODER);
+      final long chainId,
+      final Optional<LocalNonceManager> localNonceManager) {
     final SignerForIdentifier secpSigner =
         new SignerForIdentifier(signerProviderMappedToEth1Address);
     final TransactionFactory transactionFactory =
-        new TransactionFactory(chainId, JSON_DECODER, transmitterFactory);
+        new TransactionFactory(chainId, JSON_DECODER, transmitterFactory, localNonceManager);
     final SendTransactionHandler sendTransactionHandler =
         new SendTransactionHandler(chainId, transactionFactory, transmitterFactory, secpSigner);
 
@@ -20,9 +20,9 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.web3signer.core.Context;
 import tech.pegasys.web3signer.core.routes.Web3SignerRoute;
 import tech.pegasys.web3signer.core.service.http.handlers.commitboost.CommitBoostGenerateProxyKeyHandler;
+import tech.pegasys.web3signer.core.service.http.handlers.commitboost.ProxyKeyPool;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
 import tech.pegasys.web3signer.signing.config.DefaultArtifactSignerProvider;
-import tech.pegasys.web3signer.signing.config.KeystoresParameters;
 
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
@@ -31,13 +31,13 @@ public class CommitBoostGenerateProxyKeyRoute implements Web3SignerRoute {
   private static final String PATH = "/signer/v1/generate_proxy_key";
   private final Context context;
   private final ArtifactSignerProvider artifactSignerProvider;
-  private final KeystoresParameters commitBoostParameters;
+  private final ProxyKeyPool proxyKeyPool;
   private final Spec eth2Spec;
 
   public CommitBoostGenerateProxyKeyRoute(
-      final Context context, final KeystoresParameters commitBoostParameters, final Spec eth2Spec) {
+      final Context context, final ProxyKeyPool proxyKeyPool, final Spec eth2Spec) {
     this.context = context;
-    this.commitBoostParameters = commitBoostParameters;
+    this.proxyKeyPool = proxyKeyPool;
     this.eth2Spec = eth2Spec;
 
     // there should be only one DefaultArtifactSignerProvider in eth2 mode
@@ -54,8 +54,7 @@ public class CommitBoostGenerateProxyKeyRoute implements Web3SignerRoute {
         .getRouter()
         .route(HttpMethod.POST, PATH)
         .blockingHandler(
-            new CommitBoostGenerateProxyKeyHandler(
-                artifactSignerProvider, commitBoostParameters, eth2Spec),
+            new CommitBoostGenerateProxyKeyHandler(artifactSignerProvider, proxyKeyPool, eth2Spec),
             false)
         .failureHandler(context.getErrorHandler())
         .failureHandler(
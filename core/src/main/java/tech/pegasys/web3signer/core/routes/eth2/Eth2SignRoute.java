@@ -16,11 +16,16 @@ import static tech.pegasys.web3signer.signing.KeyType.BLS;
 
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.web3signer.core.Context;
+import tech.pegasys.web3signer.core.config.SigningLoadSheddingConfig;
+import tech.pegasys.web3signer.core.metrics.SigningStageMetrics;
 import tech.pegasys.web3signer.core.metrics.SlashingProtectionMetrics;
 import tech.pegasys.web3signer.core.routes.Web3SignerRoute;
 import tech.pegasys.web3signer.core.service.http.SigningObjectMapperFactory;
 import tech.pegasys.web3signer.core.service.http.handlers.signing.SignerForIdentifier;
 import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.Eth2SignForIdentifierHandler;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.Eth2SigningLoadShedder;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.Eth2SigningPriorityExecutor;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.Eth2SigningPriorityHandler;
 import tech.pegasys.web3signer.core.service.http.metrics.HttpApiMetrics;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
 import tech.pegasys.web3signer.slashingprotection.SlashingProtection;
@@ -29,23 +34,45 @@ import tech.pegasys.web3signer.slashingprotection.SlashingProtectionContext;
 import java.util.Optional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.impl.BlockingHandlerDecorator;
 
 public class Eth2SignRoute implements Web3SignerRoute {
-  private static final String SIGN_PATH = "/api/v1/eth2/sign/:identifier";
+  public static final String SIGN_PATH_PREFIX = "/api/v1/eth2/sign/";
+  private static final String SIGN_PATH = SIGN_PATH_PREFIX + ":identifier";
   private final Context context;
   private final SignerForIdentifier blsSigner;
   private final ObjectMapper objectMapper = SigningObjectMapperFactory.createObjectMapper();
   private final Spec eth2Spec;
   private final Optional<SlashingProtection> slashingProtection;
+  private final Optional<Eth2SigningLoadShedder> loadShedder;
+  private final Optional<Eth2SigningPriorityExecutor> priorityExecutor;
+  private final boolean tracingEnabled;
+  private final long maxRequestBodySize;
 
   public Eth2SignRoute(
       final Context context,
       final Spec eth2Spec,
-      final Optional<SlashingProtectionContext> slashingProtectionContext) {
+      final Optional<SlashingProtectionContext> slashingProtectionContext,
+      final SigningLoadSheddingConfig loadSheddingConfig,
+      final Optional<Eth2SigningPriorityExecutor> priorityExecutor,
+      final boolean tracingEnabled,
+      final long maxRequestBodySize) {
     this.context = context;
     this.eth2Spec = eth2Spec;
+    this.priorityExecutor = priorityExecutor;
+    this.tracingEnabled = tracingEnabled;
+    this.maxRequestBodySize = maxRequestBodySize;
+    loadShedder =
+        loadSheddingConfig.isLoadSheddingEnabled()
+            ? Optional.of(
+                new Eth2SigningLoadShedder(
+                    loadSheddingConfig, eth2Spec, context.getMetricsSystem()))
+            : Optional.empty();
     slashingProtection =
         slashingProtectionContext.map(SlashingProtectionContext::getSlashingProtection);
     // there should be only one ArtifactSignerProvider in eth2 mode at the moment which is of BLS
@@ -68,19 +95,29 @@ public class Eth2SignRoute implements Web3SignerRoute {
     final ArtifactSignerProvider artifactSignerProvider =
         context.getArtifactSignerProviders().stream().findFirst().orElseThrow();
 
-    context
-        .getRouter()
-        .route(HttpMethod.POST, SIGN_PATH)
+    final Eth2SignForIdentifierHandler signingHandler =
+        new Eth2SignForIdentifierHandler(
+            blsSigner,
+            new HttpApiMetrics(context.getMetricsSystem(), BLS, artifactSignerProvider),
+            new SlashingProtectionMetrics(context.getMetricsSystem()),
+            new SigningStageMetrics(context.getMetricsSystem(), tracingEnabled),
+            slashingProtection,
+            objectMapper,
+            eth2Spec,
+            loadShedder);
+
+    final Route route = context.getRouter().route(HttpMethod.POST, SIGN_PATH);
+    // the received time must be recorded on the event loop, before the request is queued
+    loadShedder.ifPresent(shedder -> route.handler(shedder::recordReceivedTime));
+    route
+        .handler(BodyHandler.create(false).setBodyLimit(maxRequestBodySize))
         .handler(
-            new BlockingHandlerDecorator(
-                new Eth2SignForIdentifierHandler(
-                    blsSigner,
-                    new HttpApiMetrics(context.getMetricsSystem(), BLS, artifactSignerProvider),
-                    new SlashingProtectionMetrics(context.getMetricsSystem()),
-                    slashingProtection,
-                    objectMapper,
-                    eth2Spec),
-                false))
+            priorityExecutor
+                .<Handler<RoutingContext>>map(
+                    executor ->
+                        new Eth2SigningPriorityHandler(
+                            executor, signingHandler, objectMapper.getFactory()))
+                .orElseGet(() -> new BlockingHandlerDecorator(signingHandler, false)))
         .failureHandler(context.getErrorHandler());
   }
 }
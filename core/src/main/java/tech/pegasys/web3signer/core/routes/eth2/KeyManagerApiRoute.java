@@ -17,8 +17,12 @@ import tech.pegasys.web3signer.core.config.BaseConfig;
 import tech.pegasys.web3signer.core.config.KeyManagerApiConfig;
 import tech.pegasys.web3signer.core.routes.Web3SignerRoute;
 import tech.pegasys.web3signer.core.service.http.SigningObjectMapperFactory;
+import tech.pegasys.web3signer.core.service.http.handlers.SpooledBodyHandler;
 import tech.pegasys.web3signer.core.service.http.handlers.keymanager.delete.DeleteKeystoresHandler;
 import tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.ImportKeystoresHandler;
+import tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.ImportKeystoresJobHandler;
+import tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.ImportKeystoresProcessor;
+import tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.KeystoreDecryptionExecutor;
 import tech.pegasys.web3signer.core.service.http.handlers.keymanager.list.ListKeystoresHandler;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
 import tech.pegasys.web3signer.signing.DefaultValidatorManager;
@@ -31,13 +35,22 @@ import tech.pegasys.web3signer.slashingprotection.SlashingProtectionContext;
 import tech.pegasys.web3signer.slashingprotection.dao.ValidatorsDao;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.impl.BlockingHandlerDecorator;
 
 public class KeyManagerApiRoute implements Web3SignerRoute {
   public static final String KEYSTORES_PATH = "/eth/v1/keystores";
+  public static final String KEYSTORES_IMPORT_JOBS_PATH = "/api/v1/eth2/keystores/imports";
+  public static final String KEYSTORES_IMPORT_JOB_STATUS_PATH =
+      KEYSTORES_IMPORT_JOBS_PATH + "/:" + ImportKeystoresJobHandler.JOB_ID_PARAM;
+  // import bodies are written to a temporary file by the route rather than read into memory
+  public static final Set<String> STREAMED_BODY_PATHS =
+      Set.of(KEYSTORES_PATH, KEYSTORES_IMPORT_JOBS_PATH);
   private final Context context;
   private final ArtifactSignerProvider blsSignerProvider;
   private final Optional<SlashingProtectionContext> slashingProtectionContext;
@@ -45,16 +58,19 @@ public class KeyManagerApiRoute implements Web3SignerRoute {
   private final ObjectMapper objectMapper = SigningObjectMapperFactory.createObjectMapper();
   private final BaseConfig baseConfig;
   private final KeyManagerApiConfig keyManagerApiConfig;
+  private final KeystoreDecryptionExecutor keystoreDecryptionExecutor;
 
   public KeyManagerApiRoute(
       final Context context,
       final BaseConfig baseConfig,
       final KeyManagerApiConfig keyManagerApiConfig,
-      final Optional<SlashingProtectionContext> slashingProtectionContext) {
+      final Optional<SlashingProtectionContext> slashingProtectionContext,
+      final KeystoreDecryptionExecutor keystoreDecryptionExecutor) {
     this.context = context;
     this.baseConfig = baseConfig;
     this.keyManagerApiConfig = keyManagerApiConfig;
     this.slashingProtectionContext = slashingProtectionContext;
+    this.keystoreDecryptionExecutor = keystoreDecryptionExecutor;
 
     slashingProtection =
         slashingProtectionContext.map(SlashingProtectionContext::getSlashingProtection);
@@ -72,6 +88,8 @@ public class KeyManagerApiRoute implements Web3SignerRoute {
 
     registerPost(validatorManager);
 
+    registerImportJobs(validatorManager);
+
     registerDelete(validatorManager);
   }
 
@@ -89,17 +107,56 @@ public class KeyManagerApiRoute implements Web3SignerRoute {
     context
         .getRouter()
         .route(HttpMethod.POST, KEYSTORES_PATH)
+        .handler(new SpooledBodyHandler(keyManagerApiConfig.getMaxRequestBodySize()))
         .blockingHandler(
             new ImportKeystoresHandler(
                 objectMapper,
                 baseConfig.getKeyConfigPath(),
                 slashingProtection,
                 blsSignerProvider,
-                validatorManager),
+                validatorManager,
+                keystoreDecryptionExecutor),
             false)
         .failureHandler(context.getErrorHandler());
   }
 
+  private void registerImportJobs(final ValidatorManager validatorManager) {
+    // Pool size of 1 runs asynchronous imports one at a time, decryption itself is parallelised on
+    // the keystore decryption executor
+    final WorkerExecutor importWorkerExecutor =
+        context
+            .getVertx()
+            .createSharedWorkerExecutor(
+                "web3signer-keystore-import-pool",
+                1,
+                keyManagerApiConfig.getImportTimeoutMinutes(),
+                TimeUnit.MINUTES);
+    final ImportKeystoresJobHandler importKeystoresJobHandler =
+        new ImportKeystoresJobHandler(
+            objectMapper,
+            new ImportKeystoresProcessor(
+                baseConfig.getKeyConfigPath(),
+                slashingProtection,
+                blsSignerProvider,
+                validatorManager,
+                keystoreDecryptionExecutor),
+            importWorkerExecutor,
+            keyManagerApiConfig.getMaxPendingImportJobs());
+
+    context
+        .getRouter()
+        .route(HttpMethod.POST, KEYSTORES_IMPORT_JOBS_PATH)
+        .handler(new SpooledBodyHandler(keyManagerApiConfig.getMaxRequestBodySize()))
+        .blockingHandler(importKeystoresJobHandler, false)
+        .failureHandler(context.getErrorHandler());
+
+    context
+        .getRouter()
+        .route(HttpMethod.GET, KEYSTORES_IMPORT_JOB_STATUS_PATH)
+        .handler(importKeystoresJobHandler)
+        .failureHandler(context.getErrorHandler());
+  }
+
   private void registerDelete(ValidatorManager validatorManager) {
     context
         .getRouter()
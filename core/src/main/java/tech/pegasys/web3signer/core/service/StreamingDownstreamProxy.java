@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service;
+
+import tech.pegasys.web3signer.core.metrics.DownstreamProxyMetrics;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.HeaderHelpers;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+
+/**
+ * Proxies requests to the downstream node without holding whole bodies in memory. Request and
+ * response bodies are written to the other side as they arrive, pausing the reader while the writer
+ * is congested, rather than being decoded to a string and handed to a worker thread.
+ */
+public class StreamingDownstreamProxy {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  // headers describing the downstream connection rather than the proxied response
+  private static final Set<String> EXCLUDED_RESPONSE_HEADERS =
+      Set.of(
+          HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN.toString(),
+          HttpHeaderNames.CONNECTION.toString(),
+          HttpHeaderNames.CONTENT_LENGTH.toString(),
+          HttpHeaderNames.KEEP_ALIVE.toString(),
+          HttpHeaderNames.TRANSFER_ENCODING.toString());
+
+  private final HttpClient downstreamHttpClient;
+  private final Duration httpRequestTimeout;
+  private final DownstreamPathCalculator downstreamPathCalculator;
+  private final DownstreamProxyMetrics metrics;
+
+  public StreamingDownstreamProxy(
+      final HttpClient downstreamHttpClient,
+      final Duration httpRequestTimeout,
+      final DownstreamPathCalculator downstreamPathCalculator,
+      final DownstreamProxyMetrics metrics) {
+    this.downstreamHttpClient = downstreamHttpClient;
+    this.httpRequestTimeout = httpRequestTimeout;
+    this.downstreamPathCalculator = downstreamPathCalculator;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Sends a request whose body has already been read downstream, streaming the response.
+   *
+   * @param context the context of the request received
+   * @param body the complete request body
+   */
+  public void forward(final RoutingContext context, final Buffer body) {
+    forward(context, body, false);
+  }
+
+  /**
+   * Sends a request downstream as its body arrives, streaming the response. The request must be
+   * paused after reading the prefix.
+   *
+   * @param context the context of the request received
+   * @param prefix the start of the request body which has already been read
+   */
+  public void forwardStreaming(final RoutingContext context, final Buffer prefix) {
+    forward(context, prefix, true);
+  }
+
+  private void forward(
+      final RoutingContext context, final Buffer prefix, final boolean streamRemainder) {
+    final HttpServerRequest serverRequest = context.request();
+    final RequestOptions options =
+        new RequestOptions()
+            .setMethod(serverRequest.method())
+            .setURI(downstreamPathCalculator.calculateDownstreamPath(serverRequest.path()))
+            .setHeaders(HeaderHelpers.createHeaders(serverRequest.headers()))
+            .setIdleTimeout(httpRequestTimeout.toMillis());
+    LOG.debug(
+        "Streaming method: {}, uri: {} to {}",
+        serverRequest.method(),
+        serverRequest.uri(),
+        options.getURI());
+
+    final TimingContext latency = metrics.getLatencyTimer().startTimer();
+    downstreamHttpClient
+        .request(options)
+        .onSuccess(
+            clientRequest -> {
+              clientRequest
+                  .response()
+                  .onSuccess(
+                      clientResponse -> {
+                        latency.stopTimer();
+                        sendResponse(context, clientResponse);
+                      })
+                  .onFailure(thrown -> handleFailure(context, thrown));
+              clientRequest.exceptionHandler(thrown -> handleFailure(context, thrown));
+              context.response().closeHandler(_v -> clientRequest.reset());
+              sendRequestBody(serverRequest, clientRequest, prefix, streamRemainder);
+            })
+        .onFailure(thrown -> handleFailure(context, thrown));
+  }
+
+  private void sendRequestBody(
+      final HttpServerRequest serverRequest,
+      final HttpClientRequest clientRequest,
+      final Buffer prefix,
+      final boolean streamRemainder) {
+    metrics.getRequestBytes().inc(prefix.length());
+    if (!streamRemainder) {
+      clientRequest.end(prefix);
+      return;
+    }
+
+    final String contentLength = serverRequest.getHeader(HttpHeaderNames.CONTENT_LENGTH);
+    if (contentLength != null) {
+      clientRequest.putHeader(HttpHeaderNames.CONTENT_LENGTH, contentLength);
+    } else {
+      clientRequest.setChunked(true);
+    }
+    clientRequest.write(prefix);
+    serverRequest.exceptionHandler(_thrown -> clientRequest.reset());
+    pipe(serverRequest, clientRequest, metrics.getRequestBytes(), _v -> clientRequest.end());
+    serverRequest.resume();
+  }
+
+  private void sendResponse(final RoutingContext context, final HttpClientResponse clientResponse) {
+    final HttpServerResponse response = context.response();
+    if (response.ended()) {
+      clientResponse.request().reset();
+      return;
+    }
+    response.setStatusCode(clientResponse.statusCode());
+    clientResponse
+        .headers()
+        .forEach(
+            entry -> {
+              if (!EXCLUDED_RESPONSE_HEADERS.contains(entry.getKey().toLowerCase(Locale.ROOT))) {
+                response.headers().add(entry.getKey(), entry.getValue());
+              }
+            });
+    final String contentLength = clientResponse.getHeader(HttpHeaderNames.CONTENT_LENGTH);
+    if (contentLength != null) {
+      response.putHeader(HttpHeaderNames.CONTENT_LENGTH, contentLength);
+    } else {
+      response.setChunked(true);
+    }
+    clientResponse.exceptionHandler(thrown -> handleFailure(context, thrown));
+    pipe(clientResponse, response, metrics.getResponseBytes(), _v -> response.end());
+  }
+
+  private static void pipe(
+      final ReadStream<Buffer> source,
+      final WriteStream<Buffer> destination,
+      final Counter proxiedBytes,
+      final Handler<Void> endHandler) {
+    source.handler(
+        buffer -> {
+          proxiedBytes.inc(buffer.length());
+          destination.write(buffer);
+          if (destination.writeQueueFull()) {
+            source.pause();
+            destination.drainHandler(_v -> source.resume());
+          }
+        });
+    source.endHandler(endHandler);
+  }
+
+  private static void handleFailure(final RoutingContext context, final Throwable thrown) {
+    LOG.error("Streaming proxy request failed", thrown);
+    final HttpServerResponse response = context.response();
+    if (response.ended() || context.failed()) {
+      return;
+    }
+    if (response.headWritten()) {
+      // the status has been sent, so the client can only see that the response is incomplete
+      response.reset();
+    } else {
+      new ForwardedMessageResponder(context).handleFailure(thrown);
+    }
+  }
+}
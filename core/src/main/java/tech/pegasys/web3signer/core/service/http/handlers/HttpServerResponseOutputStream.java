@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Output stream which writes a chunked HTTP response from a blocking handler.
+ *
+ * <p>Data is written to the response in chunks of {@link #CHUNK_SIZE} bytes. When the response
+ * write queue is full the writing thread waits for the client to catch up, so only a bounded amount
+ * of the response is held in memory. {@link #flush()} does not write a partial chunk as JSON
+ * generators flush after every value; the remaining data is written on {@link #close()}, which does
+ * not end the response.
+ */
+public class HttpServerResponseOutputStream extends OutputStream {
+  static final int CHUNK_SIZE = 64 * 1024;
+  private static final long DRAIN_TIMEOUT_SECONDS = 30;
+
+  private final HttpServerResponse response;
+  private final byte[] chunk = new byte[CHUNK_SIZE];
+  private int count;
+  private boolean closed;
+
+  public HttpServerResponseOutputStream(final HttpServerResponse response) {
+    this.response = response;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    if (count == chunk.length) {
+      writeChunk();
+    }
+    chunk[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    ensureOpen();
+    int offset = off;
+    int remaining = len;
+    while (remaining > 0) {
+      if (count == chunk.length) {
+        writeChunk();
+      }
+      final int length = Math.min(remaining, chunk.length - count);
+      System.arraycopy(b, offset, chunk, count, length);
+      count += length;
+      offset += length;
+      remaining -= length;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      writeChunk();
+      closed = true;
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+
+  private void writeChunk() throws IOException {
+    if (count == 0) {
+      return;
+    }
+    if (response.closed()) {
+      throw new IOException("HTTP response closed before it was completely written");
+    }
+    awaitDrain();
+    if (!response.isChunked()) {
+      response.setChunked(true);
+    }
+    response.write(Buffer.buffer(count).appendBytes(chunk, 0, count));
+    count = 0;
+  }
+
+  private void awaitDrain() throws IOException {
+    if (!response.writeQueueFull()) {
+      return;
+    }
+    final CountDownLatch drained = new CountDownLatch(1);
+    response.drainHandler(v -> drained.countDown());
+    // the queue may have drained before the handler was registered
+    if (!response.writeQueueFull()) {
+      return;
+    }
+    try {
+      if (!drained.await(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        throw new IOException("Timed out waiting for HTTP client to read response");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted waiting for HTTP client to read response");
+    }
+  }
+}
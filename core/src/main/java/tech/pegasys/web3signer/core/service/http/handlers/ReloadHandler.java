@@ -13,9 +13,13 @@
 package tech.pegasys.web3signer.core.service.http.handlers;
 
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
+import tech.pegasys.web3signer.signing.SignerLoadResult;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -49,6 +53,7 @@ public class ReloadHandler implements Handler<RoutingContext> {
       new AtomicReference<>(ReloadStatus.IDLE);
   private final AtomicReference<String> lastErrorMessage = new AtomicReference<>();
   private final AtomicReference<Instant> lastOperationTime = new AtomicReference<>();
+  private final AtomicReference<Map<String, Object>> lastReload = new AtomicReference<>();
 
   public ReloadHandler(
       final List<ArtifactSignerProvider> orderedArtifactSignerProviders,
@@ -82,6 +87,11 @@ public class ReloadHandler implements Handler<RoutingContext> {
       statusResponse.put("lastError", errorMsg);
     }
 
+    final Map<String, Object> reload = lastReload.get();
+    if (reload != null) {
+      statusResponse.put("lastReload", reload);
+    }
+
     routingContext
         .response()
         .setStatusCode(200)
@@ -89,6 +99,27 @@ public class ReloadHandler implements Handler<RoutingContext> {
         .end(Json.encode(statusResponse));
   }
 
+  private static Map<String, Object> reloadReport(
+      final List<SignerLoadResult> results, final Duration duration) {
+    final List<Map<String, Object>> providers =
+        results.stream()
+            .map(
+                result -> {
+                  final Map<String, Long> phases = new LinkedHashMap<>();
+                  result
+                      .phaseDurations()
+                      .forEach((phase, time) -> phases.put(phase, time.toMillis()));
+                  return Map.<String, Object>of(
+                      "errorCount", result.errorCount(),
+                      "added", result.added(),
+                      "removed", result.removed(),
+                      "unchanged", result.unchanged(),
+                      "phaseDurationsMillis", phases);
+                })
+            .toList();
+    return Map.of("durationMillis", duration.toMillis(), "providers", providers);
+  }
+
   private void handleReloadRequest(final RoutingContext routingContext) {
     // Check if reload is already in progress
     if (!reloadInProgress.compareAndSet(false, true)) {
@@ -115,11 +146,13 @@ public class ReloadHandler implements Handler<RoutingContext> {
       workerExecutor
           .executeBlocking(
               () -> {
-                long totalErrors = 0L;
+                // providers are loaded in order as a later provider may map the signers of an
+                // earlier one, each provider loads its key sources concurrently
+                final long start = System.nanoTime();
+                final List<SignerLoadResult> results = new ArrayList<>();
                 for (ArtifactSignerProvider signerProvider : orderedArtifactSignerProviders) {
                   try {
-                    Long errorCount = signerProvider.load().get();
-                    totalErrors += errorCount;
+                    results.add(signerProvider.load().get());
                   } catch (final InterruptedException e) {
                     Thread.currentThread().interrupt();
                     LOG.error("Interrupted while reloading signer", e);
@@ -129,7 +162,8 @@ public class ReloadHandler implements Handler<RoutingContext> {
                     throw new RuntimeException("Reload failed", e);
                   }
                 }
-                return totalErrors;
+                lastReload.set(reloadReport(results, Duration.ofNanos(System.nanoTime() - start)));
+                return results.stream().mapToLong(SignerLoadResult::errorCount).sum();
               },
               false) // unordered is fine since we have pool size 1
           .onSuccess(
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers;
+
+import static java.net.HttpURLConnection.HTTP_ENTITY_TOO_LARGE;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.Handler;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Writes the request body to a temporary file as it arrives rather than reading it into memory, for
+ * routes which accept large bodies. Later handlers read the file from {@link #spooledBody}, and it
+ * is deleted once the response has been sent. Requests with a body larger than the limit fail with
+ * 413. If the body has already been read by a {@code BodyHandler} the request is passed on
+ * unchanged.
+ */
+public class SpooledBodyHandler implements Handler<RoutingContext> {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String SPOOLED_BODY = "web3signer.spooledBody";
+
+  private final long bodyLimit;
+
+  public SpooledBodyHandler(final long bodyLimit) {
+    this.bodyLimit = bodyLimit;
+  }
+
+  /**
+   * The file the request body was written to
+   *
+   * @param context routing context of the request
+   * @return the body file, empty if the body was read into memory
+   */
+  public static Optional<Path> spooledBody(final RoutingContext context) {
+    return Optional.ofNullable(context.get(SPOOLED_BODY));
+  }
+
+  @Override
+  public void handle(final RoutingContext context) {
+    if (context.body().available()) {
+      context.next();
+      return;
+    }
+
+    final HttpServerRequest request = context.request();
+    final String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+    if (contentLength != null && exceedsLimit(contentLength)) {
+      context.fail(HTTP_ENTITY_TOO_LARGE);
+      return;
+    }
+
+    request.pause();
+    final FileSystem fileSystem = context.vertx().fileSystem();
+    fileSystem
+        .createTempFile("web3signer-request", ".json")
+        .compose(
+            file -> {
+              context.addEndHandler(
+                  _v ->
+                      fileSystem
+                          .delete(file)
+                          .onFailure(e -> LOG.warn("Unable to delete request body {}", file, e)));
+              return fileSystem
+                  .open(file, new OpenOptions().setWrite(true))
+                  .onSuccess(asyncFile -> spool(context, Path.of(file), asyncFile));
+            })
+        .onFailure(context::fail);
+  }
+
+  private void spool(final RoutingContext context, final Path file, final AsyncFile asyncFile) {
+    final HttpServerRequest request = context.request();
+    final AtomicLong received = new AtomicLong();
+    final AtomicBoolean failed = new AtomicBoolean();
+    request.handler(
+        chunk -> {
+          if (failed.get()) {
+            return;
+          }
+          if (received.addAndGet(chunk.length()) > bodyLimit) {
+            failed.set(true);
+            asyncFile.close();
+            context.fail(HTTP_ENTITY_TOO_LARGE);
+            return;
+          }
+          asyncFile.write(chunk);
+          if (asyncFile.writeQueueFull()) {
+            request.pause();
+            asyncFile.drainHandler(_v -> request.resume());
+          }
+        });
+    request.exceptionHandler(
+        e -> {
+          if (failed.compareAndSet(false, true)) {
+            asyncFile.close();
+            context.fail(e);
+          }
+        });
+    request.endHandler(
+        _v -> {
+          if (failed.get()) {
+            return;
+          }
+          asyncFile
+              .close()
+              .onSuccess(
+                  _closed -> {
+                    context.put(SPOOLED_BODY, file);
+                    context.next();
+                  })
+              .onFailure(context::fail);
+        });
+    request.resume();
+  }
+
+  private boolean exceedsLimit(final String contentLength) {
+    try {
+      return Long.parseLong(contentLength) > bodyLimit;
+    } catch (final NumberFormatException e) {
+      return false;
+    }
+  }
+}
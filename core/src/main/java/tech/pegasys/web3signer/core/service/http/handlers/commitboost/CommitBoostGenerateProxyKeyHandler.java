@@ -27,7 +27,6 @@ import tech.pegasys.web3signer.core.service.http.handlers.commitboost.json.Proxy
 import tech.pegasys.web3signer.core.service.http.handlers.commitboost.json.SignedProxyDelegation;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
-import tech.pegasys.web3signer.signing.config.KeystoresParameters;
 
 import java.util.Optional;
 
@@ -41,15 +40,15 @@ public class CommitBoostGenerateProxyKeyHandler implements Handler<RoutingContex
   private static final ObjectMapper JSON_MAPPER = SigningObjectMapperFactory.createObjectMapper();
 
   private final CommitBoostSignerProvider commitBoostSignerProvider;
-  private final ProxyKeysGenerator proxyKeyGenerator;
+  private final ProxyKeyPool proxyKeyPool;
   private final SigningRootGenerator signingRootGenerator;
 
   public CommitBoostGenerateProxyKeyHandler(
       final ArtifactSignerProvider artifactSignerProvider,
-      final KeystoresParameters commitBoostParameters,
+      final ProxyKeyPool proxyKeyPool,
       final Spec eth2Spec) {
     commitBoostSignerProvider = new CommitBoostSignerProvider(artifactSignerProvider);
-    proxyKeyGenerator = new ProxyKeysGenerator(commitBoostParameters);
+    this.proxyKeyPool = proxyKeyPool;
     signingRootGenerator = new SigningRootGenerator(eth2Spec);
   }
 
@@ -77,12 +76,9 @@ public class CommitBoostGenerateProxyKeyHandler implements Handler<RoutingContex
     }
 
     try {
-      // Generate actual proxy key and encrypted keystore based on signature scheme
+      // Take a pre-generated proxy key, or generate one, and write its encrypted keystore
       final ArtifactSigner proxyArtifactSigner =
-          switch (proxyKeyBody.scheme()) {
-            case BLS -> proxyKeyGenerator.generateBLSProxyKey(consensusPubKey);
-            case ECDSA -> proxyKeyGenerator.generateECProxyKey(consensusPubKey);
-          };
+          proxyKeyPool.bindProxyKey(proxyKeyBody.scheme(), consensusPubKey);
 
       // Add generated proxy ArtifactSigner to ArtifactSignerProvider
       commitBoostSignerProvider.addProxySigner(proxyArtifactSigner, consensusPubKey);
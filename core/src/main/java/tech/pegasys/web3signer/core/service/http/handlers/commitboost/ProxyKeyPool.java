@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.commitboost;
+
+import tech.pegasys.web3signer.core.service.http.handlers.commitboost.ProxyKeysGenerator.PreparedProxyKey;
+import tech.pegasys.web3signer.core.service.http.handlers.commitboost.json.ProxyKeySignatureScheme;
+import tech.pegasys.web3signer.core.util.ExecutorShutdownUtil;
+import tech.pegasys.web3signer.signing.ArtifactSigner;
+
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Pool of proxy keys generated and encrypted in the background, so that a generate proxy key
+ * request only has to write an already encrypted keystore. Pooled keys are held in memory and are
+ * only written to disk once they are bound to a consensus key, keys still in the pool when
+ * Web3Signer stops are discarded. When the pool for a scheme is empty the key is generated as part
+ * of the request.
+ */
+public class ProxyKeyPool implements Closeable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final ProxyKeysGenerator proxyKeysGenerator;
+  private final Map<ProxyKeySignatureScheme, BlockingQueue<PreparedProxyKey>> pools =
+      new EnumMap<>(ProxyKeySignatureScheme.class);
+  private final Optional<ScheduledExecutorService> refillExecutor;
+
+  /**
+   * @param proxyKeysGenerator generator of the pooled proxy keys
+   * @param poolSize number of proxy keys kept for each signature scheme, 0 disables the pool
+   * @param refillRate maximum number of proxy keys generated each minute for each signature scheme
+   */
+  public ProxyKeyPool(
+      final ProxyKeysGenerator proxyKeysGenerator, final int poolSize, final int refillRate) {
+    this.proxyKeysGenerator = proxyKeysGenerator;
+    if (poolSize < 1) {
+      refillExecutor = Optional.empty();
+      return;
+    }
+
+    final ProxyKeySignatureScheme[] schemes = ProxyKeySignatureScheme.values();
+    final ScheduledExecutorService executor =
+        Executors.newScheduledThreadPool(
+            schemes.length,
+            r -> {
+              final Thread thread = new Thread(r, "proxy-key-pool");
+              thread.setDaemon(true);
+              thread.setPriority(Thread.MIN_PRIORITY);
+              return thread;
+            });
+    final long refillIntervalMillis = Math.max(1, TimeUnit.MINUTES.toMillis(1) / refillRate);
+    for (final ProxyKeySignatureScheme scheme : schemes) {
+      pools.put(scheme, new ArrayBlockingQueue<>(poolSize));
+      executor.scheduleWithFixedDelay(
+          () -> refill(scheme), 0, refillIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    refillExecutor = Optional.of(executor);
+  }
+
+  /**
+   * Take a proxy key from the pool, or generate one if the pool is empty, and write its keystore
+   * for the given consensus public key
+   *
+   * @param scheme the signature scheme of the proxy key
+   * @param consensusPubKey the public key of the consensus signer the proxy key is delegated from
+   * @return the signer of the proxy key
+   */
+  public ArtifactSigner bindProxyKey(
+      final ProxyKeySignatureScheme scheme, final String consensusPubKey) {
+    final PreparedProxyKey preparedProxyKey =
+        Optional.ofNullable(pools.get(scheme))
+            .map(BlockingQueue::poll)
+            .orElseGet(() -> prepareProxyKey(scheme));
+    return proxyKeysGenerator.bindProxyKey(preparedProxyKey, consensusPubKey);
+  }
+
+  @VisibleForTesting
+  int available(final ProxyKeySignatureScheme scheme) {
+    return Optional.ofNullable(pools.get(scheme)).map(BlockingQueue::size).orElse(0);
+  }
+
+  private void refill(final ProxyKeySignatureScheme scheme) {
+    final BlockingQueue<PreparedProxyKey> pool = pools.get(scheme);
+    if (pool.remainingCapacity() == 0) {
+      return;
+    }
+    try {
+      pool.offer(prepareProxyKey(scheme));
+    } catch (final RuntimeException e) {
+      LOG.warn("Unable to generate pooled {} proxy key: {}", scheme, e.getMessage());
+    }
+  }
+
+  private PreparedProxyKey prepareProxyKey(final ProxyKeySignatureScheme scheme) {
+    return switch (scheme) {
+      case BLS -> proxyKeysGenerator.prepareBLSProxyKey();
+      case ECDSA -> proxyKeysGenerator.prepareECProxyKey();
+    };
+  }
+
+  @Override
+  public void close() {
+    refillExecutor.ifPresent(
+        executor -> ExecutorShutdownUtil.shutdownGracefully(executor, 5, TimeUnit.SECONDS));
+    pools.values().forEach(BlockingQueue::clear);
+  }
+}
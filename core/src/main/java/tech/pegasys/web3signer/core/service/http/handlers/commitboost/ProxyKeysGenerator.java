@@ -28,6 +28,7 @@ import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.BlsArtifactSigner;
 import tech.pegasys.web3signer.signing.K256ArtifactSigner;
 import tech.pegasys.web3signer.signing.KeyType;
+import tech.pegasys.web3signer.signing.config.CommitBoostParameters;
 import tech.pegasys.web3signer.signing.config.KeystoresParameters;
 import tech.pegasys.web3signer.signing.config.metadata.SignerOrigin;
 import tech.pegasys.web3signer.signing.secp256k1.EthPublicKeyUtils;
@@ -38,6 +39,8 @@ import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.logging.log4j.LogManager;
@@ -49,16 +52,36 @@ import org.web3j.crypto.Wallet;
 import org.web3j.crypto.WalletFile;
 import org.web3j.crypto.exception.CipherException;
 
-/** Generate BLS and SECP256K1 proxy keys for Commit Boost API */
+/**
+ * Generate BLS and SECP256K1 proxy keys for Commit Boost API. Generating a proxy key is split into
+ * preparing the key with its encrypted keystore, which is expensive and can be done before the key
+ * is requested, and binding it to a consensus key by writing the keystore file.
+ */
 public class ProxyKeysGenerator {
   private static final Logger LOG = LogManager.getLogger();
   private static final ObjectMapper JSON_MAPPER = SigningObjectMapperFactory.createObjectMapper();
   private final KeystoresParameters commitBoostParameters;
+  private final Semaphore encryptionPermits;
 
   public ProxyKeysGenerator(final KeystoresParameters commitBoostParameters) {
+    this(commitBoostParameters, CommitBoostParameters.DEFAULT_PROXY_KEY_MAX_CONCURRENT_ENCRYPTIONS);
+  }
+
+  /**
+   * @param commitBoostParameters location of the proxy keystores and their password
+   * @param maxConcurrentEncryptions maximum number of keystores encrypted at once, which bounds the
+   *     memory used by scrypt for ECDSA keystores
+   */
+  public ProxyKeysGenerator(
+      final KeystoresParameters commitBoostParameters, final int maxConcurrentEncryptions) {
     this.commitBoostParameters = commitBoostParameters;
+    this.encryptionPermits = new Semaphore(maxConcurrentEncryptions, true);
   }
 
+  /** A generated proxy key and its encrypted keystore which has not yet been written to disk. */
+  public record PreparedProxyKey(
+      ArtifactSigner signer, KeyType keyType, String keystoreFileName, byte[] keystore) {}
+
   /**
    * Generate a random K256 proxy key and encrypted keystore for the given consensus public key
    *
@@ -67,11 +90,7 @@ public class ProxyKeysGenerator {
    * @return an instance of K256ArtifactSigner representing the generated proxy key
    */
   public ArtifactSigner generateECProxyKey(final String consensusPubKey) {
-    final ECKeyPair ecKeyPair = ECKeyPair.create(EthPublicKeyUtils.generateK256KeyPair());
-    final Path ecWalletFile = createECWalletFile(ecKeyPair, consensusPubKey);
-    LOG.debug(
-        "Created proxy EC wallet file {} for consensus key: {}", ecWalletFile, consensusPubKey);
-    return new K256ArtifactSigner(ecKeyPair);
+    return bindProxyKey(prepareECProxyKey(), consensusPubKey);
   }
 
   /**
@@ -82,57 +101,104 @@ public class ProxyKeysGenerator {
    * @return as instance of BlsArtifactSigner representing the generated proxy key
    */
   public ArtifactSigner generateBLSProxyKey(final String consensusPubKey) {
-    final BLSKeyPair blsKeyPair = BLSKeyPair.random(SecureRandomProvider.getSecureRandom());
-    final Path blsKeystoreFile = createBLSKeystoreFile(blsKeyPair, consensusPubKey);
-    LOG.debug(
-        "Created proxy BLS keystore file {} for consensus key: {}",
-        blsKeystoreFile,
-        consensusPubKey);
-    return new BlsArtifactSigner(blsKeyPair, SignerOrigin.FILE_KEYSTORE);
+    return bindProxyKey(prepareBLSProxyKey(), consensusPubKey);
+  }
+
+  /**
+   * Generate a random K256 proxy key and its encrypted keystore without writing it to disk
+   *
+   * @return the prepared proxy key
+   */
+  public PreparedProxyKey prepareECProxyKey() {
+    final ECKeyPair ecKeyPair = ECKeyPair.create(EthPublicKeyUtils.generateK256KeyPair());
+    final String password = readFile(commitBoostParameters.getKeystoresPasswordFile());
+    final String compressedPubHex =
+        EthPublicKeyUtils.toHexStringCompressed(
+            EthPublicKeyUtils.web3JPublicKeyToECPublicKey(ecKeyPair.getPublicKey()));
+    final WalletFile walletFile = withEncryptionPermit(() -> createECWallet(password, ecKeyPair));
+    try {
+      return new PreparedProxyKey(
+          new K256ArtifactSigner(ecKeyPair),
+          KeyType.SECP256K1,
+          compressedPubHex + ".json",
+          JSON_MAPPER.writeValueAsBytes(walletFile));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to encode wallet file", e);
+    }
   }
 
-  private Path createBLSKeystoreFile(final BLSKeyPair keyPair, final String consensusPubKey) {
+  /**
+   * Generate a random BLS proxy key and its encrypted keystore without writing it to disk
+   *
+   * @return the prepared proxy key
+   */
+  public PreparedProxyKey prepareBLSProxyKey() {
+    final BLSKeyPair blsKeyPair = BLSKeyPair.random(SecureRandomProvider.getSecureRandom());
     final Bytes salt = Bytes.random(32, SecureRandomProvider.getSecureRandom());
     final CipherParam cipherParam =
         new CipherParam(Bytes.random(16, SecureRandomProvider.getSecureRandom()));
     final int counter = 65536; // 2^16
     final KdfParam kdfParam = new Pbkdf2Param(32, counter, HMAC_SHA256, salt);
     final CipherSpec cipher = new CipherSpec(CipherFunction.AES_128_CTR, cipherParam);
-    final Bytes48 publicKey = keyPair.getPublicKey().toBytesCompressed();
+    final Bytes48 publicKey = blsKeyPair.getPublicKey().toBytesCompressed();
     final String password = readFile(commitBoostParameters.getKeystoresPasswordFile());
-    final KeyStoreData keyStoreData = KeyStore.encrypt(keyPair, password, "", kdfParam, cipher);
+    final KeyStoreData keyStoreData =
+        withEncryptionPermit(() -> KeyStore.encrypt(blsKeyPair, password, "", kdfParam, cipher));
+    return new PreparedProxyKey(
+        new BlsArtifactSigner(blsKeyPair, SignerOrigin.FILE_KEYSTORE),
+        KeyType.BLS,
+        publicKey + ".json",
+        KeyStoreLoader.toJson(keyStoreData).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Write the keystore of a prepared proxy key for the given consensus public key
+   *
+   * @param preparedProxyKey the prepared proxy key
+   * @param consensusPubKey the public key of the consensus signer the proxy key is delegated from
+   * @return the signer of the proxy key
+   */
+  public ArtifactSigner bindProxyKey(
+      final PreparedProxyKey preparedProxyKey, final String consensusPubKey) {
+    final Path keystoreDir =
+        createSubDirectories(
+            commitBoostParameters.getKeystoresPath(), consensusPubKey, preparedProxyKey.keyType());
+    final Path keystoreFile = keystoreDir.resolve(preparedProxyKey.keystoreFileName());
     try {
-      final Path keystoreDir =
-          createSubDirectories(
-              commitBoostParameters.getKeystoresPath(), consensusPubKey, KeyType.BLS);
-      final Path keystoreFile = keystoreDir.resolve(publicKey + ".json");
-      KeyStoreLoader.saveToFile(keystoreFile, keyStoreData);
-      return keystoreFile;
+      Files.write(keystoreFile, preparedProxyKey.keystore());
     } catch (final IOException e) {
       throw new UncheckedIOException("Unable to create keystore file", e);
     }
+    LOG.debug(
+        "Created proxy {} keystore file {} for consensus key: {}",
+        preparedProxyKey.keyType(),
+        keystoreFile,
+        consensusPubKey);
+    return preparedProxyKey.signer();
   }
 
-  private Path createECWalletFile(final ECKeyPair ecKeyPair, final String consensusPubKey) {
-    final String password = readFile(commitBoostParameters.getKeystoresPasswordFile());
-    final Path keystoreDir =
-        createSubDirectories(
-            commitBoostParameters.getKeystoresPath(), consensusPubKey, KeyType.SECP256K1);
-
-    final String compressedPubHex =
-        EthPublicKeyUtils.toHexStringCompressed(
-            EthPublicKeyUtils.web3JPublicKeyToECPublicKey(ecKeyPair.getPublicKey()));
-
-    final Path keystoreFile = keystoreDir.resolve(compressedPubHex + ".json");
+  private static WalletFile createECWallet(final String password, final ECKeyPair ecKeyPair) {
     try {
-      final WalletFile walletFile = Wallet.createStandard(password, ecKeyPair);
-      JSON_MAPPER.writeValue(keystoreFile.toFile(), walletFile);
-      return keystoreFile;
-    } catch (final CipherException | IOException e) {
+      return Wallet.createStandard(password, ecKeyPair);
+    } catch (final CipherException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private <T> T withEncryptionPermit(final Supplier<T> encryption) {
+    try {
+      encryptionPermits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting to encrypt proxy keystore", e);
+    }
+    try {
+      return encryption.get();
+    } finally {
+      encryptionPermits.release();
+    }
+  }
+
   private static String readFile(final Path file) {
     try {
       return Files.readString(file, StandardCharsets.UTF_8);
@@ -15,17 +15,24 @@ package tech.pegasys.web3signer.core.service.http.handlers.keymanager.delete;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 import static tech.pegasys.web3signer.core.service.http.handlers.ContentTypes.JSON_UTF_8;
 
+import tech.pegasys.web3signer.core.service.http.handlers.HttpServerResponseOutputStream;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
 import tech.pegasys.web3signer.signing.ValidatorManager;
 import tech.pegasys.web3signer.slashingprotection.SlashingProtection;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -35,6 +42,9 @@ public class DeleteKeystoresHandler implements Handler<RoutingContext> {
   public static final int SUCCESS = 200;
   public static final int BAD_REQUEST = 400;
   public static final int SERVER_ERROR = 500;
+  private static final byte[] SLASHING_PROTECTION_PREFIX =
+      "{\"slashing_protection\":\"".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] DATA_PREFIX = "\",\"data\":".getBytes(StandardCharsets.UTF_8);
 
   private final ObjectMapper objectMapper;
   private final DeleteKeystoresProcessor processor;
@@ -59,16 +69,40 @@ public class DeleteKeystoresHandler implements Handler<RoutingContext> {
       return;
     }
 
-    final DeleteKeystoresResponse response = processor.process(parsedBody);
-
+    final HttpServerResponse response = context.response();
+    response.putHeader(CONTENT_TYPE, JSON_UTF_8).setStatusCode(SUCCESS);
     try {
-      context
-          .response()
-          .putHeader(CONTENT_TYPE, JSON_UTF_8)
-          .setStatusCode(SUCCESS)
-          .end(objectMapper.writeValueAsString(response));
+      writeResponse(parsedBody, new HttpServerResponseOutputStream(response));
+      response.end();
     } catch (Exception e) {
-      context.fail(SERVER_ERROR, e);
+      if (!response.headWritten()) {
+        context.fail(SERVER_ERROR, e);
+      } else {
+        // part of the response has been sent so the only option left is to abort it
+        LOG.error("Failed to write delete keystores response", e);
+        response.reset();
+      }
+    }
+  }
+
+  /**
+   * Writes the response as the keys are deleted, the slashing protection export is escaped into
+   * the JSON string as it is produced so the response is never held in memory. The slashing
+   * protection field precedes the data as the results are only known once the export completes.
+   */
+  private void writeResponse(
+      final DeleteKeystoresRequestBody parsedBody, final OutputStream responseOutput)
+      throws IOException {
+    try (responseOutput) {
+      responseOutput.write(SLASHING_PROTECTION_PREFIX);
+      final List<DeleteKeystoreResult> results;
+      try (final OutputStream slashingProtectionOutput =
+          new JsonStringContentOutputStream(responseOutput)) {
+        results = processor.process(parsedBody, slashingProtectionOutput);
+      }
+      responseOutput.write(DATA_PREFIX);
+      objectMapper.writeValue(CloseShieldOutputStream.wrap(responseOutput), results);
+      responseOutput.write('}');
     }
   }
 
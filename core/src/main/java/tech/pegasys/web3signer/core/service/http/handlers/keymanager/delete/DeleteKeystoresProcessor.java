@@ -21,14 +21,14 @@ import tech.pegasys.web3signer.slashingprotection.SlashingProtection;
 import tech.pegasys.web3signer.slashingprotection.interchange.EmptyDataIncrementalInterchangeV5Exporter;
 import tech.pegasys.web3signer.slashingprotection.interchange.IncrementalExporter;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -51,106 +51,136 @@ public class DeleteKeystoresProcessor {
     this.validatorManager = validatorManager;
   }
 
-  public DeleteKeystoresResponse process(final DeleteKeystoresRequestBody requestBody) {
-    final List<DeleteKeystoreResult> results = new ArrayList<>();
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+  /**
+   * Deletes the requested keys. Active keys are disabled and deleted together and their slashing
+   * protection data is exported with one set of queries rather than key by key. The slashing
+   * protection export is written to the given output stream as it is produced.
+   *
+   * @param requestBody keys to delete
+   * @param slashingProtectionOutput stream the slashing protection interchange is written to
+   * @return result for each key in the same order as the request
+   */
+  public List<DeleteKeystoreResult> process(
+      final DeleteKeystoresRequestBody requestBody, final OutputStream slashingProtectionOutput) {
+    // normalize incoming keys to delete
+    final List<String> pubkeysToDelete =
+        requestBody.getPubkeys().stream().map(IdentifierUtils::normaliseIdentifier).toList();
+    final Map<String, DeleteKeystoreResult> results = new LinkedHashMap<>();
+
+    try (final IncrementalExporter incrementalExporter =
+        createIncrementalExporter(slashingProtectionOutput)) {
+      final List<String> pubkeysToExport = new ArrayList<>();
+      final List<String> activePubkeys = new ArrayList<>();
+      for (final String pubkey : new LinkedHashSet<>(pubkeysToDelete)) {
+        final DeleteKeystoreResult result = checkKeyToDelete(pubkey);
+        results.put(pubkey, result);
+        if (result.getStatus() == DeleteKeystoreStatus.NOT_ACTIVE) {
+          pubkeysToExport.add(pubkey);
+        } else if (result.getStatus() == DeleteKeystoreStatus.DELETED) {
+          activePubkeys.add(pubkey);
+        }
+      }
 
-    try (final IncrementalExporter incrementalExporter = createIncrementalExporter(outputStream)) {
-      // normalize incoming keys to delete
-      final List<String> pubkeysToDelete =
-          requestBody.getPubkeys().stream()
-              .map(IdentifierUtils::normaliseIdentifier)
-              .collect(Collectors.toList());
+      pubkeysToExport.addAll(deleteActiveKeys(activePubkeys, results));
 
-      for (String pubkey : pubkeysToDelete) {
-        results.add(processKeyToDelete(pubkey, incrementalExporter));
+      try {
+        incrementalExporter.exportAll(pubkeysToExport);
+      } catch (final Exception e) {
+        LOG.error("Failed to export slashing data for {} public keys", pubkeysToExport.size(), e);
+        pubkeysToExport.forEach(
+            pubkey ->
+                results.put(
+                    pubkey,
+                    new DeleteKeystoreResult(
+                        DeleteKeystoreStatus.ERROR,
+                        "Error exporting slashing data: " + e.getMessage())));
       }
 
       try {
         incrementalExporter.finalise();
       } catch (IOException ioException) {
         LOG.error("Failed to export slashing data", ioException);
-        setAllResultsToError(results, ioException);
+        results.replaceAll(
+            (pubkey, result) ->
+                new DeleteKeystoreResult(
+                    DeleteKeystoreStatus.ERROR,
+                    "Error exporting slashing data: " + ioException.getMessage()));
       }
     } catch (Exception e) {
       // Any unhandled error we want to bubble up so that we return an internal error response
       throw new RuntimeException("Error deleting keystores", e);
     }
 
-    final String slashingProtectionExport = outputStream.toString(StandardCharsets.UTF_8);
-    return new DeleteKeystoresResponse(results, slashingProtectionExport);
+    return pubkeysToDelete.stream().map(results::get).toList();
   }
 
-  private void setAllResultsToError(
-      final List<DeleteKeystoreResult> results, final IOException ioException) {
-    final List<DeleteKeystoreResult> errorResults =
-        results.stream()
-            .map(
-                result ->
-                    new DeleteKeystoreResult(
-                        DeleteKeystoreStatus.ERROR,
-                        "Error exporting slashing data: " + ioException.getMessage()))
-            .collect(Collectors.toList());
-    results.clear();
-    results.addAll(errorResults);
-  }
-
-  private IncrementalExporter createIncrementalExporter(final OutputStream outputStream) {
-    return slashingProtection
-        .map(sp -> sp.createIncrementalExporter(outputStream))
-        // nothing to export if slashing protection is not available, hence use no-op exporter so
-        // that outputStream can be closed nicely.
-        .orElseGet(() -> new EmptyDataIncrementalInterchangeV5Exporter(outputStream));
-  }
-
-  private DeleteKeystoreResult processKeyToDelete(
-      final String pubkey, final IncrementalExporter incrementalExporter) {
+  /**
+   * Determines how a key is to be deleted without deleting it. Active keys which can be deleted are
+   * reported as {@link DeleteKeystoreStatus#DELETED}.
+   */
+  private DeleteKeystoreResult checkKeyToDelete(final String pubkey) {
     try {
       final Optional<ArtifactSigner> signer = signerProvider.getSigner(pubkey);
-
-      // check that key is active
       if (signer.isEmpty()) {
         final boolean slashingProtectionDataExistsForPubKey =
             slashingProtection
                 .map(sp -> sp.hasSlashingProtectionDataFor(Bytes.fromHexString(pubkey)))
                 .orElse(false);
-
-        if (slashingProtectionDataExistsForPubKey) {
-          return attemptToExportWithSlashingData(
-              pubkey, incrementalExporter, DeleteKeystoreStatus.NOT_ACTIVE);
-        } else {
-          return new DeleteKeystoreResult(DeleteKeystoreStatus.NOT_FOUND, "");
-        }
+        return new DeleteKeystoreResult(
+            slashingProtectionDataExistsForPubKey
+                ? DeleteKeystoreStatus.NOT_ACTIVE
+                : DeleteKeystoreStatus.NOT_FOUND,
+            "");
       }
 
-      // Check that key is read only, if so return an error status
       if (signer.get() instanceof BlsArtifactSigner blsSigner && blsSigner.isReadOnlyKey()) {
         return new DeleteKeystoreResult(
             DeleteKeystoreStatus.ERROR, "Unable to delete readonly key: " + pubkey);
       }
-
-      validatorManager.deleteValidator(Bytes.fromHexString(pubkey));
+      return new DeleteKeystoreResult(DeleteKeystoreStatus.DELETED, "");
     } catch (Exception e) {
       LOG.error("Failed to delete keystore files", e);
-      return new DeleteKeystoreResult(
-          DeleteKeystoreStatus.ERROR, "Error deleting keystore file: " + e.getMessage());
+      return deleteError(e);
     }
-
-    return attemptToExportWithSlashingData(
-        pubkey, incrementalExporter, DeleteKeystoreStatus.DELETED);
   }
 
-  private DeleteKeystoreResult attemptToExportWithSlashingData(
-      final String pubkey,
-      final IncrementalExporter incrementalExporter,
-      final DeleteKeystoreStatus status) {
+  /** Deletes the active keys, returning those deleted and recording an error for the others. */
+  private List<String> deleteActiveKeys(
+      final List<String> activePubkeys, final Map<String, DeleteKeystoreResult> results) {
+    final Map<Bytes, Exception> failures;
     try {
-      incrementalExporter.export(pubkey);
-      return new DeleteKeystoreResult(status, "");
+      failures =
+          validatorManager.deleteValidators(
+              activePubkeys.stream().map(Bytes::fromHexString).toList());
     } catch (Exception e) {
-      LOG.error("Failed to export slashing data for public key {}", pubkey, e);
-      return new DeleteKeystoreResult(
-          DeleteKeystoreStatus.ERROR, "Error exporting slashing data: " + e.getMessage());
+      LOG.error("Failed to delete keystore files", e);
+      activePubkeys.forEach(pubkey -> results.put(pubkey, deleteError(e)));
+      return List.of();
     }
+
+    final List<String> deletedPubkeys = new ArrayList<>();
+    for (final String pubkey : activePubkeys) {
+      final Exception failure = failures.get(Bytes.fromHexString(pubkey));
+      if (failure == null) {
+        deletedPubkeys.add(pubkey);
+      } else {
+        LOG.error("Failed to delete keystore files", failure);
+        results.put(pubkey, deleteError(failure));
+      }
+    }
+    return deletedPubkeys;
+  }
+
+  private static DeleteKeystoreResult deleteError(final Exception e) {
+    return new DeleteKeystoreResult(
+        DeleteKeystoreStatus.ERROR, "Error deleting keystore file: " + e.getMessage());
+  }
+
+  private IncrementalExporter createIncrementalExporter(final OutputStream outputStream) {
+    return slashingProtection
+        .map(sp -> sp.createIncrementalExporter(outputStream))
+        // nothing to export if slashing protection is not available, hence use no-op exporter so
+        // that outputStream can be closed nicely.
+        .orElseGet(() -> new EmptyDataIncrementalInterchangeV5Exporter(outputStream));
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.keymanager.delete;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escapes the UTF-8 text written to it as the content of a JSON string, allowing a JSON document to
+ * be embedded as a string value without first building it in memory. Closing this stream does not
+ * close the underlying stream.
+ */
+class JsonStringContentOutputStream extends FilterOutputStream {
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  JsonStringContentOutputStream(final OutputStream out) {
+    super(out);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    final int value = b & 0xFF;
+    if (value == '"' || value == '\\') {
+      out.write('\\');
+      out.write(value);
+    } else if (value < 0x20) {
+      out.write('\\');
+      out.write('u');
+      out.write('0');
+      out.write('0');
+      out.write(HEX_DIGITS[value >> 4]);
+      out.write(HEX_DIGITS[value & 0xF]);
+    } else {
+      // multi-byte UTF-8 sequences only contain bytes >= 0x80 so are copied unchanged
+      out.write(value);
+    }
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    for (int i = off; i < off + len; i++) {
+      write(b[i]);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    flush();
+  }
+}
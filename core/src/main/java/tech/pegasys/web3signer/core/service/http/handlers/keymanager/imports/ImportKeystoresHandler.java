@@ -14,40 +14,22 @@ package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
 
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 import static tech.pegasys.web3signer.core.service.http.handlers.ContentTypes.JSON_UTF_8;
-import static tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.ImportKeystoreStatus.DUPLICATE;
-import static tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.ImportKeystoreStatus.IMPORTED;
 
-import tech.pegasys.teku.bls.BLSKeyPair;
-import tech.pegasys.web3signer.bls.keystore.KeyStore;
-import tech.pegasys.web3signer.bls.keystore.KeyStoreLoader;
-import tech.pegasys.web3signer.bls.keystore.model.KeyStoreData;
+import tech.pegasys.web3signer.core.service.http.handlers.SpooledBodyHandler;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
-import tech.pegasys.web3signer.signing.BlsArtifactSigner;
-import tech.pegasys.web3signer.signing.KeystoreFileRecord;
 import tech.pegasys.web3signer.signing.ValidatorManager;
-import tech.pegasys.web3signer.signing.config.metadata.SignerOrigin;
-import tech.pegasys.web3signer.signing.util.IdentifierUtils;
 import tech.pegasys.web3signer.slashingprotection.SlashingProtection;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -59,22 +41,25 @@ public class ImportKeystoresHandler implements Handler<RoutingContext> {
   public static final int SERVER_ERROR = 500;
 
   private final ObjectMapper objectMapper;
-  private final Path keystorePath;
-  private final Optional<SlashingProtection> slashingProtection;
-  private final ArtifactSignerProvider artifactSignerProvider;
-  private final ValidatorManager validatorManager;
+  private final ImportKeystoresRequestBodyReader requestBodyReader;
+  private final ImportKeystoresProcessor processor;
 
   public ImportKeystoresHandler(
       final ObjectMapper objectMapper,
       final Path keystorePath,
       final Optional<SlashingProtection> slashingProtection,
       final ArtifactSignerProvider artifactSignerProvider,
-      final ValidatorManager validatorManager) {
+      final ValidatorManager validatorManager,
+      final KeystoreDecryptionExecutor decryptionExecutor) {
     this.objectMapper = objectMapper;
-    this.keystorePath = keystorePath;
-    this.slashingProtection = slashingProtection;
-    this.artifactSignerProvider = artifactSignerProvider;
-    this.validatorManager = validatorManager;
+    requestBodyReader = new ImportKeystoresRequestBodyReader(objectMapper);
+    processor =
+        new ImportKeystoresProcessor(
+            keystorePath,
+            slashingProtection,
+            artifactSignerProvider,
+            validatorManager,
+            decryptionExecutor);
   }
 
   @Override
@@ -82,13 +67,27 @@ public class ImportKeystoresHandler implements Handler<RoutingContext> {
     // API spec - https://github.com/ethereum/keymanager-APIs/tree/master/flows#import
     final ImportKeystoresRequestBody parsedBody;
     // step 0: Parse and verify the request body
+    final Optional<Path> spooledBody = SpooledBodyHandler.spooledBody(context);
     try {
-      parsedBody = parseRequestBody(context.body());
+      parsedBody =
+          spooledBody.isPresent()
+              ? requestBodyReader.read(spooledBody.get())
+              : parseRequestBody(context.body());
     } catch (final IllegalArgumentException | JsonProcessingException e) {
       handleInvalidRequest(context, e);
       return;
+    } catch (final IOException e) {
+      context.fail(SERVER_ERROR, e);
+      return;
+    }
+
+    try (parsedBody) {
+      importKeystores(context, parsedBody);
     }
+  }
 
+  private void importKeystores(
+      final RoutingContext context, final ImportKeystoresRequestBody parsedBody) {
     // step 1: verify if keystores/passwords list length is same
     if (parsedBody.getKeystores().size() != parsedBody.getPasswords().size()) {
       context.fail(BAD_REQUEST);
@@ -105,144 +104,33 @@ public class ImportKeystoresHandler implements Handler<RoutingContext> {
       return;
     }
 
-    // "active" keys which are already loaded by Web3Signer before this import call.
-    final Set<String> existingPubKeys =
-        artifactSignerProvider.availableIdentifiers().stream()
-            .map(IdentifierUtils::normaliseIdentifier)
-            .collect(Collectors.toSet());
-
-    // map incoming keystores either as duplicate or to be imported
-    final List<ImportKeystoreData> importKeystoreDataList =
-        getKeystoreDataToProcess(parsedBody, existingPubKeys);
-
-    // Step 3: import slashing protection data for all to-be-IMPORTED keys
-    final List<String> pubKeysToBeImported = getPubKeysToBeImported(importKeystoreDataList);
-
-    if (slashingProtection.isPresent()
-        && !StringUtils.isEmpty(parsedBody.getSlashingProtection())) {
-      try {
-        final InputStream slashingProtectionData =
-            new ByteArrayInputStream(
-                parsedBody.getSlashingProtection().getBytes(StandardCharsets.UTF_8));
-        slashingProtection.get().importDataWithFilter(slashingProtectionData, pubKeysToBeImported);
-      } catch (final Exception e) {
-        // since we haven't written any keys to the file system, we don't need to clean up
-        context.fail(BAD_REQUEST, e);
-        return;
-      }
+    // step 3 and 4: decrypt keystores, import slashing protection data and add validators
+    final List<ImportKeystoreData> importKeystoreDataList;
+    try {
+      importKeystoreDataList = processor.process(parsedBody, () -> {});
+    } catch (final IllegalArgumentException e) {
+      context.fail(BAD_REQUEST, e);
+      return;
     }
 
     // must return status 200 from here onward ...
 
-    // step 4: add validators to be imported
-    importValidators(importKeystoreDataList);
-
     // final step, send sorted results ...
     try {
-      final List<ImportKeystoreResult> results = getImportKeystoreResults(importKeystoreDataList);
       context
           .response()
           .putHeader(CONTENT_TYPE, JSON_UTF_8)
           .setStatusCode(SUCCESS)
-          .end(objectMapper.writeValueAsString(new ImportKeystoresResponse(results)));
+          .end(
+              objectMapper.writeValueAsString(
+                  ImportKeystoresProcessor.toResponse(importKeystoreDataList)));
     } catch (final Exception e) {
       // critical bug, clean out imported keystores files ...
-      removeSignersAndCleanupImportedKeystoreFiles(pubKeysToBeImported);
+      processor.removeImportedKeystores(importKeystoreDataList);
       context.fail(SERVER_ERROR, e);
     }
   }
 
-  private void importValidators(final List<ImportKeystoreData> importKeystoreDataList) {
-    importKeystoreDataList.stream()
-        .filter(ImportKeystoresHandler::imported)
-        .parallel()
-        .forEach(
-            data -> {
-              try {
-                validatorManager.addValidator(data.signer(), data.keystoreFileRecord());
-              } catch (final Exception e) {
-                // modify the result to error status
-                data.importKeystoreResult().setStatus(ImportKeystoreStatus.ERROR);
-                data.importKeystoreResult()
-                    .setMessage("Error importing keystore: " + e.getMessage());
-              }
-            });
-
-    // clean out failed validators
-    removeSignersAndCleanupImportedKeystoreFiles(getFailedValidators(importKeystoreDataList));
-  }
-
-  private static List<ImportKeystoreResult> getImportKeystoreResults(
-      final List<ImportKeystoreData> importKeystoreDataList) {
-    return importKeystoreDataList.stream()
-        .sorted()
-        .map(ImportKeystoreData::importKeystoreResult)
-        .toList();
-  }
-
-  private List<ImportKeystoreData> getKeystoreDataToProcess(
-      final ImportKeystoresRequestBody requestBody, final Set<String> activePubKeys) {
-    return IntStream.range(0, requestBody.getKeystores().size())
-        .mapToObj(
-            i -> {
-              final String jsonKeystoreData = requestBody.getKeystores().get(i);
-              final String password = requestBody.getPasswords().get(i);
-
-              final BlsArtifactSigner signer;
-              try {
-                final KeyStoreData keyStoreData = KeyStoreLoader.loadFromString(jsonKeystoreData);
-                final BLSKeyPair keyPair = KeyStore.decrypt(password, keyStoreData);
-                signer =
-                    new BlsArtifactSigner(keyPair, SignerOrigin.FILE_KEYSTORE, keyStoreData.path());
-              } catch (final Exception e) {
-                return new ImportKeystoreData(
-                    i,
-                    null,
-                    null,
-                    new ImportKeystoreResult(
-                        ImportKeystoreStatus.ERROR,
-                        "Failed to decrypt keystore: " + e.getMessage()));
-              }
-
-              if (activePubKeys.contains(signer.getIdentifier())) {
-                return new ImportKeystoreData(
-                    i, signer, null, new ImportKeystoreResult(DUPLICATE, null));
-              }
-
-              var keystoreFileRecord =
-                  new KeystoreFileRecord(jsonKeystoreData, password, signer.getIdentifier());
-              return new ImportKeystoreData(
-                  i, signer, keystoreFileRecord, new ImportKeystoreResult(IMPORTED, null));
-            })
-        .toList();
-  }
-
-  private static List<String> getPubKeysToBeImported(
-      final List<ImportKeystoreData> importKeystoreDataList) {
-    return importKeystoreDataList.stream()
-        .filter(ImportKeystoresHandler::imported)
-        .map(data -> data.signer().getIdentifier())
-        .toList();
-  }
-
-  private static List<String> getFailedValidators(List<ImportKeystoreData> importKeystoreDataList) {
-    return importKeystoreDataList.stream()
-        .filter(ImportKeystoresHandler::failed)
-        .map(data -> data.signer().getIdentifier())
-        .toList();
-  }
-
-  private static boolean imported(ImportKeystoreData data) {
-    return data.importKeystoreResult().getStatus() == IMPORTED;
-  }
-
-  private static boolean failed(ImportKeystoreData data) {
-    // signer is null when decryptKeystore() threw (bad password, corrupt data, or pubkey mismatch)
-    // — addValidator was never called in those cases, so there is nothing to clean up
-    return data.importKeystoreResult().getStatus() == ImportKeystoreStatus.ERROR
-        && data.signer() != null;
-  }
-
   private ImportKeystoresRequestBody parseRequestBody(final RequestBody requestBody)
       throws JsonProcessingException {
     final String body = requestBody.asString();
@@ -250,29 +138,11 @@ public class ImportKeystoresHandler implements Handler<RoutingContext> {
   }
 
   private void handleInvalidRequest(final RoutingContext routingContext, final Exception e) {
-    LOG.info("Invalid import keystores request - " + routingContext.body().asString(), e);
-    routingContext.fail(BAD_REQUEST, e);
-  }
-
-  private void removeSignersAndCleanupImportedKeystoreFiles(final List<String> pubkeys) {
-    for (String pubkey : pubkeys) {
-      try {
-        artifactSignerProvider.removeSigner(pubkey).get();
-      } catch (final InterruptedException | ExecutionException e) {
-        LOG.warn("Unable to remove signer for {} due to {}", pubkey, e.getMessage());
-      }
-
-      for (String fileExtensions : KeystoreFileRecord.KEYSTORE_FILE_EXTENSIONS) {
-        deleteFile(keystorePath.resolve(pubkey + fileExtensions));
-      }
-    }
-  }
-
-  private void deleteFile(final Path file) {
-    try {
-      Files.deleteIfExists(file);
-    } catch (final IOException e) {
-      LOG.warn("Unable to delete file {} due to {}", file, e.getMessage());
+    if (SpooledBodyHandler.spooledBody(routingContext).isPresent()) {
+      LOG.info("Invalid import keystores request", e);
+    } else {
+      LOG.info("Invalid import keystores request - " + routingContext.body().asString(), e);
     }
+    routingContext.fail(BAD_REQUEST, e);
   }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
+
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+import static tech.pegasys.web3signer.core.service.http.handlers.ContentTypes.JSON_UTF_8;
+
+import tech.pegasys.web3signer.core.service.http.handlers.SpooledBodyHandler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Asynchronous variant of the key manager import. A POST accepts the same body as {@code POST
+ * /eth/v1/keystores} and responds with 202 and a job id straight away; the import runs on a
+ * dedicated worker and its progress and results are available from a GET on the job id. Queued
+ * jobs hold their parsed keystores and passwords in memory, so once the maximum number of queued or
+ * running jobs is reached further imports are rejected with 429 until a job finishes.
+ */
+public class ImportKeystoresJobHandler implements Handler<RoutingContext> {
+  private static final Logger LOG = LogManager.getLogger();
+  public static final String JOB_ID_PARAM = "jobId";
+  static final Duration COMPLETED_JOB_RETENTION = Duration.ofHours(1);
+  static final long RETRY_AFTER_SECONDS = 60;
+
+  public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  private final ObjectMapper objectMapper;
+  private final ImportKeystoresRequestBodyReader requestBodyReader;
+  private final ImportKeystoresProcessor processor;
+  private final WorkerExecutor workerExecutor;
+  private final int maxPendingJobs;
+  private final Clock clock;
+  private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+  private final AtomicInteger pendingJobs = new AtomicInteger();
+
+  public ImportKeystoresJobHandler(
+      final ObjectMapper objectMapper,
+      final ImportKeystoresProcessor processor,
+      final WorkerExecutor workerExecutor,
+      final int maxPendingJobs) {
+    this(objectMapper, processor, workerExecutor, maxPendingJobs, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  ImportKeystoresJobHandler(
+      final ObjectMapper objectMapper,
+      final ImportKeystoresProcessor processor,
+      final WorkerExecutor workerExecutor,
+      final int maxPendingJobs,
+      final Clock clock) {
+    this.objectMapper = objectMapper;
+    this.requestBodyReader = new ImportKeystoresRequestBodyReader(objectMapper);
+    this.processor = processor;
+    this.workerExecutor = workerExecutor;
+    this.maxPendingJobs = maxPendingJobs;
+    this.clock = clock;
+  }
+
+  @Override
+  public void handle(final RoutingContext routingContext) {
+    if (routingContext.request().method().equals(HttpMethod.GET)) {
+      handleStatusRequest(routingContext);
+    } else if (routingContext.request().method().equals(HttpMethod.POST)) {
+      handleImportRequest(routingContext);
+    } else {
+      routingContext.response().setStatusCode(405).end(); // Method Not Allowed
+    }
+  }
+
+  private void handleStatusRequest(final RoutingContext routingContext) {
+    final ImportJob job = jobs.get(routingContext.pathParam(JOB_ID_PARAM));
+    if (job == null) {
+      routingContext.fail(404);
+      return;
+    }
+
+    try {
+      routingContext
+          .response()
+          .setStatusCode(200)
+          .putHeader(CONTENT_TYPE, JSON_UTF_8)
+          .end(objectMapper.writeValueAsString(job.toStatusResponse()));
+    } catch (final JsonProcessingException e) {
+      routingContext.fail(500, e);
+    }
+  }
+
+  private void handleImportRequest(final RoutingContext routingContext) {
+    // the slot is reserved before parsing so that a rejected request is not read into memory
+    if (!reservePendingJob()) {
+      LOG.info("Import keystores job rejected, {} jobs are already pending", maxPendingJobs);
+      routingContext
+          .response()
+          .setStatusCode(429) // Too Many Requests
+          .putHeader(CONTENT_TYPE, JSON_UTF_8)
+          .putHeader("Retry-After", String.valueOf(RETRY_AFTER_SECONDS))
+          .end(
+              Json.encode(
+                  Map.of(
+                      "status",
+                      "error",
+                      "message",
+                      "Too many import jobs are queued or running, retry later")));
+      return;
+    }
+
+    final ImportKeystoresRequestBody parsedBody;
+    final Optional<Path> spooledBody = SpooledBodyHandler.spooledBody(routingContext);
+    try {
+      parsedBody =
+          spooledBody.isPresent()
+              ? requestBodyReader.read(spooledBody.get())
+              : objectMapper.readValue(
+                  routingContext.body().asString(), ImportKeystoresRequestBody.class);
+    } catch (final IllegalArgumentException | JsonProcessingException e) {
+      pendingJobs.decrementAndGet();
+      LOG.info("Invalid import keystores job request", e);
+      routingContext.fail(400, e);
+      return;
+    } catch (final IOException e) {
+      pendingJobs.decrementAndGet();
+      routingContext.fail(500, e);
+      return;
+    }
+
+    if (parsedBody.getKeystores().size() != parsedBody.getPasswords().size()) {
+      parsedBody.close();
+      pendingJobs.decrementAndGet();
+      routingContext.fail(400);
+      return;
+    }
+
+    removeExpiredJobs();
+    final ImportJob job =
+        new ImportJob(UUID.randomUUID().toString(), parsedBody.getKeystores().size());
+    job.lastUpdated.set(clock.instant());
+    jobs.put(job.id, job);
+    LOG.debug("Import keystores job {} accepted with {} keystores", job.id, job.total);
+
+    workerExecutor
+        .executeBlocking(
+            () -> {
+              job.setStatus(ImportJobStatus.RUNNING);
+              final List<ImportKeystoreData> importKeystoreDataList =
+                  processor.process(parsedBody, job::keystoreDecrypted);
+              return ImportKeystoresProcessor.toResponse(importKeystoreDataList).getData();
+            },
+            false)
+        // releases the job before its status is updated, so a finished job never holds a slot
+        .onComplete(
+            _result -> {
+              parsedBody.close();
+              pendingJobs.decrementAndGet();
+            })
+        .onSuccess(
+            results -> {
+              job.results.set(results);
+              job.setStatus(ImportJobStatus.COMPLETED);
+              LOG.info("Import keystores job {} completed", job.id);
+            })
+        .onFailure(
+            err -> {
+              job.errorMessage.set(err.getMessage());
+              job.setStatus(ImportJobStatus.FAILED);
+              LOG.error("Import keystores job {} failed", job.id, err);
+            });
+
+    routingContext
+        .response()
+        .setStatusCode(202) // Accepted
+        .putHeader(CONTENT_TYPE, JSON_UTF_8)
+        .end(
+            Json.encode(Map.of("status", "accepted", JOB_ID_PARAM, job.id, "total", job.total)));
+  }
+
+  private boolean reservePendingJob() {
+    return pendingJobs.getAndUpdate(count -> count < maxPendingJobs ? count + 1 : count)
+        < maxPendingJobs;
+  }
+
+  private void removeExpiredJobs() {
+    final Instant expiry = clock.instant().minus(COMPLETED_JOB_RETENTION);
+    jobs.values().removeIf(job -> job.isFinished() && job.lastUpdated.get().isBefore(expiry));
+  }
+
+  @VisibleForTesting
+  Map<String, ImportJob> getJobs() {
+    return jobs;
+  }
+
+  @VisibleForTesting
+  class ImportJob {
+    private final String id;
+    private final int total;
+    private final AtomicInteger decrypted = new AtomicInteger();
+    private final AtomicReference<ImportJobStatus> status =
+        new AtomicReference<>(ImportJobStatus.QUEUED);
+    private final AtomicReference<Instant> lastUpdated = new AtomicReference<>();
+    private final AtomicReference<String> errorMessage = new AtomicReference<>();
+    private final AtomicReference<List<ImportKeystoreResult>> results = new AtomicReference<>();
+
+    private ImportJob(final String id, final int total) {
+      this.id = id;
+      this.total = total;
+    }
+
+    private void keystoreDecrypted() {
+      decrypted.incrementAndGet();
+    }
+
+    private void setStatus(final ImportJobStatus newStatus) {
+      lastUpdated.set(clock.instant());
+      status.set(newStatus);
+    }
+
+    private boolean isFinished() {
+      final ImportJobStatus currentStatus = status.get();
+      return currentStatus == ImportJobStatus.COMPLETED || currentStatus == ImportJobStatus.FAILED;
+    }
+
+    @VisibleForTesting
+    Map<String, Object> toStatusResponse() {
+      final Map<String, Object> statusResponse = new LinkedHashMap<>();
+      statusResponse.put(JOB_ID_PARAM, id);
+      statusResponse.put("status", status.get().name().toLowerCase(Locale.ENGLISH));
+      statusResponse.put("total", total);
+      statusResponse.put("decrypted", decrypted.get());
+      statusResponse.put("lastOperationTime", lastUpdated.get().toString());
+
+      final String errorMsg = errorMessage.get();
+      if (errorMsg != null) {
+        statusResponse.put("lastError", errorMsg);
+      }
+
+      final List<ImportKeystoreResult> importResults = results.get();
+      if (importResults != null) {
+        statusResponse.put("data", importResults);
+      }
+      return statusResponse;
+    }
+  }
+}
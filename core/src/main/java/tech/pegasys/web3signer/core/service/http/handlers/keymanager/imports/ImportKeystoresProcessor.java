@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
+
+import static tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.ImportKeystoreStatus.DUPLICATE;
+import static tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports.ImportKeystoreStatus.IMPORTED;
+
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.web3signer.bls.keystore.KeyStore;
+import tech.pegasys.web3signer.bls.keystore.KeyStoreLoader;
+import tech.pegasys.web3signer.bls.keystore.model.KeyStoreData;
+import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
+import tech.pegasys.web3signer.signing.BlsArtifactSigner;
+import tech.pegasys.web3signer.signing.KeystoreFileRecord;
+import tech.pegasys.web3signer.signing.ValidatorManager;
+import tech.pegasys.web3signer.signing.config.metadata.SignerOrigin;
+import tech.pegasys.web3signer.signing.util.IdentifierUtils;
+import tech.pegasys.web3signer.slashingprotection.SlashingProtection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class ImportKeystoresProcessor {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Path keystorePath;
+  private final Optional<SlashingProtection> slashingProtection;
+  private final ArtifactSignerProvider artifactSignerProvider;
+  private final ValidatorManager validatorManager;
+  private final KeystoreDecryptionExecutor decryptionExecutor;
+
+  public ImportKeystoresProcessor(
+      final Path keystorePath,
+      final Optional<SlashingProtection> slashingProtection,
+      final ArtifactSignerProvider artifactSignerProvider,
+      final ValidatorManager validatorManager,
+      final KeystoreDecryptionExecutor decryptionExecutor) {
+    this.keystorePath = keystorePath;
+    this.slashingProtection = slashingProtection;
+    this.artifactSignerProvider = artifactSignerProvider;
+    this.validatorManager = validatorManager;
+    this.decryptionExecutor = decryptionExecutor;
+  }
+
+  /**
+   * Decrypts and imports the keystores in the request body.
+   *
+   * @param requestBody request body with the same number of keystores and passwords
+   * @param onKeystoreDecrypted called once for each keystore after its decryption has finished
+   * @return import data for each keystore ordered by its index in the request
+   * @throws IllegalArgumentException if the slashing protection data cannot be imported
+   */
+  public List<ImportKeystoreData> process(
+      final ImportKeystoresRequestBody requestBody, final Runnable onKeystoreDecrypted) {
+    // "active" keys which are already loaded by Web3Signer before this import call.
+    final Set<String> existingPubKeys =
+        artifactSignerProvider.availableIdentifiers().stream()
+            .map(IdentifierUtils::normaliseIdentifier)
+            .collect(Collectors.toSet());
+
+    // map incoming keystores either as duplicate or to be imported
+    final List<ImportKeystoreData> importKeystoreDataList =
+        getKeystoreDataToProcess(requestBody, existingPubKeys, onKeystoreDecrypted);
+
+    // import slashing protection data for all to-be-IMPORTED keys
+    final List<String> pubKeysToBeImported = getPubKeysToBeImported(importKeystoreDataList);
+
+    if (slashingProtection.isPresent() && requestBody.hasSlashingProtection()) {
+      try (final InputStream slashingProtectionData = requestBody.openSlashingProtection()) {
+        slashingProtection.get().importDataWithFilter(slashingProtectionData, pubKeysToBeImported);
+      } catch (final Exception e) {
+        // since we haven't written any keys to the file system, we don't need to clean up
+        throw new IllegalArgumentException("Unable to import slashing protection data", e);
+      }
+    }
+
+    // add validators to be imported
+    importValidators(importKeystoreDataList);
+    return importKeystoreDataList;
+  }
+
+  public static ImportKeystoresResponse toResponse(
+      final List<ImportKeystoreData> importKeystoreDataList) {
+    return new ImportKeystoresResponse(
+        importKeystoreDataList.stream()
+            .sorted()
+            .map(ImportKeystoreData::importKeystoreResult)
+            .toList());
+  }
+
+  /** Removes signers and keystore files which were added by {@link #process}. */
+  public void removeImportedKeystores(final List<ImportKeystoreData> importKeystoreDataList) {
+    removeSignersAndCleanupImportedKeystoreFiles(getPubKeysToBeImported(importKeystoreDataList));
+  }
+
+  private void importValidators(final List<ImportKeystoreData> importKeystoreDataList) {
+    final CompletableFuture<?>[] futures =
+        importKeystoreDataList.stream()
+            .filter(ImportKeystoresProcessor::imported)
+            .map(data -> decryptionExecutor.run(() -> importValidator(data)))
+            .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).join();
+
+    // clean out failed validators
+    removeSignersAndCleanupImportedKeystoreFiles(getFailedValidators(importKeystoreDataList));
+  }
+
+  private void importValidator(final ImportKeystoreData data) {
+    try {
+      validatorManager.addValidator(data.signer(), data.keystoreFileRecord());
+    } catch (final Exception e) {
+      // modify the result to error status
+      data.importKeystoreResult().setStatus(ImportKeystoreStatus.ERROR);
+      data.importKeystoreResult().setMessage("Error importing keystore: " + e.getMessage());
+    }
+  }
+
+  private List<ImportKeystoreData> getKeystoreDataToProcess(
+      final ImportKeystoresRequestBody requestBody,
+      final Set<String> activePubKeys,
+      final Runnable onKeystoreDecrypted) {
+    // decryption of each keystore is submitted up front so that they run in parallel
+    final List<CompletableFuture<ImportKeystoreData>> futures =
+        IntStream.range(0, requestBody.getKeystores().size())
+            .mapToObj(
+                i ->
+                    decryptKeystore(
+                        i,
+                        requestBody.getKeystores().get(i),
+                        requestBody.getPasswords().get(i),
+                        activePubKeys,
+                        onKeystoreDecrypted))
+            .toList();
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  private CompletableFuture<ImportKeystoreData> decryptKeystore(
+      final int index,
+      final String jsonKeystoreData,
+      final String password,
+      final Set<String> activePubKeys,
+      final Runnable onKeystoreDecrypted) {
+    final KeyStoreData keyStoreData;
+    try {
+      keyStoreData = KeyStoreLoader.loadFromString(jsonKeystoreData);
+    } catch (final Exception e) {
+      onKeystoreDecrypted.run();
+      return CompletableFuture.completedFuture(decryptionFailure(index, e));
+    }
+
+    return decryptionExecutor.submit(
+        keyStoreData,
+        () -> {
+          try {
+            return toImportKeystoreData(
+                index, jsonKeystoreData, password, keyStoreData, activePubKeys);
+          } finally {
+            onKeystoreDecrypted.run();
+          }
+        });
+  }
+
+  private static ImportKeystoreData toImportKeystoreData(
+      final int index,
+      final String jsonKeystoreData,
+      final String password,
+      final KeyStoreData keyStoreData,
+      final Set<String> activePubKeys) {
+    final BlsArtifactSigner signer;
+    try {
+      final BLSKeyPair keyPair = KeyStore.decrypt(password, keyStoreData);
+      signer = new BlsArtifactSigner(keyPair, SignerOrigin.FILE_KEYSTORE, keyStoreData.path());
+    } catch (final Exception e) {
+      return decryptionFailure(index, e);
+    }
+
+    if (activePubKeys.contains(signer.getIdentifier())) {
+      return new ImportKeystoreData(index, signer, null, new ImportKeystoreResult(DUPLICATE, null));
+    }
+
+    final KeystoreFileRecord keystoreFileRecord =
+        new KeystoreFileRecord(jsonKeystoreData, password, signer.getIdentifier());
+    return new ImportKeystoreData(
+        index, signer, keystoreFileRecord, new ImportKeystoreResult(IMPORTED, null));
+  }
+
+  private static ImportKeystoreData decryptionFailure(final int index, final Exception e) {
+    return new ImportKeystoreData(
+        index,
+        null,
+        null,
+        new ImportKeystoreResult(
+            ImportKeystoreStatus.ERROR, "Failed to decrypt keystore: " + e.getMessage()));
+  }
+
+  private static List<String> getPubKeysToBeImported(
+      final List<ImportKeystoreData> importKeystoreDataList) {
+    return importKeystoreDataList.stream()
+        .filter(ImportKeystoresProcessor::imported)
+        .map(data -> data.signer().getIdentifier())
+        .toList();
+  }
+
+  private static List<String> getFailedValidators(
+      final List<ImportKeystoreData> importKeystoreDataList) {
+    return importKeystoreDataList.stream()
+        .filter(ImportKeystoresProcessor::failed)
+        .map(data -> data.signer().getIdentifier())
+        .toList();
+  }
+
+  private static boolean imported(final ImportKeystoreData data) {
+    return data.importKeystoreResult().getStatus() == IMPORTED;
+  }
+
+  private static boolean failed(final ImportKeystoreData data) {
+    // signer is null when decryptKeystore() threw (bad password, corrupt data, or pubkey mismatch)
+    // — addValidator was never called in those cases, so there is nothing to clean up
+    return data.importKeystoreResult().getStatus() == ImportKeystoreStatus.ERROR
+        && data.signer() != null;
+  }
+
+  private void removeSignersAndCleanupImportedKeystoreFiles(final List<String> pubkeys) {
+    for (String pubkey : pubkeys) {
+      try {
+        artifactSignerProvider.removeSigner(pubkey).get();
+      } catch (final InterruptedException | ExecutionException e) {
+        LOG.warn("Unable to remove signer for {} due to {}", pubkey, e.getMessage());
+      }
+
+      for (String fileExtensions : KeystoreFileRecord.KEYSTORE_FILE_EXTENSIONS) {
+        deleteFile(keystorePath.resolve(pubkey + fileExtensions));
+      }
+    }
+  }
+
+  private void deleteFile(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      LOG.warn("Unable to delete file {} due to {}", file, e.getMessage());
+    }
+  }
+}
@@ -12,24 +12,59 @@
  */
 package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
 
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+public class ImportKeystoresRequestBody implements Closeable {
+  private static final Logger LOG = LogManager.getLogger();
 
-public class ImportKeystoresRequestBody {
   private final List<String> keystores;
   private final List<String> passwords;
   private final String slashingProtection;
+  private final Optional<Path> slashingProtectionFile;
 
   @JsonCreator
   public ImportKeystoresRequestBody(
       @JsonProperty(value = "keystores", required = true) final List<String> keystores,
       @JsonProperty(value = "passwords", required = true) final List<String> passwords,
       @JsonProperty("slashing_protection") final String slashingProtection) {
+    this(keystores, passwords, slashingProtection, Optional.empty());
+  }
+
+  private ImportKeystoresRequestBody(
+      final List<String> keystores,
+      final List<String> passwords,
+      final String slashingProtection,
+      final Optional<Path> slashingProtectionFile) {
     this.keystores = keystores;
     this.passwords = passwords;
     this.slashingProtection = slashingProtection;
+    this.slashingProtectionFile = slashingProtectionFile;
+  }
+
+  /**
+   * Creates a request body whose slashing protection interchange has been written to a file rather
+   * than held in memory. The file is deleted when the body is closed.
+   */
+  static ImportKeystoresRequestBody withSlashingProtectionFile(
+      final List<String> keystores,
+      final List<String> passwords,
+      final Optional<Path> slashingProtectionFile) {
+    return new ImportKeystoresRequestBody(keystores, passwords, null, slashingProtectionFile);
   }
 
   @JsonProperty("keystores")
@@ -46,4 +81,28 @@ public class ImportKeystoresRequestBody {
   public String getSlashingProtection() {
     return slashingProtection;
   }
+
+  boolean hasSlashingProtection() {
+    return slashingProtectionFile.isPresent() || !StringUtils.isEmpty(slashingProtection);
+  }
+
+  InputStream openSlashingProtection() throws IOException {
+    if (slashingProtectionFile.isPresent()) {
+      return Files.newInputStream(slashingProtectionFile.get());
+    }
+    return new ByteArrayInputStream(
+        Objects.toString(slashingProtection, "").getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void close() {
+    slashingProtectionFile.ifPresent(
+        file -> {
+          try {
+            Files.deleteIfExists(file);
+          } catch (final IOException e) {
+            LOG.warn("Unable to delete slashing protection data {}", file, e);
+          }
+        });
+  }
 }
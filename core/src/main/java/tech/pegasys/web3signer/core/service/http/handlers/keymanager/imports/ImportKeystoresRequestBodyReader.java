@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads an import keystores request body from a file with a streaming parser. The slashing
+ * protection interchange, which for many validators is far larger than the keystores, is copied to
+ * a temporary file rather than decoded into a string, so the body is never held in memory whole.
+ */
+public class ImportKeystoresRequestBodyReader {
+  private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+  private final ObjectMapper objectMapper;
+
+  public ImportKeystoresRequestBodyReader(final ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Read the request body
+   *
+   * @param body file containing the request body
+   * @return the request body, which must be closed to delete its slashing protection data
+   * @throws IllegalArgumentException if the keystores or passwords are missing
+   * @throws IOException if the body is not valid JSON or cannot be read
+   */
+  public ImportKeystoresRequestBody read(final Path body) throws IOException {
+    List<String> keystores = null;
+    List<String> passwords = null;
+    Optional<Path> slashingProtectionFile = Optional.empty();
+    try (final JsonParser parser = objectMapper.createParser(body.toFile())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("Import keystores request body must be a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.currentName();
+        parser.nextToken();
+        switch (fieldName) {
+          case "keystores" -> keystores = parser.readValueAs(STRING_LIST);
+          case "passwords" -> passwords = parser.readValueAs(STRING_LIST);
+          case "slashing_protection" -> {
+            deleteIfPresent(slashingProtectionFile);
+            slashingProtectionFile = copySlashingProtection(parser);
+          }
+          default -> parser.skipChildren();
+        }
+      }
+    } catch (final IOException | RuntimeException e) {
+      deleteIfPresent(slashingProtectionFile);
+      throw e;
+    }
+
+    if (keystores == null || passwords == null) {
+      deleteIfPresent(slashingProtectionFile);
+      throw new IllegalArgumentException(
+          "Import keystores request requires keystores and passwords");
+    }
+    return ImportKeystoresRequestBody.withSlashingProtectionFile(
+        keystores, passwords, slashingProtectionFile);
+  }
+
+  private static Optional<Path> copySlashingProtection(final JsonParser parser) throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return Optional.empty();
+    }
+    if (parser.currentToken() != JsonToken.VALUE_STRING) {
+      throw new IllegalArgumentException("slashing_protection must be a string");
+    }
+
+    final Path file = Files.createTempFile("web3signer-slashing-protection", ".json");
+    final int length;
+    try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      length = parser.getText(writer);
+    } catch (final IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    if (length == 0) {
+      Files.deleteIfExists(file);
+      return Optional.empty();
+    }
+    return Optional.of(file);
+  }
+
+  private static void deleteIfPresent(final Optional<Path> file) throws IOException {
+    if (file.isPresent()) {
+      Files.deleteIfExists(file.get());
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
+
+import tech.pegasys.web3signer.bls.keystore.model.KeyStoreData;
+import tech.pegasys.web3signer.bls.keystore.model.SCryptParam;
+import tech.pegasys.web3signer.core.util.ExecutorShutdownUtil;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Bounded executor used by the key manager import to decrypt keystores in parallel.
+ *
+ * <p>The number of threads is capped at the number of available processors and, as scrypt is
+ * memory hard, each task also reserves the memory its KDF needs from a shared budget before it
+ * runs. Large imports therefore neither starve the Vert.x worker pool nor exhaust the heap.
+ */
+public class KeystoreDecryptionExecutor implements Closeable {
+  private static final long BYTES_PER_PERMIT = 1024 * 1024;
+
+  private final ExecutorService executorService;
+  private final Semaphore memoryPermits;
+  private final int maxPermits;
+
+  public KeystoreDecryptionExecutor(final int threads, final long memoryBudgetBytes) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Keystore decryption threads must be >= 1");
+    }
+    maxPermits = (int) Math.max(1, memoryBudgetBytes / BYTES_PER_PERMIT);
+    memoryPermits = new Semaphore(maxPermits, true);
+    final AtomicInteger threadCount = new AtomicInteger();
+    executorService =
+        Executors.newFixedThreadPool(
+            threads,
+            r -> {
+              final Thread thread =
+                  new Thread(r, "keystore-decryption-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Creates an executor with one thread per available processor and a memory budget of a quarter
+   * of the maximum heap.
+   */
+  public static KeystoreDecryptionExecutor createDefault() {
+    return new KeystoreDecryptionExecutor(
+        Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory() / 4);
+  }
+
+  /**
+   * Runs the decryption task once enough of the memory budget is available for the keystore's KDF.
+   *
+   * @param keyStoreData keystore which is decrypted by the task
+   * @param task decryption task
+   * @return future completed with the result of the task
+   */
+  public <T> CompletableFuture<T> submit(final KeyStoreData keyStoreData, final Supplier<T> task) {
+    final int permits = requiredPermits(keyStoreData);
+    return CompletableFuture.supplyAsync(
+        () -> {
+          memoryPermits.acquireUninterruptibly(permits);
+          try {
+            return task.get();
+          } finally {
+            memoryPermits.release(permits);
+          }
+        },
+        executorService);
+  }
+
+  /** Runs a task on the decryption threads without reserving any of the memory budget. */
+  public CompletableFuture<Void> run(final Runnable task) {
+    return CompletableFuture.runAsync(task, executorService);
+  }
+
+  @VisibleForTesting
+  int requiredPermits(final KeyStoreData keyStoreData) {
+    // scrypt's working memory is dominated by its 128 * r * n byte V array, pbkdf2 needs very
+    // little memory and reserves a single permit
+    if (keyStoreData.crypto().kdf().param() instanceof SCryptParam scryptParam) {
+      final long memoryBytes = 128L * scryptParam.r() * scryptParam.n();
+      final long permits = (memoryBytes + BYTES_PER_PERMIT - 1) / BYTES_PER_PERMIT;
+      return (int) Math.min(maxPermits, Math.max(1, permits));
+    }
+    return 1;
+  }
+
+  @Override
+  public void close() {
+    ExecutorShutdownUtil.shutdownGracefully(executorService, 5, TimeUnit.SECONDS);
+  }
+}
@@ -17,6 +17,9 @@ import static tech.pegasys.web3signer.core.service.http.handlers.ContentTypes.TE
 import static tech.pegasys.web3signer.signing.util.IdentifierUtils.normaliseIdentifier;
 
 import tech.pegasys.web3signer.core.service.http.metrics.HttpApiMetrics;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningUnavailableException;
+
+import java.util.Optional;
 
 import io.vertx.core.Handler;
 import io.vertx.core.json.JsonObject;
@@ -54,15 +57,22 @@ public class Eth1SignForIdentifierHandler implements Handler<RoutingContext> {
         return;
       }
 
-      signerForIdentifier
-          .sign(normaliseIdentifier(identifier), data)
-          .ifPresentOrElse(
-              signature -> respondWithSignature(routingContext, signature),
-              () -> {
-                LOG.trace("Identifier not found {}", identifier);
-                metrics.getMissingSignerCounter().inc();
-                routingContext.fail(404);
-              });
+      final Optional<String> signature;
+      try {
+        signature = signerForIdentifier.sign(normaliseIdentifier(identifier), data);
+      } catch (final RemoteSigningUnavailableException e) {
+        LOG.warn("Remote signing unavailable for {}: {}", identifier, e.getMessage());
+        routingContext.fail(503, e);
+        return;
+      }
+
+      signature.ifPresentOrElse(
+          value -> respondWithSignature(routingContext, value),
+          () -> {
+            LOG.trace("Identifier not found {}", identifier);
+            metrics.getMissingSignerCounter().inc();
+            routingContext.fail(404);
+          });
     }
   }
 
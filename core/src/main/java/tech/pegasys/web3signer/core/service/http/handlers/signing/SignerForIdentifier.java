@@ -12,6 +12,8 @@
  */
 package tech.pegasys.web3signer.core.service.http.handlers.signing;
 
+import tech.pegasys.web3signer.common.SigningStages;
+import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
 
 import java.util.Optional;
@@ -23,6 +25,9 @@ import org.apache.tuweni.bytes.Bytes;
  * available for a given identifier and to sign a message.
  */
 public class SignerForIdentifier {
+  public static final String SIGNER_LOOKUP_STAGE = "signer_lookup";
+  public static final String SIGN_STAGE = "sign";
+
   private final ArtifactSignerProvider signerProvider;
 
   public SignerForIdentifier(final ArtifactSignerProvider signerProvider) {
@@ -42,6 +47,24 @@ public class SignerForIdentifier {
     return signerProvider.getSigner(identifier).map(signer -> signer.sign(data).asHex());
   }
 
+  /**
+   * Sign data for given BLS public key
+   *
+   * @param publicKey The compressed BLS public key for which to sign data.
+   * @param data String in hex format which is signed
+   * @return Optional String of signature (in hex format). Empty if no signer available for given
+   *     public key
+   */
+  public Optional<String> sign(final Bytes publicKey, final Bytes data) {
+    final Optional<ArtifactSigner> signer;
+    try (final SigningStages.Timer ignored = SigningStages.time(SIGNER_LOOKUP_STAGE)) {
+      signer = signerProvider.getSigner(publicKey);
+    }
+    try (final SigningStages.Timer ignored = SigningStages.time(SIGN_STAGE)) {
+      return signer.map(artifactSigner -> artifactSigner.sign(data).asHex());
+    }
+  }
+
   /**
    * Checks whether a signer for the passed identifier is present
    *
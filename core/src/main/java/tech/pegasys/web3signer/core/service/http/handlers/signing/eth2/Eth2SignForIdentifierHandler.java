@@ -17,13 +17,15 @@ import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 import static tech.pegasys.web3signer.core.service.http.handlers.ContentTypes.JSON_UTF_8;
 import static tech.pegasys.web3signer.core.service.http.handlers.ContentTypes.TEXT_PLAIN_UTF_8;
 import static tech.pegasys.web3signer.core.util.DepositSigningRootUtil.computeDomain;
-import static tech.pegasys.web3signer.signing.util.IdentifierUtils.normaliseIdentifier;
 
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.constants.Domain;
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncAggregatorSelectionDataSchema;
 import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
 import tech.pegasys.teku.spec.signatures.SigningRootUtil;
+import tech.pegasys.web3signer.common.SigningStages;
+import tech.pegasys.web3signer.core.metrics.SigningStageMetrics;
+import tech.pegasys.web3signer.core.metrics.SigningStageMetrics.RequestStages;
 import tech.pegasys.web3signer.core.metrics.SlashingProtectionMetrics;
 import tech.pegasys.web3signer.core.service.http.ArtifactType;
 import tech.pegasys.web3signer.core.service.http.handlers.signing.SignerForIdentifier;
@@ -59,10 +61,12 @@ public class Eth2SignForIdentifierHandler implements Handler<RoutingContext> {
   private final SignerForIdentifier signerForIdentifier;
   private final HttpApiMetrics httpMetrics;
   private final SlashingProtectionMetrics slashingMetrics;
+  private final SigningStageMetrics stageMetrics;
   private final Optional<SlashingProtection> slashingProtection;
   private final ObjectMapper objectMapper;
   private final Spec eth2Spec;
   private final SigningRootUtil signingRootUtil;
+  private final Optional<Eth2SigningLoadShedder> loadShedder;
 
   public static final int NOT_FOUND = 404;
   public static final int BAD_REQUEST = 400;
@@ -72,32 +76,53 @@ public class Eth2SignForIdentifierHandler implements Handler<RoutingContext> {
       final SignerForIdentifier signerForIdentifier,
       final HttpApiMetrics httpMetrics,
       final SlashingProtectionMetrics slashingMetrics,
+      final SigningStageMetrics stageMetrics,
       final Optional<SlashingProtection> slashingProtection,
       final ObjectMapper objectMapper,
-      final Spec eth2Spec) {
+      final Spec eth2Spec,
+      final Optional<Eth2SigningLoadShedder> loadShedder) {
     this.signerForIdentifier = signerForIdentifier;
     this.httpMetrics = httpMetrics;
     this.slashingMetrics = slashingMetrics;
+    this.stageMetrics = stageMetrics;
     this.slashingProtection = slashingProtection;
     this.objectMapper = objectMapper;
     this.eth2Spec = eth2Spec;
     this.signingRootUtil = new SigningRootUtil(eth2Spec);
+    this.loadShedder = loadShedder;
   }
 
   @Override
   public void handle(final RoutingContext routingContext) {
-    try (final TimingContext ignored = httpMetrics.getSigningTimer().startTimer()) {
+    try (final TimingContext ignored = httpMetrics.getSigningTimer().startTimer();
+        final RequestStages stages =
+            stageMetrics.startRequest(routingContext.request().headers())) {
       LOG.trace("{} || {}", routingContext.normalizedPath(), routingContext.body().asString());
       final String identifier = routingContext.pathParam("identifier");
       final Eth2SigningRequestBody eth2SigningRequestBody;
-      try {
+      try (final SigningStages.Timer parseTimer =
+          SigningStages.time(SigningStageMetrics.PARSE_STAGE)) {
         eth2SigningRequestBody = getSigningRequest(routingContext.body());
       } catch (final IllegalArgumentException | JsonProcessingException e) {
         handleInvalidRequest(routingContext, e);
         return;
       }
+      stages.setArtifactType(eth2SigningRequestBody.type());
 
-      final Bytes signingRoot = computeSigningRoot(eth2SigningRequestBody);
+      if (loadShedder
+          .flatMap(shedder -> shedder.checkRequest(routingContext, eth2SigningRequestBody))
+          .isPresent()) {
+        // shed requests are expected under load, so are not failed through the error handler
+        // which logs every failure
+        routingContext.response().setStatusCode(Eth2SigningLoadShedder.SIGNING_REQUEST_SHED).end();
+        return;
+      }
+
+      final Bytes signingRoot;
+      try (final SigningStages.Timer signingRootTimer =
+          SigningStages.time(SigningStageMetrics.SIGNING_ROOT_STAGE)) {
+        signingRoot = computeSigningRoot(eth2SigningRequestBody);
+      }
       if (eth2SigningRequestBody.signingRoot() != null) {
         checkArgument(
             eth2SigningRequestBody.signingRoot().equals(signingRoot),
@@ -106,48 +131,71 @@ public class Eth2SignForIdentifierHandler implements Handler<RoutingContext> {
             signingRoot);
       }
 
-      final String normalisedIdentifier = normaliseIdentifier(identifier);
+      final Optional<Bytes> publicKey = parsePublicKey(identifier);
+      if (publicKey.isEmpty()) {
+        handleMissingSigner(routingContext);
+        return;
+      }
+
       if (slashingProtection.isPresent()) {
         handleSigning(
             routingContext,
             signingRoot,
-            normalisedIdentifier,
+            publicKey.get(),
             signature ->
                 signWithSlashingProtection(
-                    routingContext, identifier, eth2SigningRequestBody, signingRoot, signature));
+                    routingContext,
+                    publicKey.get(),
+                    eth2SigningRequestBody,
+                    signingRoot,
+                    signature));
       } else {
         handleSigning(
             routingContext,
             signingRoot,
-            normalisedIdentifier,
+            publicKey.get(),
             signature -> respondWithSignature(routingContext, signature));
       }
     }
   }
 
+  private static Optional<Bytes> parsePublicKey(final String identifier) {
+    // identifiers which are not valid hex can't match a loaded signer
+    try {
+      return Optional.of(Bytes.fromHexString(identifier));
+    } catch (final IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
   private void handleSigning(
       final RoutingContext routingContext,
       final Bytes signingRoot,
-      final String normalisedIdentifier,
+      final Bytes publicKey,
       final Consumer<String> signatureConsumer) {
     signerForIdentifier
-        .sign(normalisedIdentifier, signingRoot)
-        .ifPresentOrElse(
-            signatureConsumer,
-            () -> {
-              httpMetrics.getMissingSignerCounter().inc();
-              routingContext.fail(NOT_FOUND);
-            });
+        .sign(publicKey, signingRoot)
+        .ifPresentOrElse(signatureConsumer, () -> handleMissingSigner(routingContext));
+  }
+
+  private void handleMissingSigner(final RoutingContext routingContext) {
+    httpMetrics.getMissingSignerCounter().inc();
+    routingContext.fail(NOT_FOUND);
   }
 
   private void signWithSlashingProtection(
       final RoutingContext routingContext,
-      final String identifier,
+      final Bytes publicKey,
       final Eth2SigningRequestBody eth2SigningRequestBody,
       final Bytes signingRoot,
       final String signature) {
     try {
-      if (maySign(Bytes.fromHexString(identifier), signingRoot, eth2SigningRequestBody)) {
+      final boolean maySign;
+      try (final SigningStages.Timer ignored =
+          SigningStages.time(SigningStageMetrics.SLASHING_PROTECTION_STAGE)) {
+        maySign = maySign(publicKey, signingRoot, eth2SigningRequestBody);
+      }
+      if (maySign) {
         slashingMetrics.incrementSigningsPermitted();
         respondWithSignature(routingContext, signature);
       } else {
@@ -357,6 +405,13 @@ public class Eth2SignForIdentifierHandler implements Handler<RoutingContext> {
   }
 
   private void respondWithSignature(final RoutingContext routingContext, final String signature) {
+    try (final SigningStages.Timer ignored =
+        SigningStages.time(SigningStageMetrics.RESPONSE_STAGE)) {
+      writeSignature(routingContext, signature);
+    }
+  }
+
+  private void writeSignature(final RoutingContext routingContext, final String signature) {
     final String acceptableContentType =
         getAcceptableContentType(routingContext.parsedHeaders().accept());
     LOG.trace("Acceptable Content Type {}", acceptableContentType);
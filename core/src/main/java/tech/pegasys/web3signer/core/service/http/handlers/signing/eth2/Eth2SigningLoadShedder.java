@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.signing.eth2;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.web3signer.common.Web3SignerMetricCategory;
+import tech.pegasys.web3signer.core.config.SigningLoadSheddingConfig;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+/**
+ * Rejects eth2 signing requests which the validator client can no longer use, so that worker
+ * threads and slashing database transactions are spent on requests which can still meet their
+ * deadline. The time a request is received is recorded on the event loop, before the request is
+ * queued for a worker thread. Once a worker picks up the request it is rejected if it waited longer
+ * than the maximum queueing delay, or if the slot or epoch it signs for ended more than the
+ * configured number of slots ago.
+ */
+public class Eth2SigningLoadShedder {
+  private static final Logger LOG = LogManager.getLogger();
+  @VisibleForTesting static final String RECEIVED_AT_KEY = "eth2SigningReceivedAtNanos";
+  private static final double[] QUEUE_WAIT_BUCKETS = {
+    0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2, 4, 8, 12
+  };
+
+  public static final int SIGNING_REQUEST_SHED = 503;
+
+  enum ShedReason {
+    QUEUE_DELAY,
+    DEADLINE
+  }
+
+  private final Spec eth2Spec;
+  private final Duration maxQueueDelay;
+  private final Optional<Instant> genesisTime;
+  private final int deadlineSlots;
+  private final Clock clock;
+  private final LabelledMetric<Histogram> queueWaitHistogram;
+  private final LabelledMetric<Counter> shedCounter;
+
+  public Eth2SigningLoadShedder(
+      final SigningLoadSheddingConfig config,
+      final Spec eth2Spec,
+      final MetricsSystem metricsSystem) {
+    this(config, eth2Spec, metricsSystem, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  Eth2SigningLoadShedder(
+      final SigningLoadSheddingConfig config,
+      final Spec eth2Spec,
+      final MetricsSystem metricsSystem,
+      final Clock clock) {
+    this.eth2Spec = eth2Spec;
+    this.maxQueueDelay = Duration.ofMillis(config.getMaxQueueDelayMillis());
+    this.genesisTime = config.getGenesisTime().map(Instant::ofEpochSecond);
+    this.deadlineSlots = config.getDeadlineSlots();
+    this.clock = clock;
+    this.queueWaitHistogram =
+        metricsSystem.createLabelledHistogram(
+            Web3SignerMetricCategory.SIGNING,
+            "eth2_queue_wait_duration_seconds",
+            "Time eth2 signing requests waited for a worker thread",
+            QUEUE_WAIT_BUCKETS,
+            "artifactType");
+    this.shedCounter =
+        metricsSystem.createLabelledCounter(
+            Web3SignerMetricCategory.SIGNING,
+            "eth2_shed_request_count",
+            "Number of eth2 signing requests rejected as they could no longer meet their deadline",
+            "artifactType",
+            "reason");
+  }
+
+  /**
+   * Records when a request was received. Must be run on the event loop ahead of the blocking
+   * signing handler.
+   *
+   * @param routingContext the signing request
+   */
+  public void recordReceivedTime(final RoutingContext routingContext) {
+    routingContext.put(RECEIVED_AT_KEY, System.nanoTime());
+    routingContext.next();
+  }
+
+  /**
+   * Determines whether a signing request should be rejected rather than signed, recording its
+   * queueing delay.
+   *
+   * @param routingContext the signing request
+   * @param body the parsed signing request body
+   * @return the reason the request should be rejected, empty if it should be signed
+   */
+  Optional<ShedReason> checkRequest(
+      final RoutingContext routingContext, final Eth2SigningRequestBody body) {
+    final String artifactType = body.type().name().toLowerCase(Locale.ROOT);
+    final Long receivedAt = routingContext.get(RECEIVED_AT_KEY);
+    if (receivedAt != null) {
+      final Duration queueWait = Duration.ofNanos(System.nanoTime() - receivedAt);
+      queueWaitHistogram.labels(artifactType).observe(queueWait.toNanos() / 1e9);
+      if (queueWait.compareTo(maxQueueDelay) > 0) {
+        return shed(artifactType, ShedReason.QUEUE_DELAY, queueWait);
+      }
+    }
+
+    final Optional<Instant> deadline = genesisTime.flatMap(genesis -> deadline(genesis, body));
+    final Instant now = clock.instant();
+    if (deadline.isPresent() && now.isAfter(deadline.get())) {
+      return shed(artifactType, ShedReason.DEADLINE, Duration.between(deadline.get(), now));
+    }
+    return Optional.empty();
+  }
+
+  private Optional<ShedReason> shed(
+      final String artifactType, final ShedReason reason, final Duration delay) {
+    final String reasonLabel = reason.name().toLowerCase(Locale.ROOT);
+    shedCounter.labels(artifactType, reasonLabel).inc();
+    LOG.debug("Rejecting {} signing request, {} exceeded by {}", artifactType, reasonLabel, delay);
+    return Optional.of(reason);
+  }
+
+  private Optional<Instant> deadline(final Instant genesis, final Eth2SigningRequestBody body) {
+    return dutySlot(body)
+        .map(
+            slot -> {
+              // the duty's slot ends when the next slot starts, the deadline is the configured
+              // number of slots after that
+              final UInt64 deadlineSlot = slot.plus(deadlineSlots + 1L);
+              final long secondsPerSlot = eth2Spec.getSecondsPerSlot(slot);
+              return genesis.plusSeconds(deadlineSlot.times(secondsPerSlot).longValue());
+            });
+  }
+
+  /** The last slot in which the duty a request signs for can be performed. */
+  private Optional<UInt64> dutySlot(final Eth2SigningRequestBody body) {
+    return switch (body.type()) {
+      case BLOCK -> Optional.ofNullable(body.block()).map(block -> block.slot);
+      case BLOCK_V2 -> Optional.ofNullable(body.blockRequest()).flatMap(this::blockSlot);
+      case ATTESTATION ->
+          Optional.ofNullable(body.attestation()).map(attestation -> attestation.slot);
+      case AGGREGATION_SLOT ->
+          Optional.ofNullable(body.aggregationSlot()).map(AggregationSlot::getSlot);
+      case AGGREGATE_AND_PROOF, AGGREGATE_AND_PROOF_V2 ->
+          Optional.ofNullable(body.aggregateAndProofV2())
+              .map(AggregateAndProofV2::data)
+              .map(aggregateAndProof -> aggregateAndProof.aggregate)
+              .map(aggregate -> aggregate.data)
+              .map(attestationData -> attestationData.slot);
+      case RANDAO_REVEAL ->
+          Optional.ofNullable(body.randaoReveal())
+              .map(
+                  randaoReveal ->
+                      eth2Spec.computeStartSlotAtEpoch(randaoReveal.getEpoch().plus(1)).minus(1));
+      case SYNC_COMMITTEE_MESSAGE ->
+          Optional.ofNullable(body.syncCommitteeMessage()).map(SyncCommitteeMessage::getSlot);
+      case SYNC_COMMITTEE_SELECTION_PROOF ->
+          Optional.ofNullable(body.syncAggregatorSelectionData())
+              .map(SyncAggregatorSelectionData::getSlot);
+      case SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF ->
+          Optional.ofNullable(body.contributionAndProof())
+              .map(contributionAndProof -> contributionAndProof.contribution)
+              .map(contribution -> contribution.slot);
+      // deposits, exits and registrations are not tied to a slot
+      case DEPOSIT, VOLUNTARY_EXIT, VALIDATOR_REGISTRATION -> Optional.empty();
+    };
+  }
+
+  private Optional<UInt64> blockSlot(final BlockRequest blockRequest) {
+    if (blockRequest.getBeaconBlock() != null) {
+      return Optional.of(blockRequest.getBeaconBlock().slot);
+    }
+    return Optional.ofNullable(blockRequest.getBeaconBlockHeader()).map(header -> header.slot);
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.signing.eth2;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.web3signer.common.Web3SignerMetricCategory;
+import tech.pegasys.web3signer.core.config.SigningPriorityConfig.PriorityClass;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+
+/**
+ * Runs eth2 signing requests on a fixed set of worker threads, choosing the next request by the
+ * priority class of its artifact type rather than in arrival order. While several classes have
+ * requests queued, each class is chosen in proportion to its weight using smooth weighted round
+ * robin. A burst of low priority requests is therefore interleaved with, rather than queued
+ * ahead of, block and attestation requests, while every class with queued requests is still
+ * served at least once every sum-of-weights dispatches.
+ */
+public class Eth2SigningPriorityExecutor implements Closeable {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final double[] QUEUE_WAIT_BUCKETS = {
+    0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2, 4, 8, 12
+  };
+
+  private record QueuedTask(Runnable task, long queuedAtNanos) {}
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition taskQueued = lock.newCondition();
+  private final Map<PriorityClass, ArrayDeque<QueuedTask>> queues =
+      new EnumMap<>(PriorityClass.class); // guarded by lock
+  private final Map<PriorityClass, Long> currentWeights =
+      new EnumMap<>(PriorityClass.class); // guarded by lock
+  private final Map<PriorityClass, Integer> weights;
+  private final LabelledMetric<Histogram> queueWaitHistogram;
+  private boolean closed; // guarded by lock
+
+  public Eth2SigningPriorityExecutor(
+      final Map<PriorityClass, Integer> weights,
+      final int workerThreads,
+      final MetricsSystem metricsSystem) {
+    this(weights, metricsSystem);
+    checkArgument(workerThreads > 0, "Worker threads must be 1 or more");
+    for (int i = 0; i < workerThreads; i++) {
+      final Thread worker = new Thread(this::runWorker, "eth2-signing-" + i);
+      worker.setDaemon(true);
+      worker.start();
+    }
+  }
+
+  @VisibleForTesting
+  Eth2SigningPriorityExecutor(
+      final Map<PriorityClass, Integer> weights, final MetricsSystem metricsSystem) {
+    for (final PriorityClass priorityClass : PriorityClass.values()) {
+      checkArgument(
+          weights.getOrDefault(priorityClass, 0) > 0,
+          "Weight of %s must be 1 or more",
+          priorityClass);
+      queues.put(priorityClass, new ArrayDeque<>());
+      currentWeights.put(priorityClass, 0L);
+    }
+    this.weights = new EnumMap<>(weights);
+
+    queueWaitHistogram =
+        metricsSystem.createLabelledHistogram(
+            Web3SignerMetricCategory.SIGNING,
+            "eth2_priority_queue_wait_duration_seconds",
+            "Time eth2 signing requests waited for a worker thread in each priority class",
+            QUEUE_WAIT_BUCKETS,
+            "priorityClass");
+    final LabelledSuppliedMetric queueDepth =
+        metricsSystem.createLabelledSuppliedGauge(
+            Web3SignerMetricCategory.SIGNING,
+            "eth2_priority_queue_depth",
+            "Number of eth2 signing requests waiting for a worker thread in each priority class",
+            "priorityClass");
+    for (final PriorityClass priorityClass : PriorityClass.values()) {
+      queueDepth.labels(() -> queueDepth(priorityClass), label(priorityClass));
+    }
+  }
+
+  public static PriorityClass priorityClass(final ArtifactType artifactType) {
+    return switch (artifactType) {
+      // a randao reveal is requested immediately before the block is produced
+      case BLOCK, BLOCK_V2, RANDAO_REVEAL -> PriorityClass.BLOCK;
+      case ATTESTATION -> PriorityClass.ATTESTATION;
+      case AGGREGATION_SLOT, AGGREGATE_AND_PROOF, AGGREGATE_AND_PROOF_V2 ->
+          PriorityClass.AGGREGATE;
+      case SYNC_COMMITTEE_MESSAGE,
+          SYNC_COMMITTEE_SELECTION_PROOF,
+          SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF ->
+          PriorityClass.SYNC_COMMITTEE;
+      case DEPOSIT, VOLUNTARY_EXIT, VALIDATOR_REGISTRATION -> PriorityClass.OTHER;
+    };
+  }
+
+  public void submit(final PriorityClass priorityClass, final Runnable task) {
+    lock.lock();
+    try {
+      if (closed) {
+        throw new IllegalStateException("Signing executor has been closed");
+      }
+      queues.get(priorityClass).add(new QueuedTask(task, System.nanoTime()));
+      taskQueued.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the next task to run without waiting.
+   *
+   * @return the next task, empty if no tasks are queued
+   */
+  @VisibleForTesting
+  Optional<Runnable> poll() {
+    lock.lock();
+    try {
+      return Optional.ofNullable(next()).map(QueuedTask::task);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void runWorker() {
+    while (true) {
+      final Runnable task;
+      lock.lock();
+      try {
+        QueuedTask next = next();
+        while (next == null) {
+          if (closed) {
+            return;
+          }
+          taskQueued.await();
+          next = next();
+        }
+        task = next.task();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      try {
+        task.run();
+      } catch (final RuntimeException e) {
+        LOG.error("Unhandled exception signing eth2 request", e);
+      }
+    }
+  }
+
+  /** Chooses the next task by smooth weighted round robin across the non-empty queues. */
+  private QueuedTask next() {
+    long totalWeight = 0;
+    PriorityClass selected = null;
+    for (final PriorityClass priorityClass : PriorityClass.values()) {
+      if (queues.get(priorityClass).isEmpty()) {
+        // classes do not build up credit while they have nothing queued
+        currentWeights.put(priorityClass, 0L);
+        continue;
+      }
+      final int weight = weights.get(priorityClass);
+      totalWeight += weight;
+      final long currentWeight = currentWeights.merge(priorityClass, (long) weight, Long::sum);
+      if (selected == null || currentWeight > currentWeights.get(selected)) {
+        selected = priorityClass;
+      }
+    }
+    if (selected == null) {
+      return null;
+    }
+    currentWeights.merge(selected, -totalWeight, Long::sum);
+    final QueuedTask task = queues.get(selected).poll();
+    queueWaitHistogram
+        .labels(label(selected))
+        .observe((System.nanoTime() - task.queuedAtNanos()) / 1e9);
+    return task;
+  }
+
+  private int queueDepth(final PriorityClass priorityClass) {
+    lock.lock();
+    try {
+      return queues.get(priorityClass).size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static String label(final PriorityClass priorityClass) {
+    return priorityClass.name().toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      taskQueued.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
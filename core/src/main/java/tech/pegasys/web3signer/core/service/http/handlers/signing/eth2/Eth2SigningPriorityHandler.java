@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.signing.eth2;
+
+import tech.pegasys.web3signer.core.config.SigningPriorityConfig.PriorityClass;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.annotations.VisibleForTesting;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Queues eth2 signing requests on the {@link Eth2SigningPriorityExecutor} in place of the Vert.x
+ * worker pool. Runs on the event loop, so only the top level "type" field of the request is read to
+ * choose the priority class; the full body is parsed by the signing handler on the worker thread.
+ * Requests without a readable type are queued as {@link PriorityClass#OTHER} and rejected by the
+ * signing handler.
+ */
+public class Eth2SigningPriorityHandler implements Handler<RoutingContext> {
+  // validator clients send the type ahead of the signing data, a type which is not found within
+  // the start of the body is not searched for on the event loop
+  @VisibleForTesting static final int MAX_PEEK_BYTES = 4096;
+
+  private final Eth2SigningPriorityExecutor executor;
+  private final Handler<RoutingContext> signingHandler;
+  private final JsonFactory jsonFactory;
+
+  public Eth2SigningPriorityHandler(
+      final Eth2SigningPriorityExecutor executor,
+      final Handler<RoutingContext> signingHandler,
+      final JsonFactory jsonFactory) {
+    this.executor = executor;
+    this.signingHandler = signingHandler;
+    this.jsonFactory = jsonFactory;
+  }
+
+  @Override
+  public void handle(final RoutingContext routingContext) {
+    final PriorityClass priorityClass =
+        peekArtifactType(routingContext.body().buffer())
+            .map(Eth2SigningPriorityExecutor::priorityClass)
+            .orElse(PriorityClass.OTHER);
+    executor.submit(
+        priorityClass,
+        () -> {
+          try {
+            signingHandler.handle(routingContext);
+          } catch (final Exception e) {
+            routingContext.fail(e);
+          }
+        });
+  }
+
+  @VisibleForTesting
+  Optional<ArtifactType> peekArtifactType(final Buffer body) {
+    if (body == null) {
+      return Optional.empty();
+    }
+    // the slice shares the body's memory, so the parser reads the body without copying it
+    final Buffer start = body.slice(0, Math.min(body.length(), MAX_PEEK_BYTES));
+    try (final JsonParser parser =
+        jsonFactory.createParser(new ByteBufInputStream(start.getByteBuf()))) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.currentName();
+        final JsonToken value = parser.nextToken();
+        if ("type".equals(fieldName)) {
+          return value == JsonToken.VALUE_STRING
+              ? Optional.of(ArtifactType.valueOf(parser.getText().toUpperCase(Locale.ROOT)))
+              : Optional.empty();
+        }
+        parser.skipChildren();
+      }
+      return Optional.empty();
+    } catch (final IOException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+}
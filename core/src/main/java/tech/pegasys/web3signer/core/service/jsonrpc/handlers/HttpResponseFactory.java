@@ -19,8 +19,10 @@ import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcResponse;
 import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcSuccessResponse;
 
 import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 
 public class HttpResponseFactory {
 
@@ -34,6 +36,19 @@ public class HttpResponseFactory {
     response.end(Json.encodeToBuffer(body));
   }
 
+  public void batchResponse(final HttpServerResponse response, final JsonArray body) {
+    if (body.isEmpty()) {
+      // a batch of notifications has no response body
+      response.setStatusCode(HttpResponseStatus.NO_CONTENT.code());
+      response.end();
+      return;
+    }
+    response.putHeader("Content", JSON);
+    response.setStatusCode(HttpResponseStatus.OK.code());
+    response.setChunked(false);
+    response.end(body.toBuffer());
+  }
+
   public void successResponse(
       final HttpServerResponse response, final JsonRpcRequestId id, final Object result) {
     response(response, 200, new JsonRpcSuccessResponse(id, result));
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.jsonrpc.handlers;
+
+import tech.pegasys.web3signer.core.service.DownstreamResponseHandler;
+import tech.pegasys.web3signer.core.service.jsonrpc.JsonDecoder;
+import tech.pegasys.web3signer.core.service.jsonrpc.JsonRpcRequest;
+import tech.pegasys.web3signer.core.service.jsonrpc.JsonRpcRequestHandler;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.internalresponse.InternalResponseHandler;
+import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcError;
+import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcErrorResponse;
+import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcResponse;
+
+import java.net.ConnectException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import javax.net.ssl.SSLException;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Handles a JSON-RPC 2.0 batch request. Requests handled by web3signer run concurrently on worker
+ * threads, while the remaining requests are sent downstream together as a single batch. The
+ * responses are returned in the order of the requests, omitting notifications. A batch of only
+ * notifications is answered without a body.
+ */
+public class JsonRpcBatchHandler {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String ID = "id";
+
+  private final HttpResponseFactory responseFactory;
+  private final RequestMapper requestMapper;
+  private final JsonDecoder jsonDecoder;
+  private final int maxBatchSize;
+
+  public JsonRpcBatchHandler(
+      final HttpResponseFactory responseFactory,
+      final RequestMapper requestMapper,
+      final JsonDecoder jsonDecoder,
+      final int maxBatchSize) {
+    this.responseFactory = responseFactory;
+    this.requestMapper = requestMapper;
+    this.jsonDecoder = jsonDecoder;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Returns true if the body is a JSON array, which is a batch of JSON-RPC requests.
+   *
+   * @param body the request body
+   * @return true if the body is a batch request
+   */
+  public static boolean isBatch(final Buffer body) {
+    for (int i = 0; i < body.length(); i++) {
+      final byte b = body.getByte(i);
+      if (!Character.isWhitespace(b)) {
+        return b == '[';
+      }
+    }
+    return false;
+  }
+
+  public void handle(final RoutingContext context, final JsonArray batch) {
+    if (batch.isEmpty()) {
+      responseFactory.response(
+          context.response(),
+          HttpResponseStatus.BAD_REQUEST.code(),
+          new JsonRpcErrorResponse(JsonRpcError.INVALID_REQUEST));
+      return;
+    }
+    if (batch.size() > maxBatchSize) {
+      LOG.debug("Rejecting batch of {} requests, limit is {}", batch.size(), maxBatchSize);
+      responseFactory.response(
+          context.response(),
+          HttpResponseStatus.BAD_REQUEST.code(),
+          new JsonRpcErrorResponse(JsonRpcError.EXCEEDS_MAX_BATCH_SIZE));
+      return;
+    }
+
+    final List<Future<JsonObject>> responses = new ArrayList<>(batch.size());
+    final DownstreamBatch downstreamBatch = new DownstreamBatch();
+    for (final Object entry : batch) {
+      responses.add(handleEntry(context, entry, downstreamBatch));
+    }
+    downstreamBatch.send(context);
+
+    Future.all(responses)
+        .onSuccess(
+            result -> {
+              final JsonArray batchResponse = new JsonArray();
+              // responses for notifications are null and left out of the batch response
+              responses.stream()
+                  .map(Future::result)
+                  .filter(Objects::nonNull)
+                  .forEach(batchResponse::add);
+              responseFactory.batchResponse(context.response(), batchResponse);
+            })
+        .onFailure(context::fail);
+  }
+
+  private Future<JsonObject> handleEntry(
+      final RoutingContext context, final Object entry, final DownstreamBatch downstreamBatch) {
+    if (!(entry instanceof JsonObject rawRequest)) {
+      return Future.succeededFuture(errorResponse(null, JsonRpcError.INVALID_REQUEST));
+    }
+
+    final JsonRpcRequest request;
+    try {
+      request = jsonDecoder.decodeValue(rawRequest.toBuffer(), JsonRpcRequest.class);
+    } catch (final DecodeException | IllegalArgumentException e) {
+      LOG.debug("Invalid request in batch: {}", rawRequest, e);
+      return Future.succeededFuture(
+          errorResponse(rawRequest.getValue(ID), JsonRpcError.INVALID_REQUEST));
+    }
+
+    final boolean notification = !rawRequest.containsKey(ID);
+    final JsonRpcRequestHandler handler = requestMapper.getMatchingHandler(request.getMethod());
+    if (handler instanceof InternalResponseHandler<?> internalResponseHandler) {
+      return context
+          .vertx()
+          .executeBlocking(
+              () -> {
+                final JsonRpcResponse response = internalResponseHandler.createResponse(request);
+                return notification ? null : JsonObject.mapFrom(response);
+              },
+              false);
+    } else if (handler instanceof PassThroughHandler passThroughHandler) {
+      return downstreamBatch.add(passThroughHandler, rawRequest, notification);
+    }
+    // eth_sendTransaction fills and signs the transaction with further downstream requests
+    return Future.succeededFuture(
+        errorResponse(rawRequest.getValue(ID), JsonRpcError.ETH_SEND_TX_NOT_AVAILABLE_IN_BATCH));
+  }
+
+  private static JsonObject errorResponse(final Object id, final JsonRpcError error) {
+    return JsonObject.mapFrom(new JsonRpcErrorResponse(id, error));
+  }
+
+  /**
+   * The requests of a batch which are sent downstream, matched to their responses by id as the
+   * downstream node may return them in any order.
+   */
+  private static class DownstreamBatch implements DownstreamResponseHandler {
+    private final JsonArray requests = new JsonArray();
+    private final Map<Object, Deque<Promise<JsonObject>>> pendingResponses = new HashMap<>();
+    private PassThroughHandler passThroughHandler;
+
+    Future<JsonObject> add(
+        final PassThroughHandler passThroughHandler,
+        final JsonObject request,
+        final boolean notification) {
+      this.passThroughHandler = passThroughHandler;
+      requests.add(request);
+      if (notification) {
+        return Future.succeededFuture();
+      }
+      final Promise<JsonObject> response = Promise.promise();
+      pendingResponses
+          .computeIfAbsent(request.getValue(ID), id -> new ArrayDeque<>())
+          .add(response);
+      return response.future();
+    }
+
+    void send(final RoutingContext context) {
+      if (!requests.isEmpty()) {
+        passThroughHandler.sendBatch(context, requests, this);
+      }
+    }
+
+    @Override
+    public synchronized void handleResponse(
+        final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+      final Object decoded;
+      try {
+        decoded = Json.decodeValue(body);
+      } catch (final DecodeException e) {
+        LOG.warn("Unable to decode downstream batch response with status {}", statusCode, e);
+        failPendingResponses(JsonRpcError.INTERNAL_ERROR);
+        return;
+      }
+
+      if (decoded instanceof JsonArray batchResponse) {
+        for (final Object entry : batchResponse) {
+          if (entry instanceof JsonObject response) {
+            final Deque<Promise<JsonObject>> pending = pendingResponses.get(response.getValue(ID));
+            if (pending != null && !pending.isEmpty()) {
+              pending.poll().complete(response);
+            }
+          }
+        }
+        failPendingResponses(JsonRpcError.INTERNAL_ERROR);
+      } else if (decoded instanceof JsonObject response && response.containsKey("error")) {
+        // the whole batch was rejected, so the error applies to each request
+        pendingResponses.forEach(
+            (id, pending) -> pending.forEach(p -> p.complete(response.copy().put(ID, id))));
+        pendingResponses.clear();
+      } else {
+        failPendingResponses(JsonRpcError.INTERNAL_ERROR);
+      }
+    }
+
+    @Override
+    public synchronized void handleFailure(final Throwable thrown) {
+      if (thrown instanceof TimeoutException) {
+        failPendingResponses(JsonRpcError.CONNECTION_TO_DOWNSTREAM_NODE_TIMED_OUT);
+      } else if (thrown instanceof ConnectException || thrown instanceof SSLException) {
+        failPendingResponses(JsonRpcError.FAILED_TO_CONNECT_TO_DOWNSTREAM_NODE);
+      } else {
+        failPendingResponses(JsonRpcError.INTERNAL_ERROR);
+      }
+    }
+
+    private void failPendingResponses(final JsonRpcError error) {
+      pendingResponses.forEach(
+          (id, pending) -> pending.forEach(p -> p.tryComplete(errorResponse(id, error))));
+      pendingResponses.clear();
+    }
+  }
+}
@@ -13,10 +13,12 @@
 package tech.pegasys.web3signer.core.service.jsonrpc.handlers;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 import tech.pegasys.web3signer.core.service.jsonrpc.JsonRpcRequestId;
 import tech.pegasys.web3signer.core.service.jsonrpc.exceptions.JsonRpcException;
 import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcError;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningUnavailableException;
 
 import java.net.ConnectException;
 import java.util.concurrent.TimeoutException;
@@ -63,6 +65,13 @@ public class JsonRpcErrorHandler implements Handler<RoutingContext> {
             requestId,
             statusCode,
             JsonRpcError.CONNECTION_TO_DOWNSTREAM_NODE_TIMED_OUT);
+      } else if (failure instanceof RemoteSigningUnavailableException) {
+        LOG.warn("Remote signing unavailable: {}", failure.getMessage());
+        httpResponseFactory.failureResponse(
+            context.response(),
+            requestId,
+            SERVICE_UNAVAILABLE.code(),
+            JsonRpcError.SIGNING_SERVICE_UNAVAILABLE);
       } else if ((failure instanceof IllegalStateException || failure instanceof VertxException)
           && statusCode == HttpResponseStatus.FORBIDDEN.code()) {
         // send status code and empty body
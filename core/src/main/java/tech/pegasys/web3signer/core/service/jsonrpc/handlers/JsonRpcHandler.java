@@ -34,20 +34,28 @@ public class JsonRpcHandler implements Handler<RoutingContext> {
   private final RequestMapper requestHandlerMapper;
   private final HttpResponseFactory responseFactory;
   private final JsonDecoder jsonDecoder;
+  private final JsonRpcBatchHandler batchHandler;
 
   public JsonRpcHandler(
       final HttpResponseFactory responseFactory,
       final RequestMapper requestHandlerMapper,
-      final JsonDecoder jsonDecoder) {
+      final JsonDecoder jsonDecoder,
+      final int maxBatchSize) {
     this.responseFactory = responseFactory;
     this.requestHandlerMapper = requestHandlerMapper;
     this.jsonDecoder = jsonDecoder;
+    this.batchHandler =
+        new JsonRpcBatchHandler(responseFactory, requestHandlerMapper, jsonDecoder, maxBatchSize);
   }
 
   @Override
   public void handle(final RoutingContext context) {
     try {
       LOG.trace("Request body = {}", context.body().asString());
+      if (JsonRpcBatchHandler.isBatch(context.body().buffer())) {
+        batchHandler.handle(context, context.body().asJsonArray());
+        return;
+      }
       final JsonRpcRequest request =
           jsonDecoder.decodeValue(context.body().buffer(), JsonRpcRequest.class);
       context.put(ID_ELEMENT_NAME, request.getId());
@@ -12,6 +12,7 @@
  */
 package tech.pegasys.web3signer.core.service.jsonrpc.handlers;
 
+import tech.pegasys.web3signer.core.service.DownstreamResponseHandler;
 import tech.pegasys.web3signer.core.service.ForwardedMessageResponder;
 import tech.pegasys.web3signer.core.service.VertxRequestTransmitter;
 import tech.pegasys.web3signer.core.service.VertxRequestTransmitterFactory;
@@ -21,8 +22,11 @@ import tech.pegasys.web3signer.core.service.jsonrpc.JsonRpcRequestHandler;
 
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -62,18 +66,53 @@ public class PassThroughHandler implements JsonRpcRequestHandler, Handler<Routin
         request.method(), headersToSend, request.path(), context.body().asString());
   }
 
+  /**
+   * Sends the requests from a batch which are not handled by web3signer downstream as a single
+   * batch request.
+   *
+   * @param context the context of the batch request received
+   * @param batch the requests to send downstream
+   * @param responseHandler receives the downstream response
+   */
+  public void sendBatch(
+      final RoutingContext context,
+      final JsonArray batch,
+      final DownstreamResponseHandler responseHandler) {
+    final String body = batch.encode();
+    logRequest(context.request(), body);
+    final VertxRequestTransmitter transmitter = transmitterFactory.create(responseHandler);
+
+    final HttpServerRequest request = context.request();
+    final MultiMap headersToSend = HeaderHelpers.createHeaders(request.headers());
+    transmitter.sendRequest(request.method(), headersToSend, request.path(), body);
+  }
+
   private boolean isRpc(final RoutingContext context) {
-    final HttpMethod method = context.request().method();
+    return isRpc(context.request().method(), context.body().buffer());
+  }
+
+  protected boolean isRpc(final HttpMethod method, final Buffer body) {
     try {
-      final JsonRpcRequest request =
-          jsonDecoder.decodeValue(context.body().buffer(), JsonRpcRequest.class);
+      if (JsonRpcBatchHandler.isBatch(body)) {
+        return method.equals(HttpMethod.POST) && isRpcBatch(new JsonArray(body));
+      }
+      final JsonRpcRequest request = jsonDecoder.decodeValue(body, JsonRpcRequest.class);
       return method.equals(HttpMethod.POST) && request.getVersion().equals("2.0");
     } catch (Exception e) {
       return false;
     }
   }
 
-  private void logRequest(final HttpServerRequest httpRequest, final String body) {
+  private boolean isRpcBatch(final JsonArray batch) {
+    return !batch.isEmpty()
+        && batch.stream()
+            .allMatch(
+                entry ->
+                    entry instanceof JsonObject request
+                        && "2.0".equals(request.getValue("jsonrpc")));
+  }
+
+  protected void logRequest(final HttpServerRequest httpRequest, final String body) {
     LOG.debug(
         "Proxying method: {}, uri: {}, body: {}",
         httpRequest::method,
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.jsonrpc.handlers;
+
+import static java.net.HttpURLConnection.HTTP_ENTITY_TOO_LARGE;
+
+import tech.pegasys.web3signer.core.service.StreamingDownstreamProxy;
+import tech.pegasys.web3signer.core.service.VertxRequestTransmitterFactory;
+import tech.pegasys.web3signer.core.service.jsonrpc.JsonDecoder;
+import tech.pegasys.web3signer.core.service.jsonrpc.JsonRpcRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Pass-through handler which streams request and response bodies rather than buffering them.
+ *
+ * <p>Requests to paths not served by web3signer are not read by a body handler. Whether they are
+ * JSON-RPC requests is decided from the start of the body, so the body is forwarded as it arrives
+ * once a {@code "jsonrpc": "2.0"} member is seen within the first {@link #SNIFF_LIMIT} bytes.
+ * Otherwise the whole body is read and checked as for buffered requests, failing with 413 if it is
+ * larger than the maximum request body size. Requests to the root path and to web3signer's own
+ * paths have already been read, so only their responses are streamed.
+ */
+public class StreamingPassThroughHandler extends PassThroughHandler {
+
+  @VisibleForTesting static final int SNIFF_LIMIT = 4096;
+
+  private static final Pattern RPC_PREFIX =
+      Pattern.compile("^\\s*[\\[{].*?\"jsonrpc\"\\s*:\\s*\"2\\.0\"", Pattern.DOTALL);
+
+  private final StreamingDownstreamProxy proxy;
+  private final long maxRequestBodySize;
+
+  public StreamingPassThroughHandler(
+      final VertxRequestTransmitterFactory vertxTransmitterFactory,
+      final JsonDecoder jsonDecoder,
+      final StreamingDownstreamProxy proxy,
+      final long maxRequestBodySize) {
+    super(vertxTransmitterFactory, jsonDecoder);
+    this.proxy = proxy;
+    this.maxRequestBodySize = maxRequestBodySize;
+  }
+
+  @Override
+  public void handle(final RoutingContext context, final JsonRpcRequest request) {
+    logRequest(context.request(), context.body().asString());
+    proxy.forward(context, context.body().buffer());
+  }
+
+  @Override
+  public void handle(final RoutingContext context) {
+    final HttpServerRequest request = context.request();
+    if (!request.method().equals(HttpMethod.POST)) {
+      context.next();
+      return;
+    }
+    if (context.body().available()) {
+      // the body of requests to web3signer's own paths has already been read
+      final Buffer body = context.body().buffer();
+      if (isRpc(request.method(), body)) {
+        logRequest(request, context.body().asString());
+        proxy.forward(context, body);
+      } else {
+        context.next();
+      }
+      return;
+    }
+
+    if (exceedsLimit(request.getHeader(HttpHeaders.CONTENT_LENGTH))) {
+      context.fail(HTTP_ENTITY_TOO_LARGE);
+      return;
+    }
+
+    final Buffer prefix = Buffer.buffer();
+    final AtomicBoolean tooLarge = new AtomicBoolean();
+    request.handler(
+        chunk -> {
+          if (tooLarge.get()) {
+            return;
+          }
+          final boolean sniffing = prefix.length() < SNIFF_LIMIT;
+          prefix.appendBuffer(chunk);
+          if (sniffing && hasRpcPrefix(prefix)) {
+            // the proxy resumes the request once the downstream request is ready for its body
+            request.pause();
+            proxy.forwardStreaming(context, prefix);
+          } else if (prefix.length() > maxRequestBodySize) {
+            tooLarge.set(true);
+            context.fail(HTTP_ENTITY_TOO_LARGE);
+          }
+        });
+    request.endHandler(
+        _v -> {
+          if (tooLarge.get()) {
+            return;
+          }
+          if (isRpc(request.method(), prefix)) {
+            logRequest(request, prefix.toString(StandardCharsets.UTF_8));
+            proxy.forward(context, prefix);
+          } else {
+            context.next();
+          }
+        });
+    request.resume();
+  }
+
+  private boolean exceedsLimit(final String contentLength) {
+    try {
+      return contentLength != null && Long.parseLong(contentLength) > maxRequestBodySize;
+    } catch (final NumberFormatException e) {
+      return false;
+    }
+  }
+
+  @VisibleForTesting
+  static boolean hasRpcPrefix(final Buffer prefix) {
+    final Buffer sniffed =
+        prefix.length() > SNIFF_LIMIT ? prefix.getBuffer(0, SNIFF_LIMIT) : prefix;
+    return RPC_PREFIX.matcher(sniffed.toString(StandardCharsets.UTF_8)).find();
+  }
+}
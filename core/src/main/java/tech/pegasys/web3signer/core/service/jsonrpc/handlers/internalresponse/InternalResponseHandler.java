@@ -21,6 +21,9 @@ import tech.pegasys.web3signer.core.service.jsonrpc.exceptions.JsonRpcException;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.HttpResponseFactory;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.ResultProvider;
 import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcError;
+import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcErrorResponse;
+import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcResponse;
+import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcSuccessResponse;
 
 import io.vertx.ext.web.RoutingContext;
 import org.apache.logging.log4j.LogManager;
@@ -57,4 +60,22 @@ public class InternalResponseHandler<T> implements JsonRpcRequestHandler {
           JsonRpcError.INTERNAL_ERROR);
     }
   }
+
+  /**
+   * Creates the response to a request without sending it, used for the requests in a batch.
+   *
+   * @param rpcRequest the request to respond to
+   * @return the success or error response for the request
+   */
+  public JsonRpcResponse createResponse(final JsonRpcRequest rpcRequest) {
+    LOG.debug("Internally responding to {}, id={}", rpcRequest.getMethod(), rpcRequest.getId());
+    try {
+      return new JsonRpcSuccessResponse(
+          rpcRequest.getId(), responseResultProvider.createResponseResult(rpcRequest));
+    } catch (final JsonRpcException e) {
+      return new JsonRpcErrorResponse(rpcRequest.getId(), e.getJsonRpcError());
+    } catch (final RuntimeException e) {
+      return new JsonRpcErrorResponse(rpcRequest.getId(), JsonRpcError.INTERNAL_ERROR);
+    }
+  }
 }
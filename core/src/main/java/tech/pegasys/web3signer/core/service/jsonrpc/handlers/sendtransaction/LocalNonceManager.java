@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction;
+
+import static tech.pegasys.web3signer.signing.util.IdentifierUtils.normaliseIdentifier;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Allocates the nonces of transactions sent by each account within web3signer, rather than asking
+ * the downstream node for the pending transaction count of every transaction. The nonce of an
+ * account is requested from the node once and incremented for each transaction. It is requested
+ * again once the node rejects a transaction, as the allocated nonce was not used or another sender
+ * used it. Accounts which send no transactions for the idle timeout are forgotten.
+ */
+public class LocalNonceManager {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final long idleTimeoutNanos;
+  private final LongSupplier nanoClock;
+  private final Map<String, AccountNonce> accounts = new ConcurrentHashMap<>();
+  private volatile long lastExpiry;
+
+  public LocalNonceManager(final Duration idleTimeout) {
+    this(idleTimeout, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  LocalNonceManager(final Duration idleTimeout, final LongSupplier nanoClock) {
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    this.nanoClock = nanoClock;
+    this.lastExpiry = nanoClock.getAsLong();
+  }
+
+  /**
+   * Creates the nonce provider for a transaction.
+   *
+   * @param sender address of the account sending the transaction
+   * @param downstreamNonceProvider requests the account's nonce from the downstream node
+   * @return a nonce provider allocating nonces for the account
+   */
+  public NonceProvider nonceProvider(
+      final String sender, final NonceProvider downstreamNonceProvider) {
+    final String account = normaliseIdentifier(sender);
+    return new NonceProvider() {
+      @Override
+      public BigInteger getNonce() {
+        return allocate(account, downstreamNonceProvider);
+      }
+
+      @Override
+      public void nonceRejected() {
+        resync(account);
+      }
+    };
+  }
+
+  @VisibleForTesting
+  int trackedAccounts() {
+    return accounts.size();
+  }
+
+  private BigInteger allocate(final String account, final NonceProvider downstreamNonceProvider) {
+    final long now = nanoClock.getAsLong();
+    expireIdleAccounts(now);
+    return accounts
+        .computeIfAbsent(account, _account -> new AccountNonce(now))
+        .allocate(account, downstreamNonceProvider, now);
+  }
+
+  private void resync(final String account) {
+    final AccountNonce accountNonce = accounts.get(account);
+    if (accountNonce != null) {
+      LOG.debug("Nonce rejected for {}, requesting nonce from downstream node", account);
+      accountNonce.resync();
+    }
+  }
+
+  private void expireIdleAccounts(final long now) {
+    if (now - lastExpiry < idleTimeoutNanos) {
+      return;
+    }
+    lastExpiry = now;
+    accounts.values().removeIf(accountNonce -> accountNonce.isIdle(now, idleTimeoutNanos));
+  }
+
+  private static class AccountNonce {
+    private BigInteger nextNonce; // guarded by this, null until requested from the node
+    private volatile long lastUsed;
+
+    private AccountNonce(final long now) {
+      this.lastUsed = now;
+    }
+
+    synchronized BigInteger allocate(
+        final String account, final NonceProvider downstreamNonceProvider, final long now) {
+      if (nextNonce == null) {
+        // concurrent transactions for the account wait for a single request to the node
+        nextNonce = downstreamNonceProvider.getNonce();
+        LOG.debug("Nonce for {} synchronised from downstream node as {}", account, nextNonce);
+      }
+      final BigInteger nonce = nextNonce;
+      nextNonce = nextNonce.add(BigInteger.ONE);
+      lastUsed = now;
+      return nonce;
+    }
+
+    synchronized void resync() {
+      nextNonce = null;
+    }
+
+    boolean isIdle(final long now, final long idleTimeoutNanos) {
+      return now - lastUsed >= idleTimeoutNanos;
+    }
+  }
+}
@@ -18,4 +18,10 @@ import java.math.BigInteger;
 public interface NonceProvider {
 
   BigInteger getNonce();
+
+  /**
+   * Called when the downstream node did not accept a transaction using the last nonce supplied, so
+   * that the nonce can be reused or requested from the node again.
+   */
+  default void nonceRejected() {}
 }
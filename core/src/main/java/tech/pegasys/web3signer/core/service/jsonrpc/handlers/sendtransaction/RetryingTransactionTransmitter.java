@@ -22,10 +22,13 @@ import tech.pegasys.web3signer.core.service.jsonrpc.handlers.signing.Transaction
 
 import java.util.Map.Entry;
 
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
 public class RetryingTransactionTransmitter extends TransactionTransmitter {
 
+  private final Transaction transaction;
   private final RetryMechanism retryMechanism;
 
   public RetryingTransactionTransmitter(
@@ -35,6 +38,7 @@ public class RetryingTransactionTransmitter extends TransactionTransmitter {
       final RetryMechanism retryMechanism,
       final RoutingContext routingContext) {
     super(transaction, transactionSerializer, transmitterFactory, routingContext);
+    this.transaction = transaction;
     this.retryMechanism = retryMechanism;
   }
 
@@ -42,6 +46,7 @@ public class RetryingTransactionTransmitter extends TransactionTransmitter {
   public void handleResponse(
       final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
     if (retryMechanism.responseRequiresRetry(statusCode, body)) {
+      transaction.nonceRejected();
       if (retryMechanism.retriesAvailable()) {
         retryMechanism.incrementRetries();
         send();
@@ -51,6 +56,27 @@ public class RetryingTransactionTransmitter extends TransactionTransmitter {
       return;
     }
 
+    if (isRejected(statusCode, body)) {
+      // the nonce was not used, so must not be skipped by a locally managed nonce
+      transaction.nonceRejected();
+    }
     super.handleResponse(headers, statusCode, body);
   }
+
+  @Override
+  public void handleFailure(final Throwable thrown) {
+    transaction.nonceRejected();
+    super.handleFailure(thrown);
+  }
+
+  private static boolean isRejected(final int statusCode, final String body) {
+    if (statusCode != 200) {
+      return true;
+    }
+    try {
+      return new JsonObject(body).containsKey("error");
+    } catch (final DecodeException | ClassCastException e) {
+      return true;
+    }
+  }
 }
@@ -64,6 +64,13 @@ public class EthTransaction implements Transaction {
     }
   }
 
+  @Override
+  public void nonceRejected() {
+    if (!this.isNonceUserSpecified()) {
+      nonceProvider.nonceRejected();
+    }
+  }
+
   @Override
   @NotNull
   public String getJsonRpcMethodName() {
@@ -32,6 +32,9 @@ public interface Transaction {
 
   void updateFieldsIfRequired();
 
+  /** Called when the downstream node did not accept the transaction with its current nonce. */
+  default void nonceRejected() {}
+
   byte[] rlpEncode(SignatureData signatureData);
 
   boolean isNonceUserSpecified();
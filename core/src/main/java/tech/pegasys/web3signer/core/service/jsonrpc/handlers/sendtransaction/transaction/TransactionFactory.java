@@ -16,10 +16,12 @@ import tech.pegasys.web3signer.core.service.VertxRequestTransmitterFactory;
 import tech.pegasys.web3signer.core.service.jsonrpc.EthSendTransactionJsonParameters;
 import tech.pegasys.web3signer.core.service.jsonrpc.JsonDecoder;
 import tech.pegasys.web3signer.core.service.jsonrpc.JsonRpcRequest;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction.LocalNonceManager;
 import tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction.NonceProvider;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
@@ -29,14 +31,24 @@ public class TransactionFactory {
   private final VertxRequestTransmitterFactory transmitterFactory;
   private final JsonDecoder decoder;
   private final long chainId;
+  private final Optional<LocalNonceManager> localNonceManager;
 
   public TransactionFactory(
       final long chainId,
       final JsonDecoder decoder,
       final VertxRequestTransmitterFactory transmitterFactory) {
+    this(chainId, decoder, transmitterFactory, Optional.empty());
+  }
+
+  public TransactionFactory(
+      final long chainId,
+      final JsonDecoder decoder,
+      final VertxRequestTransmitterFactory transmitterFactory,
+      final Optional<LocalNonceManager> localNonceManager) {
     this.chainId = chainId;
     this.transmitterFactory = transmitterFactory;
     this.decoder = decoder;
+    this.localNonceManager = localNonceManager;
   }
 
   public Transaction createTransaction(final RoutingContext context, final JsonRpcRequest request) {
@@ -58,8 +70,12 @@ public class TransactionFactory {
     final EthSendTransactionJsonParameters params =
         fromRpcRequestToJsonParam(EthSendTransactionJsonParameters.class, request);
 
-    final NonceProvider ethNonceProvider =
+    final NonceProvider downstreamNonceProvider =
         new EthNonceProvider(params.sender(), nonceRequestTransmitter);
+    final NonceProvider ethNonceProvider =
+        localNonceManager
+            .map(manager -> manager.nonceProvider(params.sender(), downstreamNonceProvider))
+            .orElse(downstreamNonceProvider);
 
     return new EthTransaction(chainId, params, ethNonceProvider, request.getId());
   }
@@ -26,11 +26,14 @@ public enum JsonRpcError {
   INVALID_PARAMS(-32602, "Invalid params"),
   INTERNAL_ERROR(-32603, "Internal error"),
   METHOD_NOT_ENABLED(-32604, "Method not enabled"),
+  EXCEEDS_MAX_BATCH_SIZE(-32600, "Number of requests exceeds max batch size"),
 
   // eth_sendTransaction specific error message
   ETH_SEND_TX_NOT_AVAILABLE(
       -32604,
       "The method eth_sendTransaction is not supported. Use eth_sendRawTransaction to send a signed transaction to Besu."),
+  ETH_SEND_TX_NOT_AVAILABLE_IN_BATCH(
+      -32604, "The method eth_sendTransaction is not supported in a batch request."),
   ETH_SEND_TX_ALREADY_KNOWN(-32000, "Known transaction"),
   ETH_SEND_TX_REPLACEMENT_UNDERPRICED(-32000, "Replacement transaction underpriced"),
   // P2P related errors
@@ -175,6 +178,7 @@ public enum JsonRpcError {
 
   // Transaction signing errors
   SIGNING_FROM_IS_NOT_AN_UNLOCKED_ACCOUNT(-32000, "No unlocked account matches the Sender"),
+  SIGNING_SERVICE_UNAVAILABLE(-32000, "Remote signing service unavailable"),
 
   // GoQuorum transaction validation
   ETHER_VALUE_NOT_SUPPORTED(-30200, "ether value is not supported for private transactions");
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+
+class StartupPhasesTest {
+
+  @Test
+  void recordedPhasesAreReturnedInOrder() throws InterruptedException {
+    StartupPhases.recordJvmStartup();
+    final long start = System.nanoTime();
+    Thread.sleep(10);
+    final long next = StartupPhases.record("test_first", start);
+    StartupPhases.record("test_second", next);
+
+    assertThat(next).isGreaterThan(start);
+    assertThat(StartupPhases.getPhases())
+        .containsKeys("jvm", "test_first", "test_second")
+        .hasEntrySatisfying(
+            "test_first",
+            duration -> assertThat(duration).isGreaterThanOrEqualTo(Duration.ofMillis(10)));
+    assertThat(StartupPhases.getPhases().keySet())
+        .containsSubsequence("jvm", "test_first", "test_second");
+  }
+
+  @Test
+  void startupCompletedReportsPhases() {
+    StartupPhases.record("test_phase", System.nanoTime());
+
+    StartupPhases.startupCompleted(new NoOpMetricsSystem());
+
+    assertThat(StartupPhases.getPhases()).containsKey("test_phase");
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import tech.pegasys.web3signer.common.SigningStages;
+import tech.pegasys.web3signer.core.metrics.SigningStageMetrics.RequestStages;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.vertx.core.MultiMap;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+
+class SigningStageMetricsTest {
+  private final SigningStageMetrics stageMetrics =
+      new SigningStageMetrics(new NoOpMetricsSystem(), true);
+  private final List<String> recordedStages = new ArrayList<>();
+
+  @Test
+  void stagesAreOnlyRecordedWhileRecorderIsInstalled() {
+    SigningStages.time("before").close();
+    try (final SigningStages.Timer recording = SigningStages.recordWith(this::record)) {
+      SigningStages.time("during").close();
+      SigningStages.record("completed", System.nanoTime(), 10);
+    }
+    SigningStages.time("after").close();
+
+    assertThat(recordedStages).containsExactly("during", "completed");
+  }
+
+  @Test
+  void requestRestoresPreviousRecorderWhenClosed() {
+    try (final SigningStages.Timer recording = SigningStages.recordWith(this::record)) {
+      try (final RequestStages stages =
+          stageMetrics.startRequest(MultiMap.caseInsensitiveMultiMap())) {
+        stages.setArtifactType(ArtifactType.BLOCK_V2);
+        SigningStages.time(SigningStageMetrics.PARSE_STAGE).close();
+      }
+      SigningStages.time("after").close();
+    }
+
+    assertThat(recordedStages).containsExactly("after");
+  }
+
+  @Test
+  void requestWithTraceContextCanBeClosedWithoutOpenTelemetrySdk() {
+    final MultiMap headers =
+        MultiMap.caseInsensitiveMultiMap()
+            .add("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01")
+            .add(SigningStageMetrics.REQUEST_ID_HEADER, "request-1");
+
+    assertThatCode(
+            () -> {
+              try (final RequestStages stages = stageMetrics.startRequest(headers)) {
+                SigningStages.time(SigningStageMetrics.RESPONSE_STAGE).close();
+              }
+            })
+        .doesNotThrowAnyException();
+  }
+
+  private void record(final String stage, final long startNanos, final long durationNanos) {
+    recordedStages.add(stage);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.metrics.vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventLoopLagProbeTest {
+  private final EventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(2);
+  private final Map<String, Long> maxLagNanos = new ConcurrentHashMap<>();
+  private final EventLoopLagProbe probe =
+      new EventLoopLagProbe(
+          eventLoopGroup,
+          Duration.ofMillis(10),
+          (eventLoop, lagNanos) -> maxLagNanos.merge(eventLoop, lagNanos, Math::max));
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    probe.stop();
+    eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).await();
+  }
+
+  @Test
+  void lagIsMeasuredForEachEventLoop() throws InterruptedException {
+    probe.start();
+    Thread.sleep(100);
+
+    assertThat(maxLagNanos).containsOnlyKeys("0", "1");
+  }
+
+  @Test
+  void blockedEventLoopReportsLag() throws InterruptedException {
+    probe.start();
+    eventLoopGroup.iterator().next().execute(() -> sleep(300));
+    Thread.sleep(500);
+
+    assertThat(maxLagNanos.get("0")).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  void stoppedProbeNoLongerMeasuresLag() throws InterruptedException {
+    probe.start();
+    Thread.sleep(50);
+    probe.stop();
+    Thread.sleep(50);
+    maxLagNanos.clear();
+    Thread.sleep(50);
+
+    assertThat(maxLagNanos).isEmpty();
+  }
+
+  private static void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
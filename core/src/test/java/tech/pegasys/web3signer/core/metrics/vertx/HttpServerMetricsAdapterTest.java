@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.metrics.vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.web3signer.core.metrics.vertx.HttpServerMetricsAdapter.RequestMetric;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+
+class HttpServerMetricsAdapterTest {
+  private final HttpServerMetricsAdapter metrics =
+      new HttpServerMetricsAdapter(new NoOpMetricsSystem());
+
+  @Test
+  void requestIsLabelledWithLastMatchingRouteTemplate() {
+    final RequestMetric requestMetric = metrics.requestBegin(null, request(HttpMethod.POST));
+    metrics.requestRouted(requestMetric, "/api/v1/eth2/sign/:identifier");
+    metrics.requestRouted(requestMetric, null);
+
+    assertThat(requestMetric.getRoute()).isEqualTo("/api/v1/eth2/sign/:identifier");
+  }
+
+  @Test
+  void requestWithoutMatchingRouteIsLabelledUnmatched() {
+    final RequestMetric requestMetric = metrics.requestBegin(null, request(HttpMethod.GET));
+    final HttpResponse response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(404);
+    metrics.responseEnd(requestMetric, response, 0);
+
+    assertThat(requestMetric.getRoute()).isEqualTo(HttpServerMetricsAdapter.UNMATCHED_ROUTE);
+  }
+
+  @Test
+  void nonStandardMethodsShareALabel() {
+    assertThat(HttpServerMetricsAdapter.methodLabel(HttpMethod.POST)).isEqualTo("POST");
+    assertThat(HttpServerMetricsAdapter.methodLabel(HttpMethod.valueOf("BREW")))
+        .isEqualTo(HttpServerMetricsAdapter.OTHER_METHOD);
+  }
+
+  private static HttpRequest request(final HttpMethod method) {
+    final HttpRequest request = mock(HttpRequest.class);
+    when(request.method()).thenReturn(method);
+    return request;
+  }
+}
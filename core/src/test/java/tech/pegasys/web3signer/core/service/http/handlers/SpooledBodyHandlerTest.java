@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpooledBodyHandlerTest {
+  private static final int BODY_LIMIT = 64 * 1024;
+
+  private final AtomicReference<Path> spooledBody = new AtomicReference<>();
+  private Vertx vertx;
+  private HttpServer server;
+  private HttpClient client;
+
+  @BeforeEach
+  void setup() throws Exception {
+    vertx = Vertx.vertx();
+    final Router router = Router.router(vertx);
+    router
+        .route(HttpMethod.POST, "/")
+        .handler(new SpooledBodyHandler(BODY_LIMIT))
+        .blockingHandler(
+            context -> {
+              final Path file = SpooledBodyHandler.spooledBody(context).orElseThrow();
+              spooledBody.set(file);
+              try {
+                context.response().end(Buffer.buffer(Files.readAllBytes(file)));
+              } catch (final Exception e) {
+                context.fail(e);
+              }
+            });
+    server =
+        vertx
+            .createHttpServer()
+            .requestHandler(router)
+            .listen(0, "127.0.0.1")
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+    client = vertx.createHttpClient();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void bodyIsWrittenToFileWhichIsDeletedAfterResponse() throws Exception {
+    final Buffer body = Buffer.buffer("a".repeat(BODY_LIMIT));
+
+    final Response response = post(body);
+
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.body()).isEqualTo(body);
+    assertThat(awaitDeleted(spooledBody.get())).isTrue();
+  }
+
+  @Test
+  void bodyLargerThanLimitIsRejected() throws Exception {
+    final Response response = post(Buffer.buffer("a".repeat(BODY_LIMIT + 1)));
+
+    assertThat(response.statusCode()).isEqualTo(413);
+    assertThat(spooledBody.get()).isNull();
+  }
+
+  private Response post(final Buffer body) throws Exception {
+    return client
+        .request(HttpMethod.POST, server.actualPort(), "127.0.0.1", "/")
+        .compose(request -> request.send(body))
+        .compose(
+            response ->
+                response
+                    .body()
+                    .map(responseBody -> new Response(response.statusCode(), responseBody)))
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get(10, TimeUnit.SECONDS);
+  }
+
+  private static boolean awaitDeleted(final Path file) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (System.nanoTime() < deadline) {
+      if (!Files.exists(file)) {
+        return true;
+      }
+      Thread.sleep(10);
+    }
+    return false;
+  }
+
+  private record Response(int statusCode, Buffer body) {}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.commitboost;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.bls.keystore.KeyStoreLoader;
+import tech.pegasys.web3signer.core.service.http.handlers.commitboost.json.ProxyKeySignatureScheme;
+import tech.pegasys.web3signer.signing.ArtifactSigner;
+import tech.pegasys.web3signer.signing.KeyType;
+import tech.pegasys.web3signer.signing.config.TestCommitBoostParameters;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProxyKeyPoolTest {
+  private static final String CONSENSUS_PUB_KEY = "consensuspubkey";
+
+  @TempDir private Path commitBoostKeystoresPath;
+
+  @TempDir private Path commitBoostPasswordDir;
+
+  private ProxyKeysGenerator proxyKeysGenerator;
+
+  @BeforeEach
+  void init() {
+    proxyKeysGenerator =
+        new ProxyKeysGenerator(
+            new TestCommitBoostParameters(commitBoostKeystoresPath, commitBoostPasswordDir), 1);
+  }
+
+  @Test
+  void pooledKeyIsOnlyWrittenWhenBound() throws InterruptedException {
+    try (final ProxyKeyPool proxyKeyPool = new ProxyKeyPool(proxyKeysGenerator, 1, 600)) {
+      assertThat(awaitAvailable(proxyKeyPool, ProxyKeySignatureScheme.BLS)).isTrue();
+      assertThat(commitBoostKeystoresPath).isEmptyDirectory();
+
+      final ArtifactSigner signer =
+          proxyKeyPool.bindProxyKey(ProxyKeySignatureScheme.BLS, CONSENSUS_PUB_KEY);
+
+      final Path keystoreFile = keystoreFile(KeyType.BLS, signer);
+      assertThat(keystoreFile).exists();
+      assertThat(KeyStoreLoader.loadFromFile(keystoreFile.toUri()).pubkey().toHexString())
+          .isEqualTo(signer.getIdentifier());
+    }
+  }
+
+  @Test
+  void poolIsRefilledAfterKeyIsBound() throws InterruptedException {
+    try (final ProxyKeyPool proxyKeyPool = new ProxyKeyPool(proxyKeysGenerator, 1, 600)) {
+      assertThat(awaitAvailable(proxyKeyPool, ProxyKeySignatureScheme.BLS)).isTrue();
+      final ArtifactSigner first =
+          proxyKeyPool.bindProxyKey(ProxyKeySignatureScheme.BLS, CONSENSUS_PUB_KEY);
+
+      assertThat(awaitAvailable(proxyKeyPool, ProxyKeySignatureScheme.BLS)).isTrue();
+      final ArtifactSigner second =
+          proxyKeyPool.bindProxyKey(ProxyKeySignatureScheme.BLS, CONSENSUS_PUB_KEY);
+
+      assertThat(second.getIdentifier()).isNotEqualTo(first.getIdentifier());
+      assertThat(keystoreFile(KeyType.BLS, first)).exists();
+      assertThat(keystoreFile(KeyType.BLS, second)).exists();
+    }
+  }
+
+  @Test
+  void keyIsGeneratedOnRequestWhenPoolIsDisabled() {
+    try (final ProxyKeyPool proxyKeyPool = new ProxyKeyPool(proxyKeysGenerator, 0, 60)) {
+      assertThat(proxyKeyPool.available(ProxyKeySignatureScheme.ECDSA)).isZero();
+
+      final ArtifactSigner signer =
+          proxyKeyPool.bindProxyKey(ProxyKeySignatureScheme.ECDSA, CONSENSUS_PUB_KEY);
+
+      assertThat(keystoreFile(KeyType.SECP256K1, signer)).exists();
+    }
+  }
+
+  private Path keystoreFile(final KeyType keyType, final ArtifactSigner signer) {
+    return commitBoostKeystoresPath
+        .resolve(CONSENSUS_PUB_KEY)
+        .resolve(keyType.name())
+        .resolve(signer.getIdentifier() + ".json");
+  }
+
+  private static boolean awaitAvailable(
+      final ProxyKeyPool proxyKeyPool, final ProxyKeySignatureScheme scheme)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+    while (System.nanoTime() < deadline) {
+      if (proxyKeyPool.available(scheme) > 0) {
+        return true;
+      }
+      Thread.sleep(10);
+    }
+    return false;
+  }
+}
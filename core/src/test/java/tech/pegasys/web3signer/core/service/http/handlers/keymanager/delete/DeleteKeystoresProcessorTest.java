@@ -30,8 +30,10 @@ import tech.pegasys.web3signer.signing.ValidatorManager;
 import tech.pegasys.web3signer.slashingprotection.SlashingProtection;
 import tech.pegasys.web3signer.slashingprotection.interchange.IncrementalExporter;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -69,13 +71,11 @@ class DeleteKeystoresProcessorTest {
   void testSuccess() {
     when(artifactSignerProvider.getSigner(any())).thenReturn(Optional.of(signer));
 
-    final DeleteKeystoresRequestBody requestBody =
-        new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1));
-    final DeleteKeystoresResponse response = processor.process(requestBody);
-    assertThat(response.getData().size()).isEqualTo(1);
-    assertThat(response.getData().get(0).getMessage()).isEqualTo("");
-    assertThat(response.getData().get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.DELETED);
-    verify(validatorManager).deleteValidator(Bytes.fromHexString(PUBLIC_KEY1));
+    final List<DeleteKeystoreResult> results = process(PUBLIC_KEY1);
+    assertThat(results.size()).isEqualTo(1);
+    assertThat(results.get(0).getMessage()).isEqualTo("");
+    assertThat(results.get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.DELETED);
+    verify(validatorManager).deleteValidators(List.of(Bytes.fromHexString(PUBLIC_KEY1)));
   }
 
   @Test
@@ -83,12 +83,10 @@ class DeleteKeystoresProcessorTest {
     when(artifactSignerProvider.getSigner(any())).thenReturn(Optional.empty());
     when(slashingProtection.hasSlashingProtectionDataFor(any())).thenReturn(false);
 
-    final DeleteKeystoresRequestBody requestBody =
-        new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1));
-    final DeleteKeystoresResponse response = processor.process(requestBody);
-    assertThat(response.getData().size()).isEqualTo(1);
-    assertThat(response.getData().get(0).getMessage()).isEqualTo("");
-    assertThat(response.getData().get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.NOT_FOUND);
+    final List<DeleteKeystoreResult> results = process(PUBLIC_KEY1);
+    assertThat(results.size()).isEqualTo(1);
+    assertThat(results.get(0).getMessage()).isEqualTo("");
+    assertThat(results.get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.NOT_FOUND);
     verify(slashingProtection, never())
         .updateValidatorEnabledStatus(eq(Bytes.fromHexString(PUBLIC_KEY1)), anyBoolean());
   }
@@ -98,12 +96,10 @@ class DeleteKeystoresProcessorTest {
     when(artifactSignerProvider.getSigner(any())).thenReturn(Optional.empty());
     when(slashingProtection.hasSlashingProtectionDataFor(any())).thenReturn(true);
 
-    final DeleteKeystoresRequestBody requestBody =
-        new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1));
-    final DeleteKeystoresResponse response = processor.process(requestBody);
-    assertThat(response.getData().size()).isEqualTo(1);
-    assertThat(response.getData().get(0).getMessage()).isEqualTo("");
-    assertThat(response.getData().get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.NOT_ACTIVE);
+    final List<DeleteKeystoreResult> results = process(PUBLIC_KEY1);
+    assertThat(results.size()).isEqualTo(1);
+    assertThat(results.get(0).getMessage()).isEqualTo("");
+    assertThat(results.get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.NOT_ACTIVE);
     verify(slashingProtection, never())
         .updateValidatorEnabledStatus(eq(Bytes.fromHexString(PUBLIC_KEY1)), anyBoolean());
   }
@@ -111,15 +107,12 @@ class DeleteKeystoresProcessorTest {
   @Test
   void testErrorResponseWhenValidatorManagerThrowsException() {
     when(artifactSignerProvider.getSigner(any())).thenReturn(Optional.of(signer));
-    doThrow(new RuntimeException("error")).when(validatorManager).deleteValidator(any());
+    when(validatorManager.deleteValidators(any())).thenThrow(new RuntimeException("error"));
 
-    final DeleteKeystoresRequestBody requestBody =
-        new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1));
-    final DeleteKeystoresResponse response = processor.process(requestBody);
-    assertThat(response.getData().size()).isEqualTo(1);
-    assertThat(response.getData().get(0).getMessage())
-        .isEqualTo("Error deleting keystore file: error");
-    assertThat(response.getData().get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.ERROR);
+    final List<DeleteKeystoreResult> results = process(PUBLIC_KEY1);
+    assertThat(results.size()).isEqualTo(1);
+    assertThat(results.get(0).getMessage()).isEqualTo("Error deleting keystore file: error");
+    assertThat(results.get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.ERROR);
   }
 
   @Test
@@ -127,18 +120,17 @@ class DeleteKeystoresProcessorTest {
     when(artifactSignerProvider.getSigner(any())).thenReturn(Optional.of(signer));
     doThrow(new IOException("db error")).when(incrementalExporter).finalise();
 
-    final DeleteKeystoresRequestBody requestBody =
-        new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1, PUBLIC_KEY2));
-    final DeleteKeystoresResponse response = processor.process(requestBody);
-    assertThat(response.getData().size()).isEqualTo(2);
+    final List<DeleteKeystoreResult> results = process(PUBLIC_KEY1, PUBLIC_KEY2);
+    assertThat(results.size()).isEqualTo(2);
 
     // assert that all results have an error
-    for (final DeleteKeystoreResult result : response.getData()) {
+    for (final DeleteKeystoreResult result : results) {
       assertThat(result.getMessage()).isEqualTo("Error exporting slashing data: db error");
       assertThat(result.getStatus()).isEqualTo(DeleteKeystoreStatus.ERROR);
     }
-    verify(validatorManager).deleteValidator(Bytes.fromHexString(PUBLIC_KEY1));
-    verify(validatorManager).deleteValidator(Bytes.fromHexString(PUBLIC_KEY2));
+    verify(validatorManager)
+        .deleteValidators(
+            List.of(Bytes.fromHexString(PUBLIC_KEY1), Bytes.fromHexString(PUBLIC_KEY2)));
   }
 
   @Test
@@ -146,27 +138,71 @@ class DeleteKeystoresProcessorTest {
     final RuntimeException exception = new RuntimeException("db error");
     doThrow(exception).when(slashingProtection).createIncrementalExporter(any());
 
-    final DeleteKeystoresRequestBody requestBody =
-        new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1));
-    assertThatThrownBy(() -> processor.process(requestBody))
+    assertThatThrownBy(() -> process(PUBLIC_KEY1))
         .hasMessage("Error deleting keystores")
         .hasCause(exception);
   }
 
   @Test
-  void slashingExportFailOnlyAffectsIndividualKeyStore() {
+  void batchDeletesActiveKeysTogetherAndExportsAllKeysAtOnce() {
+    when(artifactSignerProvider.getSigner(PUBLIC_KEY1)).thenReturn(Optional.of(signer));
+    when(artifactSignerProvider.getSigner(PUBLIC_KEY2)).thenReturn(Optional.empty());
+    when(slashingProtection.hasSlashingProtectionDataFor(Bytes.fromHexString(PUBLIC_KEY2)))
+        .thenReturn(true);
+    when(validatorManager.deleteValidators(any())).thenReturn(Map.of());
+
+    final DeleteKeystoresRequestBody requestBody =
+        new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1, PUBLIC_KEY2, PUBLIC_KEY1));
+    final List<DeleteKeystoreResult> results =
+        processor.process(requestBody, new ByteArrayOutputStream());
+
+    assertThat(results)
+        .extracting(DeleteKeystoreResult::getStatus)
+        .containsExactly(
+            DeleteKeystoreStatus.DELETED,
+            DeleteKeystoreStatus.NOT_ACTIVE,
+            DeleteKeystoreStatus.DELETED);
+    verify(validatorManager).deleteValidators(List.of(Bytes.fromHexString(PUBLIC_KEY1)));
+    verify(validatorManager, never()).deleteValidator(any());
+    verify(incrementalExporter).exportAll(List.of(PUBLIC_KEY2, PUBLIC_KEY1));
+  }
+
+  @Test
+  void batchDeleteFailureOnlyAffectsIndividualKeyStore() {
     when(artifactSignerProvider.getSigner(any())).thenReturn(Optional.of(signer));
-    doThrow(new RuntimeException("db error")).when(incrementalExporter).export(PUBLIC_KEY1);
+    when(validatorManager.deleteValidators(any()))
+        .thenReturn(Map.of(Bytes.fromHexString(PUBLIC_KEY1), new RuntimeException("error")));
 
     final DeleteKeystoresRequestBody requestBody =
         new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1, PUBLIC_KEY2));
-    final DeleteKeystoresResponse response = processor.process(requestBody);
+    final List<DeleteKeystoreResult> results =
+        processor.process(requestBody, new ByteArrayOutputStream());
 
-    final List<DeleteKeystoreResult> results = response.getData();
-    assertThat(results.size()).isEqualTo(2);
-    assertThat(results.get(0).getMessage()).isEqualTo("Error exporting slashing data: db error");
+    assertThat(results.get(0).getMessage()).isEqualTo("Error deleting keystore file: error");
     assertThat(results.get(0).getStatus()).isEqualTo(DeleteKeystoreStatus.ERROR);
-    assertThat(results.get(1).getMessage()).isEqualTo("");
     assertThat(results.get(1).getStatus()).isEqualTo(DeleteKeystoreStatus.DELETED);
+    verify(incrementalExporter).exportAll(List.of(PUBLIC_KEY2));
+  }
+
+  @Test
+  void batchSlashingExportFailureFailsExportedKeys() {
+    when(artifactSignerProvider.getSigner(any())).thenReturn(Optional.of(signer));
+    when(validatorManager.deleteValidators(any())).thenReturn(Map.of());
+    doThrow(new RuntimeException("db error")).when(incrementalExporter).exportAll(any());
+
+    final DeleteKeystoresRequestBody requestBody =
+        new DeleteKeystoresRequestBody(List.of(PUBLIC_KEY1, PUBLIC_KEY2));
+    final List<DeleteKeystoreResult> results =
+        processor.process(requestBody, new ByteArrayOutputStream());
+
+    for (final DeleteKeystoreResult result : results) {
+      assertThat(result.getMessage()).isEqualTo("Error exporting slashing data: db error");
+      assertThat(result.getStatus()).isEqualTo(DeleteKeystoreStatus.ERROR);
+    }
+  }
+
+  private List<DeleteKeystoreResult> process(final String... publicKeys) {
+    return processor.process(
+        new DeleteKeystoresRequestBody(List.of(publicKeys)), new ByteArrayOutputStream());
   }
 }
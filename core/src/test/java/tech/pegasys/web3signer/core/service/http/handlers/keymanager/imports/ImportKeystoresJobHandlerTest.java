@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.web3signer.core.service.http.SigningObjectMapperFactory;
+import tech.pegasys.web3signer.core.service.http.handlers.SpooledBodyHandler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportKeystoresJobHandlerTest {
+  private static final String JOBS_PATH = "/jobs";
+  private static final int MAX_PENDING_JOBS = 2;
+  private static final JsonObject IMPORT_REQUEST =
+      new JsonObject()
+          .put("keystores", new JsonArray().add("keystore1").add("keystore2"))
+          .put("passwords", new JsonArray().add("password1").add("password2"));
+
+  @Mock private ImportKeystoresProcessor processor;
+
+  private final TestClock clock = new TestClock(Instant.parse("2026-01-01T00:00:00Z"));
+  private Vertx vertx;
+  private ImportKeystoresJobHandler jobHandler;
+  private HttpServer server;
+  private HttpClient client;
+
+  @BeforeEach
+  void setup() throws Exception {
+    vertx = Vertx.vertx();
+    final WorkerExecutor workerExecutor = vertx.createSharedWorkerExecutor("test-import", 1);
+    jobHandler =
+        new ImportKeystoresJobHandler(
+            SigningObjectMapperFactory.createObjectMapper(),
+            processor,
+            workerExecutor,
+            MAX_PENDING_JOBS,
+            clock);
+
+    final Router router = Router.router(vertx);
+    router
+        .route(HttpMethod.POST, JOBS_PATH)
+        .handler(new SpooledBodyHandler(64 * 1024))
+        .blockingHandler(jobHandler, false);
+    router
+        .route(HttpMethod.GET, JOBS_PATH + "/:" + ImportKeystoresJobHandler.JOB_ID_PARAM)
+        .handler(jobHandler);
+    server =
+        vertx
+            .createHttpServer()
+            .requestHandler(router)
+            .listen(0, "127.0.0.1")
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+    client = vertx.createHttpClient();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void submittedJobIsAcceptedAndCompletesWithResults() throws Exception {
+    when(processor.process(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final Runnable onKeystoreDecrypted = invocation.getArgument(1);
+              onKeystoreDecrypted.run();
+              onKeystoreDecrypted.run();
+              return List.of(
+                  importData(1, ImportKeystoreStatus.DUPLICATE),
+                  importData(0, ImportKeystoreStatus.IMPORTED));
+            });
+
+    final Response accepted = submit(IMPORT_REQUEST);
+    assertThat(accepted.statusCode()).isEqualTo(202);
+    final JsonObject acceptedBody = accepted.body().toJsonObject();
+    assertThat(acceptedBody.getString("status")).isEqualTo("accepted");
+    assertThat(acceptedBody.getInteger("total")).isEqualTo(2);
+
+    final JsonObject status = awaitStatus(acceptedBody.getString("jobId"), "completed");
+    assertThat(status.getInteger("total")).isEqualTo(2);
+    assertThat(status.getInteger("decrypted")).isEqualTo(2);
+    assertThat(status.getString("lastOperationTime")).isEqualTo(clock.instant().toString());
+    assertThat(status.containsKey("lastError")).isFalse();
+    // results are ordered by the index of the keystore in the request
+    final JsonArray data = status.getJsonArray("data");
+    assertThat(data).hasSize(2);
+    assertThat(data.getJsonObject(0).getString("status")).isEqualTo("imported");
+    assertThat(data.getJsonObject(1).getString("status")).isEqualTo("duplicate");
+  }
+
+  @Test
+  void statusReportsProgressWhileJobIsRunning() throws Exception {
+    final CountDownLatch keystoreDecrypted = new CountDownLatch(1);
+    final CountDownLatch finishImport = new CountDownLatch(1);
+    when(processor.process(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final Runnable onKeystoreDecrypted = invocation.getArgument(1);
+              onKeystoreDecrypted.run();
+              keystoreDecrypted.countDown();
+              finishImport.await(10, TimeUnit.SECONDS);
+              return List.of();
+            });
+
+    final String jobId = submit(IMPORT_REQUEST).body().toJsonObject().getString("jobId");
+    assertThat(keystoreDecrypted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    final JsonObject running = awaitStatus(jobId, "running");
+    assertThat(running.getInteger("decrypted")).isEqualTo(1);
+    assertThat(running.containsKey("data")).isFalse();
+
+    finishImport.countDown();
+    awaitStatus(jobId, "completed");
+  }
+
+  @Test
+  void failedJobReportsError() throws Exception {
+    when(processor.process(any(), any()))
+        .thenThrow(new IllegalArgumentException("Unable to import slashing protection data"));
+
+    final String jobId = submit(IMPORT_REQUEST).body().toJsonObject().getString("jobId");
+
+    final JsonObject status = awaitStatus(jobId, "failed");
+    assertThat(status.getString("lastError"))
+        .isEqualTo("Unable to import slashing protection data");
+    assertThat(status.containsKey("data")).isFalse();
+  }
+
+  @Test
+  void requestWithMismatchedPasswordsIsRejected() throws Exception {
+    final JsonObject request =
+        new JsonObject()
+            .put("keystores", new JsonArray().add("keystore1").add("keystore2"))
+            .put("passwords", new JsonArray().add("password1"));
+
+    assertThat(submit(request).statusCode()).isEqualTo(400);
+    assertThat(jobHandler.getJobs()).isEmpty();
+  }
+
+  @Test
+  void importIsRejectedWhenMaxPendingJobsAreQueuedOrRunning() throws Exception {
+    final CountDownLatch finishImport = new CountDownLatch(1);
+    when(processor.process(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              finishImport.await(10, TimeUnit.SECONDS);
+              return List.of();
+            });
+
+    final String runningJobId = submit(IMPORT_REQUEST).body().toJsonObject().getString("jobId");
+    final String queuedJobId = submit(IMPORT_REQUEST).body().toJsonObject().getString("jobId");
+
+    final Response rejected = submit(IMPORT_REQUEST);
+    assertThat(rejected.statusCode()).isEqualTo(429);
+    assertThat(rejected.retryAfter())
+        .isEqualTo(String.valueOf(ImportKeystoresJobHandler.RETRY_AFTER_SECONDS));
+    assertThat(jobHandler.getJobs()).containsOnlyKeys(runningJobId, queuedJobId);
+
+    finishImport.countDown();
+    awaitStatus(runningJobId, "completed");
+    awaitStatus(queuedJobId, "completed");
+    final String nextJobId = submit(IMPORT_REQUEST).body().toJsonObject().getString("jobId");
+    awaitStatus(nextJobId, "completed");
+  }
+
+  @Test
+  void unknownJobIsNotFound() throws Exception {
+    assertThat(get("unknown").statusCode()).isEqualTo(404);
+  }
+
+  @Test
+  void finishedJobsExpireWhenNextJobIsSubmitted() throws Exception {
+    when(processor.process(any(), any())).thenReturn(List.of());
+    final String expiredJobId = submit(IMPORT_REQUEST).body().toJsonObject().getString("jobId");
+    awaitStatus(expiredJobId, "completed");
+
+    // a finished job is kept for the retention period after its last update
+    clock.advance(ImportKeystoresJobHandler.COMPLETED_JOB_RETENTION);
+    final String retainedJobId = submit(IMPORT_REQUEST).body().toJsonObject().getString("jobId");
+    awaitStatus(retainedJobId, "completed");
+    assertThat(jobHandler.getJobs()).containsOnlyKeys(expiredJobId, retainedJobId);
+
+    clock.advance(ImportKeystoresJobHandler.COMPLETED_JOB_RETENTION.minusSeconds(1));
+    final String newJobId = submit(IMPORT_REQUEST).body().toJsonObject().getString("jobId");
+
+    assertThat(jobHandler.getJobs()).containsOnlyKeys(retainedJobId, newJobId);
+    assertThat(get(expiredJobId).statusCode()).isEqualTo(404);
+    assertThat(get(retainedJobId).statusCode()).isEqualTo(200);
+    awaitStatus(newJobId, "completed");
+    verify(processor, times(3)).process(any(), any());
+  }
+
+  private static ImportKeystoreData importData(final int index, final ImportKeystoreStatus status) {
+    return new ImportKeystoreData(index, null, null, new ImportKeystoreResult(status, null));
+  }
+
+  private JsonObject awaitStatus(final String jobId, final String expectedStatus) throws Exception {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    JsonObject status;
+    do {
+      final Response response = get(jobId);
+      assertThat(response.statusCode()).isEqualTo(200);
+      status = response.body().toJsonObject();
+      if (expectedStatus.equals(status.getString("status"))) {
+        return status;
+      }
+      Thread.sleep(10);
+    } while (System.nanoTime() < deadline);
+    throw new AssertionError("Job " + jobId + " did not reach " + expectedStatus + ": " + status);
+  }
+
+  private Response submit(final JsonObject request) throws Exception {
+    return send(HttpMethod.POST, JOBS_PATH, request.toBuffer());
+  }
+
+  private Response get(final String jobId) throws Exception {
+    return send(HttpMethod.GET, JOBS_PATH + "/" + jobId, Buffer.buffer());
+  }
+
+  private Response send(final HttpMethod method, final String path, final Buffer body)
+      throws Exception {
+    return client
+        .request(method, server.actualPort(), "127.0.0.1", path)
+        .compose(request -> request.send(body))
+        .compose(
+            response ->
+                response
+                    .body()
+                    .map(
+                        responseBody ->
+                            new Response(
+                                response.statusCode(),
+                                response.getHeader("Retry-After"),
+                                responseBody)))
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get(10, TimeUnit.SECONDS);
+  }
+
+  private record Response(int statusCode, String retryAfter, Buffer body) {}
+
+  private static class TestClock extends Clock {
+    private volatile Instant now;
+
+    TestClock(final Instant now) {
+      this.now = now;
+    }
+
+    void advance(final Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.web3signer.BLSTestUtil;
+import tech.pegasys.web3signer.KeystoreUtil;
+import tech.pegasys.web3signer.bls.keystore.KeyStoreLoader;
+import tech.pegasys.web3signer.bls.keystore.model.Crypto;
+import tech.pegasys.web3signer.bls.keystore.model.Kdf;
+import tech.pegasys.web3signer.bls.keystore.model.KeyStoreData;
+import tech.pegasys.web3signer.bls.keystore.model.SCryptParam;
+import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
+import tech.pegasys.web3signer.signing.ValidatorManager;
+import tech.pegasys.web3signer.slashingprotection.SlashingProtection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportKeystoresProcessorTest {
+  private static final BLSKeyPair KEY_PAIR_1 = BLSTestUtil.randomKeyPair(1);
+  private static final BLSKeyPair KEY_PAIR_2 = BLSTestUtil.randomKeyPair(2);
+  private static final BLSKeyPair KEY_PAIR_3 = BLSTestUtil.randomKeyPair(3);
+
+  @TempDir Path tempDir;
+  @Mock SlashingProtection slashingProtection;
+  @Mock ArtifactSignerProvider artifactSignerProvider;
+  @Mock ValidatorManager validatorManager;
+
+  KeystoreDecryptionExecutor decryptionExecutor;
+  ImportKeystoresProcessor processor;
+
+  @BeforeEach
+  void setup() {
+    decryptionExecutor = new KeystoreDecryptionExecutor(4, 64 * 1024 * 1024);
+    processor =
+        new ImportKeystoresProcessor(
+            tempDir,
+            Optional.of(slashingProtection),
+            artifactSignerProvider,
+            validatorManager,
+            decryptionExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    decryptionExecutor.close();
+  }
+
+  @Test
+  void resultsAreInRequestOrderAndProgressIsReportedForEachKeystore() throws IOException {
+    when(artifactSignerProvider.availableIdentifiers())
+        .thenReturn(Set.of(KEY_PAIR_2.getPublicKey().toString()));
+    final ImportKeystoresRequestBody requestBody =
+        new ImportKeystoresRequestBody(
+            List.of(keystore(KEY_PAIR_1), keystore(KEY_PAIR_2), "{}", keystore(KEY_PAIR_3)),
+            List.of("password", "password", "password", "wrongPassword"),
+            null);
+    final AtomicInteger decrypted = new AtomicInteger();
+
+    final List<ImportKeystoreData> importKeystoreDataList =
+        processor.process(requestBody, decrypted::incrementAndGet);
+
+    assertThat(decrypted).hasValue(4);
+    assertThat(ImportKeystoresProcessor.toResponse(importKeystoreDataList).getData())
+        .extracting(ImportKeystoreResult::getStatus)
+        .containsExactly(
+            ImportKeystoreStatus.IMPORTED,
+            ImportKeystoreStatus.DUPLICATE,
+            ImportKeystoreStatus.ERROR,
+            ImportKeystoreStatus.ERROR);
+    verify(validatorManager)
+        .addValidator(
+            importKeystoreDataList.get(0).signer(),
+            importKeystoreDataList.get(0).keystoreFileRecord());
+  }
+
+  @Test
+  void failedValidatorIsReportedAsError() throws IOException {
+    when(artifactSignerProvider.availableIdentifiers()).thenReturn(Set.of());
+    doThrow(new IllegalStateException("db unavailable"))
+        .when(validatorManager)
+        .addValidator(any(), any());
+    when(artifactSignerProvider.removeSigner(any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    final ImportKeystoresRequestBody requestBody =
+        new ImportKeystoresRequestBody(List.of(keystore(KEY_PAIR_1)), List.of("password"), null);
+
+    final List<ImportKeystoreData> importKeystoreDataList =
+        processor.process(requestBody, () -> {});
+
+    final ImportKeystoreResult result = importKeystoreDataList.get(0).importKeystoreResult();
+    assertThat(result.getStatus()).isEqualTo(ImportKeystoreStatus.ERROR);
+    assertThat(result.getMessage()).isEqualTo("Error importing keystore: db unavailable");
+    verify(artifactSignerProvider).removeSigner(KEY_PAIR_1.getPublicKey().toString());
+  }
+
+  @Test
+  void invalidSlashingProtectionDataDoesNotAddValidators() throws IOException {
+    when(artifactSignerProvider.availableIdentifiers()).thenReturn(Set.of());
+    doThrow(new IllegalArgumentException("invalid interchange"))
+        .when(slashingProtection)
+        .importDataWithFilter(any(), anyList());
+    final ImportKeystoresRequestBody requestBody =
+        new ImportKeystoresRequestBody(
+            List.of(keystore(KEY_PAIR_1)), List.of("password"), "{\"invalid\": true}");
+
+    assertThatThrownBy(() -> processor.process(requestBody, () -> {}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unable to import slashing protection data");
+    verify(validatorManager, never()).addValidator(any(), any());
+  }
+
+  @Test
+  void scryptKeystoresReserveMemoryBudgetBasedOnKdfParameters() throws IOException {
+    final KeyStoreData pbkdf2KeyStoreData = KeyStoreLoader.loadFromString(keystore(KEY_PAIR_1));
+    assertThat(decryptionExecutor.requiredPermits(pbkdf2KeyStoreData)).isEqualTo(1);
+
+    // 128 * r * n = 128 * 8 * 2^14 bytes = 16 MiB
+    final SCryptParam scryptParam = new SCryptParam(32, 16_384, 1, 8, Bytes.random(32));
+    final KeyStoreData scryptKeyStoreData = withKdfParam(pbkdf2KeyStoreData, scryptParam);
+    assertThat(decryptionExecutor.requiredPermits(scryptKeyStoreData)).isEqualTo(16);
+
+    // capped at the memory budget so that a single keystore can always be decrypted
+    final SCryptParam largeScryptParam = new SCryptParam(32, Bytes.random(32));
+    final KeyStoreData largeScryptKeyStoreData = withKdfParam(pbkdf2KeyStoreData, largeScryptParam);
+    assertThat(decryptionExecutor.requiredPermits(largeScryptKeyStoreData)).isEqualTo(64);
+  }
+
+  private String keystore(final BLSKeyPair keyPair) throws IOException {
+    final Path keystoreDir = Files.createDirectories(tempDir.resolve("keystores"));
+    return Files.readString(KeystoreUtil.createKeystoreFile(keyPair, keystoreDir, "password"));
+  }
+
+  private static KeyStoreData withKdfParam(
+      final KeyStoreData keyStoreData, final SCryptParam scryptParam) {
+    final Crypto crypto = keyStoreData.crypto();
+    return new KeyStoreData(
+        new Crypto(new Kdf(scryptParam), crypto.checksum(), crypto.cipher()),
+        keyStoreData.pubkey(),
+        keyStoreData.path());
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.keymanager.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.web3signer.core.service.http.SigningObjectMapperFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImportKeystoresRequestBodyReaderTest {
+  private static final ObjectMapper OBJECT_MAPPER = SigningObjectMapperFactory.createObjectMapper();
+
+  @TempDir Path tempDir;
+
+  private final ImportKeystoresRequestBodyReader reader =
+      new ImportKeystoresRequestBodyReader(OBJECT_MAPPER);
+
+  @Test
+  void slashingProtectionIsReadFromFileUntilBodyIsClosed() throws IOException {
+    final String slashingProtection =
+        new JsonObject()
+            .put("metadata", new JsonObject().put("interchange_format_version", "5"))
+            .put("data", new JsonArray())
+            .encode();
+    final Path body =
+        writeBody(
+            new JsonObject()
+                .put("keystores", new JsonArray().add("keystore1").add("keystore2"))
+                .put("passwords", new JsonArray().add("password1").add("password2"))
+                .put("unknown", new JsonObject().put("ignored", true))
+                .put("slashing_protection", slashingProtection));
+
+    final ImportKeystoresRequestBody requestBody = reader.read(body);
+    try (requestBody) {
+      assertThat(requestBody.getKeystores()).containsExactly("keystore1", "keystore2");
+      assertThat(requestBody.getPasswords()).containsExactly("password1", "password2");
+      assertThat(requestBody.hasSlashingProtection()).isTrue();
+      try (final InputStream data = requestBody.openSlashingProtection()) {
+        assertThat(new String(data.readAllBytes(), StandardCharsets.UTF_8))
+            .isEqualTo(slashingProtection);
+      }
+    }
+
+    assertThatThrownBy(requestBody::openSlashingProtection).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void missingOrEmptySlashingProtectionIsNotImported() throws IOException {
+    final JsonObject request =
+        new JsonObject()
+            .put("keystores", new JsonArray().add("keystore1"))
+            .put("passwords", new JsonArray().add("password1"));
+
+    try (final ImportKeystoresRequestBody requestBody = reader.read(writeBody(request))) {
+      assertThat(requestBody.hasSlashingProtection()).isFalse();
+    }
+    try (final ImportKeystoresRequestBody requestBody =
+        reader.read(writeBody(request.copy().put("slashing_protection", "")))) {
+      assertThat(requestBody.hasSlashingProtection()).isFalse();
+    }
+  }
+
+  @Test
+  void missingPasswordsIsRejected() throws IOException {
+    final Path body =
+        writeBody(new JsonObject().put("keystores", new JsonArray().add("keystore1")));
+
+    assertThatThrownBy(() -> reader.read(body)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void malformedBodyIsRejected() throws IOException {
+    final Path body = Files.writeString(tempDir.resolve("body.json"), "{\"keystores\": [");
+
+    assertThatThrownBy(() -> reader.read(body)).isInstanceOf(JsonProcessingException.class);
+  }
+
+  private Path writeBody(final JsonObject body) throws IOException {
+    return Files.writeString(Files.createTempFile(tempDir, "body", ".json"), body.encode());
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.signing.eth2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networks.Eth2NetworkConfiguration;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.web3signer.core.config.SigningLoadSheddingConfig;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.Eth2SigningLoadShedder.ShedReason;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.AttestationData;
+import tech.pegasys.web3signer.core.service.http.handlers.signing.eth2.schema.Checkpoint;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import io.vertx.ext.web.RoutingContext;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+
+class Eth2SigningLoadShedderTest {
+  private static final Spec SPEC =
+      Eth2NetworkConfiguration.builder()
+          .applyNetworkDefaults(Eth2Network.MAINNET)
+          .build()
+          .getSpec();
+  private static final long GENESIS_TIME = 1_000;
+  private static final int SECONDS_PER_SLOT = 12;
+
+  @Test
+  void requestWithinQueueDelayAndDeadlineIsSigned() {
+    final Eth2SigningLoadShedder shedder = shedderAt(slotStart(10), Optional.of(GENESIS_TIME));
+
+    assertThat(shedder.checkRequest(queuedFor(Duration.ZERO), attestation(10))).isEmpty();
+  }
+
+  @Test
+  void requestQueuedLongerThanMaxDelayIsShed() {
+    final Eth2SigningLoadShedder shedder = shedderAt(slotStart(10), Optional.of(GENESIS_TIME));
+
+    assertThat(shedder.checkRequest(queuedFor(Duration.ofSeconds(3)), attestation(10)))
+        .contains(ShedReason.QUEUE_DELAY);
+  }
+
+  @Test
+  void attestationIsShedOneSlotAfterItsSlotHasEnded() {
+    final RoutingContext routingContext = queuedFor(Duration.ZERO);
+
+    // slot 10 ends when slot 11 starts, the default deadline is one slot later
+    assertThat(
+            shedderAt(slotStart(12).minusSeconds(1), Optional.of(GENESIS_TIME))
+                .checkRequest(routingContext, attestation(10)))
+        .isEmpty();
+    assertThat(
+            shedderAt(slotStart(12).plusSeconds(1), Optional.of(GENESIS_TIME))
+                .checkRequest(routingContext, attestation(10)))
+        .contains(ShedReason.DEADLINE);
+  }
+
+  @Test
+  void deadlineIsConfiguredNumberOfSlotsAfterSlotHasEnded() {
+    final RoutingContext routingContext = queuedFor(Duration.ZERO);
+
+    assertThat(
+            shedderAt(slotStart(14).minusSeconds(1), Optional.of(GENESIS_TIME), 3)
+                .checkRequest(routingContext, attestation(10)))
+        .isEmpty();
+    assertThat(
+            shedderAt(slotStart(14).plusSeconds(1), Optional.of(GENESIS_TIME), 3)
+                .checkRequest(routingContext, attestation(10)))
+        .contains(ShedReason.DEADLINE);
+  }
+
+  @Test
+  void randaoRevealIsNotShedUntilOneSlotAfterItsEpochHasEnded() {
+    final RoutingContext routingContext = queuedFor(Duration.ZERO);
+    final Eth2SigningRequestBody randaoReveal =
+        body(ArtifactType.RANDAO_REVEAL, null, new RandaoReveal(UInt64.ONE));
+
+    // epoch 1 ends when slot 64 starts
+    assertThat(
+            shedderAt(slotStart(65).minusSeconds(1), Optional.of(GENESIS_TIME))
+                .checkRequest(routingContext, randaoReveal))
+        .isEmpty();
+    assertThat(
+            shedderAt(slotStart(65).plusSeconds(1), Optional.of(GENESIS_TIME))
+                .checkRequest(routingContext, randaoReveal))
+        .contains(ShedReason.DEADLINE);
+  }
+
+  @Test
+  void deadlineIsNotCheckedWithoutGenesisTime() {
+    final Eth2SigningLoadShedder shedder = shedderAt(slotStart(100), Optional.empty());
+
+    assertThat(shedder.checkRequest(queuedFor(Duration.ZERO), attestation(10))).isEmpty();
+  }
+
+  @Test
+  void requestWithoutSlotIsNotShedByDeadline() {
+    final Eth2SigningLoadShedder shedder = shedderAt(slotStart(100), Optional.of(GENESIS_TIME));
+
+    assertThat(
+            shedder.checkRequest(
+                queuedFor(Duration.ZERO), body(ArtifactType.VOLUNTARY_EXIT, null, null)))
+        .isEmpty();
+  }
+
+  private static Instant slotStart(final long slot) {
+    return Instant.ofEpochSecond(GENESIS_TIME + slot * SECONDS_PER_SLOT);
+  }
+
+  private static Eth2SigningLoadShedder shedderAt(
+      final Instant now, final Optional<Long> genesisTime) {
+    return shedderAt(now, genesisTime, 1);
+  }
+
+  private static Eth2SigningLoadShedder shedderAt(
+      final Instant now, final Optional<Long> genesisTime, final int deadlineSlots) {
+    final SigningLoadSheddingConfig config =
+        new SigningLoadSheddingConfig() {
+          @Override
+          public boolean isLoadSheddingEnabled() {
+            return true;
+          }
+
+          @Override
+          public long getMaxQueueDelayMillis() {
+            return 2_000;
+          }
+
+          @Override
+          public Optional<Long> getGenesisTime() {
+            return genesisTime;
+          }
+
+          @Override
+          public int getDeadlineSlots() {
+            return deadlineSlots;
+          }
+        };
+    return new Eth2SigningLoadShedder(
+        config, SPEC, new NoOpMetricsSystem(), Clock.fixed(now, ZoneOffset.UTC));
+  }
+
+  private static RoutingContext queuedFor(final Duration queueWait) {
+    final RoutingContext routingContext = mock(RoutingContext.class);
+    when(routingContext.<Long>get(Eth2SigningLoadShedder.RECEIVED_AT_KEY))
+        .thenReturn(System.nanoTime() - queueWait.toNanos());
+    return routingContext;
+  }
+
+  private static Eth2SigningRequestBody attestation(final long slot) {
+    final Checkpoint checkpoint = new Checkpoint(UInt64.ZERO, Bytes32.ZERO);
+    return body(
+        ArtifactType.ATTESTATION,
+        new AttestationData(
+            UInt64.valueOf(slot), UInt64.ZERO, Bytes32.ZERO, checkpoint, checkpoint),
+        null);
+  }
+
+  private static Eth2SigningRequestBody body(
+      final ArtifactType type,
+      final AttestationData attestation,
+      final RandaoReveal randaoReveal) {
+    return new Eth2SigningRequestBody(
+        type, null, null, null, null, attestation, null, null, null, randaoReveal, null, null, null,
+        null, null);
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.signing.eth2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.web3signer.core.config.SigningPriorityConfig;
+import tech.pegasys.web3signer.core.config.SigningPriorityConfig.PriorityClass;
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+
+class Eth2SigningPriorityExecutorTest {
+  private final List<PriorityClass> dispatched = new ArrayList<>();
+
+  @Test
+  void higherPriorityRequestIsDispatchedAheadOfQueuedLowerPriorityRequests() {
+    final Eth2SigningPriorityExecutor executor = executor(SigningPriorityConfig.DEFAULT_WEIGHTS);
+    submit(executor, PriorityClass.SYNC_COMMITTEE, 100);
+    submit(executor, PriorityClass.BLOCK, 1);
+
+    runQueued(executor, 2);
+
+    assertThat(dispatched).startsWith(PriorityClass.BLOCK);
+  }
+
+  @Test
+  void classesAreDispatchedInProportionToTheirWeights() {
+    final Eth2SigningPriorityExecutor executor =
+        executor(weights(PriorityClass.BLOCK, 3, PriorityClass.OTHER, 1));
+    submit(executor, PriorityClass.OTHER, 100);
+    submit(executor, PriorityClass.BLOCK, 100);
+
+    runQueued(executor, 40);
+
+    assertThat(dispatched).filteredOn(PriorityClass.BLOCK::equals).hasSize(30);
+    assertThat(dispatched).filteredOn(PriorityClass.OTHER::equals).hasSize(10);
+  }
+
+  @Test
+  void lowestPriorityClassIsNotStarved() {
+    final Eth2SigningPriorityExecutor executor = executor(SigningPriorityConfig.DEFAULT_WEIGHTS);
+    submit(executor, PriorityClass.OTHER, 1);
+    for (final PriorityClass priorityClass : PriorityClass.values()) {
+      submit(executor, priorityClass, 100);
+    }
+    final int totalWeight =
+        SigningPriorityConfig.DEFAULT_WEIGHTS.values().stream().mapToInt(Integer::intValue).sum();
+
+    runQueued(executor, totalWeight);
+
+    assertThat(dispatched).contains(PriorityClass.OTHER);
+  }
+
+  @Test
+  void queueIsEmptyOnceAllTasksDispatched() {
+    final Eth2SigningPriorityExecutor executor = executor(SigningPriorityConfig.DEFAULT_WEIGHTS);
+    submit(executor, PriorityClass.ATTESTATION, 2);
+
+    runQueued(executor, 2);
+
+    assertThat(executor.poll()).isEmpty();
+  }
+
+  @Test
+  void workerThreadsRunSubmittedTasks() throws InterruptedException {
+    final Eth2SigningPriorityExecutor executor =
+        new Eth2SigningPriorityExecutor(
+            SigningPriorityConfig.DEFAULT_WEIGHTS, 2, new NoOpMetricsSystem());
+    final CountDownLatch completed = new CountDownLatch(10);
+    try {
+      for (int i = 0; i < 10; i++) {
+        executor.submit(PriorityClass.ATTESTATION, completed::countDown);
+      }
+      assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      executor.close();
+    }
+  }
+
+  @Test
+  void tasksCannotBeSubmittedAfterClose() {
+    final Eth2SigningPriorityExecutor executor = executor(SigningPriorityConfig.DEFAULT_WEIGHTS);
+    executor.close();
+
+    assertThatThrownBy(() -> executor.submit(PriorityClass.BLOCK, () -> {}))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void weightsMustBePositive() {
+    final Map<PriorityClass, Integer> weights =
+        new EnumMap<>(SigningPriorityConfig.DEFAULT_WEIGHTS);
+    weights.put(PriorityClass.OTHER, 0);
+
+    assertThatThrownBy(() -> executor(weights)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void artifactTypesAreClassifiedByDeadline() {
+    assertThat(Eth2SigningPriorityExecutor.priorityClass(ArtifactType.BLOCK_V2))
+        .isEqualTo(PriorityClass.BLOCK);
+    assertThat(Eth2SigningPriorityExecutor.priorityClass(ArtifactType.ATTESTATION))
+        .isEqualTo(PriorityClass.ATTESTATION);
+    assertThat(Eth2SigningPriorityExecutor.priorityClass(ArtifactType.AGGREGATION_SLOT))
+        .isEqualTo(PriorityClass.AGGREGATE);
+    assertThat(Eth2SigningPriorityExecutor.priorityClass(ArtifactType.SYNC_COMMITTEE_MESSAGE))
+        .isEqualTo(PriorityClass.SYNC_COMMITTEE);
+    assertThat(Eth2SigningPriorityExecutor.priorityClass(ArtifactType.VALIDATOR_REGISTRATION))
+        .isEqualTo(PriorityClass.OTHER);
+  }
+
+  private static Eth2SigningPriorityExecutor executor(final Map<PriorityClass, Integer> weights) {
+    return new Eth2SigningPriorityExecutor(weights, new NoOpMetricsSystem());
+  }
+
+  private static Map<PriorityClass, Integer> weights(
+      final PriorityClass first,
+      final int firstWeight,
+      final PriorityClass second,
+      final int secondWeight) {
+    final Map<PriorityClass, Integer> weights =
+        new EnumMap<>(SigningPriorityConfig.DEFAULT_WEIGHTS);
+    weights.put(first, firstWeight);
+    weights.put(second, secondWeight);
+    return weights;
+  }
+
+  private void submit(
+      final Eth2SigningPriorityExecutor executor,
+      final PriorityClass priorityClass,
+      final int count) {
+    for (int i = 0; i < count; i++) {
+      executor.submit(priorityClass, () -> dispatched.add(priorityClass));
+    }
+  }
+
+  private static void runQueued(final Eth2SigningPriorityExecutor executor, final int count) {
+    for (int i = 0; i < count; i++) {
+      executor.poll().orElseThrow().run();
+    }
+  }
+}
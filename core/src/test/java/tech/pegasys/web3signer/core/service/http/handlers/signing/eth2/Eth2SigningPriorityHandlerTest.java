@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.http.handlers.signing.eth2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.core.service.http.ArtifactType;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class Eth2SigningPriorityHandlerTest {
+  private final Eth2SigningPriorityHandler handler =
+      new Eth2SigningPriorityHandler(null, null, new JsonFactory());
+
+  @Test
+  void typeIsReadFromStartOfBody() {
+    assertThat(handler.peekArtifactType(body("{\"type\":\"ATTESTATION\",\"signingRoot\":\"0x\"}")))
+        .contains(ArtifactType.ATTESTATION);
+  }
+
+  @Test
+  void typeIsReadAfterNestedFields() {
+    final String json =
+        "{\"fork_info\":{\"fork\":{\"epoch\":\"1\"},\"list\":[1,2]},\"type\":\"block_v2\"}";
+    assertThat(handler.peekArtifactType(body(json))).contains(ArtifactType.BLOCK_V2);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{\"signingRoot\":\"0x\"}",
+        "{\"type\":1}",
+        "{\"type\":\"UNKNOWN\"}",
+        "{\"type\":",
+        "not json",
+        "[\"ATTESTATION\"]",
+        ""
+      })
+  void bodyWithoutReadableTypeHasNoArtifactType(final String json) {
+    assertThat(handler.peekArtifactType(body(json))).isEmpty();
+  }
+
+  @Test
+  void missingBodyHasNoArtifactType() {
+    assertThat(handler.peekArtifactType(null)).isEmpty();
+  }
+
+  @Test
+  void typeBeyondPeekLimitIsNotRead() {
+    final String padding = "a".repeat(Eth2SigningPriorityHandler.MAX_PEEK_BYTES);
+    final String json = "{\"padding\":\"" + padding + "\",\"type\":\"ATTESTATION\"}";
+    assertThat(handler.peekArtifactType(body(json))).isEmpty();
+  }
+
+  @Test
+  void bodyIsNotModifiedByPeek() {
+    final String json = "{\"type\":\"RANDAO_REVEAL\",\"signingRoot\":\"0x\"}";
+    final Buffer body = body(json);
+    assertThat(handler.peekArtifactType(body)).contains(ArtifactType.RANDAO_REVEAL);
+    assertThat(body.toString()).isEqualTo(json);
+  }
+
+  private static Buffer body(final String json) {
+    return Buffer.buffer(json);
+  }
+}
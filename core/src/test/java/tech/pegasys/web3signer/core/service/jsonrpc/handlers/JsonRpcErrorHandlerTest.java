@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.jsonrpc.handlers;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.web3signer.core.service.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.web3signer.core.service.jsonrpc.response.JsonRpcError;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningUnavailableException;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JsonRpcErrorHandlerTest {
+  @Mock private HttpResponseFactory httpResponseFactory;
+  @Mock private RoutingContext context;
+  @Mock private HttpServerResponse response;
+
+  @Test
+  void unavailableRemoteSigningServiceRespondsWithServiceUnavailable() {
+    final JsonRpcRequestId requestId = new JsonRpcRequestId(1);
+    when(context.get(JsonRpcHandler.ID_ELEMENT_NAME)).thenReturn(requestId);
+    when(context.statusCode()).thenReturn(-1);
+    when(context.failure())
+        .thenReturn(new RemoteSigningUnavailableException("circuit breaker is open"));
+    when(context.response()).thenReturn(response);
+
+    new JsonRpcErrorHandler(httpResponseFactory).handle(context);
+
+    verify(httpResponseFactory)
+        .failureResponse(response, requestId, 503, JsonRpcError.SIGNING_SERVICE_UNAVAILABLE);
+  }
+}
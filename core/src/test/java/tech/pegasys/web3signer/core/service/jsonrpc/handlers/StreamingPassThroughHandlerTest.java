@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.jsonrpc.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.core.service.jsonrpc.Eth1JsonDecoderFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StreamingPassThroughHandlerTest {
+  private static final int MAX_REQUEST_BODY_SIZE = 64 * 1024;
+
+  private Vertx vertx;
+  private HttpServer server;
+
+  @BeforeEach
+  void setup() throws Exception {
+    vertx = Vertx.vertx();
+    final Router router = Router.router(vertx);
+    // bodies which are not JSON-RPC are never forwarded, so no downstream is needed
+    router
+        .route(HttpMethod.POST, "/*")
+        .handler(
+            new StreamingPassThroughHandler(
+                null, Eth1JsonDecoderFactory.create(), null, MAX_REQUEST_BODY_SIZE))
+        .handler(context -> context.response().end("not rpc"));
+    server =
+        vertx
+            .createHttpServer()
+            .requestHandler(router)
+            .listen(0, "127.0.0.1")
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void bodyWhichIsNotRpcIsPassedOn() throws Exception {
+    assertThat(post(Buffer.buffer("a".repeat(MAX_REQUEST_BODY_SIZE)), true)).isEqualTo(200);
+  }
+
+  @Test
+  void chunkedBodyWhichIsNotRpcAndLargerThanLimitIsRejected() throws Exception {
+    assertThat(post(Buffer.buffer("a".repeat(MAX_REQUEST_BODY_SIZE + 1)), true)).isEqualTo(413);
+  }
+
+  @Test
+  void bodyWithContentLengthLargerThanLimitIsRejected() throws Exception {
+    assertThat(post(Buffer.buffer("a".repeat(MAX_REQUEST_BODY_SIZE + 1)), false)).isEqualTo(413);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{\"jsonrpc\":\"2.0\",\"method\":\"eth_getLogs\"",
+        "  \n{\"id\":1, \"jsonrpc\" : \"2.0\"",
+        "[{\"jsonrpc\":\"2.0\",\"method\":\"eth_blockNumber\",\"id\":1},{\"jsonrpc\""
+      })
+  void prefixContainingVersionIsRpc(final String prefix) {
+    assertThat(StreamingPassThroughHandler.hasRpcPrefix(Buffer.buffer(prefix))).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "{\"username\":\"username1\",\"password\":\"pegasys\"}",
+        "{\"jsonrpc\":\"1.0\",\"method\":\"eth_getLogs\"",
+        "{\"method\":\"eth_getLogs\",\"jsonrpc\"",
+        "jsonrpc=\"2.0\"&{\"jsonrpc\":\"2.0\""
+      })
+  void prefixWithoutVersionIsNotRpc(final String prefix) {
+    assertThat(StreamingPassThroughHandler.hasRpcPrefix(Buffer.buffer(prefix))).isFalse();
+  }
+
+  @Test
+  void versionBeyondSniffLimitIsNotSeen() {
+    final String prefix =
+        "{\"params\":[\""
+            + "a".repeat(StreamingPassThroughHandler.SNIFF_LIMIT)
+            + "\"],\"jsonrpc\":\"2.0\"}";
+
+    assertThat(StreamingPassThroughHandler.hasRpcPrefix(Buffer.buffer(prefix))).isFalse();
+  }
+
+  private int post(final Buffer body, final boolean chunked) throws Exception {
+    return vertx
+        .createHttpClient()
+        .request(HttpMethod.POST, server.actualPort(), "127.0.0.1", "/unknown")
+        .compose(request -> request.setChunked(chunked).send(body))
+        .map(HttpClientResponse::statusCode)
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get(10, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.core.service.DownstreamPathCalculator;
+import tech.pegasys.web3signer.core.service.VertxRequestTransmitter;
+import tech.pegasys.web3signer.core.service.jsonrpc.Eth1JsonDecoderFactory;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction.transaction.EthNonceProvider;
+import tech.pegasys.web3signer.core.service.jsonrpc.handlers.sendtransaction.transaction.VertxNonceRequestTransmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Allocates nonces for accounts whose transaction counts are served by a local fake node. */
+class LocalNonceManagerTest {
+  private static final String ACCOUNT = "0x7577919ae5df4941180eac211965f275cdce314d";
+  private static final String OTHER_ACCOUNT = "0xf17f52151ebef6c7334fad080c5704d77216b732";
+  private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+  private final AtomicInteger nodeRequests = new AtomicInteger();
+  private final AtomicLong transactionCount = new AtomicLong(5);
+  private final AtomicLong clock = new AtomicLong();
+
+  private ExecutorService nodeExecutor;
+  private HttpServer node;
+  private Vertx vertx;
+  private HttpClient httpClient;
+  private LocalNonceManager nonceManager;
+
+  @BeforeEach
+  void setup() throws IOException {
+    node = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    node.createContext("/", this::handleRequest);
+    nodeExecutor = Executors.newCachedThreadPool();
+    node.setExecutor(nodeExecutor);
+    node.start();
+
+    vertx = Vertx.vertx();
+    httpClient =
+        vertx.createHttpClient(
+            new HttpClientOptions()
+                .setDefaultHost("127.0.0.1")
+                .setDefaultPort(node.getAddress().getPort()));
+    nonceManager = new LocalNonceManager(IDLE_TIMEOUT, clock::get);
+  }
+
+  @AfterEach
+  void teardown() {
+    httpClient.close();
+    vertx.close();
+    node.stop(0);
+    nodeExecutor.shutdownNow();
+  }
+
+  @Test
+  void concurrentTransactionsAreAllocatedSequentialNoncesFromOneNodeRequest() throws Exception {
+    final List<Future<BigInteger>> nonces = new ArrayList<>();
+    try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 20; i++) {
+        nonces.add(executor.submit(() -> nonceProvider(ACCOUNT).getNonce()));
+      }
+    }
+
+    final List<Long> allocated = new ArrayList<>();
+    for (final Future<BigInteger> nonce : nonces) {
+      allocated.add(nonce.get().longValueExact());
+    }
+    assertThat(allocated).containsExactlyInAnyOrderElementsOf(range(5, 25));
+    assertThat(nodeRequests).hasValue(1);
+  }
+
+  @Test
+  void addressCaseDoesNotAffectAllocation() {
+    assertThat(nonceProvider(ACCOUNT).getNonce()).isEqualTo(5);
+    final String upperCaseAccount = "0x" + ACCOUNT.substring(2).toUpperCase(Locale.ROOT);
+    assertThat(nonceProvider(upperCaseAccount).getNonce()).isEqualTo(6);
+    assertThat(nonceProvider(ACCOUNT.substring(2)).getNonce()).isEqualTo(7);
+    assertThat(nodeRequests).hasValue(1);
+  }
+
+  @Test
+  void eachAccountIsAllocatedNoncesSeparately() {
+    transactionCount.set(5);
+    assertThat(nonceProvider(ACCOUNT).getNonce()).isEqualTo(5);
+    transactionCount.set(2);
+    assertThat(nonceProvider(OTHER_ACCOUNT).getNonce()).isEqualTo(2);
+    assertThat(nonceProvider(ACCOUNT).getNonce()).isEqualTo(6);
+    assertThat(nodeRequests).hasValue(2);
+  }
+
+  @Test
+  void rejectedNonceIsRequestedFromNodeAgain() {
+    assertThat(nonceProvider(ACCOUNT).getNonce()).isEqualTo(5);
+    final NonceProvider rejectedTransaction = nonceProvider(ACCOUNT);
+    assertThat(rejectedTransaction.getNonce()).isEqualTo(6);
+
+    // the node accepted the transaction with nonce 5 only
+    transactionCount.set(6);
+    rejectedTransaction.nonceRejected();
+
+    assertThat(rejectedTransaction.getNonce()).isEqualTo(6);
+    assertThat(nonceProvider(ACCOUNT).getNonce()).isEqualTo(7);
+    assertThat(nodeRequests).hasValue(2);
+  }
+
+  @Test
+  void idleAccountsAreForgotten() {
+    assertThat(nonceProvider(ACCOUNT).getNonce()).isEqualTo(5);
+    clock.set(IDLE_TIMEOUT.dividedBy(2).toNanos());
+    assertThat(nonceProvider(OTHER_ACCOUNT).getNonce()).isEqualTo(5);
+    assertThat(nonceManager.trackedAccounts()).isEqualTo(2);
+
+    clock.set(IDLE_TIMEOUT.toNanos());
+    transactionCount.set(9);
+    assertThat(nonceProvider(OTHER_ACCOUNT).getNonce()).isEqualTo(6);
+    assertThat(nonceManager.trackedAccounts()).isEqualTo(1);
+
+    assertThat(nonceProvider(ACCOUNT).getNonce()).isEqualTo(9);
+    assertThat(nodeRequests).hasValue(3);
+  }
+
+  private NonceProvider nonceProvider(final String account) {
+    final VertxNonceRequestTransmitter nonceRequestTransmitter =
+        new VertxNonceRequestTransmitter(
+            MultiMap.caseInsensitiveMultiMap(),
+            Eth1JsonDecoderFactory.create(),
+            responseHandler ->
+                new VertxRequestTransmitter(
+                    vertx,
+                    httpClient,
+                    Duration.ofSeconds(5),
+                    new DownstreamPathCalculator(""),
+                    responseHandler));
+    return nonceManager.nonceProvider(
+        account, new EthNonceProvider(account, nonceRequestTransmitter));
+  }
+
+  private static List<Long> range(final long start, final long end) {
+    final List<Long> values = new ArrayList<>();
+    for (long value = start; value < end; value++) {
+      values.add(value);
+    }
+    return values;
+  }
+
+  private void handleRequest(final HttpExchange exchange) throws IOException {
+    final String requestBody =
+        new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    final JsonObject request = new JsonObject(requestBody);
+    nodeRequests.incrementAndGet();
+
+    final JsonObject response =
+        new JsonObject()
+            .put("jsonrpc", "2.0")
+            .put("id", request.getValue("id"))
+            .put("result", "0x" + Long.toHexString(transactionCount.get()));
+    final byte[] body = response.encode().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (final OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(body);
+    }
+  }
+}
@@ -12,21 +12,30 @@
  */
 package tech.pegasys.web3signer.keystorage.aws;
 
+import tech.pegasys.web3signer.keystorage.common.BoundedVirtualThreadExecutor;
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
 import tech.pegasys.web3signer.keystorage.common.MappedResults;
+import tech.pegasys.web3signer.keystorage.common.RetryBackoff;
 import tech.pegasys.web3signer.keystorage.common.SecretValueMapperUtil;
 
 import java.io.Closeable;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -34,12 +43,16 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClientBuilder;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.Filter;
 import software.amazon.awssdk.services.secretsmanager.model.FilterNameStringType;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.ListSecretsRequest;
+import software.amazon.awssdk.services.secretsmanager.model.ListSecretsResponse;
 import software.amazon.awssdk.services.secretsmanager.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.secretsmanager.model.SecretListEntry;
 import software.amazon.awssdk.services.secretsmanager.model.SecretsManagerException;
 import software.amazon.awssdk.services.secretsmanager.paginators.ListSecretsIterable;
 
@@ -47,9 +60,17 @@ public class AwsSecretsManager implements Closeable {
 
   private static final Logger LOG = LogManager.getLogger();
 
+  public static final int DEFAULT_FETCH_CONCURRENCY = 16;
+  // maximum number of secrets which can be fetched by a single BatchGetSecretValue request
+  static final int BATCH_SIZE = 20;
+  private static final RetryBackoff THROTTLING_BACKOFF =
+      new RetryBackoff(Duration.ofMillis(100), Duration.ofSeconds(10), 8);
+
   private final SecretsManagerClient secretsManagerClient;
+  private final AtomicBoolean batchGetSecretValueAllowed = new AtomicBoolean(true);
 
-  private AwsSecretsManager(final SecretsManagerClient secretsManagerClient) {
+  @VisibleForTesting
+  AwsSecretsManager(final SecretsManagerClient secretsManagerClient) {
     this.secretsManagerClient = secretsManagerClient;
   }
 
@@ -138,43 +159,175 @@ public class AwsSecretsManager implements Closeable {
       final Collection<String> namePrefixes,
       final Map<String, String> tags,
       final BiFunction<String, String, R> mapper) {
+    return mapSecrets(
+        namePrefixes, tags, mapper, DEFAULT_FETCH_CONCURRENCY, BulkLoadingMetrics.NO_OP);
+  }
+
+  /**
+   * Bulk load secrets. The listed secrets are fetched {@value #BATCH_SIZE} at a time using
+   * BatchGetSecretValue with at most {@code fetchConcurrency} requests in flight, throttled
+   * requests are retried with jittered exponential backoff.
+   *
+   * @param namePrefixes Collection of name prefixes to filter.
+   * @param tags Map of tag name/value pairs
+   * @param mapper The mapper function that can convert secret value to appropriate type
+   * @param fetchConcurrency Maximum number of concurrent requests to fetch secret values
+   * @param metrics Metrics updated as the secrets are fetched
+   * @return SecretValueResult with collection of secret values and error count if any.
+   */
+  public <R> MappedResults<R> mapSecrets(
+      final Collection<String> namePrefixes,
+      final Map<String, String> tags,
+      final BiFunction<String, String, R> mapper,
+      final int fetchConcurrency,
+      final BulkLoadingMetrics metrics) {
     final Set<R> result = ConcurrentHashMap.newKeySet();
     final AtomicInteger errorCount = new AtomicInteger(0);
+    final AtomicInteger fetchedCount = new AtomicInteger(0);
+    final long startTime = System.nanoTime();
+    // closing the executor waits for all submitted batches to complete
+    try (final BoundedVirtualThreadExecutor executor =
+        new BoundedVirtualThreadExecutor(fetchConcurrency)) {
+      final Consumer<List<String>> submitBatch =
+          secretNames ->
+              executor.execute(
+                  () -> {
+                    final MappedResults<R> batchResult =
+                        fetchBatch(secretNames, mapper, metrics, fetchedCount);
+                    result.addAll(batchResult.getValues());
+                    errorCount.addAndGet(batchResult.getErrorCount());
+                  });
+
+      try {
+        final List<String> secretNames = new ArrayList<>(BATCH_SIZE);
+        for (final ListSecretsResponse listSecretsResponse : listSecrets(namePrefixes, tags)) {
+          for (final SecretListEntry secretEntry : listSecretsResponse.secretList()) {
+            secretNames.add(secretEntry.name());
+            if (secretNames.size() == BATCH_SIZE) {
+              submitBatch.accept(List.copyOf(secretNames));
+              secretNames.clear();
+            }
+          }
+        }
+        if (!secretNames.isEmpty()) {
+          submitBatch.accept(List.copyOf(secretNames));
+        }
+      } catch (final Exception e) {
+        LOG.warn("Unexpected error during AWS list-secrets operation", e);
+        errorCount.incrementAndGet();
+      }
+    }
+    metrics.loadCompleted(fetchedCount.get(), Duration.ofNanos(System.nanoTime() - startTime));
+    return MappedResults.newInstance(result, errorCount.intValue());
+  }
+
+  private <R> MappedResults<R> fetchBatch(
+      final List<String> secretNames,
+      final BiFunction<String, String, R> mapper,
+      final BulkLoadingMetrics metrics,
+      final AtomicInteger fetchedCount) {
+    final Map<String, String> secretValues;
     try {
-      listSecrets(namePrefixes, tags)
-          .iterator()
-          .forEachRemaining(
-              listSecretsResponse ->
-                  listSecretsResponse.secretList().parallelStream()
-                      .forEach(
-                          secretEntry -> {
-                            try {
-                              final Optional<String> secretValue = fetchSecret(secretEntry.name());
-                              if (secretValue.isEmpty()) {
-                                LOG.warn(
-                                    "Failed to fetch secret name '{}', and was discarded",
-                                    secretEntry.name());
-                                errorCount.incrementAndGet();
-                              } else {
-                                MappedResults<R> multiResult =
-                                    SecretValueMapperUtil.mapSecretValue(
-                                        mapper, secretEntry.name(), secretValue.get());
-                                result.addAll(multiResult.getValues());
-                                errorCount.addAndGet(multiResult.getErrorCount());
-                              }
-                            } catch (final Exception e) {
-                              LOG.warn(
-                                  "Failed to map secret '{}' to requested object type due to: {}.",
-                                  secretEntry.name(),
-                                  e.getMessage());
-                              errorCount.incrementAndGet();
-                            }
-                          }));
+      secretValues = fetchSecretValues(secretNames, metrics);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      metrics.secretsFailed(secretNames.size());
+      return MappedResults.newInstance(Set.of(), secretNames.size());
     } catch (final Exception e) {
-      LOG.warn("Unexpected error during AWS list-secrets operation", e);
-      errorCount.incrementAndGet();
+      LOG.warn("Failed to fetch {} secrets due to: {}", secretNames.size(), e.getMessage());
+      metrics.secretsFailed(secretNames.size());
+      return MappedResults.newInstance(Set.of(), secretNames.size());
     }
-    return MappedResults.newInstance(result, errorCount.intValue());
+    metrics.secretsFetched(secretValues.size());
+    metrics.secretsFailed(secretNames.size() - secretValues.size());
+    fetchedCount.addAndGet(secretValues.size());
+
+    final Set<R> result = new HashSet<>();
+    int errorCount = 0;
+    for (final String secretName : secretNames) {
+      final String secretValue = secretValues.get(secretName);
+      if (secretValue == null) {
+        LOG.warn("Failed to fetch secret name '{}', and was discarded", secretName);
+        errorCount++;
+        continue;
+      }
+      try {
+        final MappedResults<R> multiResult =
+            SecretValueMapperUtil.mapSecretValue(mapper, secretName, secretValue);
+        result.addAll(multiResult.getValues());
+        errorCount += multiResult.getErrorCount();
+      } catch (final Exception e) {
+        LOG.warn(
+            "Failed to map secret '{}' to requested object type due to: {}.",
+            secretName,
+            e.getMessage());
+        errorCount++;
+      }
+    }
+    return MappedResults.newInstance(result, errorCount);
+  }
+
+  /** Returns the values of the secrets which could be fetched keyed by secret name. */
+  private Map<String, String> fetchSecretValues(
+      final List<String> secretNames, final BulkLoadingMetrics metrics)
+      throws InterruptedException {
+    final Map<String, String> secretValues = new HashMap<>();
+    if (batchGetSecretValueAllowed.get()) {
+      try {
+        final BatchGetSecretValueResponse response = batchGetSecretValue(secretNames, metrics);
+        response
+            .errors()
+            .forEach(
+                error ->
+                    LOG.debug(
+                        "Failed to fetch secret name '{}': {}", error.secretId(), error.message()));
+        response.secretValues().stream()
+            .filter(secretValue -> secretValue.secretString() != null)
+            .forEach(
+                secretValue -> secretValues.put(secretValue.name(), secretValue.secretString()));
+        return secretValues;
+      } catch (final SecretsManagerException e) {
+        if (!isAccessDenied(e)) {
+          throw e;
+        }
+        // BatchGetSecretValue requires its own IAM permission, fall back to GetSecretValue
+        LOG.warn("BatchGetSecretValue is not permitted, secrets will be fetched individually");
+        batchGetSecretValueAllowed.set(false);
+      }
+    }
+
+    for (final String secretName : secretNames) {
+      try {
+        fetchSecret(secretName).ifPresent(value -> secretValues.put(secretName, value));
+      } catch (final RuntimeException e) {
+        LOG.debug("Failed to fetch secret name '{}': {}", secretName, e.getMessage());
+      }
+    }
+    return secretValues;
+  }
+
+  private BatchGetSecretValueResponse batchGetSecretValue(
+      final List<String> secretNames, final BulkLoadingMetrics metrics)
+      throws InterruptedException {
+    final BatchGetSecretValueRequest request =
+        BatchGetSecretValueRequest.builder().secretIdList(secretNames).build();
+    for (int attempt = 0; ; attempt++) {
+      try {
+        return secretsManagerClient.batchGetSecretValue(request);
+      } catch (final SecretsManagerException e) {
+        if (!e.isThrottlingException() || !THROTTLING_BACKOFF.canRetry(attempt)) {
+          throw e;
+        }
+        metrics.requestThrottled();
+        LOG.debug("BatchGetSecretValue throttled, retrying attempt {}", attempt + 1);
+        THROTTLING_BACKOFF.sleep(attempt);
+      }
+    }
+  }
+
+  private static boolean isAccessDenied(final SecretsManagerException e) {
+    return e.awsErrorDetails() != null
+        && "AccessDeniedException".equals(e.awsErrorDetails().errorCode());
   }
 
   @Override
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.azure;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.azure.core.credential.AccessToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Caches the access token used to sign via the Azure REST API. The token is renewed in the
+ * background when it comes within the refresh margin of expiring, so signing requests only wait
+ * for a token when there is no valid one. Concurrent callers share a single token request.
+ */
+class AzureAccessTokenCache {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Duration MIN_REFRESH_DELAY = Duration.ofSeconds(1);
+  private static final Executor REFRESH_EXECUTOR =
+      Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name("azure-token-refresh-", 0).factory());
+
+  private final Supplier<AccessToken> tokenSupplier;
+  private final Duration refreshMargin;
+  private volatile AccessToken token;
+  private CompletableFuture<AccessToken> pendingRefresh; // guarded by this
+
+  AzureAccessTokenCache(final Supplier<AccessToken> tokenSupplier, final Duration refreshMargin) {
+    this.tokenSupplier = tokenSupplier;
+    this.refreshMargin = refreshMargin;
+  }
+
+  String getToken() {
+    final AccessToken current = token;
+    final OffsetDateTime now = OffsetDateTime.now();
+    if (current != null && now.isBefore(current.getExpiresAt())) {
+      if (!now.isBefore(current.getExpiresAt().minus(refreshMargin))) {
+        refresh(current);
+      }
+      return current.getToken();
+    }
+    try {
+      return refresh(current).join().getToken();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Starts requesting a new token unless a request is already in progress or the stale token has
+   * already been replaced.
+   *
+   * @param staleToken the token to be replaced, null if there is no token yet
+   * @return the token request in progress or the token which replaced the stale token
+   */
+  private synchronized CompletableFuture<AccessToken> refresh(final AccessToken staleToken) {
+    if (pendingRefresh != null) {
+      return pendingRefresh;
+    }
+    if (token != staleToken) {
+      return CompletableFuture.completedFuture(token);
+    }
+    final CompletableFuture<AccessToken> refresh = new CompletableFuture<>();
+    pendingRefresh = refresh;
+    REFRESH_EXECUTOR.execute(() -> requestToken(refresh));
+    return refresh;
+  }
+
+  private void requestToken(final CompletableFuture<AccessToken> refresh) {
+    try {
+      final AccessToken newToken = tokenSupplier.get();
+      synchronized (this) {
+        token = newToken;
+        pendingRefresh = null;
+      }
+      scheduleRefresh(newToken);
+      refresh.complete(newToken);
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to refresh Azure access token: {}", e.getMessage());
+      synchronized (this) {
+        pendingRefresh = null;
+      }
+      refresh.completeExceptionally(e);
+    }
+  }
+
+  private void scheduleRefresh(final AccessToken newToken) {
+    final Duration untilExpiry = Duration.between(OffsetDateTime.now(), newToken.getExpiresAt());
+    // tokens with a lifetime shorter than the margin are refreshed half way to expiry
+    Duration delay = untilExpiry.minus(refreshMargin);
+    if (delay.compareTo(untilExpiry.dividedBy(2)) < 0) {
+      delay = untilExpiry.dividedBy(2);
+    }
+    if (delay.compareTo(MIN_REFRESH_DELAY) < 0) {
+      delay = MIN_REFRESH_DELAY;
+    }
+    CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, REFRESH_EXECUTOR)
+        .execute(() -> refresh(newToken));
+  }
+}
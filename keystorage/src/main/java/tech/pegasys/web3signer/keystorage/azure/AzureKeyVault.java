@@ -12,9 +12,13 @@
  */
 package tech.pegasys.web3signer.keystorage.azure;
 
+import tech.pegasys.web3signer.keystorage.common.BoundedVirtualThreadExecutor;
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
 import tech.pegasys.web3signer.keystorage.common.MappedResults;
+import tech.pegasys.web3signer.keystorage.common.RetryBackoff;
 import tech.pegasys.web3signer.keystorage.common.SecretValueMapperUtil;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.time.Duration;
@@ -26,16 +30,23 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import com.azure.core.credential.AccessToken;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
+import com.azure.core.exception.HttpResponseException;
 import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.FixedDelayOptions;
+import com.azure.core.http.policy.RetryOptions;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.util.HttpClientOptions;
 import com.azure.identity.ClientSecretCredentialBuilder;
@@ -61,14 +72,24 @@ import org.apache.tuweni.bytes.Bytes;
 public class AzureKeyVault {
 
   private static final Logger LOG = LogManager.getLogger();
+  public static final int DEFAULT_FETCH_CONCURRENCY = 16;
+  public static final Duration DEFAULT_TOKEN_REFRESH_MARGIN = Duration.ofMinutes(5);
+  private static final RetryBackoff RETRY_BACKOFF =
+      new RetryBackoff(Duration.ofMillis(100), Duration.ofSeconds(30), 8);
+  private static final int TOO_MANY_REQUESTS = 429;
+  private static final int SERVICE_UNAVAILABLE = 503;
+  // throttling, timeouts and transient server errors
+  private static final Set<Integer> RETRYABLE_STATUS_CODES =
+      Set.of(408, TOO_MANY_REQUESTS, 500, 502, SERVICE_UNAVAILABLE, 504);
+
   private final TokenCredential tokenCredential;
   private final SecretClient secretClient;
+  private final SecretClient bulkSecretClient;
   private final KeyClient keyClient;
   private static final List<String> SCOPE = List.of("https://vault.azure.net/.default");
   private final TokenRequestContext tokenRequestContext =
       new TokenRequestContext().setScopes(SCOPE);
-
-  private Optional<AccessToken> maybeToken = Optional.empty();
+  private final AzureAccessTokenCache accessTokenCache;
 
   public static AzureKeyVault createUsingClientSecretCredentials(
       final String clientId,
@@ -77,6 +98,24 @@ public class AzureKeyVault {
       final String vaultName,
       final ExecutorService executorService,
       final long timeout) {
+    return createUsingClientSecretCredentials(
+        clientId,
+        clientSecret,
+        tenantId,
+        vaultName,
+        executorService,
+        timeout,
+        DEFAULT_TOKEN_REFRESH_MARGIN);
+  }
+
+  public static AzureKeyVault createUsingClientSecretCredentials(
+      final String clientId,
+      final String clientSecret,
+      final String tenantId,
+      final String vaultName,
+      final ExecutorService executorService,
+      final long timeout,
+      final Duration tokenRefreshMargin) {
     final TokenCredential tokenCredential =
         new ClientSecretCredentialBuilder()
             .clientId(clientId)
@@ -84,39 +123,80 @@ public class AzureKeyVault {
             .tenantId(tenantId)
             .executorService(executorService)
             .build();
-    return new AzureKeyVault(tokenCredential, vaultName, timeout);
+    return new AzureKeyVault(tokenCredential, vaultName, timeout, tokenRefreshMargin);
   }
 
   public static AzureKeyVault createUsingManagedIdentity(
       final Optional<String> clientId, final String vaultName, final long timeout) {
+    return createUsingManagedIdentity(clientId, vaultName, timeout, DEFAULT_TOKEN_REFRESH_MARGIN);
+  }
+
+  public static AzureKeyVault createUsingManagedIdentity(
+      final Optional<String> clientId,
+      final String vaultName,
+      final long timeout,
+      final Duration tokenRefreshMargin) {
     final ManagedIdentityCredentialBuilder managedIdentityCredentialBuilder =
         new ManagedIdentityCredentialBuilder();
     clientId.ifPresent(managedIdentityCredentialBuilder::clientId);
-    return new AzureKeyVault(managedIdentityCredentialBuilder.build(), vaultName, timeout);
+    return new AzureKeyVault(
+        managedIdentityCredentialBuilder.build(), vaultName, timeout, tokenRefreshMargin);
   }
 
   private AzureKeyVault(
-      final TokenCredential tokenCredential, final String vaultName, final long timeout) {
-    this.tokenCredential = tokenCredential;
-    final String vaultUrl = constructAzureKeyVaultUrl(vaultName);
-
-    final HttpClient customisedHttpClient =
+      final TokenCredential tokenCredential,
+      final String vaultName,
+      final long timeout,
+      final Duration tokenRefreshMargin) {
+    this(
+        tokenCredential,
+        constructAzureKeyVaultUrl(vaultName),
         HttpClient.createDefault(
-            new HttpClientOptions().setResponseTimeout(Duration.ofSeconds(timeout)));
+            new HttpClientOptions().setResponseTimeout(Duration.ofSeconds(timeout))),
+        tokenRefreshMargin);
+  }
 
-    secretClient =
+  private AzureKeyVault(
+      final TokenCredential tokenCredential,
+      final String vaultUrl,
+      final HttpClient customisedHttpClient,
+      final Duration tokenRefreshMargin) {
+    this(
+        tokenCredential,
         new SecretClientBuilder()
             .httpClient(customisedHttpClient)
             .vaultUrl(vaultUrl)
             .credential(tokenCredential)
-            .buildClient();
-
-    keyClient =
+            .buildClient(),
+        // failed bulk requests are retried by mapSecrets so that throttling can be counted
+        new SecretClientBuilder()
+            .httpClient(customisedHttpClient)
+            .vaultUrl(vaultUrl)
+            .credential(tokenCredential)
+            .retryOptions(new RetryOptions(new FixedDelayOptions(0, Duration.ofMillis(1))))
+            .buildClient(),
         new KeyClientBuilder()
             .httpClient(customisedHttpClient)
             .vaultUrl(vaultUrl)
             .credential(tokenCredential)
-            .buildClient();
+            .buildClient(),
+        tokenRefreshMargin);
+  }
+
+  @VisibleForTesting
+  AzureKeyVault(
+      final TokenCredential tokenCredential,
+      final SecretClient secretClient,
+      final SecretClient bulkSecretClient,
+      final KeyClient keyClient,
+      final Duration tokenRefreshMargin) {
+    this.tokenCredential = tokenCredential;
+    this.accessTokenCache =
+        new AzureAccessTokenCache(
+            () -> tokenCredential.getTokenSync(tokenRequestContext), tokenRefreshMargin);
+    this.secretClient = secretClient;
+    this.bulkSecretClient = bulkSecretClient;
+    this.keyClient = keyClient;
   }
 
   public Optional<String> fetchSecret(final String secretName) {
@@ -138,39 +218,25 @@ public class AzureKeyVault {
   }
 
   public HttpRequest getRemoteSigningHttpRequest(
-      final byte[] data,
-      final SignatureAlgorithm signingAlgo,
-      final String vaultName,
-      final String azureKeyName,
-      final String azureKeyVersion) {
-
-    final String apiVersion = KeyServiceVersion.getLatest().getVersion();
-
+      final byte[] data, final SignatureAlgorithm signingAlgo, final URI signApiUri) {
     final JsonObject jsonBody = new JsonObject();
     jsonBody.put("alg", signingAlgo);
     jsonBody.put("value", Bytes.of(data).toBase64String());
 
-    final String uriString =
-        constructAzureSignApiUri(vaultName, azureKeyName, azureKeyVersion, apiVersion);
-
-    final HttpRequest httpRequest =
-        HttpRequest.newBuilder(URI.create(uriString))
-            .header("Content-Type", "application/json")
-            .header("Authorization", "Bearer " + getOrRequestNewToken())
-            .POST(HttpRequest.BodyPublishers.ofString(jsonBody.toString()))
-            .build();
-
-    return httpRequest;
+    return HttpRequest.newBuilder(signApiUri)
+        .header("Content-Type", "application/json")
+        .header("Authorization", "Bearer " + accessTokenCache.getToken())
+        .POST(HttpRequest.BodyPublishers.ofString(jsonBody.toString()))
+        .build();
   }
 
-  private String constructAzureSignApiUri(
-      final String keyVaultName,
-      final String keyName,
-      final String keyVersion,
-      final String apiVersion) {
-    return String.format(
-        "https://%s.vault.azure.net/keys/%s/%s/sign?api-version=%s",
-        keyVaultName, keyName, keyVersion, apiVersion);
+  public static URI constructAzureSignApiUri(
+      final String keyVaultName, final String keyName, final String keyVersion) {
+    final String apiVersion = KeyServiceVersion.getLatest().getVersion();
+    return URI.create(
+        String.format(
+            "https://%s.vault.azure.net/keys/%s/%s/sign?api-version=%s",
+            keyVaultName, keyName, keyVersion, apiVersion));
   }
 
   public static String constructAzureKeyVaultUrl(final String keyVaultName) {
@@ -187,39 +253,72 @@ public class AzureKeyVault {
    */
   public <R> MappedResults<R> mapSecrets(
       final BiFunction<String, String, R> mapper, final Map<String, String> tags) {
+    return mapSecrets(mapper, tags, DEFAULT_FETCH_CONCURRENCY, BulkLoadingMetrics.NO_OP);
+  }
+
+  /**
+   * Fetch multiple secrets from Azure, fetching up to {@code fetchConcurrency} secrets at a time.
+   * Throttled requests are retried after the delay requested by the vault's Retry-After header,
+   * and requests failing with a transient server or connection error after a backoff.
+   *
+   * @param mapper The mapper function to transform secret values to type R.
+   * @param tags Map of tags. Only secrets which contains all the tags entries are processed.
+   * @param fetchConcurrency Maximum number of secrets fetched concurrently.
+   * @param metrics Metrics updated as the secrets are fetched.
+   * @return Mapped results containing the converted secrets and error count.
+   * @param <R> The result type of mapper function.
+   */
+  public <R> MappedResults<R> mapSecrets(
+      final BiFunction<String, String, R> mapper,
+      final Map<String, String> tags,
+      final int fetchConcurrency,
+      final BulkLoadingMetrics metrics) {
     final Set<R> result = ConcurrentHashMap.newKeySet();
     final AtomicInteger errorCount = new AtomicInteger(0);
+    final AtomicInteger fetchedCount = new AtomicInteger(0);
+    final long startTime = System.nanoTime();
     try {
-      final PagedIterable<SecretProperties> secretsPagedIterable =
-          secretClient.listPropertiesOfSecrets();
-
-      secretsPagedIterable
-          .streamByPage()
-          .forEach(
-              keyPage ->
-                  keyPage.getValue().parallelStream()
-                      .filter(secretProperties -> secretPropertiesPredicate(tags, secretProperties))
-                      .forEach(
-                          sp -> {
-                            try {
-                              final KeyVaultSecret secret = secretClient.getSecret(sp.getName());
-                              final MappedResults<R> multiResult =
-                                  SecretValueMapperUtil.mapSecretValue(
-                                      mapper, sp.getName(), secret.getValue());
-                              result.addAll(multiResult.getValues());
-                              errorCount.addAndGet(multiResult.getErrorCount());
-                            } catch (final Exception e) {
-                              LOG.warn(
-                                  "Failed to map secret '{}' to requested object type.",
-                                  sp.getName());
-                              errorCount.incrementAndGet();
-                            }
-                          }));
-
+      forEachConcurrently(
+          secretClient.listPropertiesOfSecrets(),
+          secretProperties -> secretPropertiesPredicate(tags, secretProperties),
+          sp -> {
+            final KeyVaultSecret secret;
+            try {
+              secret = getSecretRetrying(sp.getName(), metrics);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+              metrics.secretsFailed(1);
+              errorCount.incrementAndGet();
+              return;
+            } catch (final RuntimeException e) {
+              LOG.warn("Failed to fetch secret '{}' due to: {}", sp.getName(), e.getMessage());
+              metrics.secretsFailed(1);
+              errorCount.incrementAndGet();
+              return;
+            }
+            metrics.secretsFetched(1);
+            fetchedCount.incrementAndGet();
+            try {
+              final MappedResults<R> multiResult =
+                  SecretValueMapperUtil.mapSecretValue(mapper, sp.getName(), secret.getValue());
+              result.addAll(multiResult.getValues());
+              errorCount.addAndGet(multiResult.getErrorCount());
+            } catch (final Exception e) {
+              LOG.warn("Failed to map secret '{}' to requested object type.", sp.getName());
+              errorCount.incrementAndGet();
+            }
+          },
+          fetchConcurrency,
+          metrics);
     } catch (final Exception e) {
       LOG.error("Unexpected error during Azure map-secrets", e);
       errorCount.incrementAndGet();
     }
+
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+    LOG.debug(
+        "Fetched {} secrets from Azure Key Vault in {} ms", fetchedCount.get(), elapsed.toMillis());
+    metrics.loadCompleted(fetchedCount.get(), elapsed);
     return MappedResults.newInstance(result, errorCount.intValue());
   }
 
@@ -234,36 +333,154 @@ public class AzureKeyVault {
    */
   public <R> MappedResults<R> mapKeyProperties(
       final Function<KeyProperties, R> mapper, final Map<String, String> tags) {
+    return mapKeyProperties(mapper, tags, DEFAULT_FETCH_CONCURRENCY, BulkLoadingMetrics.NO_OP);
+  }
+
+  /**
+   * Fetch multiple "Keys" objects from Azure Key Vault, applying the mapper to up to {@code
+   * fetchConcurrency} keys at a time as the mapper usually makes remote calls to the vault.
+   *
+   * @param mapper Mapper function to transform Azure KeyProperties to type R
+   * @param tags Map of tags. Only keys which contains all the tags entries are processed.
+   * @param fetchConcurrency Maximum number of keys mapped concurrently.
+   * @param metrics Metrics updated as the keys are mapped.
+   * @return Mapped results containing the converted keys and error count.
+   * @param <R> The result type of mapper function.
+   */
+  public <R> MappedResults<R> mapKeyProperties(
+      final Function<KeyProperties, R> mapper,
+      final Map<String, String> tags,
+      final int fetchConcurrency,
+      final BulkLoadingMetrics metrics) {
     final Set<R> result = ConcurrentHashMap.newKeySet();
     final AtomicInteger errorCount = new AtomicInteger(0);
+    final long startTime = System.nanoTime();
     try {
-      keyClient
-          .listPropertiesOfKeys()
-          .streamByPage()
-          .forEach(
-              keyPage ->
-                  keyPage.getValue().parallelStream()
-                      .filter(keyProperties -> keyPropertiesPredicate(tags, keyProperties))
-                      .forEach(
-                          kp -> {
-                            try {
-                              final R value = mapper.apply(kp);
-                              result.add(value);
-                            } catch (final Exception e) {
-                              LOG.warn(
-                                  "Failed to map keyProperties '{}' to requested object type.",
-                                  kp.getName());
-                              errorCount.incrementAndGet();
-                            }
-                          }));
+      forEachConcurrently(
+          keyClient.listPropertiesOfKeys(),
+          keyProperties -> keyPropertiesPredicate(tags, keyProperties),
+          kp -> {
+            try {
+              final R value = mapper.apply(kp);
+              result.add(value);
+              metrics.secretsFetched(1);
+            } catch (final Exception e) {
+              LOG.warn(
+                  "Failed to map keyProperties '{}' to requested object type.", kp.getName());
+              metrics.secretsFailed(1);
+              errorCount.incrementAndGet();
+            }
+          },
+          fetchConcurrency,
+          metrics);
     } catch (final Exception e) {
       LOG.error("Unexpected error during Azure mapKeyProperties", e);
       errorCount.incrementAndGet();
     }
 
+    metrics.loadCompleted(result.size(), Duration.ofNanos(System.nanoTime() - startTime));
     return MappedResults.newInstance(result, errorCount.intValue());
   }
 
+  /**
+   * Runs the action for each listed item on virtual threads, listing the next page while the items
+   * from earlier pages are still being processed. Returns once all the items have been processed.
+   */
+  private static <T> void forEachConcurrently(
+      final PagedIterable<T> pagedIterable,
+      final Predicate<T> filter,
+      final Consumer<T> action,
+      final int concurrency,
+      final BulkLoadingMetrics metrics) {
+    try (final BoundedVirtualThreadExecutor executor =
+        new BoundedVirtualThreadExecutor(concurrency)) {
+      pagedIterable
+          .streamByPage()
+          .forEach(
+              page -> {
+                final List<T> items = page.getValue().stream().filter(filter).toList();
+                if (items.isEmpty()) {
+                  return;
+                }
+                final long pageStartTime = System.nanoTime();
+                final BulkLoadingMetrics.PageTimer pageTimer = metrics.startPage();
+                final AtomicInteger remaining = new AtomicInteger(items.size());
+                items.forEach(
+                    item ->
+                        executor.execute(
+                            () -> {
+                              try {
+                                action.accept(item);
+                              } finally {
+                                if (remaining.decrementAndGet() == 0) {
+                                  pageTimer.pageCompleted();
+                                  LOG.debug(
+                                      "Loaded page of {} items from Azure Key Vault in {} ms",
+                                      items.size(),
+                                      Duration.ofNanos(System.nanoTime() - pageStartTime)
+                                          .toMillis());
+                                }
+                              }
+                            }));
+              });
+    }
+  }
+
+  private KeyVaultSecret getSecretRetrying(
+      final String secretName, final BulkLoadingMetrics metrics) throws InterruptedException {
+    for (int attempt = 0; ; attempt++) {
+      try {
+        return bulkSecretClient.getSecret(secretName);
+      } catch (final HttpResponseException e) {
+        final HttpResponse response = e.getResponse();
+        if (!isRetryable(response) || !RETRY_BACKOFF.canRetry(attempt)) {
+          throw e;
+        }
+        if (isThrottled(response)) {
+          metrics.requestThrottled();
+        }
+        LOG.debug(
+            "Fetching secret '{}' failed with status {}, retrying attempt {}",
+            secretName,
+            response.getStatusCode(),
+            attempt + 1);
+        Thread.sleep(
+            RETRY_BACKOFF.delayMillis(
+                attempt,
+                RetryBackoff.parseRetryAfter(response.getHeaderValue(HttpHeaderName.RETRY_AFTER))));
+      } catch (final RuntimeException e) {
+        if (!isConnectionError(e) || !RETRY_BACKOFF.canRetry(attempt)) {
+          throw e;
+        }
+        LOG.debug(
+            "Fetching secret '{}' failed with {}, retrying attempt {}",
+            secretName,
+            e.getMessage(),
+            attempt + 1);
+        RETRY_BACKOFF.sleep(attempt);
+      }
+    }
+  }
+
+  private static boolean isRetryable(final HttpResponse response) {
+    return response != null && RETRYABLE_STATUS_CODES.contains(response.getStatusCode());
+  }
+
+  private static boolean isThrottled(final HttpResponse response) {
+    return response.getStatusCode() == TOO_MANY_REQUESTS
+        || response.getStatusCode() == SERVICE_UNAVAILABLE;
+  }
+
+  /** The SDK wraps connection failures and timeouts in runtime exceptions. */
+  private static boolean isConnectionError(final Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof IOException || cause instanceof TimeoutException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Fetch all "Key" Objects from the Azure Key Vault. Useful for testing purposes.
    *
@@ -349,14 +566,6 @@ public class AzureKeyVault {
         && keyProperties.getTags().entrySet().containsAll(tags.entrySet());
   }
 
-  private String getOrRequestNewToken() {
-    if (maybeToken.isEmpty() || maybeToken.get().isExpired()) {
-      maybeToken = Optional.of(tokenCredential.getTokenSync(tokenRequestContext));
-    }
-
-    return maybeToken.get().getToken();
-  }
-
   @VisibleForTesting
   public record AzureSecret(String name, Set<String> values, Map<String, String> tags) {}
 
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.common;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs tasks on virtual threads with at most a fixed number running at once. Submitting a task
+ * blocks while the limit is reached so that the producer cannot run ahead of the remote vault.
+ */
+public class BoundedVirtualThreadExecutor implements AutoCloseable {
+  private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+  private final Semaphore permits;
+
+  public BoundedVirtualThreadExecutor(final int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be >= 1");
+    }
+    permits = new Semaphore(maxConcurrency);
+  }
+
+  public void execute(final Runnable task) {
+    permits.acquireUninterruptibly();
+    try {
+      executorService.execute(
+          () -> {
+            try {
+              task.run();
+            } finally {
+              permits.release();
+            }
+          });
+    } catch (final RejectedExecutionException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /** Waits for all submitted tasks to complete. */
+  @Override
+  public void close() {
+    executorService.close();
+  }
+}
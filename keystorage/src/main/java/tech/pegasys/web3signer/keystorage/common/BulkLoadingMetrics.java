@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.common;
+
+import java.time.Duration;
+
+/** Receives progress of secrets being bulk loaded from a remote vault. */
+public interface BulkLoadingMetrics {
+  BulkLoadingMetrics NO_OP = new BulkLoadingMetrics() {};
+
+  /** Called when secrets have been fetched from the vault. */
+  default void secretsFetched(final int count) {}
+
+  /** Called when secrets could not be fetched from the vault. */
+  default void secretsFailed(final int count) {}
+
+  /** Called each time the vault throttles a request which is then retried. */
+  default void requestThrottled() {}
+
+  /** Called once all the secrets have been fetched from the vault. */
+  default void loadCompleted(final int secretsFetched, final Duration elapsed) {}
+
+  /** Called when loading the secrets from a page listed by the vault starts. */
+  default PageTimer startPage() {
+    return () -> {};
+  }
+
+  /** Notified when all the secrets from a listed page have been loaded. */
+  @FunctionalInterface
+  interface PageTimer {
+    void pageCompleted();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.common;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Exponential backoff with full jitter for retrying requests throttled by a remote vault. */
+public class RetryBackoff {
+  private static final int MAX_SHIFT = 16;
+
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  private final int maxRetries;
+
+  public RetryBackoff(final Duration baseDelay, final Duration maxDelay, final int maxRetries) {
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+    this.maxRetries = maxRetries;
+  }
+
+  public boolean canRetry(final int attempt) {
+    return attempt < maxRetries;
+  }
+
+  /**
+   * A random delay up to a cap which doubles with each attempt, so that clients throttled at the
+   * same time do not retry together.
+   *
+   * @param attempt zero based number of the attempt which failed
+   * @return delay in milliseconds
+   */
+  public long delayMillis(final int attempt) {
+    final long cap =
+        Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt, MAX_SHIFT));
+    return ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+
+  /**
+   * The delay requested by the vault if it specified one, limited to the maximum delay, otherwise
+   * the jittered backoff for the attempt.
+   *
+   * @param attempt zero based number of the attempt which failed
+   * @param retryAfter delay requested by the vault
+   * @return delay in milliseconds
+   */
+  public long delayMillis(final int attempt, final Optional<Duration> retryAfter) {
+    return retryAfter
+        .map(delay -> Math.clamp(delay.toMillis(), 0, maxDelay.toMillis()))
+        .orElseGet(() -> delayMillis(attempt));
+  }
+
+  public void sleep(final int attempt) throws InterruptedException {
+    Thread.sleep(delayMillis(attempt));
+  }
+
+  /**
+   * Parses the value of an HTTP Retry-After header, which is either a number of seconds or an
+   * HTTP date.
+   *
+   * @param headerValue value of the header, may be null
+   * @return the delay, or empty if the header is missing or invalid
+   */
+  public static Optional<Duration> parseRetryAfter(final String headerValue) {
+    if (headerValue == null || headerValue.isBlank()) {
+      return Optional.empty();
+    }
+    final String value = headerValue.trim();
+    try {
+      return Optional.of(Duration.ofSeconds(Long.parseLong(value)));
+    } catch (final NumberFormatException e) {
+      // not delay-seconds so try HTTP-date
+    }
+    try {
+      final ZonedDateTime retryAt =
+          ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+      return Optional.of(Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt));
+    } catch (final DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -12,18 +12,24 @@
  */
 package tech.pegasys.web3signer.keystorage.gcp;
 
+import tech.pegasys.web3signer.keystorage.common.BoundedVirtualThreadExecutor;
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
 import tech.pegasys.web3signer.keystorage.common.MappedResults;
+import tech.pegasys.web3signer.keystorage.common.RetryBackoff;
 import tech.pegasys.web3signer.keystorage.common.SecretValueMapperUtil;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
 import com.google.cloud.secretmanager.v1.AccessSecretVersionRequest;
 import com.google.cloud.secretmanager.v1.AccessSecretVersionResponse;
 import com.google.cloud.secretmanager.v1.ListSecretsRequest;
@@ -31,6 +37,7 @@ import com.google.cloud.secretmanager.v1.ProjectName;
 import com.google.cloud.secretmanager.v1.Secret;
 import com.google.cloud.secretmanager.v1.SecretManagerServiceClient;
 import com.google.cloud.secretmanager.v1.SecretPayload;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.ByteString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -38,10 +45,19 @@ import org.apache.logging.log4j.Logger;
 public class GcpSecretManager implements Closeable {
 
   private static final Logger LOG = LogManager.getLogger();
+  public static final int DEFAULT_FETCH_CONCURRENCY = 16;
+  private static final RetryBackoff RETRY_BACKOFF =
+      new RetryBackoff(Duration.ofMillis(100), Duration.ofSeconds(10), 8);
+
   private final SecretManagerServiceClient secretManagerServiceClient;
 
   public GcpSecretManager() throws IOException {
-    secretManagerServiceClient = SecretManagerServiceClient.create();
+    this(SecretManagerServiceClient.create());
+  }
+
+  @VisibleForTesting
+  GcpSecretManager(final SecretManagerServiceClient secretManagerServiceClient) {
+    this.secretManagerServiceClient = secretManagerServiceClient;
   }
 
   @Override
@@ -61,42 +77,96 @@ public class GcpSecretManager implements Closeable {
       final String projectId,
       final Optional<String> filter,
       final BiFunction<String, String, R> mapper) {
+    return mapSecrets(
+        projectId, filter, mapper, DEFAULT_FETCH_CONCURRENCY, BulkLoadingMetrics.NO_OP);
+  }
 
+  /**
+   * Bulk load secrets, fetching up to {@code fetchConcurrency} secrets at a time. Requests failing
+   * with RESOURCE_EXHAUSTED or UNAVAILABLE are retried with jittered exponential backoff.
+   *
+   * @param projectId GCP Project Id
+   * @param filter GCP Resource filter
+   * @param mapper The mapper function that can convert secret value to appropriate type
+   * @param fetchConcurrency Maximum number of secrets fetched concurrently
+   * @param metrics Metrics updated as the secrets are fetched
+   * @return SecretValueResult with collection of secret values and error count if any.
+   */
+  public <R> MappedResults<R> mapSecrets(
+      final String projectId,
+      final Optional<String> filter,
+      final BiFunction<String, String, R> mapper,
+      final int fetchConcurrency,
+      final BulkLoadingMetrics metrics) {
     final Set<R> result = ConcurrentHashMap.newKeySet();
     final AtomicInteger errorCount = new AtomicInteger(0);
-    try {
+    final AtomicInteger fetchedCount = new AtomicInteger(0);
+    final long startTime = System.nanoTime();
+    // closing the executor waits for all submitted fetches to complete
+    try (final BoundedVirtualThreadExecutor executor =
+        new BoundedVirtualThreadExecutor(fetchConcurrency)) {
       listSecrets(projectId, filter)
           .forEach(
-              secretEntry -> {
-                try {
-                  final Optional<String> secretValue = fetchStringSecret(secretEntry.getName());
-                  if (secretValue.isEmpty()) {
-                    LOG.warn(
-                        "Failed to fetch secret name '{}', and was discarded",
-                        secretEntry.getName());
-                    errorCount.incrementAndGet();
-                  } else {
-                    MappedResults<R> multiResult =
-                        SecretValueMapperUtil.mapSecretValue(
-                            mapper, secretEntry.getName(), secretValue.get());
-                    result.addAll(multiResult.getValues());
-                    errorCount.addAndGet(multiResult.getErrorCount());
-                  }
-                } catch (final Exception e) {
-                  LOG.warn(
-                      "Failed to map secret '{}' to requested object type due to: {}.",
-                      secretEntry.getName(),
-                      e.getMessage());
-                  errorCount.incrementAndGet();
-                }
-              });
+              secretEntry ->
+                  executor.execute(
+                      () -> {
+                        final MappedResults<R> secretResult =
+                            fetchAndMapSecret(
+                                secretEntry.getName(), mapper, metrics, fetchedCount);
+                        result.addAll(secretResult.getValues());
+                        errorCount.addAndGet(secretResult.getErrorCount());
+                      }));
     } catch (final Exception e) {
       LOG.warn("Unexpected error during GCP list-secrets operation", e);
       errorCount.incrementAndGet();
     }
+
+    final Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+    LOG.debug(
+        "Fetched {} secrets from GCP Secret Manager in {} ms",
+        fetchedCount.get(),
+        elapsed.toMillis());
+    metrics.loadCompleted(fetchedCount.get(), elapsed);
     return MappedResults.newInstance(result, errorCount.intValue());
   }
 
+  private <R> MappedResults<R> fetchAndMapSecret(
+      final String secretName,
+      final BiFunction<String, String, R> mapper,
+      final BulkLoadingMetrics metrics,
+      final AtomicInteger fetchedCount) {
+    final Optional<String> secretValue;
+    try {
+      secretValue = fetchStringSecret(secretName, metrics);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      metrics.secretsFailed(1);
+      return MappedResults.errorResult();
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to fetch secret name '{}' due to: {}", secretName, e.getMessage());
+      metrics.secretsFailed(1);
+      return MappedResults.errorResult();
+    }
+
+    if (secretValue.isEmpty()) {
+      LOG.warn("Failed to fetch secret name '{}', and was discarded", secretName);
+      metrics.secretsFailed(1);
+      return MappedResults.errorResult();
+    }
+    metrics.secretsFetched(1);
+    fetchedCount.incrementAndGet();
+
+    try {
+      return SecretValueMapperUtil.mapSecretValue(mapper, secretName, secretValue.get());
+    } catch (final Exception e) {
+      LOG.warn(
+          "Failed to map secret '{}' to requested object type due to: {}.",
+          secretName,
+          e.getMessage());
+      return MappedResults.errorResult();
+    }
+  }
+
   private Iterable<Secret> listSecrets(String projectId, Optional<String> filter) {
     final ListSecretsRequest request = listSecretsRequest(projectId, filter);
     return secretManagerServiceClient.listSecrets(request).iterateAll();
@@ -109,8 +179,10 @@ public class GcpSecretManager implements Closeable {
     return builder.build();
   }
 
-  private Optional<String> fetchStringSecret(String secretName) {
-    final AccessSecretVersionResponse accessSecretVersionResponse = fetchSecret(secretName);
+  private Optional<String> fetchStringSecret(
+      final String secretName, final BulkLoadingMetrics metrics) throws InterruptedException {
+    final AccessSecretVersionResponse accessSecretVersionResponse =
+        fetchSecret(secretName, metrics);
     if (accessSecretVersionResponse.hasPayload()) {
       SecretPayload payload = accessSecretVersionResponse.getPayload();
       ByteString payloadData = payload.getData();
@@ -120,9 +192,30 @@ public class GcpSecretManager implements Closeable {
     }
   }
 
-  private AccessSecretVersionResponse fetchSecret(String secretName) {
+  private AccessSecretVersionResponse fetchSecret(
+      final String secretName, final BulkLoadingMetrics metrics) throws InterruptedException {
     final AccessSecretVersionRequest accessSecretVersionRequest =
         AccessSecretVersionRequest.newBuilder().setName(secretName + "/versions/latest").build();
-    return secretManagerServiceClient.accessSecretVersion(accessSecretVersionRequest);
+    for (int attempt = 0; ; attempt++) {
+      try {
+        return secretManagerServiceClient.accessSecretVersion(accessSecretVersionRequest);
+      } catch (final ApiException e) {
+        if (!isRetryable(e) || !RETRY_BACKOFF.canRetry(attempt)) {
+          throw e;
+        }
+        metrics.requestThrottled();
+        LOG.debug(
+            "Fetching secret '{}' failed with {}, retrying attempt {}",
+            secretName,
+            e.getStatusCode().getCode(),
+            attempt + 1);
+        RETRY_BACKOFF.sleep(attempt);
+      }
+    }
+  }
+
+  private static boolean isRetryable(final ApiException e) {
+    final StatusCode.Code code = e.getStatusCode().getCode();
+    return code == StatusCode.Code.RESOURCE_EXHAUSTED || code == StatusCode.Code.UNAVAILABLE;
   }
 }
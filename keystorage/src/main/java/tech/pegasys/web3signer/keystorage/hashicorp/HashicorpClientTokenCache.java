@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.hashicorp;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the client tokens returned by Vault logins for each vault and auth role, so that signers
+ * sharing a role log in once rather than once per key. A token is renewed by logging in again once
+ * two thirds of its lease has elapsed, which leaves time to fetch keys before it expires.
+ * Concurrent callers for the same login wait for a single login request.
+ */
+class HashicorpClientTokenCache {
+
+  /** Identifies the login which issued a client token. */
+  record LoginKey(URI vaultUri, String authPath, String role, Path credentialPath) {}
+
+  /**
+   * A client token with the lease Vault granted it.
+   *
+   * @param token the Vault client token
+   * @param leaseDuration the token lifetime, empty if the token does not expire
+   */
+  record ClientToken(String token, Optional<Duration> leaseDuration) {}
+
+  private final Map<LoginKey, CachedToken> tokens = new ConcurrentHashMap<>();
+
+  String getToken(final LoginKey loginKey, final Supplier<ClientToken> login) {
+    return tokens.computeIfAbsent(loginKey, _key -> new CachedToken()).get(login);
+  }
+
+  void clear() {
+    tokens.clear();
+  }
+
+  private static class CachedToken {
+    private String token; // guarded by this
+    private Optional<Instant> renewAt = Optional.empty(); // guarded by this
+
+    synchronized String get(final Supplier<ClientToken> login) {
+      if (token == null || renewAt.map(time -> !Instant.now().isBefore(time)).orElse(false)) {
+        final Instant issuedAt = Instant.now();
+        final ClientToken clientToken = login.get();
+        token = clientToken.token();
+        renewAt =
+            clientToken
+                .leaseDuration()
+                .map(lease -> issuedAt.plus(lease.multipliedBy(2).dividedBy(3)));
+      }
+      return token;
+    }
+  }
+}
@@ -12,36 +12,56 @@
  */
 package tech.pegasys.web3signer.keystorage.hashicorp;
 
+import tech.pegasys.web3signer.keystorage.common.BoundedVirtualThreadExecutor;
+import tech.pegasys.web3signer.keystorage.common.RetryBackoff;
+import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpClientTokenCache.ClientToken;
+import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpClientTokenCache.LoginKey;
 import tech.pegasys.web3signer.keystorage.hashicorp.config.ConnectionParameters;
 import tech.pegasys.web3signer.keystorage.hashicorp.config.KeyDefinition;
 import tech.pegasys.web3signer.keystorage.hashicorp.config.KubernetesAuthOptions;
 
 import java.io.IOException;
+import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class HashicorpConnection {
+  public static final int DEFAULT_FETCH_CONCURRENCY = 16;
 
+  private static final Logger LOG = LogManager.getLogger();
   private static final String DEFAULT_HASHICORP_KEY_NAME = "value";
+  private static final RetryBackoff TIMEOUT_BACKOFF =
+      new RetryBackoff(Duration.ofMillis(100), Duration.ofSeconds(5), 3);
 
   private final HttpClient httpClient;
   private final ConnectionParameters connectionParameters;
+  private final HashicorpClientTokenCache tokenCache;
 
   HashicorpConnection(
-      final HttpClient httpClient, final ConnectionParameters connectionParameters) {
+      final HttpClient httpClient,
+      final ConnectionParameters connectionParameters,
+      final HashicorpClientTokenCache tokenCache) {
     this.httpClient = httpClient;
     this.connectionParameters = connectionParameters;
+    this.tokenCache = tokenCache;
   }
 
   public String fetchKey(final KeyDefinition key) {
@@ -54,18 +74,114 @@ public class HashicorpConnection {
                     "Error communicating with Hashicorp vault: Requested Secret name does not exist."));
   }
 
+  /**
+   * The keys fetched by {@link #fetchKeys(Collection, int)}.
+   *
+   * @param values the value of each key which was fetched
+   * @param failures the error of each key which could not be fetched
+   */
+  public record FetchedKeys(
+      Map<KeyDefinition, String> values, Map<KeyDefinition, HashicorpException> failures) {}
+
+  /**
+   * Fetches keys from the vault concurrently, with at most {@code maxInFlight} requests sent at
+   * once. Requests which time out are retried with backoff. Once a connection to the vault cannot
+   * be made, the keys which have not been requested yet fail with the same error rather than each
+   * waiting for the connection to fail.
+   *
+   * @param keys the keys to fetch
+   * @param maxInFlight the maximum number of concurrent requests to the vault
+   * @return the value of each key which was fetched and the error of each key which was not
+   */
+  public FetchedKeys fetchKeys(final Collection<KeyDefinition> keys, final int maxInFlight) {
+    final Map<KeyDefinition, String> values = new ConcurrentHashMap<>();
+    final Map<KeyDefinition, HashicorpException> failures = new ConcurrentHashMap<>();
+    final AtomicReference<HashicorpException> unreachable = new AtomicReference<>();
+    try (final BoundedVirtualThreadExecutor executor =
+        new BoundedVirtualThreadExecutor(maxInFlight)) {
+      for (final KeyDefinition key : keys) {
+        executor.execute(
+            () -> {
+              final HashicorpException vaultFailure = unreachable.get();
+              if (vaultFailure != null) {
+                failures.put(key, vaultFailure);
+                return;
+              }
+              try {
+                values.put(key, fetchKeyRetryingTimeouts(key));
+              } catch (final HashicorpException e) {
+                failures.put(key, e);
+                if (isConnectFailure(e) && unreachable.compareAndSet(null, e)) {
+                  LOG.warn(
+                      "Unable to reach Hashicorp vault {}: {}",
+                      connectionParameters.getVaultURI(),
+                      e.getMessage());
+                }
+              } catch (final RuntimeException e) {
+                failures.put(
+                    key,
+                    new HashicorpException(
+                        "Error communicating with Hashicorp vault: " + e.getMessage(), e));
+              }
+            });
+      }
+    }
+    return new FetchedKeys(values, failures);
+  }
+
+  private String fetchKeyRetryingTimeouts(final KeyDefinition key) {
+    for (int attempt = 0; ; attempt++) {
+      try {
+        return fetchKey(key);
+      } catch (final HashicorpException e) {
+        if (!isReadTimeout(e) || !TIMEOUT_BACKOFF.canRetry(attempt)) {
+          throw e;
+        }
+        LOG.debug("Fetching key {} timed out, retrying attempt {}", key.getKeyPath(), attempt + 1);
+      }
+      try {
+        TIMEOUT_BACKOFF.sleep(attempt);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new HashicorpException("Interrupted while communicating with Hashicorp Vault", e);
+      }
+    }
+  }
+
+  private static boolean isConnectFailure(final HashicorpException e) {
+    return e.getCause() instanceof ConnectException
+        || e.getCause() instanceof HttpConnectTimeoutException;
+  }
+
+  private static boolean isReadTimeout(final HashicorpException e) {
+    return e.getCause() instanceof HttpTimeoutException
+        && !(e.getCause() instanceof HttpConnectTimeoutException);
+  }
+
   /**
    * Authenticates with HashiCorp Vault using the Kubernetes auth method.
    *
    * <p>Reads the pod's service-account JWT from {@link
    * KubernetesAuthOptions#getServiceAccountTokenPath()}, then exchanges it for a short-lived Vault
-   * client token by posting to {@code POST /v1/auth/<authPath>/login}.
+   * client token by posting to {@code POST /v1/auth/<authPath>/login}. The client token is shared
+   * by all connections created by the same factory for this vault and role, and a new login is
+   * only made when the token is due for renewal.
    *
    * @param kubernetesAuthOptions Kubernetes auth configuration
    * @return the Vault client token returned by the login endpoint
    * @throws HashicorpException if authentication fails for any reason
    */
   public String authenticateWithKubernetes(final KubernetesAuthOptions kubernetesAuthOptions) {
+    final LoginKey loginKey =
+        new LoginKey(
+            connectionParameters.getVaultURI(),
+            kubernetesAuthOptions.getAuthPath(),
+            kubernetesAuthOptions.getKubernetesRole(),
+            kubernetesAuthOptions.getServiceAccountTokenPath());
+    return tokenCache.getToken(loginKey, () -> loginWithKubernetes(kubernetesAuthOptions));
+  }
+
+  private ClientToken loginWithKubernetes(final KubernetesAuthOptions kubernetesAuthOptions) {
     final String jwt = readServiceAccountToken(kubernetesAuthOptions);
     final URI loginUri = buildKubernetesLoginUri(kubernetesAuthOptions.getAuthPath());
     final String requestBody =
@@ -142,7 +258,7 @@ public class HashicorpConnection {
     }
   }
 
-  private String parseClientToken(final String responseBody, final String roleName) {
+  private ClientToken parseClientToken(final String responseBody, final String roleName) {
     try {
       final JsonObject json = new JsonObject(responseBody);
       final JsonObject auth = json.getJsonObject("auth");
@@ -159,8 +275,12 @@ public class HashicorpConnection {
                 + roleName
                 + "' may not be configured correctly.");
       }
-      return clientToken;
-    } catch (final DecodeException e) {
+      // a lease duration of 0 means the token does not expire
+      final long leaseSeconds = auth.getLong("lease_duration", 0L);
+      return new ClientToken(
+          clientToken,
+          leaseSeconds > 0 ? Optional.of(Duration.ofSeconds(leaseSeconds)) : Optional.empty());
+    } catch (final DecodeException | ClassCastException e) {
       throw new HashicorpException(
           "Failed to parse Kubernetes auth login response from Hashicorp Vault", e);
     }
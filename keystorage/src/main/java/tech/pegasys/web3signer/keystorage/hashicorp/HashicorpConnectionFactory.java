@@ -32,12 +32,13 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * Factory for Hashicorp connections. Uses Java's HttpClient implementation. Cache HttpClient for
- * each host/port.
+ * each host/port, and the client tokens from Vault logins for each host/port and auth role.
  */
 public class HashicorpConnectionFactory implements AutoCloseable {
 
   private static final Logger LOG = LogManager.getLogger();
   private final Map<URI, HttpClient> httpClientMap = new ConcurrentHashMap<>();
+  private final HashicorpClientTokenCache tokenCache = new HashicorpClientTokenCache();
   private final AtomicBoolean closed = new AtomicBoolean(false);
 
   public HashicorpConnectionFactory() {}
@@ -45,7 +46,7 @@ public class HashicorpConnectionFactory implements AutoCloseable {
   public HashicorpConnection create(final ConnectionParameters connectionParameters) {
     ensureNotClosed();
     final HttpClient httpClient = getHttpClient(connectionParameters);
-    return new HashicorpConnection(httpClient, connectionParameters);
+    return new HashicorpConnection(httpClient, connectionParameters, tokenCache);
   }
 
   private HttpClient getHttpClient(ConnectionParameters connectionParameters) {
@@ -134,6 +135,7 @@ public class HashicorpConnectionFactory implements AutoCloseable {
 
     LOG.debug(
         "Closing HashicorpConnectionFactory with {} active connections", httpClientMap.size());
+    tokenCache.clear();
 
     // Drain all entries atomically to local collection
     final List<Map.Entry<URI, HttpClient>> entries = new ArrayList<>();
@@ -16,6 +16,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.util.Objects;
 import java.util.Optional;
 
 public class ConnectionParameters {
@@ -64,6 +65,22 @@ public class ConnectionParameters {
     return httpProtocolVersion;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    ConnectionParameters that = (ConnectionParameters) o;
+    return timeoutMs == that.timeoutMs
+        && tlsOptions.equals(that.tlsOptions)
+        && httpProtocolVersion == that.httpProtocolVersion
+        && vaultURI.equals(that.vaultURI);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(tlsOptions, timeoutMs, httpProtocolVersion, vaultURI);
+  }
+
   public static final class Builder {
     private String serverHost;
     private Optional<Integer> serverPort = Optional.empty();
@@ -15,6 +15,7 @@ package tech.pegasys.web3signer.keystorage.hashicorp.config;
 import tech.pegasys.web3signer.keystorage.hashicorp.TrustStoreType;
 
 import java.nio.file.Path;
+import java.util.Objects;
 import java.util.Optional;
 
 public class TlsOptions {
@@ -43,4 +44,19 @@ public class TlsOptions {
   public String getTrustStorePassword() {
     return trustStorePassword;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    TlsOptions that = (TlsOptions) o;
+    return trustStoreType.equals(that.trustStoreType)
+        && Objects.equals(trustStorePath, that.trustStorePath)
+        && Objects.equals(trustStorePassword, that.trustStorePassword);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(trustStoreType, trustStorePath, trustStorePassword);
+  }
 }
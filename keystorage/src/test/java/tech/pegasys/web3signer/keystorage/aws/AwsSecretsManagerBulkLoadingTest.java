@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.aws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
+import tech.pegasys.web3signer.keystorage.common.MappedResults;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+
+/** Bulk loads secrets from a local stub of the AWS Secrets Manager JSON API. */
+class AwsSecretsManagerBulkLoadingTest {
+  private static final Pattern QUOTED_VALUE = Pattern.compile("\"([^\"]+)\"");
+  private static final String THROTTLING_ERROR =
+      "{\"__type\":\"ThrottlingException\",\"message\":\"Rate exceeded\"}";
+  private static final String ACCESS_DENIED_ERROR =
+      "{\"__type\":\"AccessDeniedException\",\"message\":\"Not authorized\"}";
+
+  private final List<String> secretNames = new ArrayList<>();
+  private final AtomicInteger batchRequests = new AtomicInteger();
+  private final AtomicInteger getSecretValueRequests = new AtomicInteger();
+  private final AtomicInteger inFlightBatchRequests = new AtomicInteger();
+  private final AtomicInteger maxInFlightBatchRequests = new AtomicInteger();
+  private final AtomicInteger throttledResponsesRemaining = new AtomicInteger();
+  private final RecordingMetrics metrics = new RecordingMetrics();
+  private volatile boolean batchAccessDenied;
+  private volatile String failingSecretName;
+
+  private ExecutorService serverExecutor;
+  private HttpServer server;
+  private AwsSecretsManager awsSecretsManager;
+
+  @BeforeEach
+  void setup() throws IOException {
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::handleRequest);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    final SecretsManagerClient client =
+        SecretsManagerClient.builder()
+            .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+            .region(Region.US_EAST_2)
+            .credentialsProvider(
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+            .overrideConfiguration(c -> c.retryStrategy(AwsRetryStrategy.doNotRetry()))
+            .build();
+    awsSecretsManager = new AwsSecretsManager(client);
+  }
+
+  @AfterEach
+  void teardown() {
+    awsSecretsManager.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void secretsAreFetchedInBatches() {
+    createSecrets(45);
+
+    final MappedResults<String> result = mapSecrets(4);
+
+    assertThat(result.getValues()).containsExactlyInAnyOrderElementsOf(expectedValues(45));
+    assertThat(result.getErrorCount()).isZero();
+    assertThat(batchRequests).hasValue(3);
+    assertThat(getSecretValueRequests).hasValue(0);
+    assertThat(metrics.fetched).hasValue(45);
+    assertThat(metrics.failed).hasValue(0);
+  }
+
+  @Test
+  void concurrentBatchRequestsAreLimited() {
+    createSecrets(200);
+
+    final MappedResults<String> result = mapSecrets(2);
+
+    assertThat(result.getValues()).hasSize(200);
+    assertThat(batchRequests).hasValue(10);
+    assertThat(maxInFlightBatchRequests.get()).isBetween(1, 2);
+  }
+
+  @Test
+  void throttledBatchRequestsAreRetried() {
+    createSecrets(20);
+    throttledResponsesRemaining.set(2);
+
+    final MappedResults<String> result = mapSecrets(1);
+
+    assertThat(result.getValues()).containsExactlyInAnyOrderElementsOf(expectedValues(20));
+    assertThat(result.getErrorCount()).isZero();
+    assertThat(batchRequests).hasValue(3);
+    assertThat(metrics.throttled).hasValue(2);
+  }
+
+  @Test
+  void secretsWhichCannotBeFetchedAreCountedAsErrors() {
+    createSecrets(5);
+    failingSecretName = secretNames.get(2);
+
+    final MappedResults<String> result = mapSecrets(1);
+
+    assertThat(result.getValues()).hasSize(4).doesNotContain("value-" + failingSecretName);
+    assertThat(result.getErrorCount()).isOne();
+    assertThat(metrics.fetched).hasValue(4);
+    assertThat(metrics.failed).hasValue(1);
+  }
+
+  @Test
+  void secretsAreFetchedIndividuallyWhenBatchRequestsAreDenied() {
+    createSecrets(25);
+    batchAccessDenied = true;
+
+    final MappedResults<String> result = mapSecrets(1);
+
+    assertThat(result.getValues()).containsExactlyInAnyOrderElementsOf(expectedValues(25));
+    assertThat(result.getErrorCount()).isZero();
+    assertThat(batchRequests).hasValue(1);
+    assertThat(getSecretValueRequests).hasValue(25);
+  }
+
+  private MappedResults<String> mapSecrets(final int fetchConcurrency) {
+    return awsSecretsManager.mapSecrets(
+        List.of(), Map.of(), (name, value) -> value, fetchConcurrency, metrics);
+  }
+
+  private void createSecrets(final int count) {
+    IntStream.range(0, count).mapToObj(i -> "secret-" + i).forEach(secretNames::add);
+  }
+
+  private Set<String> expectedValues(final int count) {
+    return secretNames.stream()
+        .limit(count)
+        .map(name -> "value-" + name)
+        .collect(Collectors.toSet());
+  }
+
+  private void handleRequest(final HttpExchange exchange) throws IOException {
+    final String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+    final String body =
+        new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    switch (target) {
+      case "secretsmanager.ListSecrets" -> respond(exchange, 200, listSecretsResponse());
+      case "secretsmanager.BatchGetSecretValue" -> handleBatchGetSecretValue(exchange, body);
+      case "secretsmanager.GetSecretValue" -> {
+        getSecretValueRequests.incrementAndGet();
+        final String name = quotedValues(body).get(1);
+        respond(exchange, 200, secretValueJson(name));
+      }
+      default -> respond(exchange, 400, "{\"__type\":\"InvalidRequestException\"}");
+    }
+  }
+
+  private void handleBatchGetSecretValue(final HttpExchange exchange, final String body)
+      throws IOException {
+    batchRequests.incrementAndGet();
+    if (batchAccessDenied) {
+      respond(exchange, 400, ACCESS_DENIED_ERROR);
+      return;
+    }
+    if (throttledResponsesRemaining.getAndDecrement() > 0) {
+      respond(exchange, 400, THROTTLING_ERROR);
+      return;
+    }
+
+    maxInFlightBatchRequests.accumulateAndGet(inFlightBatchRequests.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(20);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    inFlightBatchRequests.decrementAndGet();
+
+    final List<String> requestedNames = quotedValues(body);
+    final String secretValues =
+        requestedNames.stream()
+            .skip(1) // SecretIdList key
+            .filter(name -> !name.equals(failingSecretName))
+            .map(AwsSecretsManagerBulkLoadingTest::secretValueJson)
+            .collect(Collectors.joining(","));
+    final String errors =
+        requestedNames.contains(failingSecretName)
+            ? "{\"SecretId\":\""
+                + failingSecretName
+                + "\",\"ErrorCode\":\"ResourceNotFoundException\",\"Message\":\"Not found\"}"
+            : "";
+    respond(exchange, 200, "{\"SecretValues\":[" + secretValues + "],\"Errors\":[" + errors + "]}");
+  }
+
+  private String listSecretsResponse() {
+    return secretNames.stream()
+        .map(name -> "{\"Name\":\"" + name + "\"}")
+        .collect(Collectors.joining(",", "{\"SecretList\":[", "]}"));
+  }
+
+  private static String secretValueJson(final String name) {
+    return "{\"Name\":\"" + name + "\",\"SecretString\":\"value-" + name + "\"}";
+  }
+
+  private static List<String> quotedValues(final String body) {
+    final List<String> values = new ArrayList<>();
+    final Matcher matcher = QUOTED_VALUE.matcher(body);
+    while (matcher.find()) {
+      values.add(matcher.group(1));
+    }
+    return values;
+  }
+
+  private static void respond(final HttpExchange exchange, final int status, final String body)
+      throws IOException {
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (final OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+
+  private static class RecordingMetrics implements BulkLoadingMetrics {
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+
+    @Override
+    public void secretsFetched(final int count) {
+      fetched.addAndGet(count);
+    }
+
+    @Override
+    public void secretsFailed(final int count) {
+      failed.addAndGet(count);
+    }
+
+    @Override
+    public void requestThrottled() {
+      throttled.incrementAndGet();
+    }
+  }
+}
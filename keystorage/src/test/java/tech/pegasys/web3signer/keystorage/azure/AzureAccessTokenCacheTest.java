@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.azure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.azure.core.credential.AccessToken;
+import org.junit.jupiter.api.Test;
+
+class AzureAccessTokenCacheTest {
+  private static final Duration REFRESH_MARGIN = Duration.ofMinutes(5);
+
+  private final AtomicInteger tokenRequests = new AtomicInteger();
+  private final AtomicReference<Duration> nextTokenLifetime =
+      new AtomicReference<>(Duration.ofHours(1));
+
+  private final AzureAccessTokenCache tokenCache =
+      new AzureAccessTokenCache(this::requestToken, REFRESH_MARGIN);
+
+  @Test
+  void tokenIsRequestedOnceAndReused() {
+    assertThat(tokenCache.getToken()).isEqualTo("token-1");
+    assertThat(tokenCache.getToken()).isEqualTo("token-1");
+
+    assertThat(tokenRequests).hasValue(1);
+  }
+
+  @Test
+  void concurrentCallersShareOneTokenRequest() throws Exception {
+    final CountDownLatch requestStarted = new CountDownLatch(1);
+    final CountDownLatch releaseRequest = new CountDownLatch(1);
+    final AzureAccessTokenCache blockingCache =
+        new AzureAccessTokenCache(
+            () -> {
+              requestStarted.countDown();
+              try {
+                releaseRequest.await();
+              } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return requestToken();
+            },
+            REFRESH_MARGIN);
+
+    try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final List<Future<String>> tokens = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        tokens.add(executor.submit(blockingCache::getToken));
+      }
+      requestStarted.await();
+      releaseRequest.countDown();
+      for (final Future<String> token : tokens) {
+        assertThat(token.get()).isEqualTo("token-1");
+      }
+    }
+
+    assertThat(tokenRequests).hasValue(1);
+  }
+
+  @Test
+  void tokenWithinRefreshMarginIsReturnedWhileRenewedInBackground() throws InterruptedException {
+    nextTokenLifetime.set(REFRESH_MARGIN.minusMinutes(1));
+    assertThat(tokenCache.getToken()).isEqualTo("token-1");
+
+    nextTokenLifetime.set(Duration.ofHours(1));
+    assertThat(tokenCache.getToken()).isEqualTo("token-1");
+
+    assertThat(awaitToken("token-2")).isTrue();
+    assertThat(tokenRequests).hasValue(2);
+  }
+
+  @Test
+  void expiredTokenIsReplacedBeforeReturning() {
+    nextTokenLifetime.set(Duration.ofSeconds(-1));
+    assertThat(tokenCache.getToken()).isEqualTo("token-1");
+
+    nextTokenLifetime.set(Duration.ofHours(1));
+    assertThat(tokenCache.getToken()).isEqualTo("token-2");
+  }
+
+  @Test
+  void failedTokenRequestIsPropagatedAndRetriedOnNextCall() {
+    final AtomicInteger attempts = new AtomicInteger();
+    final AzureAccessTokenCache failingOnceCache =
+        new AzureAccessTokenCache(
+            () -> {
+              if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Authentication failed");
+              }
+              return requestToken();
+            },
+            REFRESH_MARGIN);
+
+    assertThatThrownBy(failingOnceCache::getToken)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Authentication failed");
+    assertThat(failingOnceCache.getToken()).isEqualTo("token-1");
+  }
+
+  private boolean awaitToken(final String expectedToken) throws InterruptedException {
+    final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (System.nanoTime() < deadline) {
+      if (tokenCache.getToken().equals(expectedToken)) {
+        return true;
+      }
+      Thread.sleep(10);
+    }
+    return false;
+  }
+
+  private AccessToken requestToken() {
+    final int requestNumber = tokenRequests.incrementAndGet();
+    return new AccessToken(
+        "token-" + requestNumber, OffsetDateTime.now().plus(nextTokenLifetime.get()));
+  }
+}
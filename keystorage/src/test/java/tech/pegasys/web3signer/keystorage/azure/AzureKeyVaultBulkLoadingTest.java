@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.azure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
+import tech.pegasys.web3signer.keystorage.common.MappedResults;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.security.keyvault.keys.KeyClientBuilder;
+import com.azure.security.keyvault.secrets.SecretClient;
+import com.azure.security.keyvault.secrets.SecretClientBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Bulk loads secrets from a local mock of the Azure Key Vault secrets REST API. */
+class AzureKeyVaultBulkLoadingTest {
+  private static final String SECRETS_PATH = "/secrets/";
+
+  private final AtomicInteger getRequests = new AtomicInteger();
+  private final AtomicInteger inFlightGetRequests = new AtomicInteger();
+  private final AtomicInteger maxInFlightGetRequests = new AtomicInteger();
+  private final Queue<FailedResponse> failedResponses = new ConcurrentLinkedQueue<>();
+  private final RecordingMetrics metrics = new RecordingMetrics();
+  private volatile int secretCount;
+  private volatile String missingSecretName;
+
+  private ExecutorService serverExecutor;
+  private HttpServer server;
+  private AzureKeyVault azureKeyVault;
+
+  /** A failure returned for the next secret request, a status of zero drops the connection. */
+  private record FailedResponse(int status, String retryAfter) {}
+
+  @BeforeEach
+  void setup() throws IOException {
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::handleRequest);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    // a pipeline without authentication or retry policies, retries are made by AzureKeyVault
+    final String vaultUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    final HttpPipeline pipeline =
+        new HttpPipelineBuilder().httpClient(HttpClient.createDefault()).build();
+    final SecretClient secretClient =
+        new SecretClientBuilder().vaultUrl(vaultUrl).pipeline(pipeline).buildClient();
+    azureKeyVault =
+        new AzureKeyVault(
+            mock(TokenCredential.class),
+            secretClient,
+            secretClient,
+            new KeyClientBuilder().vaultUrl(vaultUrl).pipeline(pipeline).buildClient(),
+            AzureKeyVault.DEFAULT_TOKEN_REFRESH_MARGIN);
+  }
+
+  @AfterEach
+  void teardown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void secretsAreFetchedConcurrently() {
+    secretCount = 50;
+
+    final MappedResults<String> result = mapSecrets(8);
+
+    assertThat(result.getValues()).containsExactlyInAnyOrderElementsOf(expectedValues());
+    assertThat(result.getErrorCount()).isZero();
+    assertThat(getRequests).hasValue(50);
+    assertThat(maxInFlightGetRequests.get()).isBetween(2, 8);
+    assertThat(metrics.fetched).hasValue(50);
+  }
+
+  @Test
+  void throttledRequestIsRetriedAfterRetryAfterDelay() {
+    secretCount = 1;
+    failedResponses.add(new FailedResponse(429, "1"));
+
+    final long start = System.nanoTime();
+    final MappedResults<String> result = mapSecrets(1);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start))
+        .isGreaterThanOrEqualTo(Duration.ofMillis(900));
+    assertThat(result.getValues()).containsExactlyInAnyOrderElementsOf(expectedValues());
+    assertThat(getRequests).hasValue(2);
+    assertThat(metrics.throttled).hasValue(1);
+  }
+
+  @Test
+  void transientServerAndConnectionErrorsAreRetried() {
+    secretCount = 3;
+    failedResponses.add(new FailedResponse(500, null));
+    failedResponses.add(new FailedResponse(502, null));
+    failedResponses.add(new FailedResponse(504, null));
+    failedResponses.add(new FailedResponse(0, null));
+
+    final MappedResults<String> result = mapSecrets(1);
+
+    assertThat(result.getValues()).containsExactlyInAnyOrderElementsOf(expectedValues());
+    assertThat(result.getErrorCount()).isZero();
+    assertThat(getRequests).hasValue(7);
+    assertThat(metrics.throttled).hasValue(0);
+  }
+
+  @Test
+  void missingSecretIsNotRetriedAndIsCountedAsError() {
+    secretCount = 5;
+    missingSecretName = "secret-2";
+
+    final MappedResults<String> result = mapSecrets(4);
+
+    assertThat(result.getValues()).hasSize(4).doesNotContain("value-secret-2");
+    assertThat(result.getErrorCount()).isOne();
+    assertThat(getRequests).hasValue(5);
+    assertThat(metrics.failed).hasValue(1);
+  }
+
+  private MappedResults<String> mapSecrets(final int fetchConcurrency) {
+    return azureKeyVault.mapSecrets((name, value) -> value, Map.of(), fetchConcurrency, metrics);
+  }
+
+  private Set<String> expectedValues() {
+    return IntStream.range(0, secretCount)
+        .mapToObj(i -> "value-secret-" + i)
+        .collect(Collectors.toSet());
+  }
+
+  private void handleRequest(final HttpExchange exchange) throws IOException {
+    final String path = exchange.getRequestURI().getPath();
+    final String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    if (path.equals("/secrets")) {
+      final JsonArray secrets = new JsonArray();
+      IntStream.range(0, secretCount)
+          .forEach(
+              i ->
+                  secrets.add(
+                      new JsonObject()
+                          .put("id", baseUrl + SECRETS_PATH + "secret-" + i)
+                          .put("attributes", new JsonObject().put("enabled", true))));
+      respond(exchange, 200, new JsonObject().put("value", secrets).encode());
+      return;
+    }
+
+    getRequests.incrementAndGet();
+    final FailedResponse failedResponse = failedResponses.poll();
+    if (failedResponse != null) {
+      if (failedResponse.status() == 0) {
+        exchange.close();
+        return;
+      }
+      if (failedResponse.retryAfter() != null) {
+        exchange.getResponseHeaders().add("Retry-After", failedResponse.retryAfter());
+      }
+      respond(exchange, failedResponse.status(), error("ServiceError"));
+      return;
+    }
+
+    maxInFlightGetRequests.accumulateAndGet(inFlightGetRequests.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(20);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlightGetRequests.decrementAndGet();
+    }
+
+    final String secretName = path.substring(SECRETS_PATH.length()).split("/")[0];
+    if (secretName.equals(missingSecretName)) {
+      respond(exchange, 404, error("SecretNotFound"));
+      return;
+    }
+    respond(
+        exchange,
+        200,
+        new JsonObject()
+            .put("value", "value-" + secretName)
+            .put("id", baseUrl + SECRETS_PATH + secretName + "/1")
+            .put("attributes", new JsonObject().put("enabled", true))
+            .encode());
+  }
+
+  private static String error(final String code) {
+    return new JsonObject()
+        .put("error", new JsonObject().put("code", code).put("message", code))
+        .encode();
+  }
+
+  private static void respond(final HttpExchange exchange, final int status, final String body)
+      throws IOException {
+    final byte[] response = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, response.length);
+    try (final OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(response);
+    }
+  }
+
+  private static class RecordingMetrics implements BulkLoadingMetrics {
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+
+    @Override
+    public void secretsFetched(final int count) {
+      fetched.addAndGet(count);
+    }
+
+    @Override
+    public void secretsFailed(final int count) {
+      failed.addAndGet(count);
+    }
+
+    @Override
+    public void requestThrottled() {
+      throttled.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBackoffTest {
+  private final RetryBackoff backoff =
+      new RetryBackoff(Duration.ofMillis(100), Duration.ofSeconds(5), 3);
+
+  @Test
+  void retriesAreLimited() {
+    assertThat(backoff.canRetry(2)).isTrue();
+    assertThat(backoff.canRetry(3)).isFalse();
+  }
+
+  @Test
+  void jitteredDelayIsCappedForEachAttempt() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(backoff.delayMillis(0)).isBetween(0L, 100L);
+      assertThat(backoff.delayMillis(2)).isBetween(0L, 400L);
+      assertThat(backoff.delayMillis(30)).isBetween(0L, 5_000L);
+    }
+  }
+
+  @Test
+  void retryAfterDelayIsUsedWhenPresent() {
+    assertThat(backoff.delayMillis(0, Optional.of(Duration.ofSeconds(2)))).isEqualTo(2_000L);
+    assertThat(backoff.delayMillis(0, Optional.of(Duration.ofMinutes(5)))).isEqualTo(5_000L);
+    assertThat(backoff.delayMillis(0, Optional.of(Duration.ofSeconds(-1)))).isZero();
+  }
+
+  @Test
+  void retryAfterSecondsAreParsed() {
+    assertThat(RetryBackoff.parseRetryAfter(" 7 ")).contains(Duration.ofSeconds(7));
+  }
+
+  @Test
+  void retryAfterHttpDateIsParsed() {
+    final String header =
+        ZonedDateTime.now(ZoneOffset.UTC)
+            .plusSeconds(30)
+            .format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+    assertThat(RetryBackoff.parseRetryAfter(header))
+        .hasValueSatisfying(
+            delay -> assertThat(delay).isBetween(Duration.ofSeconds(25), Duration.ofSeconds(30)));
+  }
+
+  @Test
+  void missingOrInvalidRetryAfterIsIgnored() {
+    assertThat(RetryBackoff.parseRetryAfter(null)).isEmpty();
+    assertThat(RetryBackoff.parseRetryAfter("")).isEmpty();
+    assertThat(RetryBackoff.parseRetryAfter("soon")).isEmpty();
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.gcp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
+import tech.pegasys.web3signer.keystorage.common.MappedResults;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.cloud.secretmanager.v1.AccessSecretVersionRequest;
+import com.google.cloud.secretmanager.v1.AccessSecretVersionResponse;
+import com.google.cloud.secretmanager.v1.ListSecretsRequest;
+import com.google.cloud.secretmanager.v1.ListSecretsResponse;
+import com.google.cloud.secretmanager.v1.Secret;
+import com.google.cloud.secretmanager.v1.SecretManagerServiceClient;
+import com.google.cloud.secretmanager.v1.SecretManagerServiceSettings;
+import com.google.cloud.secretmanager.v1.SecretPayload;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Bulk loads secrets from a local fake of the GCP Secret Manager gRPC service. */
+class GcpSecretManagerBulkLoadingTest {
+  private static final String SERVICE_NAME = "google.cloud.secretmanager.v1.SecretManagerService";
+  private static final String PROJECT_ID = "test-project";
+
+  private static final MethodDescriptor<ListSecretsRequest, ListSecretsResponse> LIST_SECRETS =
+      MethodDescriptor.<ListSecretsRequest, ListSecretsResponse>newBuilder()
+          .setType(MethodDescriptor.MethodType.UNARY)
+          .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "ListSecrets"))
+          .setRequestMarshaller(ProtoUtils.marshaller(ListSecretsRequest.getDefaultInstance()))
+          .setResponseMarshaller(ProtoUtils.marshaller(ListSecretsResponse.getDefaultInstance()))
+          .build();
+
+  private static final MethodDescriptor<AccessSecretVersionRequest, AccessSecretVersionResponse>
+      ACCESS_SECRET_VERSION =
+          MethodDescriptor.<AccessSecretVersionRequest, AccessSecretVersionResponse>newBuilder()
+              .setType(MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(
+                  MethodDescriptor.generateFullMethodName(SERVICE_NAME, "AccessSecretVersion"))
+              .setRequestMarshaller(
+                  ProtoUtils.marshaller(AccessSecretVersionRequest.getDefaultInstance()))
+              .setResponseMarshaller(
+                  ProtoUtils.marshaller(AccessSecretVersionResponse.getDefaultInstance()))
+              .build();
+
+  private final List<String> secretNames = new ArrayList<>();
+  private final AtomicInteger accessRequests = new AtomicInteger();
+  private final AtomicInteger inFlightAccessRequests = new AtomicInteger();
+  private final AtomicInteger maxInFlightAccessRequests = new AtomicInteger();
+  private final Queue<Status> throttledResponses = new ConcurrentLinkedQueue<>();
+  private final RecordingMetrics metrics = new RecordingMetrics();
+  private volatile String failingSecretName;
+
+  private Server server;
+  private GcpSecretManager gcpSecretManager;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server =
+        ServerBuilder.forPort(0)
+            .addService(
+                ServerServiceDefinition.builder(SERVICE_NAME)
+                    .addMethod(LIST_SECRETS, ServerCalls.asyncUnaryCall(this::listSecrets))
+                    .addMethod(
+                        ACCESS_SECRET_VERSION,
+                        ServerCalls.asyncUnaryCall(this::accessSecretVersion))
+                    .build())
+            .build()
+            .start();
+
+    final ManagedChannel channel =
+        ManagedChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+    final SecretManagerServiceSettings.Builder settings =
+        SecretManagerServiceSettings.newBuilder()
+            .setCredentialsProvider(NoCredentialsProvider.create())
+            .setTransportChannelProvider(
+                FixedTransportChannelProvider.create(GrpcTransportChannel.create(channel)));
+    // retries are handled by GcpSecretManager rather than the client
+    settings.accessSecretVersionSettings().setRetryableCodes();
+    gcpSecretManager = new GcpSecretManager(SecretManagerServiceClient.create(settings.build()));
+  }
+
+  @AfterEach
+  void teardown() throws IOException, InterruptedException {
+    gcpSecretManager.close();
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void secretsAreFetchedConcurrently() {
+    createSecrets(50);
+
+    final MappedResults<String> result = mapSecrets(8);
+
+    assertThat(result.getValues()).containsExactlyInAnyOrderElementsOf(expectedValues());
+    assertThat(result.getErrorCount()).isZero();
+    assertThat(accessRequests).hasValue(50);
+    assertThat(maxInFlightAccessRequests.get()).isBetween(2, 8);
+    assertThat(metrics.fetched).hasValue(50);
+    assertThat(metrics.completedFetched).hasValue(50);
+  }
+
+  @Test
+  void concurrentFetchesAreLimited() {
+    createSecrets(10);
+
+    final MappedResults<String> result = mapSecrets(1);
+
+    assertThat(result.getValues()).hasSize(10);
+    assertThat(maxInFlightAccessRequests).hasValue(1);
+  }
+
+  @Test
+  void throttledAndUnavailableRequestsAreRetried() {
+    createSecrets(3);
+    throttledResponses.add(Status.RESOURCE_EXHAUSTED);
+    throttledResponses.add(Status.UNAVAILABLE);
+    throttledResponses.add(Status.RESOURCE_EXHAUSTED);
+
+    final MappedResults<String> result = mapSecrets(1);
+
+    assertThat(result.getValues()).containsExactlyInAnyOrderElementsOf(expectedValues());
+    assertThat(result.getErrorCount()).isZero();
+    assertThat(accessRequests).hasValue(6);
+    assertThat(metrics.throttled).hasValue(3);
+  }
+
+  @Test
+  void secretsWhichCannotBeFetchedAreCountedAsErrors() {
+    createSecrets(5);
+    failingSecretName = secretNames.get(2);
+
+    final MappedResults<String> result = mapSecrets(4);
+
+    assertThat(result.getValues()).hasSize(4).doesNotContain(secretValue(failingSecretName));
+    assertThat(result.getErrorCount()).isOne();
+    assertThat(accessRequests).hasValue(5);
+    assertThat(metrics.fetched).hasValue(4);
+    assertThat(metrics.failed).hasValue(1);
+  }
+
+  private MappedResults<String> mapSecrets(final int fetchConcurrency) {
+    return gcpSecretManager.mapSecrets(
+        PROJECT_ID, Optional.empty(), (name, value) -> value, fetchConcurrency, metrics);
+  }
+
+  private void createSecrets(final int count) {
+    IntStream.range(0, count)
+        .mapToObj(i -> "projects/" + PROJECT_ID + "/secrets/secret-" + i)
+        .forEach(secretNames::add);
+  }
+
+  private Set<String> expectedValues() {
+    return secretNames.stream()
+        .map(GcpSecretManagerBulkLoadingTest::secretValue)
+        .collect(Collectors.toSet());
+  }
+
+  private static String secretValue(final String secretName) {
+    return "value-" + secretName.substring(secretName.lastIndexOf('/') + 1);
+  }
+
+  private void listSecrets(
+      final ListSecretsRequest request, final StreamObserver<ListSecretsResponse> observer) {
+    final ListSecretsResponse.Builder response = ListSecretsResponse.newBuilder();
+    secretNames.forEach(name -> response.addSecrets(Secret.newBuilder().setName(name)));
+    observer.onNext(response.setTotalSize(secretNames.size()).build());
+    observer.onCompleted();
+  }
+
+  private void accessSecretVersion(
+      final AccessSecretVersionRequest request,
+      final StreamObserver<AccessSecretVersionResponse> observer) {
+    accessRequests.incrementAndGet();
+    final Status throttledStatus = throttledResponses.poll();
+    if (throttledStatus != null) {
+      observer.onError(throttledStatus.asRuntimeException());
+      return;
+    }
+
+    maxInFlightAccessRequests.accumulateAndGet(inFlightAccessRequests.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(20);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    inFlightAccessRequests.decrementAndGet();
+
+    final String secretName = request.getName().replace("/versions/latest", "");
+    if (secretName.equals(failingSecretName)) {
+      observer.onError(Status.NOT_FOUND.asRuntimeException());
+      return;
+    }
+    observer.onNext(
+        AccessSecretVersionResponse.newBuilder()
+            .setName(request.getName())
+            .setPayload(
+                SecretPayload.newBuilder()
+                    .setData(ByteString.copyFrom(secretValue(secretName), StandardCharsets.UTF_8)))
+            .build());
+    observer.onCompleted();
+  }
+
+  private static class RecordingMetrics implements BulkLoadingMetrics {
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final AtomicInteger completedFetched = new AtomicInteger();
+
+    @Override
+    public void secretsFetched(final int count) {
+      fetched.addAndGet(count);
+    }
+
+    @Override
+    public void secretsFailed(final int count) {
+      failed.addAndGet(count);
+    }
+
+    @Override
+    public void requestThrottled() {
+      throttled.incrementAndGet();
+    }
+
+    @Override
+    public void loadCompleted(final int secretsFetched, final Duration elapsed) {
+      completedFetched.set(secretsFetched);
+    }
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.keystorage.hashicorp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnection.FetchedKeys;
+import tech.pegasys.web3signer.keystorage.hashicorp.config.ConnectionParameters;
+import tech.pegasys.web3signer.keystorage.hashicorp.config.KeyDefinition;
+import tech.pegasys.web3signer.keystorage.hashicorp.config.KubernetesAuthOptions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Logs in to and fetches keys from a local mock of the Hashicorp Vault HTTP API. */
+class HashicorpMockVaultTest {
+  private static final String KEY_PATH_PREFIX = "/v1/secret/data/";
+
+  private final AtomicInteger logins = new AtomicInteger();
+  private final AtomicInteger keyRequests = new AtomicInteger();
+  private final AtomicInteger inFlightKeyRequests = new AtomicInteger();
+  private final AtomicInteger maxInFlightKeyRequests = new AtomicInteger();
+  private volatile long leaseDurationSeconds = 3600;
+  private volatile String failingKeyPath;
+  private volatile String slowKeyPath;
+  private final AtomicInteger slowResponses = new AtomicInteger();
+
+  @TempDir private Path tempDir;
+  private Path serviceAccountTokenPath;
+  private ExecutorService serverExecutor;
+  private HttpServer server;
+  private HashicorpConnectionFactory connectionFactory;
+  private ConnectionParameters connectionParameters;
+
+  @BeforeEach
+  void setup() throws IOException {
+    serviceAccountTokenPath = Files.writeString(tempDir.resolve("token"), "service-account-jwt");
+
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::handleRequest);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    connectionFactory = new HashicorpConnectionFactory();
+    connectionParameters =
+        ConnectionParameters.newBuilder()
+            .withServerHost("127.0.0.1")
+            .withServerPort(server.getAddress().getPort())
+            .withHttpProtocolVersion(HttpClient.Version.HTTP_1_1)
+            .build();
+  }
+
+  @AfterEach
+  void teardown() {
+    connectionFactory.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void kubernetesLoginIsSharedByConnectionsToTheSameVault() {
+    final String firstToken =
+        connectionFactory.create(connectionParameters).authenticateWithKubernetes(authOptions("a"));
+    final String secondToken =
+        connectionFactory.create(connectionParameters).authenticateWithKubernetes(authOptions("a"));
+
+    assertThat(secondToken).isEqualTo(firstToken);
+    assertThat(logins).hasValue(1);
+  }
+
+  @Test
+  void eachRoleLogsInSeparately() {
+    final HashicorpConnection connection = connectionFactory.create(connectionParameters);
+
+    assertThat(connection.authenticateWithKubernetes(authOptions("a"))).isEqualTo("token-a-1");
+    assertThat(connection.authenticateWithKubernetes(authOptions("b"))).isEqualTo("token-b-2");
+    assertThat(logins).hasValue(2);
+  }
+
+  @Test
+  void tokenIsRenewedBeforeItsLeaseExpires() throws InterruptedException {
+    leaseDurationSeconds = 1;
+    final HashicorpConnection connection = connectionFactory.create(connectionParameters);
+    assertThat(connection.authenticateWithKubernetes(authOptions("a"))).isEqualTo("token-a-1");
+
+    // renewed once two thirds of the lease has elapsed
+    Thread.sleep(800);
+
+    assertThat(connection.authenticateWithKubernetes(authOptions("a"))).isEqualTo("token-a-2");
+  }
+
+  @Test
+  void tokenIsNotCachedAfterFactoryIsClosed() {
+    connectionFactory.create(connectionParameters).authenticateWithKubernetes(authOptions("a"));
+    connectionFactory.close();
+
+    try (final HashicorpConnectionFactory newFactory = new HashicorpConnectionFactory()) {
+      newFactory.create(connectionParameters).authenticateWithKubernetes(authOptions("a"));
+    }
+    assertThat(logins).hasValue(2);
+  }
+
+  @Test
+  void keysAreFetchedConcurrently() {
+    final HashicorpConnection connection = connectionFactory.create(connectionParameters);
+    final List<KeyDefinition> keys = keyDefinitions(20);
+
+    final Map<KeyDefinition, String> values = connection.fetchKeys(keys, 4).values();
+
+    assertThat(values).hasSize(20);
+    keys.forEach(key -> assertThat(values.get(key)).isEqualTo(expectedValue(key)));
+    assertThat(keyRequests).hasValue(20);
+    assertThat(maxInFlightKeyRequests.get()).isBetween(2, 4);
+  }
+
+  @Test
+  void keysWhichCannotBeFetchedAreReportedAsFailures() {
+    final HashicorpConnection connection = connectionFactory.create(connectionParameters);
+    final List<KeyDefinition> keys = keyDefinitions(5);
+    failingKeyPath = keys.get(3).getKeyPath();
+
+    final FetchedKeys fetchedKeys = connection.fetchKeys(keys, 2);
+
+    assertThat(fetchedKeys.values()).hasSize(4).doesNotContainKey(keys.get(3));
+    assertThat(fetchedKeys.failures()).containsOnlyKeys(keys.get(3));
+    assertThat(keyRequests).hasValue(5);
+  }
+
+  @Test
+  void keyWhichTimesOutIsRetriedWithoutFailingOtherKeys() {
+    final HashicorpConnection connection =
+        connectionFactory.create(
+            ConnectionParameters.newBuilder()
+                .withServerHost("127.0.0.1")
+                .withServerPort(server.getAddress().getPort())
+                .withTimeoutMs(300L)
+                .withHttpProtocolVersion(HttpClient.Version.HTTP_1_1)
+                .build());
+    final List<KeyDefinition> keys = keyDefinitions(5);
+    slowKeyPath = keys.get(1).getKeyPath();
+    slowResponses.set(1);
+
+    final FetchedKeys fetchedKeys = connection.fetchKeys(keys, 1);
+
+    assertThat(fetchedKeys.failures()).isEmpty();
+    assertThat(fetchedKeys.values()).hasSize(5);
+    keys.forEach(key -> assertThat(fetchedKeys.values().get(key)).isEqualTo(expectedValue(key)));
+    assertThat(keyRequests).hasValue(6);
+  }
+
+  @Test
+  void remainingKeysFailWithoutRequestOnceVaultCannotBeReached() throws IOException {
+    final int closedPort;
+    try (final ServerSocket socket = new ServerSocket(0)) {
+      closedPort = socket.getLocalPort();
+    }
+    final HashicorpConnection connection =
+        connectionFactory.create(
+            ConnectionParameters.newBuilder()
+                .withServerHost("127.0.0.1")
+                .withServerPort(closedPort)
+                .withHttpProtocolVersion(HttpClient.Version.HTTP_1_1)
+                .build());
+    final List<KeyDefinition> keys = keyDefinitions(5);
+
+    final FetchedKeys fetchedKeys = connection.fetchKeys(keys, 1);
+
+    assertThat(fetchedKeys.values()).isEmpty();
+    assertThat(fetchedKeys.failures()).containsOnlyKeys(keys);
+    // only the first request is sent, the other keys fail with its error
+    assertThat(fetchedKeys.failures().values().stream().distinct()).hasSize(1);
+  }
+
+  private KubernetesAuthOptions authOptions(final String role) {
+    return new KubernetesAuthOptions(role, serviceAccountTokenPath, null);
+  }
+
+  private List<KeyDefinition> keyDefinitions(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new KeyDefinition(KEY_PATH_PREFIX + "key-" + i, Optional.empty(), "root"))
+        .collect(Collectors.toList());
+  }
+
+  private static String expectedValue(final KeyDefinition key) {
+    return "value-" + key.getKeyPath().substring(KEY_PATH_PREFIX.length());
+  }
+
+  private void handleRequest(final HttpExchange exchange) throws IOException {
+    final String path = exchange.getRequestURI().getPath();
+    if (path.equals("/v1/auth/kubernetes/login")) {
+      final String body =
+          new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+      final JsonObject request = new JsonObject(body);
+      final JsonObject auth =
+          new JsonObject()
+              .put(
+                  "client_token",
+                  "token-" + request.getString("role") + "-" + logins.incrementAndGet())
+              .put("lease_duration", leaseDurationSeconds);
+      respond(exchange, 200, new JsonObject().put("auth", auth).encode());
+      return;
+    }
+
+    keyRequests.incrementAndGet();
+    maxInFlightKeyRequests.accumulateAndGet(inFlightKeyRequests.incrementAndGet(), Math::max);
+    try {
+      Thread.sleep(20);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlightKeyRequests.decrementAndGet();
+    }
+
+    if (path.equals(slowKeyPath) && slowResponses.getAndDecrement() > 0) {
+      try {
+        Thread.sleep(1_000);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    if (path.equals(failingKeyPath)) {
+      respond(exchange, 404, "{\"errors\":[]}");
+      return;
+    }
+    final JsonObject data =
+        new JsonObject().put("value", "value-" + path.substring(KEY_PATH_PREFIX.length()));
+    respond(
+        exchange, 200, new JsonObject().put("data", new JsonObject().put("data", data)).encode());
+  }
+
+  private static void respond(final HttpExchange exchange, final int status, final String body)
+      throws IOException {
+    final byte[] response = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, response.length);
+    try (final OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(response);
+    }
+  }
+}
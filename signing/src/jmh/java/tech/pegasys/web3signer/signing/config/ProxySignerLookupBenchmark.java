@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.config;
+
+import tech.pegasys.web3signer.signing.ArtifactSignature;
+import tech.pegasys.web3signer.signing.ArtifactSigner;
+import tech.pegasys.web3signer.signing.KeyType;
+import tech.pegasys.web3signer.signing.config.DefaultArtifactSignerProvider.SignerState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares Commit-Boost proxy signer lookup through the proxy identifier index against the linear
+ * scan over every consensus key's proxy set. Each consensus key has one BLS and one SECP256K1
+ * proxy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxySignerLookupBenchmark {
+
+  @Param({"10000", "100000"})
+  private int proxyCount;
+
+  private SignerState state;
+  private String[] proxyIdentifiers;
+  private int next;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    final Map<String, ArtifactSigner> signers = new HashMap<>();
+    final Map<String, Set<ArtifactSigner>> proxySigners = new HashMap<>();
+    final List<String> identifiers = new ArrayList<>();
+
+    for (int i = 0; i < proxyCount / 2; i++) {
+      final ArtifactSigner consensusSigner =
+          new StubArtifactSigner(randomHex(random, 48), KeyType.BLS);
+      final ArtifactSigner blsProxy = new StubArtifactSigner(randomHex(random, 48), KeyType.BLS);
+      final ArtifactSigner secpProxy =
+          new StubArtifactSigner(randomHex(random, 33), KeyType.SECP256K1);
+      signers.put(consensusSigner.getIdentifier(), consensusSigner);
+      proxySigners.put(consensusSigner.getIdentifier(), Set.of(blsProxy, secpProxy));
+      identifiers.add(blsProxy.getIdentifier());
+      identifiers.add(secpProxy.getIdentifier());
+    }
+
+    state = SignerState.of(signers, proxySigners);
+    proxyIdentifiers = identifiers.toArray(String[]::new);
+  }
+
+  @Benchmark
+  public Optional<ArtifactSigner> indexedLookup() {
+    return Optional.ofNullable(state.proxySignersByIdentifier().get(nextIdentifier()));
+  }
+
+  @Benchmark
+  public Optional<ArtifactSigner> linearScan() {
+    final String proxyPubKey = nextIdentifier();
+    return state.proxySigners().values().stream()
+        .flatMap(Set::stream)
+        .filter(signer -> signer.getIdentifier().equals(proxyPubKey))
+        .findFirst();
+  }
+
+  private String nextIdentifier() {
+    next = (next + 1) % proxyIdentifiers.length;
+    return proxyIdentifiers[next];
+  }
+
+  private static String randomHex(final Random random, final int size) {
+    final byte[] bytes = new byte[size];
+    random.nextBytes(bytes);
+    return Bytes.wrap(bytes).toHexString();
+  }
+
+  private record StubArtifactSigner(String identifier, KeyType keyType) implements ArtifactSigner {
+
+    @Override
+    public String getIdentifier() {
+      return identifier;
+    }
+
+    @Override
+    public ArtifactSignature sign(final Bytes message) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public KeyType getKeyType() {
+      return keyType;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.secp256k1.util;
+
+import tech.pegasys.web3signer.signing.EthSecpArtifactSigner;
+import tech.pegasys.web3signer.signing.SecpArtifactSignature;
+import tech.pegasys.web3signer.signing.secp256k1.EthPublicKeyUtils;
+import tech.pegasys.web3signer.signing.secp256k1.Signature;
+import tech.pegasys.web3signer.signing.secp256k1.Signer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.crypto.ECDSASignature;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+/**
+ * Compares calculating the recovery id of a remote (r, s) signature from the public key point
+ * against recovering the public key for each candidate recovery id. The remote signer benchmark
+ * runs the complete {@link EthSecpArtifactSigner} path with a stub which returns a precomputed
+ * P1363 signature in place of the KMS or Azure request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecoveryIdBenchmark {
+
+  private ECPublicKey publicKey;
+  private byte[] hash;
+  private ECDSASignature signature;
+  private EthSecpArtifactSigner remoteSigner;
+  private Bytes message;
+
+  @Setup
+  public void setup() {
+    final KeyPair keyPair = EthPublicKeyUtils.generateK256KeyPair();
+    final ECKeyPair ecKeyPair = ECKeyPair.create(keyPair);
+    publicKey = (ECPublicKey) keyPair.getPublic();
+    message = Bytes.wrap("benchmark".getBytes(StandardCharsets.UTF_8));
+    hash = Hash.sha3(message.toArrayUnsafe());
+    signature = ecKeyPair.sign(hash);
+
+    final byte[] p1363Signature =
+        Bytes.concatenate(
+                Bytes.wrap(Numeric.toBytesPadded(signature.r, 32)),
+                Bytes.wrap(Numeric.toBytesPadded(signature.s, 32)))
+            .toArray();
+    remoteSigner =
+        new EthSecpArtifactSigner(
+            new Signer() {
+              @Override
+              public Signature sign(final byte[] data) {
+                return Eth1SignatureUtil.deriveSignatureFromP1363Encoded(
+                    Hash.sha3(data), publicKey, p1363Signature);
+              }
+
+              @Override
+              public ECPublicKey getPublicKey() {
+                return publicKey;
+              }
+            });
+  }
+
+  @Benchmark
+  public int calculateRecoveryId() {
+    return Eth1SignatureUtil.calculateRecoveryId(publicKey, signature, hash);
+  }
+
+  @Benchmark
+  public int searchRecoveryId() {
+    return Eth1SignatureUtil.searchRecoveryId(publicKey, signature, hash);
+  }
+
+  @Benchmark
+  public SecpArtifactSignature remoteSignerSign() {
+    return remoteSigner.sign(message);
+  }
+}
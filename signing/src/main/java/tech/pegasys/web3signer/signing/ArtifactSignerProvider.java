@@ -18,6 +18,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Future;
 
+import org.apache.tuweni.bytes.Bytes;
+
 public interface ArtifactSignerProvider extends Closeable {
 
   /**
@@ -52,10 +54,13 @@ public interface ArtifactSignerProvider extends Closeable {
    *   <li>Infrastructure failure (exception thrown, no signers loaded)
    * </ul>
    *
+   * <p>The result also reports how many signers were added, removed or unchanged compared to the
+   * previous load, and how long each phase of the load took.
+   *
    * @return a {@link Future} containing the number of signer configurations that failed to load (0
-   *     indicates all signers loaded successfully)
+   *     indicates all signers loaded successfully) and the changes made by the load
    */
-  Future<Long> load();
+  Future<SignerLoadResult> load();
 
   /**
    * Get the signer for the given identifier.
@@ -65,6 +70,17 @@ public interface ArtifactSignerProvider extends Closeable {
    */
   Optional<ArtifactSigner> getSigner(final String identifier);
 
+  /**
+   * Get the BLS signer for the given compressed public key. Allows callers which already hold the
+   * public key bytes to avoid building a normalised identifier string for every lookup.
+   *
+   * @param publicKey the 48-byte compressed BLS public key of the signer
+   * @return the signer or empty if no signer is found
+   */
+  default Optional<ArtifactSigner> getSigner(final Bytes publicKey) {
+    return getSigner(publicKey.toHexString());
+  }
+
   /**
    * Get the proxy signer for the given proxy public key.
    *
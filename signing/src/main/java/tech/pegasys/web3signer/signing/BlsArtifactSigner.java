@@ -27,12 +27,14 @@ public class BlsArtifactSigner implements ArtifactSigner {
   private final BLSKeyPair keyPair;
   private final SignerOrigin origin;
   private final String derivationPath;
+  private final String identifier;
 
   public BlsArtifactSigner(
       final BLSKeyPair keyPair, final SignerOrigin origin, final String derivationPath) {
     this.keyPair = keyPair;
     this.origin = origin;
     this.derivationPath = derivationPath;
+    this.identifier = IdentifierUtils.normaliseIdentifier(keyPair.getPublicKey().toString());
   }
 
   public BlsArtifactSigner(final BLSKeyPair keyPair, final SignerOrigin origin) {
@@ -41,7 +43,7 @@ public class BlsArtifactSigner implements ArtifactSigner {
 
   @Override
   public String getIdentifier() {
-    return IdentifierUtils.normaliseIdentifier(keyPair.getPublicKey().toString());
+    return identifier;
   }
 
   @Override
@@ -22,15 +22,17 @@ import org.apache.tuweni.bytes.Bytes;
 
 public class EthSecpArtifactSigner implements ArtifactSigner {
   private final Signer signer;
+  private final String identifier;
 
   public EthSecpArtifactSigner(final Signer signer) {
     this.signer = signer;
+    this.identifier =
+        IdentifierUtils.normaliseIdentifier(EthPublicKeyUtils.toHexString(signer.getPublicKey()));
   }
 
   @Override
   public String getIdentifier() {
-    return IdentifierUtils.normaliseIdentifier(
-        EthPublicKeyUtils.toHexString(signer.getPublicKey()));
+    return identifier;
   }
 
   @Override
@@ -48,11 +50,11 @@ public class EthSecpArtifactSigner implements ArtifactSigner {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     EthSecpArtifactSigner that = (EthSecpArtifactSigner) o;
-    return getIdentifier().equals(that.getIdentifier());
+    return identifier.equals(that.identifier);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(getIdentifier());
+    return Objects.hash(identifier);
   }
 }
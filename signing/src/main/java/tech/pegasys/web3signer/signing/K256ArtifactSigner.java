@@ -40,6 +40,7 @@ import org.web3j.crypto.ECKeyPair;
  */
 public class K256ArtifactSigner implements ArtifactSigner {
   private final ECKeyPair ecKeyPair;
+  private final String identifier;
   public static final X9ECParameters CURVE_PARAMS = CustomNamedCurves.getByName("secp256k1");
   public static final ECDomainParameters CURVE =
       new ECDomainParameters(
@@ -47,14 +48,15 @@ public class K256ArtifactSigner implements ArtifactSigner {
 
   public K256ArtifactSigner(final ECKeyPair web3JECKeypair) {
     this.ecKeyPair = web3JECKeypair;
+    final String hexString =
+        EthPublicKeyUtils.toHexStringCompressed(
+            EthPublicKeyUtils.web3JPublicKeyToECPublicKey(ecKeyPair.getPublicKey()));
+    this.identifier = IdentifierUtils.normaliseIdentifier(hexString);
   }
 
   @Override
   public String getIdentifier() {
-    final String hexString =
-        EthPublicKeyUtils.toHexStringCompressed(
-            EthPublicKeyUtils.web3JPublicKeyToECPublicKey(ecKeyPair.getPublicKey()));
-    return IdentifierUtils.normaliseIdentifier(hexString);
+    return identifier;
   }
 
   @Override
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The outcome of loading the signers of an {@link ArtifactSignerProvider}.
+ *
+ * @param errorCount number of signer configurations which failed to load
+ * @param added number of signers which were not loaded before
+ * @param removed number of previously loaded signers which are no longer available
+ * @param unchanged number of signers which were already loaded
+ * @param phaseDurations how long each phase of the load took, in the order they ran
+ */
+public record SignerLoadResult(
+    long errorCount, int added, int removed, int unchanged, Map<String, Duration> phaseDurations) {}
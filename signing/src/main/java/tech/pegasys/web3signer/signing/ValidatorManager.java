@@ -12,6 +12,10 @@
  */
 package tech.pegasys.web3signer.signing;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.tuweni.bytes.Bytes;
 
 public interface ValidatorManager {
@@ -20,6 +24,22 @@ public interface ValidatorManager {
   /// @param publicKey An instance of Bytes representing public key
   void deleteValidator(final Bytes publicKey);
 
+  /// Delete validators for all provided public keys. Unlike `deleteValidator`, a failure to
+  /// delete one validator does not stop the remaining validators from being deleted.
+  /// @param publicKeys public keys of the validators to delete
+  /// @return public keys of the validators which could not be deleted mapped to the cause
+  default Map<Bytes, Exception> deleteValidators(final List<Bytes> publicKeys) {
+    final Map<Bytes, Exception> failures = new LinkedHashMap<>();
+    for (final Bytes publicKey : publicKeys) {
+      try {
+        deleteValidator(publicKey);
+      } catch (final Exception e) {
+        failures.put(publicKey, e);
+      }
+    }
+    return failures;
+  }
+
   /// Add validator from a decrypted signer
   /// @param signer instance of BlsArtifactSigner
   /// @param keystoreFileRecord keystore file record associated with manager. May be `null` for
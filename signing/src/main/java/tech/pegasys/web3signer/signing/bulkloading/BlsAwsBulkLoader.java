@@ -16,6 +16,7 @@ import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSecretKey;
 import tech.pegasys.web3signer.keystorage.aws.AwsSecretsManager;
 import tech.pegasys.web3signer.keystorage.aws.AwsSecretsManagerProvider;
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
 import tech.pegasys.web3signer.keystorage.common.MappedResults;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.BlsArtifactSigner;
@@ -27,6 +28,15 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
 public class BlsAwsBulkLoader {
+  private final BulkLoadingMetrics metrics;
+
+  public BlsAwsBulkLoader() {
+    this(BulkLoadingMetrics.NO_OP);
+  }
+
+  public BlsAwsBulkLoader(final BulkLoadingMetrics metrics) {
+    this.metrics = metrics;
+  }
 
   public MappedResults<ArtifactSigner> load(final AwsVaultParameters parameters) {
     try (final AwsSecretsManagerProvider awsSecretsManagerProvider =
@@ -41,7 +51,9 @@ public class BlsAwsBulkLoader {
             final BLSKeyPair keyPair =
                 new BLSKeyPair(BLSSecretKey.fromBytes(Bytes32.wrap(privateKeyBytes)));
             return new BlsArtifactSigner(keyPair, SignerOrigin.AWS);
-          });
+          },
+          parameters.getFetchConcurrency(),
+          metrics);
     }
   }
 }
@@ -14,6 +14,7 @@ package tech.pegasys.web3signer.signing.bulkloading;
 
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSSecretKey;
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
 import tech.pegasys.web3signer.keystorage.common.MappedResults;
 import tech.pegasys.web3signer.keystorage.gcp.GcpSecretManager;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
@@ -30,6 +31,15 @@ import org.apache.tuweni.bytes.Bytes32;
 
 public class BlsGcpBulkLoader {
   private static final Logger LOG = LogManager.getLogger();
+  private final BulkLoadingMetrics metrics;
+
+  public BlsGcpBulkLoader() {
+    this(BulkLoadingMetrics.NO_OP);
+  }
+
+  public BlsGcpBulkLoader(final BulkLoadingMetrics metrics) {
+    this.metrics = metrics;
+  }
 
   public MappedResults<ArtifactSigner> load(final GcpSecretManagerParameters parameters) {
     try (final GcpSecretManager gcpSecretManager = new GcpSecretManager()) {
@@ -41,7 +51,9 @@ public class BlsGcpBulkLoader {
             final BLSKeyPair keyPair =
                 new BLSKeyPair(BLSSecretKey.fromBytes(Bytes32.wrap(privateKeyBytes)));
             return new BlsArtifactSigner(keyPair, SignerOrigin.GCP);
-          });
+          },
+          parameters.getFetchConcurrency(),
+          metrics);
     } catch (IOException e) {
       LOG.error("Error reading GCP secrets", e);
       return MappedResults.errorResult();
@@ -27,7 +27,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.logging.log4j.LogManager;
@@ -38,6 +40,22 @@ public class BlsKeystoreBulkLoader {
 
   public static MappedResults<ArtifactSigner> loadKeystoresUsingPasswordDir(
       final Path keystoresDirectory, final Path passwordsDirectory) {
+    return loadKeystoresUsingPasswordDir(keystoresDirectory, passwordsDirectory, Optional.empty());
+  }
+
+  public static MappedResults<ArtifactSigner> loadKeystoresUsingPasswordDir(
+      final Path keystoresDirectory,
+      final Path passwordsDirectory,
+      final Optional<UnlockedKeyCache> unlockedKeyCache) {
+    return loadKeystoresUsingPasswordDir(
+        keystoresDirectory, passwordsDirectory, unlockedKeyCache, Optional.empty());
+  }
+
+  public static MappedResults<ArtifactSigner> loadKeystoresUsingPasswordDir(
+      final Path keystoresDirectory,
+      final Path passwordsDirectory,
+      final Optional<UnlockedKeyCache> unlockedKeyCache,
+      final Optional<KeystoreSignerCache> signerCache) {
     final List<Path> keystoreFiles;
     try {
       keystoreFiles = JsonFilesUtil.loadJsonExtPaths(keystoresDirectory);
@@ -46,18 +64,42 @@ public class BlsKeystoreBulkLoader {
       return MappedResults.errorResult();
     }
 
+    signerCache.ifPresent(cache -> cache.retainOnly(keystoreFiles));
     return keystoreFiles.parallelStream()
         .map(
             keystoreFile ->
-                createSignerForKeystore(
+                loadSigner(
                     keystoreFile,
-                    keystorePassword ->
-                        Files.readString(passwordsDirectory.resolve(keystorePassword))))
+                    passwordsDirectory.resolve(passwordFileName(keystoreFile)),
+                    unlockedKeyCache,
+                    signerCache,
+                    () ->
+                        createSignerForKeystore(
+                            keystoreFile,
+                            keystorePassword ->
+                                Files.readString(passwordsDirectory.resolve(keystorePassword)),
+                            unlockedKeyCache)))
         .reduce(MappedResults.newSetInstance(), MappedResults::merge);
   }
 
   public static MappedResults<ArtifactSigner> loadKeystoresUsingPasswordFile(
       final Path keystoresDirectory, final Path passwordFile) {
+    return loadKeystoresUsingPasswordFile(keystoresDirectory, passwordFile, Optional.empty());
+  }
+
+  public static MappedResults<ArtifactSigner> loadKeystoresUsingPasswordFile(
+      final Path keystoresDirectory,
+      final Path passwordFile,
+      final Optional<UnlockedKeyCache> unlockedKeyCache) {
+    return loadKeystoresUsingPasswordFile(
+        keystoresDirectory, passwordFile, unlockedKeyCache, Optional.empty());
+  }
+
+  public static MappedResults<ArtifactSigner> loadKeystoresUsingPasswordFile(
+      final Path keystoresDirectory,
+      final Path passwordFile,
+      final Optional<UnlockedKeyCache> unlockedKeyCache,
+      final Optional<KeystoreSignerCache> signerCache) {
     final List<Path> keystoreFiles;
     try {
       keystoreFiles = JsonFilesUtil.loadJsonExtPaths(keystoresDirectory);
@@ -74,20 +116,55 @@ public class BlsKeystoreBulkLoader {
       return MappedResults.errorResult();
     }
 
+    signerCache.ifPresent(cache -> cache.retainOnly(keystoreFiles));
     return keystoreFiles.parallelStream()
-        .map(keystoreFile -> createSignerForKeystore(keystoreFile, keystorePassword -> password))
+        .map(
+            keystoreFile ->
+                loadSigner(
+                    keystoreFile,
+                    passwordFile,
+                    unlockedKeyCache,
+                    signerCache,
+                    () ->
+                        createSignerForKeystore(
+                            keystoreFile, keystorePassword -> password, unlockedKeyCache)))
         .reduce(MappedResults.newSetInstance(), MappedResults::merge);
   }
 
+  private static MappedResults<ArtifactSigner> loadSigner(
+      final Path keystoreFile,
+      final Path passwordFile,
+      final Optional<UnlockedKeyCache> unlockedKeyCache,
+      final Optional<KeystoreSignerCache> signerCache,
+      final Supplier<MappedResults<ArtifactSigner>> loader) {
+    if (signerCache.isEmpty()) {
+      return loader.get();
+    }
+    // a signer reused from memory does not read the unlocked key cache, which would otherwise drop
+    // its entry when saved
+    unlockedKeyCache.ifPresent(cache -> cache.retain(keystoreFile));
+    return signerCache.get().getOrLoad(keystoreFile, passwordFile, loader);
+  }
+
+  private static String passwordFileName(final Path keystoreFile) {
+    return FilenameUtils.removeExtension(keystoreFile.getFileName().toString()) + ".txt";
+  }
+
   private static MappedResults<ArtifactSigner> createSignerForKeystore(
-      final Path keystoreFile, final PasswordReader passwordReader) {
+      final Path keystoreFile,
+      final PasswordReader passwordReader,
+      final Optional<UnlockedKeyCache> unlockedKeyCache) {
     try {
-      LOG.debug("Loading keystore {}", keystoreFile);
-      final KeyStoreData keyStoreData = KeyStoreLoader.loadFromFile(keystoreFile.toUri());
-      final String fileNameWithoutExt =
-          FilenameUtils.removeExtension(keystoreFile.getFileName().toString());
-      final String password = passwordReader.readPassword(fileNameWithoutExt + ".txt");
-      final BLSKeyPair keyPair = KeyStore.decrypt(password, keyStoreData);
+      final Optional<BLSKeyPair> cachedKeyPair =
+          unlockedKeyCache.flatMap(cache -> cache.get(keystoreFile));
+      final BLSKeyPair keyPair;
+      if (cachedKeyPair.isPresent()) {
+        LOG.debug("Loaded keystore {} from unlocked key cache", keystoreFile);
+        keyPair = cachedKeyPair.get();
+      } else {
+        keyPair = decryptKeystore(keystoreFile, passwordReader);
+        unlockedKeyCache.ifPresent(cache -> cache.put(keystoreFile, keyPair));
+      }
       final BlsArtifactSigner artifactSigner =
           new BlsArtifactSigner(keyPair, SignerOrigin.FILE_KEYSTORE);
       return MappedResults.newInstance(Set.of(artifactSigner), 0);
@@ -96,4 +173,12 @@ public class BlsKeystoreBulkLoader {
       return MappedResults.errorResult();
     }
   }
+
+  private static BLSKeyPair decryptKeystore(
+      final Path keystoreFile, final PasswordReader passwordReader) throws IOException {
+    LOG.debug("Loading keystore {}", keystoreFile);
+    final KeyStoreData keyStoreData = KeyStoreLoader.loadFromFile(keystoreFile.toUri());
+    final String password = passwordReader.readPassword(passwordFileName(keystoreFile));
+    return KeyStore.decrypt(password, keyStoreData);
+  }
 }
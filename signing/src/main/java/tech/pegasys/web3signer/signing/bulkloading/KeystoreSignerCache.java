@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.bulkloading;
+
+import tech.pegasys.web3signer.keystorage.common.MappedResults;
+import tech.pegasys.web3signer.signing.ArtifactSigner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * In memory cache of the signers loaded from keystore files, kept across reloads.
+ *
+ * <p>A cached signer is reused while the last modified times of its keystore and password file
+ * are unchanged, so a reload only decrypts the keystores which were added or modified since the
+ * previous load. {@link #retainOnly(Collection)} drops the entries of keystores which were removed.
+ */
+public class KeystoreSignerCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private record CachedSigner(
+      FileTime keystoreModifiedTime, FileTime passwordModifiedTime, ArtifactSigner signer) {}
+
+  private final Map<Path, CachedSigner> cachedSigners = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the cached signer for the keystore if neither the keystore nor its password file have
+   * changed, otherwise loads the keystore and caches the signer if it loaded successfully.
+   *
+   * @param keystoreFile keystore file
+   * @param passwordFile file containing the password of the keystore
+   * @param loader loads the signer from the keystore
+   * @return the cached or loaded signer
+   */
+  MappedResults<ArtifactSigner> getOrLoad(
+      final Path keystoreFile,
+      final Path passwordFile,
+      final Supplier<MappedResults<ArtifactSigner>> loader) {
+    // modified times are read before loading, so a keystore changed while it is loaded is loaded
+    // again on the next reload
+    final Optional<FileTime> keystoreModifiedTime = lastModifiedTime(keystoreFile);
+    final Optional<FileTime> passwordModifiedTime = lastModifiedTime(passwordFile);
+    if (keystoreModifiedTime.isEmpty() || passwordModifiedTime.isEmpty()) {
+      cachedSigners.remove(keystoreFile);
+      return loader.get();
+    }
+
+    final CachedSigner cached = cachedSigners.get(keystoreFile);
+    if (cached != null
+        && cached.keystoreModifiedTime().equals(keystoreModifiedTime.get())
+        && cached.passwordModifiedTime().equals(passwordModifiedTime.get())) {
+      LOG.trace("Keystore {} is unchanged, using cached signer", keystoreFile);
+      return MappedResults.newInstance(Set.of(cached.signer()), 0);
+    }
+
+    final MappedResults<ArtifactSigner> result = loader.get();
+    if (result.getErrorCount() == 0 && result.getValues().size() == 1) {
+      cachedSigners.put(
+          keystoreFile,
+          new CachedSigner(
+              keystoreModifiedTime.get(),
+              passwordModifiedTime.get(),
+              result.getValues().iterator().next()));
+    } else {
+      cachedSigners.remove(keystoreFile);
+    }
+    return result;
+  }
+
+  /**
+   * Removes the cached signers of keystores which are not in the given collection.
+   *
+   * @param keystoreFiles the keystore files which were loaded
+   */
+  void retainOnly(final Collection<Path> keystoreFiles) {
+    cachedSigners.keySet().retainAll(Set.copyOf(keystoreFiles));
+  }
+
+  @VisibleForTesting
+  int size() {
+    return cachedSigners.size();
+  }
+
+  private static Optional<FileTime> lastModifiedTime(final Path path) {
+    try {
+      return Optional.of(Files.getLastModifiedTime(path));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+}
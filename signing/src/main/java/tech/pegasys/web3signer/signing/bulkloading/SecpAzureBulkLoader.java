@@ -13,6 +13,7 @@
 package tech.pegasys.web3signer.signing.bulkloading;
 
 import tech.pegasys.web3signer.keystorage.azure.AzureKeyVault;
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
 import tech.pegasys.web3signer.keystorage.common.MappedResults;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.EthSecpArtifactSigner;
@@ -23,18 +24,29 @@ import tech.pegasys.web3signer.signing.secp256k1.azure.AzureKeyVaultSignerFactor
 public class SecpAzureBulkLoader {
   private final AzureKeyVault azureKeyVault;
   private final AzureKeyVaultSignerFactory azureKeyVaultSignerFactory;
+  private final BulkLoadingMetrics metrics;
 
   public SecpAzureBulkLoader(
       final AzureKeyVault azureKeyVault,
       final AzureKeyVaultSignerFactory azureKeyVaultSignerFactory) {
+    this(azureKeyVault, azureKeyVaultSignerFactory, BulkLoadingMetrics.NO_OP);
+  }
+
+  public SecpAzureBulkLoader(
+      final AzureKeyVault azureKeyVault,
+      final AzureKeyVaultSignerFactory azureKeyVaultSignerFactory,
+      final BulkLoadingMetrics metrics) {
     this.azureKeyVault = azureKeyVault;
     this.azureKeyVaultSignerFactory = azureKeyVaultSignerFactory;
+    this.metrics = metrics;
   }
 
   public MappedResults<ArtifactSigner> load(final AzureKeyVaultParameters azureKeyVaultParameters) {
     return azureKeyVault.mapKeyProperties(
         kp -> createSigner(kp.getName(), azureKeyVaultParameters),
-        azureKeyVaultParameters.getTags());
+        azureKeyVaultParameters.getTags(),
+        azureKeyVaultParameters.getFetchConcurrency(),
+        metrics);
   }
 
   private EthSecpArtifactSigner createSigner(
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.bulkloading;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSecretKey;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Opt-in cache of decrypted BLS keys used to avoid running the KDF of every EIP-2335 keystore on
+ * each restart.
+ *
+ * <p>All cached keys are stored in a single file which is encrypted with AES-GCM under a key
+ * derived once (PBKDF2-HMAC-SHA256) from an operator supplied password. A cached key is only used
+ * when the size, modification time and SHA-256 checksum of its source keystore still match the
+ * values recorded when it was cached. Callers fall back to decrypting the keystore otherwise and
+ * add the result with {@link #put(Path, BLSKeyPair)}. {@link #save()} rewrites the file with the
+ * keys seen during the current load only, so entries for removed keystores are dropped.
+ *
+ * <p>File layout: a plain header {@code magic, version, kdf iterations, salt, iv} which is also
+ * authenticated as GCM additional data, followed by the encrypted entries. As the header is only
+ * authenticated after the KDF has run, a kdf iteration count below the configured count or above
+ * {@link #MAX_KDF_ITERATIONS} is rejected before deriving the key.
+ */
+public class UnlockedKeyCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String CACHE_FILE_NAME = "unlocked-keystores.cache";
+
+  private static final int MAGIC = 0x57334b43;
+  private static final int VERSION = 1;
+  private static final int SALT_LENGTH = 32;
+  private static final int IV_LENGTH = 12;
+  private static final int HEADER_LENGTH = 3 * Integer.BYTES + SALT_LENGTH + IV_LENGTH;
+  private static final int GCM_TAG_LENGTH_BITS = 128;
+  static final int DEFAULT_KDF_ITERATIONS = 600_000;
+  static final int MAX_KDF_ITERATIONS = 10 * DEFAULT_KDF_ITERATIONS;
+
+  private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+  private final Path cacheFile;
+  private final int kdfIterations;
+  private final byte[] salt;
+  private final SecretKey encryptionKey;
+  private final Map<String, CachedKey> cachedKeys;
+  private final Map<String, CachedKey> usedKeys = new ConcurrentHashMap<>();
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger misses = new AtomicInteger();
+
+  private UnlockedKeyCache(
+      final Path cacheFile,
+      final int kdfIterations,
+      final byte[] salt,
+      final SecretKey encryptionKey,
+      final Map<String, CachedKey> cachedKeys) {
+    this.cacheFile = cacheFile;
+    this.kdfIterations = kdfIterations;
+    this.salt = salt;
+    this.encryptionKey = encryptionKey;
+    this.cachedKeys = cachedKeys;
+  }
+
+  /**
+   * Opens the cache file, deriving the encryption key from the password file. A missing,
+   * unreadable or undecryptable cache file results in an empty cache which will be replaced on
+   * {@link #save()}.
+   *
+   * @param cacheFile location of the cache file
+   * @param passwordFile file containing the password protecting the cache
+   * @return the opened cache
+   * @throws IOException if the password file can't be read
+   */
+  public static UnlockedKeyCache open(final Path cacheFile, final Path passwordFile)
+      throws IOException {
+    return open(cacheFile, passwordFile, DEFAULT_KDF_ITERATIONS);
+  }
+
+  static UnlockedKeyCache open(
+      final Path cacheFile, final Path passwordFile, final int kdfIterations) throws IOException {
+    final String password = Files.readString(passwordFile);
+
+    if (Files.isReadable(cacheFile)) {
+      try (final FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+        final MappedByteBuffer buffer =
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        final Optional<UnlockedKeyCache> cache =
+            readCache(cacheFile, buffer, password, kdfIterations);
+        if (cache.isPresent()) {
+          return cache.get();
+        }
+      } catch (final IOException | RuntimeException e) {
+        LOG.warn("Unable to read unlocked key cache {}, it will be recreated", cacheFile, e);
+      }
+    }
+
+    final byte[] salt = randomBytes(SALT_LENGTH);
+    return new UnlockedKeyCache(
+        cacheFile, kdfIterations, salt, deriveKey(password, salt, kdfIterations), new HashMap<>());
+  }
+
+  private static Optional<UnlockedKeyCache> readCache(
+      final Path cacheFile,
+      final ByteBuffer buffer,
+      final String password,
+      final int minKdfIterations) {
+    if (buffer.remaining() < HEADER_LENGTH) {
+      LOG.warn("Unlocked key cache {} is truncated, it will be recreated", cacheFile);
+      return Optional.empty();
+    }
+    final ByteBuffer header = buffer.slice(0, HEADER_LENGTH);
+    if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+      LOG.warn("Unlocked key cache {} has unsupported format, it will be recreated", cacheFile);
+      return Optional.empty();
+    }
+    final int kdfIterations = header.getInt();
+    if (kdfIterations < minKdfIterations || kdfIterations > MAX_KDF_ITERATIONS) {
+      LOG.warn(
+          "Unlocked key cache {} has invalid kdf iteration count {}, it will be recreated",
+          cacheFile,
+          kdfIterations);
+      return Optional.empty();
+    }
+    final byte[] salt = new byte[SALT_LENGTH];
+    header.get(salt);
+    final byte[] iv = new byte[IV_LENGTH];
+    header.get(iv);
+
+    // this is the single KDF run replacing the per keystore KDFs
+    final SecretKey encryptionKey = deriveKey(password, salt, kdfIterations);
+    final ByteBuffer plainText;
+    try {
+      final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+      cipher.init(
+          Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+      cipher.updateAAD(buffer.slice(0, HEADER_LENGTH));
+      final ByteBuffer cipherText = buffer.slice(HEADER_LENGTH, buffer.limit() - HEADER_LENGTH);
+      plainText = ByteBuffer.allocate(cipher.getOutputSize(cipherText.remaining()));
+      cipher.doFinal(cipherText, plainText);
+      plainText.flip();
+    } catch (final GeneralSecurityException e) {
+      // the header can't be trusted, so its salt and kdf iterations are not reused
+      LOG.warn(
+          "Unlocked key cache {} could not be decrypted with the configured password, it will be"
+              + " recreated",
+          cacheFile);
+      return Optional.empty();
+    }
+
+    final Map<String, CachedKey> cachedKeys = readEntries(plainText);
+    Arrays.fill(plainText.array(), (byte) 0);
+    LOG.info("Read {} keys from unlocked key cache {}", cachedKeys.size(), cacheFile);
+    return Optional.of(
+        new UnlockedKeyCache(cacheFile, kdfIterations, salt, encryptionKey, cachedKeys));
+  }
+
+  private static Map<String, CachedKey> readEntries(final ByteBuffer plainText) {
+    final int count = plainText.getInt();
+    final Map<String, CachedKey> entries = new HashMap<>(count);
+    for (int i = 0; i < count; i++) {
+      final byte[] path = new byte[plainText.getShort() & 0xFFFF];
+      plainText.get(path);
+      final long size = plainText.getLong();
+      final long lastModified = plainText.getLong();
+      final byte[] checksum = new byte[Bytes32.SIZE];
+      plainText.get(checksum);
+      final byte[] secretKey = new byte[Bytes32.SIZE];
+      plainText.get(secretKey);
+      entries.put(
+          new String(path, UTF_8),
+          new CachedKey(
+              new KeystoreFingerprint(size, lastModified, Bytes32.wrap(checksum)),
+              Bytes32.wrap(secretKey)));
+    }
+    return entries;
+  }
+
+  /**
+   * Returns the cached key pair for the keystore if the keystore is unchanged since it was cached.
+   *
+   * @param keystoreFile the source keystore file
+   * @return the key pair or empty if there is no valid cache entry for the keystore
+   */
+  public Optional<BLSKeyPair> get(final Path keystoreFile) {
+    final String cacheKey = cacheKey(keystoreFile);
+    final CachedKey cachedKey = cachedKeys.get(cacheKey);
+    if (cachedKey == null) {
+      misses.incrementAndGet();
+      return Optional.empty();
+    }
+
+    final Optional<KeystoreFingerprint> fingerprint = KeystoreFingerprint.of(keystoreFile);
+    if (fingerprint.isEmpty() || !fingerprint.get().equals(cachedKey.fingerprint())) {
+      LOG.debug("Unlocked key cache entry for {} is stale", keystoreFile);
+      misses.incrementAndGet();
+      return Optional.empty();
+    }
+
+    hits.incrementAndGet();
+    usedKeys.put(cacheKey, cachedKey);
+    return Optional.of(new BLSKeyPair(BLSSecretKey.fromBytes(cachedKey.secretKey())));
+  }
+
+  /**
+   * Records a key pair decrypted from a keystore so that it is written on the next {@link
+   * #save()}.
+   *
+   * @param keystoreFile the source keystore file
+   * @param keyPair the key pair decrypted from the keystore
+   */
+  public void put(final Path keystoreFile, final BLSKeyPair keyPair) {
+    KeystoreFingerprint.of(keystoreFile)
+        .ifPresent(
+            fingerprint ->
+                usedKeys.put(
+                    cacheKey(keystoreFile),
+                    new CachedKey(fingerprint, keyPair.getSecretKey().toBytes())));
+  }
+
+  /**
+   * Keeps the entry of a keystore whose key is already loaded and therefore not read from this
+   * cache, so that the entry is still written on the next {@link #save()}. Stale entries remain
+   * rejected by {@link #get(Path)}.
+   *
+   * @param keystoreFile the source keystore file
+   */
+  public void retain(final Path keystoreFile) {
+    final String cacheKey = cacheKey(keystoreFile);
+    final CachedKey cachedKey = cachedKeys.get(cacheKey);
+    if (cachedKey != null) {
+      usedKeys.putIfAbsent(cacheKey, cachedKey);
+    }
+  }
+
+  /**
+   * Atomically replaces the cache file with the keys which were read from or added to this cache.
+   * Failures are logged as the cache is an optimisation only.
+   */
+  public void save() {
+    LOG.info(
+        "Unlocked key cache hits: [{}], keystores decrypted: [{}]", hits.get(), misses.get());
+    try {
+      final Path tempFile =
+          Files.createTempFile(cacheFile.toAbsolutePath().getParent(), CACHE_FILE_NAME, ".tmp");
+      try {
+        restrictPermissions(tempFile);
+        Files.write(tempFile, encryptEntries());
+        Files.move(
+            tempFile,
+            cacheFile,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (final IOException | GeneralSecurityException e) {
+      LOG.warn("Unable to write unlocked key cache {}", cacheFile, e);
+    }
+  }
+
+  private byte[] encryptEntries() throws IOException, GeneralSecurityException {
+    final byte[] iv = randomBytes(IV_LENGTH);
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    header.putInt(MAGIC).putInt(VERSION).putInt(kdfIterations).put(salt).put(iv);
+
+    final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+    try (final DataOutputStream out = new DataOutputStream(entries)) {
+      out.writeInt(usedKeys.size());
+      for (final Map.Entry<String, CachedKey> entry : usedKeys.entrySet()) {
+        final byte[] path = entry.getKey().getBytes(UTF_8);
+        out.writeShort(path.length);
+        out.write(path);
+        out.writeLong(entry.getValue().fingerprint().size());
+        out.writeLong(entry.getValue().fingerprint().lastModified());
+        out.write(entry.getValue().fingerprint().checksum().toArrayUnsafe());
+        out.write(entry.getValue().secretKey().toArrayUnsafe());
+      }
+    }
+
+    final byte[] plainText = entries.toByteArray();
+    try {
+      final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+      cipher.init(
+          Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH_BITS, iv));
+      cipher.updateAAD(header.array());
+      final byte[] cipherText = cipher.doFinal(plainText);
+      return ByteBuffer.allocate(HEADER_LENGTH + cipherText.length)
+          .put(header.array())
+          .put(cipherText)
+          .array();
+    } finally {
+      Arrays.fill(plainText, (byte) 0);
+    }
+  }
+
+  private static void restrictPermissions(final Path file) throws IOException {
+    if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+    }
+  }
+
+  private static SecretKey deriveKey(
+      final String password, final byte[] salt, final int iterations) {
+    final PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, iterations, 256);
+    try {
+      final byte[] key =
+          SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(keySpec).getEncoded();
+      return new SecretKeySpec(key, "AES");
+    } catch (final GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to derive unlocked key cache encryption key", e);
+    } finally {
+      keySpec.clearPassword();
+    }
+  }
+
+  private static String cacheKey(final Path keystoreFile) {
+    return keystoreFile.toAbsolutePath().normalize().toString();
+  }
+
+  private static byte[] randomBytes(final int length) {
+    final byte[] bytes = new byte[length];
+    SECURE_RANDOM.nextBytes(bytes);
+    return bytes;
+  }
+
+  private record CachedKey(KeystoreFingerprint fingerprint, Bytes32 secretKey) {}
+
+  private record KeystoreFingerprint(long size, long lastModified, Bytes32 checksum) {
+
+    static Optional<KeystoreFingerprint> of(final Path keystoreFile) {
+      try {
+        final byte[] content = Files.readAllBytes(keystoreFile);
+        return Optional.of(
+            new KeystoreFingerprint(
+                content.length,
+                Files.getLastModifiedTime(keystoreFile).toMillis(),
+                Bytes32.wrap(MessageDigest.getInstance("SHA-256").digest(content))));
+      } catch (final IOException e) {
+        LOG.debug("Unable to fingerprint keystore {}", keystoreFile, e);
+        return Optional.empty();
+      } catch (final NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 algorithm not found", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.bulkloading;
+
+import static tech.pegasys.web3signer.common.Web3SignerMetricCategory.SIGNING;
+
+import tech.pegasys.web3signer.keystorage.common.BulkLoadingMetrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedGauge;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+/** Metrics for the secrets bulk loaded from each remote vault. */
+public class VaultBulkLoadingMetrics {
+
+  private final LabelledMetric<Counter> fetchedSecrets;
+  private final LabelledMetric<Counter> failedSecrets;
+  private final LabelledMetric<Counter> throttledRequests;
+  private final LabelledSuppliedGauge throughput;
+  private final LabelledMetric<OperationTimer> pageDuration;
+  private final Map<String, BulkLoadingMetrics> vaultMetrics = new ConcurrentHashMap<>();
+
+  public VaultBulkLoadingMetrics(final MetricsSystem metricsSystem) {
+    fetchedSecrets =
+        metricsSystem.createLabelledCounter(
+            SIGNING,
+            "bulk_loading_secrets_fetched",
+            "The number of secrets fetched from a vault while bulk loading keys",
+            "vault");
+    failedSecrets =
+        metricsSystem.createLabelledCounter(
+            SIGNING,
+            "bulk_loading_secrets_failed",
+            "The number of secrets which could not be fetched from a vault while bulk loading keys",
+            "vault");
+    throttledRequests =
+        metricsSystem.createLabelledCounter(
+            SIGNING,
+            "bulk_loading_requests_throttled",
+            "The number of vault requests throttled while bulk loading keys",
+            "vault");
+    throughput =
+        metricsSystem.createLabelledSuppliedGauge(
+            SIGNING,
+            "bulk_loading_throughput",
+            "Secrets fetched per second by the most recent bulk load from a vault",
+            "vault");
+    pageDuration =
+        metricsSystem.createLabelledTimer(
+            SIGNING,
+            "bulk_loading_page_duration",
+            "Time taken to load the secrets from a page listed by a vault",
+            "vault");
+  }
+
+  /**
+   * Returns the metrics updated while bulk loading from a vault.
+   *
+   * @param vault name of the vault, used as the metric label
+   * @return metrics for the vault
+   */
+  public BulkLoadingMetrics forVault(final String vault) {
+    // the gauge can only be registered once for each vault, so the metrics are reused by reloads
+    return vaultMetrics.computeIfAbsent(vault, this::createVaultMetrics);
+  }
+
+  private BulkLoadingMetrics createVaultMetrics(final String vault) {
+    final Counter fetched = fetchedSecrets.labels(vault);
+    final Counter failed = failedSecrets.labels(vault);
+    final Counter throttled = throttledRequests.labels(vault);
+    final OperationTimer pageTimer = pageDuration.labels(vault);
+    final AtomicReference<Double> secretsPerSecond = new AtomicReference<>(0.0);
+    throughput.labels(secretsPerSecond::get, vault);
+    return new BulkLoadingMetrics() {
+      @Override
+      public void secretsFetched(final int count) {
+        fetched.inc(count);
+      }
+
+      @Override
+      public void secretsFailed(final int count) {
+        failed.inc(count);
+      }
+
+      @Override
+      public void requestThrottled() {
+        throttled.inc();
+      }
+
+      @Override
+      public void loadCompleted(final int secretsFetched, final Duration elapsed) {
+        final double seconds = Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+        secretsPerSecond.set(secretsFetched / seconds);
+      }
+
+      @Override
+      public PageTimer startPage() {
+        return pageTimer.startTimer()::stopTimer;
+      }
+    };
+  }
+}
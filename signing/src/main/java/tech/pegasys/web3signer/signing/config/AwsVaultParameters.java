@@ -13,6 +13,7 @@
 package tech.pegasys.web3signer.signing.config;
 
 import tech.pegasys.web3signer.common.config.AwsAuthenticationMode;
+import tech.pegasys.web3signer.keystorage.aws.AwsSecretsManager;
 
 import java.net.URI;
 import java.util.Collection;
@@ -21,6 +22,8 @@ import java.util.Map;
 import java.util.Optional;
 
 public interface AwsVaultParameters {
+  int DEFAULT_FETCH_CONCURRENCY = AwsSecretsManager.DEFAULT_FETCH_CONCURRENCY;
+
   boolean isEnabled();
 
   AwsAuthenticationMode getAuthenticationMode();
@@ -41,6 +44,15 @@ public interface AwsVaultParameters {
 
   Map<String, String> getTags();
 
+  /**
+   * Maximum number of concurrent requests used to fetch secret values when bulk loading
+   *
+   * @return fetch concurrency
+   */
+  default int getFetchConcurrency() {
+    return DEFAULT_FETCH_CONCURRENCY;
+  }
+
   /**
    * Can be used to override AWS endpoint to localstack
    *
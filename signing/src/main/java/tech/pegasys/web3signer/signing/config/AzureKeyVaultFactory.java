@@ -15,8 +15,11 @@ package tech.pegasys.web3signer.signing.config;
 import tech.pegasys.web3signer.keystorage.azure.AzureKeyVault;
 
 import java.io.Closeable;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
@@ -25,6 +28,17 @@ import com.google.common.annotations.VisibleForTesting;
 
 public class AzureKeyVaultFactory implements Closeable {
   private final AtomicReference<ExecutorService> executorServiceCache = new AtomicReference<>();
+  // vaults are shared so that signers for the same vault use one credential and its cached token
+  private final Map<VaultCacheKey, AzureKeyVault> keyVaultCache = new ConcurrentHashMap<>();
+  private final Duration tokenRefreshMargin;
+
+  public AzureKeyVaultFactory() {
+    this(AzureKeyVault.DEFAULT_TOKEN_REFRESH_MARGIN);
+  }
+
+  public AzureKeyVaultFactory(final Duration tokenRefreshMargin) {
+    this.tokenRefreshMargin = tokenRefreshMargin;
+  }
 
   public AzureKeyVault createAzureKeyVault(final AzureKeyVaultParameters azureKeyVaultParameters) {
     return createAzureKeyVault(
@@ -43,25 +57,37 @@ public class AzureKeyVaultFactory implements Closeable {
       final String tenantId,
       final AzureAuthenticationMode mode,
       final long httpClientTimeout) {
-    return switch (mode) {
+    return keyVaultCache.computeIfAbsent(
+        new VaultCacheKey(clientId, clientSecret, keyVaultName, tenantId, mode, httpClientTimeout),
+        this::newAzureKeyVault);
+  }
+
+  private AzureKeyVault newAzureKeyVault(final VaultCacheKey key) {
+    return switch (key.mode()) {
       case USER_ASSIGNED_MANAGED_IDENTITY ->
           AzureKeyVault.createUsingManagedIdentity(
-              Optional.of(clientId), keyVaultName, httpClientTimeout);
+              Optional.of(key.clientId()),
+              key.keyVaultName(),
+              key.httpClientTimeout(),
+              tokenRefreshMargin);
       case SYSTEM_ASSIGNED_MANAGED_IDENTITY ->
           AzureKeyVault.createUsingManagedIdentity(
-              Optional.empty(), keyVaultName, httpClientTimeout);
+              Optional.empty(), key.keyVaultName(), key.httpClientTimeout(), tokenRefreshMargin);
       case CLIENT_SECRET ->
           AzureKeyVault.createUsingClientSecretCredentials(
-              clientId,
-              clientSecret,
-              tenantId,
-              keyVaultName,
+              key.clientId(),
+              key.clientSecret(),
+              key.tenantId(),
+              key.keyVaultName(),
               getOrCreateExecutor(),
-              httpClientTimeout);
+              key.httpClientTimeout(),
+              tokenRefreshMargin);
     };
   }
 
-  private ExecutorService getOrCreateExecutor() {
+  // synchronized as key sources are loaded concurrently and a pool created by a retried update
+  // would never be shut down
+  private synchronized ExecutorService getOrCreateExecutor() {
     return executorServiceCache.updateAndGet(
         e ->
             Objects.requireNonNullElseGet(
@@ -70,6 +96,7 @@ public class AzureKeyVaultFactory implements Closeable {
 
   @Override
   public void close() {
+    keyVaultCache.clear();
     final ExecutorService executorService = executorServiceCache.get();
     if (executorService != null) {
       executorService.shutdownNow();
@@ -81,4 +108,12 @@ public class AzureKeyVaultFactory implements Closeable {
   protected AtomicReference<ExecutorService> getExecutorServiceCache() {
     return executorServiceCache;
   }
+
+  private record VaultCacheKey(
+      String clientId,
+      String clientSecret,
+      String keyVaultName,
+      String tenantId,
+      AzureAuthenticationMode mode,
+      long httpClientTimeout) {}
 }
@@ -12,9 +12,14 @@
  */
 package tech.pegasys.web3signer.signing.config;
 
+import tech.pegasys.web3signer.keystorage.azure.AzureKeyVault;
+
 import java.util.Map;
 
 public interface AzureKeyVaultParameters {
+  int DEFAULT_FETCH_CONCURRENCY = AzureKeyVault.DEFAULT_FETCH_CONCURRENCY;
+  long DEFAULT_TOKEN_REFRESH_MARGIN_SECONDS =
+      AzureKeyVault.DEFAULT_TOKEN_REFRESH_MARGIN.toSeconds();
 
   boolean isAzureKeyVaultEnabled();
 
@@ -31,4 +36,22 @@ public interface AzureKeyVaultParameters {
   Map<String, String> getTags();
 
   long getTimeout();
+
+  /**
+   * Maximum number of concurrent requests used to fetch secrets or keys when bulk loading
+   *
+   * @return fetch concurrency
+   */
+  default int getFetchConcurrency() {
+    return DEFAULT_FETCH_CONCURRENCY;
+  }
+
+  /**
+   * How long before the access token used for remote signing expires that it is renewed
+   *
+   * @return refresh margin in seconds
+   */
+  default long getTokenRefreshMargin() {
+    return DEFAULT_TOKEN_REFRESH_MARGIN_SECONDS;
+  }
 }
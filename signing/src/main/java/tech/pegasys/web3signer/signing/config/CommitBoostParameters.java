@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.config;
+
+/** Configuration of the Commit Boost API proxy keystores and proxy key generation. */
+public interface CommitBoostParameters extends KeystoresParameters {
+  int DEFAULT_PROXY_KEY_POOL_SIZE = 0;
+  int DEFAULT_PROXY_KEY_POOL_REFILL_RATE = 60;
+  int DEFAULT_PROXY_KEY_MAX_CONCURRENT_ENCRYPTIONS = 2;
+
+  /**
+   * Number of proxy keys of each signature scheme generated and encrypted in advance, 0 generates
+   * each proxy key when it is requested
+   *
+   * @return proxy keys kept for each signature scheme
+   */
+  default int getProxyKeyPoolSize() {
+    return DEFAULT_PROXY_KEY_POOL_SIZE;
+  }
+
+  /**
+   * Maximum number of proxy keys of each signature scheme generated each minute to refill the pool
+   *
+   * @return proxy keys generated per minute for each signature scheme
+   */
+  default int getProxyKeyPoolRefillRate() {
+    return DEFAULT_PROXY_KEY_POOL_REFILL_RATE;
+  }
+
+  /**
+   * Maximum number of proxy keystores encrypted at once. An ECDSA proxy keystore uses scrypt,
+   * which needs around 256MB of memory for each encryption.
+   *
+   * @return maximum concurrent proxy keystore encryptions
+   */
+  default int getProxyKeyMaxConcurrentEncryptions() {
+    return DEFAULT_PROXY_KEY_MAX_CONCURRENT_ENCRYPTIONS;
+  }
+}
@@ -19,27 +19,42 @@ import tech.pegasys.web3signer.keystorage.common.MappedResults;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
 import tech.pegasys.web3signer.signing.KeyType;
+import tech.pegasys.web3signer.signing.SignerLoadResult;
 import tech.pegasys.web3signer.signing.bulkloading.BlsKeystoreBulkLoader;
 import tech.pegasys.web3signer.signing.bulkloading.SecpV3KeystoresBulkLoader;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 
 /**
  * Default implementation of {@link ArtifactSignerProvider} that loads signers and proxy signers.
@@ -82,10 +97,53 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
   private final Optional<KeystoresParameters> commitBoostKeystoresParameters;
 
   // Volatile references to immutable maps - readers see atomic snapshots
-  private volatile SignerState state = new SignerState(Map.of(), Map.of());
+  private volatile SignerState state = SignerState.of(Map.of(), Map.of());
 
-  private record SignerState(
-      Map<String, ArtifactSigner> signers, Map<String, Set<ArtifactSigner>> proxySigners) {}
+  // Proxy signers by proxy keystore directory, only replaced by load() on the loading executor
+  private Map<Path, CachedProxySigners> cachedProxySigners = Map.of();
+
+  /** Proxy signers loaded from a directory along with the modified times of the files read. */
+  private record CachedProxySigners(
+      Map<Path, FileTime> modifiedTimes, Set<ArtifactSigner> signers) {}
+
+  /**
+   * Immutable snapshot of loaded signers. {@code blsSignersByPublicKey} and {@code
+   * proxySignersByIdentifier} are secondary indexes over {@code signers} and all values of {@code
+   * proxySigners}, rebuilt whenever a snapshot is created so that lookups by public key bytes and
+   * by proxy identifier are single map reads.
+   */
+  @VisibleForTesting
+  record SignerState(
+      Map<String, ArtifactSigner> signers,
+      Map<Bytes, ArtifactSigner> blsSignersByPublicKey,
+      Map<String, Set<ArtifactSigner>> proxySigners,
+      Map<String, ArtifactSigner> proxySignersByIdentifier) {
+
+    static SignerState of(
+        final Map<String, ArtifactSigner> signers,
+        final Map<String, Set<ArtifactSigner>> proxySigners) {
+      final Map<Bytes, ArtifactSigner> blsSignersByPublicKey = new HashMap<>();
+      signers.forEach(
+          (identifier, signer) -> {
+            if (signer.getKeyType() == BLS) {
+              blsSignersByPublicKey.put(Bytes.fromHexString(identifier), signer);
+            }
+          });
+
+      final Map<String, ArtifactSigner> proxySignersByIdentifier = new HashMap<>();
+      proxySigners
+          .values()
+          .forEach(
+              proxies ->
+                  proxies.forEach(
+                      proxy -> proxySignersByIdentifier.putIfAbsent(proxy.getIdentifier(), proxy)));
+      return new SignerState(
+          Map.copyOf(signers),
+          Map.copyOf(blsSignersByPublicKey),
+          Map.copyOf(proxySigners),
+          Map.copyOf(proxySignersByIdentifier));
+    }
+  }
 
   private final ExecutorService executorService =
       Executors.newSingleThreadExecutor(
@@ -95,6 +153,22 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
             return thread;
           });
 
+  // decrypting proxy keystores is CPU bound, so it runs on a pool sized to the available
+  // processors rather than on the common fork join pool
+  private final ExecutorService proxyLoaderExecutorService = createProxyLoaderExecutorService();
+
+  private static ExecutorService createProxyLoaderExecutorService() {
+    final AtomicInteger threadCount = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(),
+        r -> {
+          final Thread thread =
+              new Thread(r, "proxy-signer-loader-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
   public DefaultArtifactSignerProvider(
       final Supplier<MappedResults<ArtifactSigner>> artifactSignerResultsSupplier,
       final Optional<BiConsumer<Set<String>, Set<String>>> postLoadingCallback,
@@ -116,9 +190,12 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
    *       Vault, etc.), capturing both successfully loaded signers and error counts
    *   <li>Builds a new immutable signers map from successfully loaded signers, handling duplicate
    *       keys by keeping the first signer and logging a warning
+   *   <li>Compares the new signers with the current signers to find the added and removed keys
    *   <li>If commit boost parameters are enabled, loads proxy signers for each consensus public key
-   *   <li>Atomically swaps the volatile references to the new immutable maps
+   *       in parallel, decrypting only the proxy keystore directories which changed on disk
+   *   <li>Atomically swaps the volatile references to the new immutable maps if any signer changed
    *   <li>Invokes the optional post-loading callback (e.g., for slashing protection registration)
+   *       with only the added and removed keys
    * </ol>
    *
    * <p>The atomic swap ensures that concurrent readers see either the complete old state or the
@@ -143,18 +220,22 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
    * have been processed (both successful and failed) and the state swap has occurred.
    *
    * @return a {@link Future} containing the number of signer configurations that failed to load (0
-   *     indicates all signers loaded successfully)
+   *     indicates all signers loaded successfully), the number of signers added, removed and
+   *     unchanged, and the duration of each phase
    */
   @Override
-  public Future<Long> load() {
+  public Future<SignerLoadResult> load() {
     return executorService.submit(
         () -> {
+          final Map<String, Duration> phases = new LinkedHashMap<>();
+          long phaseStart = System.nanoTime();
           final SignerState currentState = this.state;
           LOG.debug("Signer keys pre-loaded in memory {}", currentState.signers.size());
 
           // Get MappedResults - includes error count
           final MappedResults<ArtifactSigner> results = artifactSignerResultsSupplier.get();
           final long errorCount = results.getErrorCount();
+          phaseStart = recordPhase(phases, "load_signers", phaseStart);
 
           // Build new signers map from successful results
           final Map<String, ArtifactSigner> newSigners =
@@ -169,60 +250,103 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
                             return signer1;
                           }));
 
-          // Build new proxy signers map
-          final Map<String, Set<ArtifactSigner>> newProxySigners = new HashMap<>();
-
-          commitBoostKeystoresParameters
-              .filter(KeystoresParameters::isEnabled)
-              .ifPresent(
-                  keystoreParameter -> {
-                    newSigners
-                        .keySet()
-                        .forEach(
-                            consensusPubKey -> {
-                              LOG.trace("Loading proxy signers for '{}' ...", consensusPubKey);
-                              final Set<ArtifactSigner> proxies = new HashSet<>();
-
-                              loadProxySignersInto(
-                                  proxies,
+          // Only keys which were added or removed are passed to the post-loading callback, so
+          // unchanged keys are not registered with slashing protection again
+          final Set<String> addedKeys = new HashSet<>(newSigners.keySet());
+          addedKeys.removeAll(currentState.signers.keySet());
+          final Set<String> removedKeys = new HashSet<>(currentState.signers.keySet());
+          removedKeys.removeAll(newSigners.keySet());
+          phaseStart = recordPhase(phases, "diff", phaseStart);
+
+          // Build new proxy signers map, only proxy keystore directories which changed on disk
+          // since the previous load are decrypted again
+          final Map<String, Set<ArtifactSigner>> newProxySigners =
+              commitBoostKeystoresParameters
+                  .filter(KeystoresParameters::isEnabled)
+                  .map(parameters -> loadProxySigners(parameters, newSigners.keySet()))
+                  .orElse(Map.of());
+          phaseStart = recordPhase(phases, "proxy_signers", phaseStart);
+
+          // Atomically publish new immutable state - SignerState.of() copies the maps so readers
+          // never see intermediate modifications, volatile write guarantees immediate visibility
+          // across threads. Unchanged sources return the same signer instances, so the state is
+          // only rebuilt when a signer or proxy signer changed.
+          if (!newSigners.equals(currentState.signers)
+              || !newProxySigners.equals(currentState.proxySigners)) {
+            state = SignerState.of(newSigners, newProxySigners);
+          }
+          phaseStart = recordPhase(phases, "publish", phaseStart);
+
+          // Invoke callback with the delta only when callback is configured
+          if (postLoadingCallback.isPresent()) {
+            postLoadingCallback.get().accept(addedKeys, removedKeys);
+            recordPhase(phases, "post_loading", phaseStart);
+          }
+
+          LOG.info(
+              "Total signers (keys) currently loaded in memory: {} ({} added, {} removed)",
+              state.signers.size(),
+              addedKeys.size(),
+              removedKeys.size());
+          return new SignerLoadResult(
+              errorCount,
+              addedKeys.size(),
+              removedKeys.size(),
+              newSigners.size() - addedKeys.size(),
+              Collections.unmodifiableMap(phases));
+        });
+  }
+
+  /**
+   * Loads the proxy signers of each consensus key on the proxy signer executor. A proxy keystore
+   * directory is only decrypted again when its keystore files or the password file were added,
+   * removed or modified since the previous load, otherwise its cached proxy signers are reused.
+   */
+  private Map<String, Set<ArtifactSigner>> loadProxySigners(
+      final KeystoresParameters keystoreParameter, final Set<String> consensusPubKeys) {
+    final Map<Path, CachedProxySigners> newProxyCache = new ConcurrentHashMap<>();
+    final Map<String, Set<ArtifactSigner>> newProxySigners = new ConcurrentHashMap<>();
+
+    final List<CompletableFuture<Void>> loads =
+        consensusPubKeys.stream()
+            .map(
+                consensusPubKey ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          LOG.trace("Loading proxy signers for '{}' ...", consensusPubKey);
+                          final Set<ArtifactSigner> proxies = new HashSet<>();
+                          proxies.addAll(
+                              loadProxySigners(
+                                  newProxyCache,
                                   keystoreParameter,
                                   consensusPubKey,
                                   SECP256K1.name(),
-                                  SecpV3KeystoresBulkLoader::loadECDSAProxyKeystores);
-
-                              loadProxySignersInto(
-                                  proxies,
+                                  SecpV3KeystoresBulkLoader::loadECDSAProxyKeystores));
+                          proxies.addAll(
+                              loadProxySigners(
+                                  newProxyCache,
                                   keystoreParameter,
                                   consensusPubKey,
                                   BLS.name(),
-                                  BlsKeystoreBulkLoader::loadKeystoresUsingPasswordFile);
-
-                              if (!proxies.isEmpty()) {
-                                newProxySigners.put(consensusPubKey, Set.copyOf(proxies));
-                              }
-                            });
-                  });
-
-          // Atomically publish new immutable state - Map.copyOf() ensures readers never see
-          // intermediate modifications, volatile write guarantees immediate visibility across
-          // threads
-          state = new SignerState(Map.copyOf(newSigners), Map.copyOf(newProxySigners));
-
-          // Compute delta and invoke callback only when callback is configured
-          postLoadingCallback.ifPresent(
-              callback -> {
-                final Set<String> addedKeys = new HashSet<>(state.signers.keySet());
-                addedKeys.removeAll(currentState.signers.keySet());
-
-                final Set<String> removedKeys = new HashSet<>(currentState.signers.keySet());
-                removedKeys.removeAll(state.signers.keySet());
-
-                callback.accept(addedKeys, removedKeys);
-              });
+                                  BlsKeystoreBulkLoader::loadKeystoresUsingPasswordFile));
+                          if (!proxies.isEmpty()) {
+                            newProxySigners.put(consensusPubKey, Set.copyOf(proxies));
+                          }
+                        },
+                        proxyLoaderExecutorService))
+            .toList();
+    loads.forEach(CompletableFuture::join);
+
+    // directories of removed consensus keys are dropped from the cache
+    cachedProxySigners = Map.copyOf(newProxyCache);
+    return newProxySigners;
+  }
 
-          LOG.info("Total signers (keys) currently loaded in memory: {}", state.signers.size());
-          return errorCount;
-        });
+  private static long recordPhase(
+      final Map<String, Duration> phases, final String phase, final long startNanos) {
+    final long now = System.nanoTime();
+    phases.put(phase, Duration.ofNanos(now - startNanos));
+    return now;
   }
 
   @Override
@@ -237,14 +361,23 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
     return result;
   }
 
+  @Override
+  public Optional<ArtifactSigner> getSigner(final Bytes publicKey) {
+    final SignerState currentState = this.state;
+    // Single volatile read - no identifier string is built for the lookup
+    final Optional<ArtifactSigner> result =
+        Optional.ofNullable(currentState.blsSignersByPublicKey.get(publicKey));
+    if (result.isEmpty()) {
+      LOG.debug("No signer was loaded matching public key '{}'", publicKey);
+    }
+    return result;
+  }
+
   @Override
   public Optional<ArtifactSigner> getProxySigner(final String proxyPubKey) {
-    // Single volatile read, then stream over immutable collections
+    // Single volatile read, then lookup in the immutable proxy identifier index
     final SignerState currentState = this.state;
-    return currentState.proxySigners.values().stream()
-        .flatMap(Set::stream)
-        .filter(signer -> signer.getIdentifier().equals(proxyPubKey))
-        .findFirst();
+    return Optional.ofNullable(currentState.proxySignersByIdentifier.get(proxyPubKey));
   }
 
   @Override
@@ -288,10 +421,10 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
               new HashMap<>(currentState.proxySigners);
           newProxySigners.putIfAbsent(signer.getIdentifier(), Set.of());
 
-          // Atomically publish new immutable state - Map.copyOf() ensures readers never see
-          // intermediate modifications, volatile write guarantees immediate visibility across
-          // threads
-          state = new SignerState(Map.copyOf(newSigners), Map.copyOf(newProxySigners));
+          // Atomically publish new immutable state - SignerState.of() copies the maps so readers
+          // never see intermediate modifications, volatile write guarantees immediate visibility
+          // across threads
+          state = SignerState.of(newSigners, newProxySigners);
           LOG.info("Loaded new signer for identifier '{}'", signer.getIdentifier());
           return null;
         });
@@ -309,10 +442,10 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
               new HashMap<>(currentState.proxySigners);
           newProxySigners.remove(identifier);
 
-          // Atomically publish new immutable state - Map.copyOf() ensures readers never see
-          // intermediate modifications, volatile write guarantees immediate visibility across
-          // threads
-          this.state = new SignerState(Map.copyOf(newSigners), Map.copyOf(newProxySigners));
+          // Atomically publish new immutable state - SignerState.of() copies the maps so readers
+          // never see intermediate modifications, volatile write guarantees immediate visibility
+          // across threads
+          this.state = SignerState.of(newSigners, newProxySigners);
 
           LOG.info("Removed signer with identifier '{}'", identifier);
           return null;
@@ -353,10 +486,10 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
           updatedProxies.add(signerToAdd);
           newProxySigners.put(consensusPubKey, Set.copyOf(updatedProxies));
 
-          // Atomically publish new immutable state - Map.copyOf() ensures readers never see
-          // intermediate modifications, volatile write guarantees immediate visibility across
-          // threads
-          this.state = new SignerState(currentState.signers, Map.copyOf(newProxySigners));
+          // Atomically publish new immutable state - SignerState.of() copies the maps so readers
+          // never see intermediate modifications, volatile write guarantees immediate visibility
+          // across threads
+          this.state = SignerState.of(currentState.signers, newProxySigners);
 
           LOG.info(
               "Loaded new proxy signer {} for consensus public key '{}'",
@@ -371,6 +504,7 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
     // Immediate shutdown is appropriate here since if the app is shutting down,
     // there's no need to wait for a potentially long-running load operation
     executorService.shutdownNow();
+    proxyLoaderExecutorService.shutdownNow();
   }
 
   private static boolean canReadFromDirectory(final Path path) {
@@ -379,10 +513,10 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
   }
 
   /**
-   * Loads proxy signers from a keystore directory into the target set.
+   * Loads proxy signers from a keystore directory, reusing the proxy signers loaded from it
+   * previously when none of its files changed.
    *
-   * <p>This static utility method attempts to load proxy signers for a specific consensus public
-   * key and key type from the configured keystores path. The directory structure expected is:
+   * <p>The directory structure expected is:
    *
    * <pre>
    * {keystoresPath}/{consensusPubKey}/{keyType}/
@@ -396,17 +530,19 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
    *
    * <p>If the directory exists and is readable, the loader function is invoked to bulk load all
    * keystores from that directory using the configured password file. If the directory does not
-   * exist or is not readable, no action is taken.
+   * exist or is not readable, no proxy signers are returned.
    *
-   * @param targetSet the mutable set to add loaded proxy signers into
+   * @param newProxyCache the cache being built by the current load, which the directory's proxy
+   *     signers are added to if they loaded without errors
    * @param keystoreParameter the keystore configuration containing paths and password file location
    * @param consensusPubKey the consensus public key for which to load proxy signers
    * @param keyType the type of keys to load (e.g., "BLS" or "SECP256K1")
    * @param loaderFunction the bulk loading function that reads keystores from a directory using a
    *     password file and returns the loaded signers
+   * @return the proxy signers of the directory
    */
-  private static void loadProxySignersInto(
-      final Set<ArtifactSigner> targetSet,
+  private Set<ArtifactSigner> loadProxySigners(
+      final Map<Path, CachedProxySigners> newProxyCache,
       final KeystoresParameters keystoreParameter,
       final String consensusPubKey,
       final String keyType,
@@ -414,11 +550,46 @@ public class DefaultArtifactSignerProvider implements ArtifactSignerProvider {
 
     final Path identifierPath = keystoreParameter.getKeystoresPath().resolve(consensusPubKey);
     final Path proxyDir = identifierPath.resolve(keyType);
+    if (!canReadFromDirectory(proxyDir)) {
+      return Set.of();
+    }
+
+    final Path passwordFile = keystoreParameter.getKeystoresPasswordFile();
+    final Optional<Map<Path, FileTime>> modifiedTimes = lastModifiedTimes(proxyDir, passwordFile);
+    final CachedProxySigners cached = cachedProxySigners.get(proxyDir);
+    if (cached != null
+        && modifiedTimes.isPresent()
+        && cached.modifiedTimes().equals(modifiedTimes.get())) {
+      LOG.trace("Proxy keystores in {} are unchanged", proxyDir);
+      newProxyCache.put(proxyDir, cached);
+      return cached.signers();
+    }
 
-    if (canReadFromDirectory(proxyDir)) {
-      final MappedResults<ArtifactSigner> signersResult =
-          loaderFunction.apply(proxyDir, keystoreParameter.getKeystoresPasswordFile());
-      targetSet.addAll(signersResult.getValues());
+    final MappedResults<ArtifactSigner> signersResult =
+        loaderFunction.apply(proxyDir, passwordFile);
+    final Set<ArtifactSigner> signers = Set.copyOf(signersResult.getValues());
+    if (signersResult.getErrorCount() == 0 && modifiedTimes.isPresent()) {
+      newProxyCache.put(proxyDir, new CachedProxySigners(modifiedTimes.get(), signers));
+    }
+    return signers;
+  }
+
+  /**
+   * Returns the last modified time of each file in the directory and of the password file, or empty
+   * if any of them cannot be read.
+   */
+  private static Optional<Map<Path, FileTime>> lastModifiedTimes(
+      final Path directory, final Path passwordFile) {
+    try (final Stream<Path> files = Files.list(directory)) {
+      final Map<Path, FileTime> modifiedTimes = new HashMap<>();
+      for (final Path file : files.toList()) {
+        modifiedTimes.put(file, Files.getLastModifiedTime(file));
+      }
+      modifiedTimes.put(passwordFile, Files.getLastModifiedTime(passwordFile));
+      return Optional.of(modifiedTimes);
+    } catch (final IOException | UncheckedIOException e) {
+      LOG.debug("Unable to read modified times of proxy keystores in {}", directory, e);
+      return Optional.empty();
     }
   }
 }
@@ -12,9 +12,13 @@
  */
 package tech.pegasys.web3signer.signing.config;
 
+import tech.pegasys.web3signer.keystorage.gcp.GcpSecretManager;
+
 import java.util.Optional;
 
 public interface GcpSecretManagerParameters {
+  int DEFAULT_FETCH_CONCURRENCY = GcpSecretManager.DEFAULT_FETCH_CONCURRENCY;
+
   boolean isEnabled();
 
   String getProjectId();
@@ -22,4 +26,13 @@ public interface GcpSecretManagerParameters {
   default Optional<String> getFilter() {
     return Optional.empty();
   }
+
+  /**
+   * Maximum number of concurrent requests used to fetch secret values when bulk loading
+   *
+   * @return fetch concurrency
+   */
+  default int getFetchConcurrency() {
+    return DEFAULT_FETCH_CONCURRENCY;
+  }
 }
@@ -18,6 +18,7 @@ public interface KeystoresParameters {
   String KEYSTORES_PATH = "--keystores-path";
   String KEYSTORES_PASSWORDS_PATH = "--keystores-passwords-path";
   String KEYSTORES_PASSWORD_FILE = "--keystores-password-file";
+  String KEYSTORES_UNLOCKED_CACHE_PASSWORD_FILE = "--keystores-unlocked-cache-password-file";
 
   Path getKeystoresPath();
 
@@ -25,6 +26,10 @@ public interface KeystoresParameters {
 
   Path getKeystoresPasswordFile();
 
+  default Path getKeystoresUnlockedCachePasswordFile() {
+    return null;
+  }
+
   default boolean isEnabled() {
     return getKeystoresPath() != null;
   }
@@ -36,4 +41,8 @@ public interface KeystoresParameters {
   default boolean hasKeystoresPasswordFile() {
     return getKeystoresPasswordFile() != null;
   }
+
+  default boolean isUnlockedKeyCacheEnabled() {
+    return getKeystoresUnlockedCachePasswordFile() != null;
+  }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.config;
+
+import java.time.Duration;
+
+/** Limits applied to signing requests sent to remote key management services. */
+public interface RemoteSigningParameters {
+  long DEFAULT_TIMEOUT_MILLIS = 10_000;
+  int DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
+  long DEFAULT_MIN_HEDGE_DELAY_MILLIS = 50;
+  int DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE = 50;
+  long DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_MILLIS = 30_000;
+
+  /**
+   * How long to wait for an AWS KMS signing request before failing it
+   *
+   * @return AWS KMS signing timeout
+   */
+  default Duration getAwsKmsTimeout() {
+    return Duration.ofMillis(DEFAULT_TIMEOUT_MILLIS);
+  }
+
+  /**
+   * How long to wait for an Azure Key Vault signing request before failing it
+   *
+   * @return Azure signing timeout
+   */
+  default Duration getAzureTimeout() {
+    return Duration.ofMillis(DEFAULT_TIMEOUT_MILLIS);
+  }
+
+  /**
+   * Maximum number of signing requests in flight to each provider, further requests fail
+   * immediately
+   *
+   * @return maximum concurrent requests for each provider
+   */
+  default int getMaxConcurrentRequests() {
+    return DEFAULT_MAX_CONCURRENT_REQUESTS;
+  }
+
+  /**
+   * Whether a second request is sent when the first has taken longer than the provider's recent
+   * 95th percentile latency
+   *
+   * @return true if hedged requests are enabled
+   */
+  default boolean isHedgingEnabled() {
+    return false;
+  }
+
+  /**
+   * The shortest delay before a hedged request is sent
+   *
+   * @return minimum hedge delay
+   */
+  default Duration getMinHedgeDelay() {
+    return Duration.ofMillis(DEFAULT_MIN_HEDGE_DELAY_MILLIS);
+  }
+
+  /**
+   * Percentage of recent signing requests to a provider which must fail for its circuit breaker to
+   * open
+   *
+   * @return failure rate threshold between 1 and 100
+   */
+  default int getCircuitBreakerFailureRate() {
+    return DEFAULT_CIRCUIT_BREAKER_FAILURE_RATE;
+  }
+
+  /**
+   * How long an open circuit breaker fails requests before allowing a trial request
+   *
+   * @return circuit breaker open duration
+   */
+  default Duration getCircuitBreakerOpenDuration() {
+    return Duration.ofMillis(DEFAULT_CIRCUIT_BREAKER_OPEN_DURATION_MILLIS);
+  }
+}
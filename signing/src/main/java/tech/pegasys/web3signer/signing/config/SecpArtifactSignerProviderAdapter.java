@@ -17,7 +17,9 @@ import static tech.pegasys.web3signer.signing.util.IdentifierUtils.normaliseIden
 
 import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
+import tech.pegasys.web3signer.signing.SignerLoadResult;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -84,16 +86,18 @@ public class SecpArtifactSignerProviderAdapter implements ArtifactSignerProvider
    * returns an error count of 0. Any errors from the underlying provider's load operation are not
    * reflected in this adapter's error count.
    *
-   * @return a {@link Future} containing 0, as this operation performs mapping rather than loading
-   *     and does not encounter signer loading errors
+   * @return a {@link Future} containing an error count of 0, as this operation performs mapping
+   *     rather than loading and does not encounter signer loading errors
    */
   @Override
-  public Future<Long> load() {
+  public Future<SignerLoadResult> load() {
     return executorService.submit(
         () -> {
           LOG.debug("Adding eth1 address for eth1 keys");
+          final long start = System.nanoTime();
+          final Map<String, ArtifactSigner> previousSigners = signers;
           // this assumes that signerProvider.load() has already been executed
-          signers =
+          final Map<String, ArtifactSigner> newSigners =
               signerProvider.availableIdentifiers().stream()
                   .flatMap(
                       publicKey ->
@@ -107,8 +111,17 @@ public class SecpArtifactSignerProviderAdapter implements ArtifactSignerProvider
                           Map.Entry::getKey,
                           Map.Entry::getValue,
                           (existing, replacement) -> existing));
+          signers = newSigners;
 
-          return 0L; // no error, since its a mapping method
+          final int unchanged =
+              (int) newSigners.keySet().stream().filter(previousSigners::containsKey).count();
+          // no error, since its a mapping method
+          return new SignerLoadResult(
+              0L,
+              newSigners.size() - unchanged,
+              previousSigners.size() - unchanged,
+              unchanged,
+              Map.of("map_addresses", Duration.ofNanos(System.nanoTime() - start)));
         });
   }
 
@@ -39,6 +39,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -81,6 +82,7 @@ public class SignerLoader implements Closeable {
   private static final Set<String> CONFIG_FILE_EXTENSIONS = Set.of("yaml", "yml");
 
   private volatile Map<String, CachedSignerData> cachedArtifactSigners = Collections.emptyMap();
+  private final Map<String, List<SigningMetadata>> prefetchedMetadata = new ConcurrentHashMap<>();
   private final AtomicBoolean closed = new AtomicBoolean(false);
 
   /** Holds cached signer data along with file metadata for cache invalidation. */
@@ -263,15 +265,50 @@ public class SignerLoader implements Closeable {
       return new LoadResult(Map.of(), 0);
     }
 
-    // Sequential processing for small batches or when parallel is disabled
-    if (!config.parallelProcess() || totalFiles < config.sequentialThreshold()) {
-      LOG.info("Processing {} files sequentially", totalFiles);
-      return processSequentially(newFilesToProcess, signerParser, configFilesHandled, totalFiles);
+    prefetchSecrets(newFilesToProcess, signerParser);
+    try {
+      // Sequential processing for small batches or when parallel is disabled
+      if (!config.parallelProcess() || totalFiles < config.sequentialThreshold()) {
+        LOG.info("Processing {} files sequentially", totalFiles);
+        return processSequentially(newFilesToProcess, signerParser, configFilesHandled, totalFiles);
+      }
+
+      // Parallel processing with batches
+      LOG.info(
+          "Processing {} files in parallel with batch size {}", totalFiles, config.batchSize());
+      return processInBatches(newFilesToProcess, signerParser, configFilesHandled, totalFiles);
+    } finally {
+      prefetchedMetadata.clear();
+      signerParser.clearPrefetchedSecrets();
     }
+  }
 
-    // Parallel processing with batches
-    LOG.info("Processing {} files in parallel with batch size {}", totalFiles, config.batchSize());
-    return processInBatches(newFilesToProcess, signerParser, configFilesHandled, totalFiles);
+  /**
+   * Reads the signing metadata of the files about to be loaded and passes it to the parser so that
+   * it can fetch remote secrets in bulk. Each file is read and parsed here only once, and its
+   * signers are later created from the same metadata. Any file which cannot be read or parsed is
+   * reported when it is processed.
+   *
+   * @param filesToProcess files that are about to be loaded
+   * @param signerParser parser which reads the metadata and prefetches the secrets
+   */
+  private void prefetchSecrets(final Set<String> filesToProcess, final SignerParser signerParser) {
+    final List<SigningMetadata> signingMetadata = new ArrayList<>();
+    for (final String pathStr : filesToProcess) {
+      try {
+        final String content = Files.readString(Path.of(pathStr), StandardCharsets.UTF_8);
+        final List<SigningMetadata> fileMetadata = signerParser.readSigningMetadata(content);
+        prefetchedMetadata.put(pathStr, fileMetadata);
+        signingMetadata.addAll(fileMetadata);
+      } catch (final IOException | SigningMetadataException e) {
+        LOG.trace("Unable to read {} for prefetching secrets", pathStr, e);
+      }
+    }
+    try {
+      signerParser.prefetchSecrets(signingMetadata);
+    } catch (final RuntimeException e) {
+      LOG.warn("Unable to prefetch secrets: {}", ExceptionUtils.getRootCauseMessage(e));
+    }
   }
 
   /**
@@ -440,6 +477,9 @@ public class SignerLoader implements Closeable {
    *       instances
    * </ol>
    *
+   * <p>The file is only read and parsed here when its metadata was not already read while
+   * prefetching secrets.
+   *
    * <p>The method includes comprehensive error handling and thread interruption checks at strategic
    * points to ensure responsive cancellation when running in virtual threads. Interruption checks
    * are placed:
@@ -487,26 +527,32 @@ public class SignerLoader implements Closeable {
     reportProgress(configFilesHandled, totalFiles);
 
     try {
-      // Step 1: File reading (IO-bound)
-      final Path filePath = Path.of(pathStr);
-      final String content = Files.readString(filePath, StandardCharsets.UTF_8);
-
-      // Check interruption after IO operation
-      if (Thread.currentThread().isInterrupted()) {
-        LOG.debug("File processing interrupted after reading: {}", pathStr);
-        return new LoadResult(Map.of(), errorCount);
-      }
-
-      // Step 2: Parse metadata (mixed IO/CPU)
+      // Steps 1 and 2 are skipped when the metadata was read while prefetching secrets
+      final List<SigningMetadata> prefetched = prefetchedMetadata.remove(pathStr);
       final List<SigningMetadata> signingMetadata;
-      try {
-        signingMetadata = signerParser.readSigningMetadata(content);
-      } catch (final SigningMetadataException e) {
-        LOG.error(
-            "Error parsing metadata file {} to signing metadata: {}",
-            pathStr,
-            ExceptionUtils.getRootCauseMessage(e));
-        return new LoadResult(Map.of(), ++errorCount);
+      if (prefetched != null) {
+        signingMetadata = prefetched;
+      } else {
+        // Step 1: File reading (IO-bound)
+        final Path filePath = Path.of(pathStr);
+        final String content = Files.readString(filePath, StandardCharsets.UTF_8);
+
+        // Check interruption after IO operation
+        if (Thread.currentThread().isInterrupted()) {
+          LOG.debug("File processing interrupted after reading: {}", pathStr);
+          return new LoadResult(Map.of(), errorCount);
+        }
+
+        // Step 2: Parse metadata (mixed IO/CPU)
+        try {
+          signingMetadata = signerParser.readSigningMetadata(content);
+        } catch (final SigningMetadataException e) {
+          LOG.error(
+              "Error parsing metadata file {} to signing metadata: {}",
+              pathStr,
+              ExceptionUtils.getRootCauseMessage(e));
+          return new LoadResult(Map.of(), ++errorCount);
+        }
       }
 
       // Check interruption before expensive decryption operation
@@ -17,6 +17,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import tech.pegasys.web3signer.keystorage.azure.AzureKeyVault;
 import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnection;
+import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnection.FetchedKeys;
 import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnectionFactory;
 import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpException;
 import tech.pegasys.web3signer.keystorage.hashicorp.TrustStoreType;
@@ -30,17 +31,54 @@ import tech.pegasys.web3signer.signing.config.AzureKeyVaultFactory;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.net.URI;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.google.common.io.Files;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 
 public abstract class AbstractArtifactSignerFactory implements ArtifactSignerFactory {
+  private static final Logger LOG = LogManager.getLogger();
 
   final HashicorpConnectionFactory hashicorpConnectionFactory;
   final Path configsDirectory;
   private final AzureKeyVaultFactory azureKeyVaultFactory;
+  private final Map<HashicorpSecretKey, Bytes> prefetchedSecrets = new ConcurrentHashMap<>();
+  private final Map<HashicorpSecretKey, HashicorpException> prefetchFailures =
+      new ConcurrentHashMap<>();
+  private final Map<VaultLogin, HashicorpException> failedLogins = new ConcurrentHashMap<>();
+
+  /** Identifies a secret fetched from a Hashicorp vault with a client token. */
+  private record HashicorpSecretKey(
+      URI vaultUri, String keyPath, Optional<String> keyName, String token) {
+    static HashicorpSecretKey of(final URI vaultUri, final KeyDefinition keyDefinition) {
+      return new HashicorpSecretKey(
+          vaultUri,
+          keyDefinition.getKeyPath(),
+          keyDefinition.getKeyName(),
+          keyDefinition.getToken());
+    }
+  }
+
+  /**
+   * Identifies the connection to a vault and, for Kubernetes auth, the login used with it. Signers
+   * which share both fail in the same way when the connection or login fails.
+   */
+  private record VaultLogin(
+      ConnectionParameters connectionParameters,
+      String kubernetesRole,
+      Path serviceAccountTokenPath,
+      String kubernetesAuthPath) {}
 
   protected AbstractArtifactSignerFactory(
       final HashicorpConnectionFactory hashicorpConnectionFactory,
@@ -63,46 +101,123 @@ public abstract class AbstractArtifactSignerFactory implements ArtifactSignerFac
                     "secret '" + metadata.getSecretName() + "' doesn't exist"));
   }
 
-  protected Bytes extractBytesFromVault(final HashicorpSigningMetadata metadata) {
-    final Optional<TlsOptions> tlsOptions = buildTlsOptions(metadata);
+  /**
+   * Fetches the secrets of the Hashicorp signing metadata for this factory's key type ahead of
+   * creating their signers. The secrets are grouped by vault, each vault is sent a bounded number
+   * of concurrent requests and signers created later use the prefetched secret rather than
+   * fetching it again. A secret which could not be fetched, or which needs a vault connection or
+   * Kubernetes login that failed, is not requested again when its signer is created and the error
+   * is reported instead. Invalid metadata is skipped and reported when its signer is created.
+   *
+   * @param signingMetadata the signing metadata which is about to be loaded
+   */
+  public void prefetchSecrets(final List<SigningMetadata> signingMetadata) {
+    final Map<ConnectionParameters, HashicorpConnection> connections = new HashMap<>();
+    final Map<ConnectionParameters, List<KeyDefinition>> keysByVault = new HashMap<>();
+    for (final SigningMetadata metadata : signingMetadata) {
+      if (!(metadata instanceof HashicorpSigningMetadata hashicorpMetadata)
+          || metadata.getKeyType() != getKeyType()) {
+        continue;
+      }
+      final ConnectionParameters connectionParameters;
+      try {
+        connectionParameters = buildConnectionParameters(hashicorpMetadata);
+      } catch (final SigningMetadataException e) {
+        // invalid metadata is reported when its signer is created
+        continue;
+      }
+      final VaultLogin vaultLogin = vaultLogin(connectionParameters, hashicorpMetadata);
+      if (failedLogins.containsKey(vaultLogin)) {
+        continue;
+      }
+      try {
+        final HashicorpConnection connection =
+            connections.computeIfAbsent(connectionParameters, hashicorpConnectionFactory::create);
+        final KeyDefinition keyDefinition = buildKeyDefinition(hashicorpMetadata, connection);
+        keysByVault
+            .computeIfAbsent(connectionParameters, _parameters -> new ArrayList<>())
+            .add(keyDefinition);
+      } catch (final SigningMetadataException e) {
+        // invalid metadata is reported when its signer is created
+      } catch (final HashicorpException e) {
+        LOG.warn(
+            "Unable to connect to Hashicorp vault {}: {}",
+            connectionParameters.getVaultURI(),
+            e.getMessage());
+        failedLogins.put(vaultLogin, e);
+      }
+    }
+    if (keysByVault.isEmpty()) {
+      return;
+    }
+
+    try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      keysByVault.forEach(
+          (connectionParameters, keys) ->
+              executor.execute(
+                  () ->
+                      prefetchSecrets(
+                          connectionParameters.getVaultURI(),
+                          connections.get(connectionParameters),
+                          keys)));
+    }
+    LOG.info(
+        "Prefetched {} secrets from {} Hashicorp vaults",
+        prefetchedSecrets.size(),
+        keysByVault.size());
+  }
+
+  private void prefetchSecrets(
+      final URI vaultUri, final HashicorpConnection connection, final List<KeyDefinition> keys) {
+    final FetchedKeys fetchedKeys =
+        connection.fetchKeys(keys, HashicorpConnection.DEFAULT_FETCH_CONCURRENCY);
+    fetchedKeys
+        .values()
+        .forEach(
+            (key, secret) -> {
+              try {
+                prefetchedSecrets.put(
+                    HashicorpSecretKey.of(vaultUri, key), Bytes.fromHexString(secret));
+              } catch (final IllegalArgumentException e) {
+                LOG.debug("Prefetched secret {} is not valid hex", key.getKeyPath());
+              }
+            });
+    fetchedKeys
+        .failures()
+        .forEach((key, error) -> prefetchFailures.put(HashicorpSecretKey.of(vaultUri, key), error));
+  }
+
+  /** Discards prefetched secrets and errors which were not used to create a signer. */
+  public void clearPrefetchedSecrets() {
+    prefetchedSecrets.clear();
+    prefetchFailures.clear();
+    failedLogins.clear();
+  }
 
+  protected Bytes extractBytesFromVault(final HashicorpSigningMetadata metadata) {
     try {
-      final ConnectionParameters connectionParameters =
-          ConnectionParameters.newBuilder()
-              .withServerHost(metadata.getServerHost())
-              .withServerPort(metadata.getServerPort())
-              .withTlsOptions(tlsOptions.orElse(null))
-              .withTimeoutMs(metadata.getTimeout())
-              .withHttpProtocolVersion(metadata.getHttpProtocolVersion())
-              .build();
+      final ConnectionParameters connectionParameters = buildConnectionParameters(metadata);
+      final HashicorpException loginFailure =
+          failedLogins.get(vaultLogin(connectionParameters, metadata));
+      if (loginFailure != null) {
+        throw loginFailure;
+      }
       final HashicorpConnection connection =
           hashicorpConnectionFactory.create(connectionParameters);
+      final KeyDefinition keyDefinition = buildKeyDefinition(metadata, connection);
 
-      final String token;
-      if (metadata.getAuthMethod() == VaultAuthMethod.KUBERNETES) {
-        if (metadata.getKubernetesRole() == null || metadata.getKubernetesRole().isBlank()) {
-          throw new SigningMetadataException(
-              "kubernetesRole must be provided when using KUBERNETES auth method");
-        }
-        final Path resolvedTokenPath =
-            metadata.getKubernetesServiceAccountTokenPath() != null
-                ? makeRelativePathAbsolute(metadata.getKubernetesServiceAccountTokenPath())
-                : null;
-        final KubernetesAuthOptions kubernetesAuthOptions =
-            new KubernetesAuthOptions(
-                metadata.getKubernetesRole(), resolvedTokenPath, metadata.getKubernetesAuthPath());
-        token = connection.authenticateWithKubernetes(kubernetesAuthOptions);
-      } else {
-        if (metadata.getToken() == null || metadata.getToken().isBlank()) {
-          throw new SigningMetadataException("token must be provided when using TOKEN auth method");
-        }
-        token = metadata.getToken();
+      final HashicorpSecretKey secretKey =
+          HashicorpSecretKey.of(connectionParameters.getVaultURI(), keyDefinition);
+      final Bytes prefetchedSecret = prefetchedSecrets.remove(secretKey);
+      if (prefetchedSecret != null) {
+        return prefetchedSecret;
+      }
+      final HashicorpException prefetchFailure = prefetchFailures.remove(secretKey);
+      if (prefetchFailure != null) {
+        throw prefetchFailure;
       }
 
-      final String secret =
-          connection.fetchKey(
-              new KeyDefinition(
-                  metadata.getKeyPath(), Optional.ofNullable(metadata.getKeyName()), token));
+      final String secret = connection.fetchKey(keyDefinition);
       return Bytes.fromHexString(secret);
     } catch (final SigningMetadataException e) {
       throw e;
@@ -113,6 +228,57 @@ public abstract class AbstractArtifactSignerFactory implements ArtifactSignerFac
     }
   }
 
+  private VaultLogin vaultLogin(
+      final ConnectionParameters connectionParameters, final HashicorpSigningMetadata metadata) {
+    if (metadata.getAuthMethod() != VaultAuthMethod.KUBERNETES) {
+      return new VaultLogin(connectionParameters, null, null, null);
+    }
+    final Path tokenPath = metadata.getKubernetesServiceAccountTokenPath();
+    return new VaultLogin(
+        connectionParameters,
+        metadata.getKubernetesRole(),
+        tokenPath != null ? makeRelativePathAbsolute(tokenPath) : null,
+        metadata.getKubernetesAuthPath());
+  }
+
+  private ConnectionParameters buildConnectionParameters(final HashicorpSigningMetadata metadata) {
+    final Optional<TlsOptions> tlsOptions = buildTlsOptions(metadata);
+    return ConnectionParameters.newBuilder()
+        .withServerHost(metadata.getServerHost())
+        .withServerPort(metadata.getServerPort())
+        .withTlsOptions(tlsOptions.orElse(null))
+        .withTimeoutMs(metadata.getTimeout())
+        .withHttpProtocolVersion(metadata.getHttpProtocolVersion())
+        .build();
+  }
+
+  private KeyDefinition buildKeyDefinition(
+      final HashicorpSigningMetadata metadata, final HashicorpConnection connection) {
+    final String token;
+    if (metadata.getAuthMethod() == VaultAuthMethod.KUBERNETES) {
+      if (metadata.getKubernetesRole() == null || metadata.getKubernetesRole().isBlank()) {
+        throw new SigningMetadataException(
+            "kubernetesRole must be provided when using KUBERNETES auth method");
+      }
+      final Path resolvedTokenPath =
+          metadata.getKubernetesServiceAccountTokenPath() != null
+              ? makeRelativePathAbsolute(metadata.getKubernetesServiceAccountTokenPath())
+              : null;
+      final KubernetesAuthOptions kubernetesAuthOptions =
+          new KubernetesAuthOptions(
+              metadata.getKubernetesRole(), resolvedTokenPath, metadata.getKubernetesAuthPath());
+      // the client token is cached by the connection factory for each vault and role
+      token = connection.authenticateWithKubernetes(kubernetesAuthOptions);
+    } else {
+      if (metadata.getToken() == null || metadata.getToken().isBlank()) {
+        throw new SigningMetadataException("token must be provided when using TOKEN auth method");
+      }
+      token = metadata.getToken();
+    }
+    return new KeyDefinition(
+        metadata.getKeyPath(), Optional.ofNullable(metadata.getKeyName()), token);
+  }
+
   private Optional<TlsOptions> buildTlsOptions(final HashicorpSigningMetadata metadata) {
     if (metadata.getTlsEnabled()) {
       final Path knownServerFile = metadata.getTlsKnownServerFile();
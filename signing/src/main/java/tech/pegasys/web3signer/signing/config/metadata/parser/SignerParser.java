@@ -25,4 +25,15 @@ public interface SignerParser {
 
   List<ArtifactSigner> parse(List<SigningMetadata> signingMetadataList)
       throws SigningMetadataException;
+
+  /**
+   * Fetches the remote secrets referenced by signing metadata before its signers are created, so
+   * that the secrets held in the same vault can be fetched together rather than one file at a time.
+   *
+   * @param signingMetadata the signing metadata of the files which are about to be loaded
+   */
+  default void prefetchSecrets(final List<SigningMetadata> signingMetadata) {}
+
+  /** Discards secrets fetched by {@link #prefetchSecrets(List)} which were not used. */
+  default void clearPrefetchedSecrets() {}
 }
@@ -14,6 +14,7 @@ package tech.pegasys.web3signer.signing.config.metadata.parser;
 
 import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.config.metadata.AbstractArtifactSignerFactory;
+import tech.pegasys.web3signer.signing.config.metadata.HashicorpSigningMetadata;
 import tech.pegasys.web3signer.signing.config.metadata.SigningMetadata;
 import tech.pegasys.web3signer.signing.config.metadata.SigningMetadataException;
 
@@ -80,6 +81,22 @@ public class YamlSignerParser implements SignerParser {
     }
   }
 
+  @Override
+  public void prefetchSecrets(final List<SigningMetadata> signingMetadata) {
+    final List<SigningMetadata> vaultMetadata =
+        signingMetadata.stream()
+            .filter(HashicorpSigningMetadata.class::isInstance)
+            .collect(Collectors.toList());
+    if (!vaultMetadata.isEmpty()) {
+      signerFactories.forEach(factory -> factory.prefetchSecrets(vaultMetadata));
+    }
+  }
+
+  @Override
+  public void clearPrefetchedSecrets() {
+    signerFactories.forEach(AbstractArtifactSignerFactory::clearPrefetchedSecrets);
+  }
+
   private List<SigningMetadata> readYaml(String fileContent) throws IOException {
     try (final MappingIterator<SigningMetadata> iterator =
         yamlMapper.readValues(yamlMapper.createParser(fileContent), new TypeReference<>() {})) {
@@ -14,6 +14,7 @@ package tech.pegasys.web3signer.signing.secp256k1.aws;
 
 import tech.pegasys.web3signer.signing.secp256k1.Signature;
 import tech.pegasys.web3signer.signing.secp256k1.Signer;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningExecutor;
 import tech.pegasys.web3signer.signing.secp256k1.util.Eth1SignatureUtil;
 
 import java.security.interfaces.ECPublicKey;
@@ -26,23 +27,27 @@ public class AwsKmsSigner implements Signer {
   private final String kmsKeyId;
   // required for eth1 signing. Filecoin signing doesn't need it.
   private final boolean applySha3Hash;
+  private final RemoteSigningExecutor remoteSigningExecutor;
 
   public AwsKmsSigner(
       final ECPublicKey ecPublicKey,
       final AwsKmsClient awsKmsClient,
       final String kmsKeyId,
-      final boolean applySha3Hash) {
+      final boolean applySha3Hash,
+      final RemoteSigningExecutor remoteSigningExecutor) {
     this.ecPublicKey = ecPublicKey;
     this.awsKmsClient = awsKmsClient;
     this.kmsKeyId = kmsKeyId;
     this.applySha3Hash = applySha3Hash;
+    this.remoteSigningExecutor = remoteSigningExecutor;
   }
 
   @Override
   public Signature sign(final byte[] data) {
     // sha3hash is required for eth1 signing. Filecoin signing doesn't need hashing.
     final byte[] dataToSign = applySha3Hash ? Hash.sha3(data) : data;
-    final byte[] signature = awsKmsClient.sign(kmsKeyId, dataToSign);
+    final byte[] signature =
+        remoteSigningExecutor.execute(() -> awsKmsClient.sign(kmsKeyId, dataToSign));
     return Eth1SignatureUtil.deriveSignatureFromDerEncoded(dataToSign, ecPublicKey, signature);
   }
 
@@ -16,6 +16,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import tech.pegasys.web3signer.signing.config.metadata.AwsKmsMetadata;
 import tech.pegasys.web3signer.signing.secp256k1.Signer;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningExecutor;
 
 import java.security.interfaces.ECPublicKey;
 
@@ -24,6 +25,7 @@ public class AwsKmsSignerFactory {
 
   private final CachedAwsKmsClientFactory cachedAwsKmsClientFactory;
   private final boolean applySha3Hash;
+  private final RemoteSigningExecutor remoteSigningExecutor;
 
   /**
    * Construct AwsKmsSignerFactory
@@ -34,8 +36,24 @@ public class AwsKmsSignerFactory {
    */
   public AwsKmsSignerFactory(
       final CachedAwsKmsClientFactory cachedAwsKmsClientFactory, final boolean applySha3Hash) {
+    this(cachedAwsKmsClientFactory, applySha3Hash, RemoteSigningExecutor.DIRECT);
+  }
+
+  /**
+   * Construct AwsKmsSignerFactory
+   *
+   * @param cachedAwsKmsClientFactory The cached AWS KMS client factory used to provide cached AWS
+   *     KMS clients.
+   * @param applySha3Hash Set to true for eth1 signing. Set false for filecoin signing.
+   * @param remoteSigningExecutor Executes the signing requests sent to AWS KMS.
+   */
+  public AwsKmsSignerFactory(
+      final CachedAwsKmsClientFactory cachedAwsKmsClientFactory,
+      final boolean applySha3Hash,
+      final RemoteSigningExecutor remoteSigningExecutor) {
     this.cachedAwsKmsClientFactory = cachedAwsKmsClientFactory;
     this.applySha3Hash = applySha3Hash;
+    this.remoteSigningExecutor = remoteSigningExecutor;
   }
 
   public Signer createSigner(final AwsKmsMetadata awsKmsMetadata) {
@@ -50,6 +68,7 @@ public class AwsKmsSignerFactory {
 
     // lookup public key as it is required to create AwsKmsSigner instance
     final ECPublicKey ecPublicKey = kmsClient.getECPublicKey(awsKmsMetadata.getKmsKeyId());
-    return new AwsKmsSigner(ecPublicKey, kmsClient, awsKmsMetadata.getKmsKeyId(), applySha3Hash);
+    return new AwsKmsSigner(
+        ecPublicKey, kmsClient, awsKmsMetadata.getKmsKeyId(), applySha3Hash, remoteSigningExecutor);
   }
 }
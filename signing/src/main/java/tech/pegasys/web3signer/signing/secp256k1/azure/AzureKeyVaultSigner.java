@@ -13,6 +13,7 @@
 package tech.pegasys.web3signer.signing.secp256k1.azure;
 
 import static tech.pegasys.web3signer.keystorage.azure.AzureKeyVault.constructAzureKeyVaultUrl;
+import static tech.pegasys.web3signer.keystorage.azure.AzureKeyVault.constructAzureSignApiUri;
 
 import tech.pegasys.web3signer.keystorage.azure.AzureHttpClient;
 import tech.pegasys.web3signer.keystorage.azure.AzureHttpClientParameters;
@@ -20,8 +21,10 @@ import tech.pegasys.web3signer.keystorage.azure.AzureKeyVault;
 import tech.pegasys.web3signer.signing.secp256k1.EthPublicKeyUtils;
 import tech.pegasys.web3signer.signing.secp256k1.Signature;
 import tech.pegasys.web3signer.signing.secp256k1.Signer;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningExecutor;
 import tech.pegasys.web3signer.signing.secp256k1.util.Eth1SignatureUtil;
 
+import java.net.URI;
 import java.net.http.HttpRequest;
 import java.security.interfaces.ECPublicKey;
 import java.util.Map;
@@ -36,12 +39,13 @@ public class AzureKeyVaultSigner implements Signer {
 
   public static final String INACCESSIBLE_KEY_ERROR = "Failed to authenticate to vault.";
 
-  private final AzureConfig config;
   private final ECPublicKey publicKey;
   private final SignatureAlgorithm signingAlgo;
   private final boolean needsToHash; // Apply Hash.sha3(data) before signing
-  private final AzureHttpClientFactory azureHttpClientFactory;
   private final AzureKeyVault vault;
+  private final AzureHttpClient azureHttpClient;
+  private final URI signApiUri;
+  private final RemoteSigningExecutor remoteSigningExecutor;
 
   AzureKeyVaultSigner(
       final AzureConfig config,
@@ -49,16 +53,24 @@ public class AzureKeyVaultSigner implements Signer {
       final boolean needsToHash,
       final boolean useDeprecatedSignatureAlgorithm,
       final AzureKeyVault azureKeyVault,
-      final AzureHttpClientFactory azureHttpClientFactory) {
-    this.config = config;
+      final AzureHttpClientFactory azureHttpClientFactory,
+      final RemoteSigningExecutor remoteSigningExecutor) {
     this.publicKey = EthPublicKeyUtils.bytesToECPublicKey(publicKey);
     this.needsToHash = needsToHash;
     this.signingAlgo =
         useDeprecatedSignatureAlgorithm
             ? SignatureAlgorithm.fromString("ECDSA256")
             : SignatureAlgorithm.ES256K;
-    this.azureHttpClientFactory = azureHttpClientFactory;
     this.vault = azureKeyVault;
+    this.azureHttpClient =
+        azureHttpClientFactory.getOrCreateHttpClient(
+            AzureHttpClientParameters.newBuilder()
+                .withServerHost(constructAzureKeyVaultUrl(config.getKeyVaultName()))
+                .build());
+    this.signApiUri =
+        constructAzureSignApiUri(
+            config.getKeyVaultName(), config.getKeyName(), config.getKeyVersion());
+    this.remoteSigningExecutor = remoteSigningExecutor;
   }
 
   @Override
@@ -71,7 +83,7 @@ public class AzureKeyVaultSigner implements Signer {
     // final CryptographyClient cryptoClient =
     // vault.fetchKey(config.getKeyName(), config.getKeyVersion());
     // final SignResult result = cryptoClient.sign(signingAlgo, dataToSign);
-    final SignResult result = signViaRestApi(vault, config, signingAlgo, dataToSign);
+    final SignResult result = signViaRestApi(dataToSign);
 
     final byte[] signature = result.getSignature();
 
@@ -83,32 +95,12 @@ public class AzureKeyVaultSigner implements Signer {
     return Eth1SignatureUtil.deriveSignatureFromP1363Encoded(dataToSign, publicKey, signature);
   }
 
-  private SignResult signViaRestApi(
-      final AzureKeyVault vault,
-      final AzureConfig azureConfig,
-      final SignatureAlgorithm signingAlgo,
-      final byte[] dataToSign) {
-    final String vaultName = config.getKeyVaultName();
-
-    final AzureHttpClientParameters connectionParameters =
-        AzureHttpClientParameters.newBuilder()
-            .withServerHost(constructAzureKeyVaultUrl(vaultName))
-            .build();
-
-    final AzureHttpClient azureHttpClient =
-        azureHttpClientFactory.getOrCreateHttpClient(connectionParameters);
-
-    // Assemble httpRequest
+  private SignResult signViaRestApi(final byte[] dataToSign) {
     final HttpRequest httpRequest =
-        vault.getRemoteSigningHttpRequest(
-            dataToSign,
-            signingAlgo,
-            vaultName,
-            azureConfig.getKeyName(),
-            azureConfig.getKeyVersion());
-
-    // execute
-    final Map<String, Object> response = azureHttpClient.signViaHttpRequest(httpRequest);
+        vault.getRemoteSigningHttpRequest(dataToSign, signingAlgo, signApiUri);
+
+    final Map<String, Object> response =
+        remoteSigningExecutor.execute(() -> azureHttpClient.signViaHttpRequest(httpRequest));
 
     // retrieve the results
     final Base64Url signatureBytes = new Base64Url(response.get("value").toString());
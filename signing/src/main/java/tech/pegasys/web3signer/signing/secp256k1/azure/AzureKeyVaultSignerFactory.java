@@ -19,6 +19,7 @@ import tech.pegasys.web3signer.signing.config.AzureAuthenticationMode;
 import tech.pegasys.web3signer.signing.config.AzureKeyVaultFactory;
 import tech.pegasys.web3signer.signing.secp256k1.Signer;
 import tech.pegasys.web3signer.signing.secp256k1.common.SignerInitializationException;
+import tech.pegasys.web3signer.signing.secp256k1.remote.RemoteSigningExecutor;
 
 import java.util.Set;
 
@@ -39,12 +40,21 @@ public class AzureKeyVaultSignerFactory {
   private static final Logger LOG = LogManager.getLogger();
   private final AzureKeyVaultFactory azureKeyVaultFactory;
   private final AzureHttpClientFactory azureHttpClientFactory;
+  private final RemoteSigningExecutor remoteSigningExecutor;
 
   public AzureKeyVaultSignerFactory(
       final AzureKeyVaultFactory azureKeyVaultFactory,
       final AzureHttpClientFactory azureHttpClientFactory) {
+    this(azureKeyVaultFactory, azureHttpClientFactory, RemoteSigningExecutor.DIRECT);
+  }
+
+  public AzureKeyVaultSignerFactory(
+      final AzureKeyVaultFactory azureKeyVaultFactory,
+      final AzureHttpClientFactory azureHttpClientFactory,
+      final RemoteSigningExecutor remoteSigningExecutor) {
     this.azureKeyVaultFactory = azureKeyVaultFactory;
     this.azureHttpClientFactory = azureHttpClientFactory;
+    this.remoteSigningExecutor = remoteSigningExecutor;
   }
 
   public Signer createSigner(final AzureConfig config) {
@@ -84,6 +94,12 @@ public class AzureKeyVaultSignerFactory {
     final boolean useDeprecatedCurveName = DEPRECATED_CURVE_NAME.equals(curveName);
 
     return new AzureKeyVaultSigner(
-        config, rawPublicKey, true, useDeprecatedCurveName, vault, azureHttpClientFactory);
+        config,
+        rawPublicKey,
+        true,
+        useDeprecatedCurveName,
+        vault,
+        azureHttpClientFactory,
+        remoteSigningExecutor);
   }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.secp256k1.remote;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the outcome of the most recent requests to a remote service and stops requests being
+ * sent once the proportion which failed reaches a threshold. After the open duration a single
+ * trial request is allowed, which closes the breaker if it succeeds and opens it again if not.
+ */
+class CircuitBreaker {
+
+  enum State {
+    CLOSED,
+    HALF_OPEN,
+    OPEN
+  }
+
+  private final int failureRateThreshold;
+  private final long openDurationNanos;
+  private final LongSupplier nanoClock;
+  private final boolean[] outcomes; // guarded by this, true for a failure
+  private int recordedOutcomes; // guarded by this
+  private int nextOutcome; // guarded by this
+  private int failures; // guarded by this
+  private State state = State.CLOSED; // guarded by this
+  private long openedAt; // guarded by this
+  private boolean trialInFlight; // guarded by this
+
+  CircuitBreaker(
+      final int windowSize,
+      final int failureRateThreshold,
+      final Duration openDuration,
+      final LongSupplier nanoClock) {
+    this.outcomes = new boolean[windowSize];
+    this.failureRateThreshold = failureRateThreshold;
+    this.openDurationNanos = openDuration.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  synchronized boolean tryAcquirePermission() {
+    if (state == State.CLOSED) {
+      return true;
+    }
+    if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+      state = State.HALF_OPEN;
+    }
+    if (state == State.HALF_OPEN && !trialInFlight) {
+      trialInFlight = true;
+      return true;
+    }
+    return false;
+  }
+
+  synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      close();
+    } else if (state == State.CLOSED) {
+      record(false);
+    }
+  }
+
+  synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      open();
+    } else if (state == State.CLOSED) {
+      record(true);
+      if (recordedOutcomes == outcomes.length
+          && failures * 100 >= failureRateThreshold * recordedOutcomes) {
+        open();
+      }
+    }
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  private void record(final boolean failed) {
+    if (recordedOutcomes == outcomes.length) {
+      if (outcomes[nextOutcome]) {
+        failures--;
+      }
+    } else {
+      recordedOutcomes++;
+    }
+    outcomes[nextOutcome] = failed;
+    if (failed) {
+      failures++;
+    }
+    nextOutcome = (nextOutcome + 1) % outcomes.length;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = nanoClock.getAsLong();
+    trialInFlight = false;
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    trialInFlight = false;
+    recordedOutcomes = 0;
+    nextOutcome = 0;
+    failures = 0;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.secp256k1.remote;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/** Keeps the latency of the most recent successful requests to a remote service. */
+class LatencyWindow {
+  private final long[] samples; // guarded by this
+  private final int minSamples;
+  private int count; // guarded by this
+  private int next; // guarded by this
+
+  LatencyWindow(final int size, final int minSamples) {
+    this.samples = new long[size];
+    this.minSamples = minSamples;
+  }
+
+  synchronized void record(final long latencyNanos) {
+    samples[next] = latencyNanos;
+    next = (next + 1) % samples.length;
+    count = Math.min(count + 1, samples.length);
+  }
+
+  /**
+   * Returns the 95th percentile of the recorded latencies.
+   *
+   * @return the percentile in nanoseconds, empty until enough requests have been recorded
+   */
+  OptionalLong percentile95() {
+    final long[] sorted;
+    synchronized (this) {
+      if (count < minSamples) {
+        return OptionalLong.empty();
+      }
+      sorted = Arrays.copyOf(samples, count);
+    }
+    Arrays.sort(sorted);
+    return OptionalLong.of(sorted[(int) Math.ceil(sorted.length * 0.95) - 1]);
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.secp256k1.remote;
+
+import java.util.function.Supplier;
+
+/** Executes the requests a signer sends to a remote key management service. */
+public interface RemoteSigningExecutor {
+
+  /** Sends each request on the calling thread without any limits applied. */
+  RemoteSigningExecutor DIRECT =
+      new RemoteSigningExecutor() {
+        @Override
+        public <T> T execute(final Supplier<T> request) {
+          return request.get();
+        }
+      };
+
+  /**
+   * Sends a signing request to the remote service.
+   *
+   * @param request sends the request and returns its result, it may be called more than once
+   * @return the result of the request
+   * @param <T> type of the result
+   */
+  <T> T execute(Supplier<T> request);
+}
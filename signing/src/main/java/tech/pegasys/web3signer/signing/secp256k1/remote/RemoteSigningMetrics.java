@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.secp256k1.remote;
+
+import static tech.pegasys.web3signer.common.Web3SignerMetricCategory.SIGNING;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedGauge;
+
+/** Metrics for the signing requests sent to each remote key management service. */
+public class RemoteSigningMetrics {
+
+  private final LabelledMetric<Counter> hedgesIssued;
+  private final LabelledMetric<Counter> hedgesWon;
+  private final LabelledMetric<Counter> rejectedRequests;
+  private final LabelledMetric<Counter> timedOutRequests;
+  private final LabelledSuppliedGauge circuitBreakerState;
+
+  public RemoteSigningMetrics(final MetricsSystem metricsSystem) {
+    hedgesIssued =
+        metricsSystem.createLabelledCounter(
+            SIGNING,
+            "remote_signing_hedges_issued",
+            "The number of hedged signing requests sent to a remote service",
+            "provider");
+    hedgesWon =
+        metricsSystem.createLabelledCounter(
+            SIGNING,
+            "remote_signing_hedges_won",
+            "The number of hedged signing requests which completed before the original request",
+            "provider");
+    rejectedRequests =
+        metricsSystem.createLabelledCounter(
+            SIGNING,
+            "remote_signing_requests_rejected",
+            "The number of signing requests not sent to a remote service",
+            "provider",
+            "reason");
+    timedOutRequests =
+        metricsSystem.createLabelledCounter(
+            SIGNING,
+            "remote_signing_requests_timed_out",
+            "The number of signing requests not answered by a remote service in time",
+            "provider");
+    circuitBreakerState =
+        metricsSystem.createLabelledSuppliedGauge(
+            SIGNING,
+            "remote_signing_circuit_breaker_state",
+            "State of the circuit breaker for a remote service, 0 closed, 1 half open and 2 open",
+            "provider");
+  }
+
+  Counter hedgesIssued(final String provider) {
+    return hedgesIssued.labels(provider);
+  }
+
+  Counter hedgesWon(final String provider) {
+    return hedgesWon.labels(provider);
+  }
+
+  Counter rejectedRequests(final String provider, final String reason) {
+    return rejectedRequests.labels(provider, reason);
+  }
+
+  Counter timedOutRequests(final String provider) {
+    return timedOutRequests.labels(provider);
+  }
+
+  void registerCircuitBreaker(final String provider, final CircuitBreaker circuitBreaker) {
+    circuitBreakerState.labels(() -> circuitBreaker.getState().ordinal(), provider);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.secp256k1.remote;
+
+import tech.pegasys.web3signer.signing.config.RemoteSigningParameters;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+/**
+ * Applies a deadline, a concurrency limit and a circuit breaker to the signing requests sent to a
+ * remote service, so that a slow or failing service cannot occupy every worker thread.
+ *
+ * <p>Requests are sent from virtual threads while the caller waits up to the timeout. When hedging
+ * is enabled and a request has not completed within the service's recent 95th percentile latency,
+ * a second identical request is sent and whichever completes first is used. Signing the same data
+ * twice is safe as either signature is valid. Requests which time out still hold their permit until
+ * the service answers, so a degraded service is limited to its own share of requests.
+ */
+public class ResilientRemoteSigningExecutor implements RemoteSigningExecutor {
+  @VisibleForTesting static final int CIRCUIT_BREAKER_WINDOW_SIZE = 20;
+  @VisibleForTesting static final int MIN_LATENCY_SAMPLES = 20;
+  private static final int LATENCY_WINDOW_SIZE = 200;
+
+  private final String provider;
+  private final long timeoutNanos;
+  private final boolean hedgingEnabled;
+  private final long minHedgeDelayNanos;
+  private final Semaphore permits;
+  private final CircuitBreaker circuitBreaker;
+  private final LatencyWindow latencies =
+      new LatencyWindow(LATENCY_WINDOW_SIZE, MIN_LATENCY_SAMPLES);
+  private final Counter hedgesIssued;
+  private final Counter hedgesWon;
+  private final Counter rejectedByBulkhead;
+  private final Counter rejectedByCircuitBreaker;
+  private final Counter timedOut;
+
+  /**
+   * Create an executor for a remote service.
+   *
+   * @param provider name of the remote service, used as the metric label
+   * @param timeout how long a caller waits for the service to answer
+   * @param parameters concurrency, hedging and circuit breaker settings
+   * @param metrics metrics updated by the executor
+   */
+  public ResilientRemoteSigningExecutor(
+      final String provider,
+      final Duration timeout,
+      final RemoteSigningParameters parameters,
+      final RemoteSigningMetrics metrics) {
+    this.provider = provider;
+    this.timeoutNanos = timeout.toNanos();
+    this.hedgingEnabled = parameters.isHedgingEnabled();
+    this.minHedgeDelayNanos = parameters.getMinHedgeDelay().toNanos();
+    this.permits = new Semaphore(parameters.getMaxConcurrentRequests());
+    this.circuitBreaker =
+        new CircuitBreaker(
+            CIRCUIT_BREAKER_WINDOW_SIZE,
+            parameters.getCircuitBreakerFailureRate(),
+            parameters.getCircuitBreakerOpenDuration(),
+            System::nanoTime);
+    this.hedgesIssued = metrics.hedgesIssued(provider);
+    this.hedgesWon = metrics.hedgesWon(provider);
+    this.rejectedByBulkhead = metrics.rejectedRequests(provider, "max_concurrent_requests");
+    this.rejectedByCircuitBreaker = metrics.rejectedRequests(provider, "circuit_breaker_open");
+    this.timedOut = metrics.timedOutRequests(provider);
+    metrics.registerCircuitBreaker(provider, circuitBreaker);
+  }
+
+  @Override
+  public <T> T execute(final Supplier<T> request) {
+    if (!permits.tryAcquire()) {
+      rejectedByBulkhead.inc();
+      throw new RemoteSigningUnavailableException(
+          "Too many signing requests in progress to " + provider);
+    }
+    if (!circuitBreaker.tryAcquirePermission()) {
+      permits.release();
+      rejectedByCircuitBreaker.inc();
+      throw new RemoteSigningUnavailableException(
+          "Signing requests to " + provider + " are failing, circuit breaker is open");
+    }
+
+    final long start = System.nanoTime();
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final AtomicInteger outstandingRequests = new AtomicInteger(1);
+    send(request, result, outstandingRequests, false);
+    try {
+      final T value = awaitResult(request, result, outstandingRequests, start);
+      circuitBreaker.onSuccess();
+      return value;
+    } catch (final TimeoutException e) {
+      timedOut.inc();
+      circuitBreaker.onFailure();
+      throw new RemoteSigningUnavailableException(
+          "Signing request to " + provider + " timed out after " + Duration.ofNanos(timeoutNanos));
+    } catch (final ExecutionException e) {
+      circuitBreaker.onFailure();
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new RuntimeException(e.getCause());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      circuitBreaker.onFailure();
+      throw new RemoteSigningUnavailableException(
+          "Interrupted waiting for signing request to " + provider);
+    }
+  }
+
+  @VisibleForTesting
+  CircuitBreaker.State getCircuitBreakerState() {
+    return circuitBreaker.getState();
+  }
+
+  private <T> T awaitResult(
+      final Supplier<T> request,
+      final CompletableFuture<T> result,
+      final AtomicInteger outstandingRequests,
+      final long start)
+      throws ExecutionException, InterruptedException, TimeoutException {
+    final OptionalLong hedgeDelay =
+        hedgingEnabled ? latencies.percentile95() : OptionalLong.empty();
+    if (hedgeDelay.isPresent()) {
+      final long delay = Math.max(hedgeDelay.getAsLong(), minHedgeDelayNanos);
+      if (delay < timeoutNanos) {
+        try {
+          return result.get(delay, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+          // only hedge with a spare permit so hedging cannot starve other requests
+          if (permits.tryAcquire()) {
+            outstandingRequests.incrementAndGet();
+            hedgesIssued.inc();
+            send(request, result, outstandingRequests, true);
+          }
+        }
+      }
+    }
+    final long remaining = timeoutNanos - (System.nanoTime() - start);
+    return result.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+  }
+
+  private <T> void send(
+      final Supplier<T> request,
+      final CompletableFuture<T> result,
+      final AtomicInteger outstandingRequests,
+      final boolean hedge) {
+    final long start = System.nanoTime();
+    Thread.ofVirtual()
+        .name("remote-signing-" + provider)
+        .start(
+            () -> {
+              try {
+                final T value = request.get();
+                latencies.record(System.nanoTime() - start);
+                if (result.complete(value) && hedge) {
+                  hedgesWon.inc();
+                }
+              } catch (final RuntimeException e) {
+                // the result only fails once every request sent for it has failed
+                if (outstandingRequests.decrementAndGet() == 0) {
+                  result.completeExceptionally(e);
+                }
+              } finally {
+                permits.release();
+              }
+            });
+  }
+}
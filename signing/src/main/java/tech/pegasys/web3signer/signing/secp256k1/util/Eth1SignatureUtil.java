@@ -21,11 +21,14 @@ import java.math.BigInteger;
 import java.security.interfaces.ECPublicKey;
 import java.util.Arrays;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.bouncycastle.asn1.ASN1InputStream;
 import org.bouncycastle.asn1.ASN1Integer;
 import org.bouncycastle.asn1.DLSequence;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
 import org.web3j.crypto.ECDSASignature;
 import org.web3j.crypto.Sign;
 
@@ -91,6 +94,53 @@ public class Eth1SignatureUtil {
 
   private static int recoverKeyIndex(
       final ECPublicKey ecPublicKey, final ECDSASignature sig, final byte[] hash) {
+    final int recId = calculateRecoveryId(ecPublicKey, sig, hash);
+    if (recId != -1) {
+      return recId;
+    }
+    LOG.debug("Unable to calculate recovery id from public key point, trying each recovery id");
+    return searchRecoveryId(ecPublicKey, sig, hash);
+  }
+
+  /**
+   * Calculates the recovery id using the signer's public key point Q. The point R chosen when
+   * signing is {@code s^-1 * (e*G + r*Q)}, which is a single GLV accelerated multi-scalar
+   * multiplication rather than the key recovery for each candidate id done by {@link
+   * #searchRecoveryId}. The parity of R's y coordinate is the low bit of the recovery id, and R's x
+   * coordinate being at least the curve order is the high bit.
+   *
+   * @return the recovery id, or -1 if R does not match the signature
+   */
+  @VisibleForTesting
+  static int calculateRecoveryId(
+      final ECPublicKey ecPublicKey, final ECDSASignature sig, final byte[] hash) {
+    final BigInteger n = Sign.CURVE.getN();
+    final BigInteger sInverse = sig.s.modInverse(n);
+    final BigInteger u1 = new BigInteger(1, hash).multiply(sInverse).mod(n);
+    final BigInteger u2 = sig.r.multiply(sInverse).mod(n);
+    final ECPoint q =
+        Sign.CURVE
+            .getCurve()
+            .createPoint(ecPublicKey.getW().getAffineX(), ecPublicKey.getW().getAffineY());
+    final ECPoint r = ECAlgorithms.sumOfTwoMultiplies(Sign.CURVE.getG(), u1, q, u2).normalize();
+    if (r.isInfinity()) {
+      return -1;
+    }
+
+    final BigInteger x = r.getAffineXCoord().toBigInteger();
+    final int yParity = r.getAffineYCoord().testBitZero() ? 1 : 0;
+    if (x.equals(sig.r)) {
+      return yParity;
+    }
+    if (x.equals(sig.r.add(n))) {
+      return yParity + 2;
+    }
+    return -1;
+  }
+
+  @VisibleForTesting
+  static int searchRecoveryId(
+      final ECPublicKey ecPublicKey, final ECDSASignature sig, final byte[] hash) {
     final BigInteger publicKey = EthPublicKeyUtils.ecPublicKeyToWeb3JPublicKey(ecPublicKey);
     for (int i = 0; i < 4; i++) {
       final BigInteger k = Sign.recoverFromSignature(i, sig, hash);
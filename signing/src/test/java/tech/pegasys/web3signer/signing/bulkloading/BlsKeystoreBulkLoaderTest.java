@@ -23,7 +23,9 @@ import tech.pegasys.web3signer.signing.ArtifactSigner;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collection;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -154,6 +156,52 @@ class BlsKeystoreBulkLoaderTest {
     assertThat(result.getErrorCount()).isEqualTo(1);
   }
 
+  @Test
+  void signerCacheOnlyReloadsChangedKeystores(
+      final @TempDir Path keystoreDir, final @TempDir Path passwordDir) throws IOException {
+    KeystoreUtil.createKeystore(KEY_PAIR_1, keystoreDir, passwordDir, KEYSTORE_PASSWORD_1);
+    KeystoreUtil.createKeystore(KEY_PAIR_2, keystoreDir, passwordDir, KEYSTORE_PASSWORD_2);
+    final KeystoreSignerCache signerCache = new KeystoreSignerCache();
+
+    final Collection<ArtifactSigner> firstLoad =
+        loadWithCache(keystoreDir, passwordDir, signerCache);
+    assertThat(firstLoad).hasSize(2);
+    assertThat(signerCache.size()).isEqualTo(2);
+
+    // only the first keystore changes, the second is returned from the cache
+    final Path keystore1 = keystoreDir.resolve(KEY_PAIR_1.getPublicKey() + ".json");
+    Files.setLastModifiedTime(
+        keystore1,
+        FileTime.fromMillis(Files.getLastModifiedTime(keystore1).toMillis() + 60_000));
+    final Collection<ArtifactSigner> secondLoad =
+        loadWithCache(keystoreDir, passwordDir, signerCache);
+    assertThat(secondLoad).hasSize(2);
+    assertThat(signerFor(secondLoad, KEY_PAIR_1)).isNotSameAs(signerFor(firstLoad, KEY_PAIR_1));
+    assertThat(signerFor(secondLoad, KEY_PAIR_2)).isSameAs(signerFor(firstLoad, KEY_PAIR_2));
+
+    // removed keystores are dropped from the cache
+    Files.delete(keystore1);
+    assertThat(loadWithCache(keystoreDir, passwordDir, signerCache)).hasSize(1);
+    assertThat(signerCache.size()).isEqualTo(1);
+  }
+
+  private static Collection<ArtifactSigner> loadWithCache(
+      final Path keystoreDir, final Path passwordDir, final KeystoreSignerCache signerCache) {
+    final MappedResults<ArtifactSigner> result =
+        BlsKeystoreBulkLoader.loadKeystoresUsingPasswordDir(
+            keystoreDir, passwordDir, Optional.empty(), Optional.of(signerCache));
+    assertThat(result.getErrorCount()).isZero();
+    return result.getValues();
+  }
+
+  private static ArtifactSigner signerFor(
+      final Collection<ArtifactSigner> signers, final BLSKeyPair keyPair) {
+    return signers.stream()
+        .filter(s -> s.getIdentifier().equals(keyPair.getPublicKey().toString()))
+        .findFirst()
+        .orElseThrow();
+  }
+
   private void assertThatSignerHasPublicKey(
       final Collection<ArtifactSigner> signers, final BLSKeyPair keyPair0) {
     assertThat(signers).anyMatch(s -> s.getIdentifier().equals(keyPair0.getPublicKey().toString()));
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.bulkloading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.web3signer.BLSTestUtil;
+import tech.pegasys.web3signer.KeystoreUtil;
+import tech.pegasys.web3signer.keystorage.common.MappedResults;
+import tech.pegasys.web3signer.signing.ArtifactSigner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UnlockedKeyCacheTest {
+  private static final BLSKeyPair KEY_PAIR_1 = BLSTestUtil.randomKeyPair(0);
+  private static final BLSKeyPair KEY_PAIR_2 = BLSTestUtil.randomKeyPair(1);
+  private static final int KDF_ITERATIONS = 10;
+  // header starts with magic and version
+  private static final int KDF_ITERATIONS_OFFSET = 2 * Integer.BYTES;
+
+  @TempDir private Path tempDir;
+  private Path keystoreDir;
+  private Path cacheFile;
+  private Path cachePasswordFile;
+
+  @BeforeEach
+  void setup() throws IOException {
+    keystoreDir = Files.createDirectory(tempDir.resolve("keystores"));
+    cacheFile = tempDir.resolve(UnlockedKeyCache.CACHE_FILE_NAME);
+    cachePasswordFile = Files.writeString(tempDir.resolve("cache-password.txt"), "cachePassword");
+  }
+
+  @Test
+  void cachedKeysAreReturnedAfterSave() throws IOException {
+    final Path keystore1 = KeystoreUtil.createKeystoreFile(KEY_PAIR_1, keystoreDir, "password");
+    final Path keystore2 = KeystoreUtil.createKeystoreFile(KEY_PAIR_2, keystoreDir, "password");
+
+    final UnlockedKeyCache cache = openCache(cachePasswordFile);
+    assertThat(cache.get(keystore1)).isEmpty();
+    cache.put(keystore1, KEY_PAIR_1);
+    cache.put(keystore2, KEY_PAIR_2);
+    cache.save();
+
+    final UnlockedKeyCache reopenedCache = openCache(cachePasswordFile);
+    assertThat(reopenedCache.get(keystore1)).contains(KEY_PAIR_1);
+    assertThat(reopenedCache.get(keystore2)).contains(KEY_PAIR_2);
+  }
+
+  @Test
+  void modifiedKeystoreIsNotReturnedFromCache() throws IOException {
+    final Path keystore = KeystoreUtil.createKeystoreFile(KEY_PAIR_1, keystoreDir, "password");
+    final UnlockedKeyCache cache = openCache(cachePasswordFile);
+    cache.put(keystore, KEY_PAIR_1);
+    cache.save();
+
+    Files.setLastModifiedTime(
+        keystore, FileTime.fromMillis(Files.getLastModifiedTime(keystore).toMillis() + 1000));
+
+    assertThat(openCache(cachePasswordFile).get(keystore)).isEmpty();
+  }
+
+  @Test
+  void wrongPasswordResultsInEmptyCache() throws IOException {
+    final Path keystore = KeystoreUtil.createKeystoreFile(KEY_PAIR_1, keystoreDir, "password");
+    final UnlockedKeyCache cache = openCache(cachePasswordFile);
+    cache.put(keystore, KEY_PAIR_1);
+    cache.save();
+
+    final Path otherPasswordFile =
+        Files.writeString(tempDir.resolve("other-password.txt"), "otherPassword");
+    assertThat(openCache(otherPasswordFile).get(keystore)).isEmpty();
+  }
+
+  @Test
+  void corruptCacheFileResultsInEmptyCache() throws IOException {
+    final Path keystore = KeystoreUtil.createKeystoreFile(KEY_PAIR_1, keystoreDir, "password");
+    Files.writeString(cacheFile, "not a cache file");
+
+    assertThat(openCache(cachePasswordFile).get(keystore)).isEmpty();
+  }
+
+  @Test
+  void kdfIterationsOutsideOfBoundsResultInEmptyCache() throws IOException {
+    final Path keystore = KeystoreUtil.createKeystoreFile(KEY_PAIR_1, keystoreDir, "password");
+    final UnlockedKeyCache cache = openCache(cachePasswordFile);
+    cache.put(keystore, KEY_PAIR_1);
+    cache.save();
+
+    // a forged iteration count must be rejected before the KDF is run
+    writeKdfIterations(Integer.MAX_VALUE);
+    assertThat(openCache(cachePasswordFile).get(keystore)).isEmpty();
+
+    writeKdfIterations(KDF_ITERATIONS - 1);
+    assertThat(openCache(cachePasswordFile).get(keystore)).isEmpty();
+  }
+
+  @Test
+  void undecryptableCacheIsRecreatedWithFreshSaltAndConfiguredKdfIterations() throws IOException {
+    final Path keystore = KeystoreUtil.createKeystoreFile(KEY_PAIR_1, keystoreDir, "password");
+    final UnlockedKeyCache cache = openCache(cachePasswordFile);
+    cache.put(keystore, KEY_PAIR_1);
+    cache.save();
+    final byte[] originalSalt = readSalt();
+
+    writeKdfIterations(KDF_ITERATIONS + 1);
+    final UnlockedKeyCache recreatedCache = openCache(cachePasswordFile);
+    assertThat(recreatedCache.get(keystore)).isEmpty();
+    recreatedCache.put(keystore, KEY_PAIR_1);
+    recreatedCache.save();
+
+    assertThat(ByteBuffer.wrap(Files.readAllBytes(cacheFile)).getInt(KDF_ITERATIONS_OFFSET))
+        .isEqualTo(KDF_ITERATIONS);
+    assertThat(readSalt()).isNotEqualTo(originalSalt);
+    assertThat(openCache(cachePasswordFile).get(keystore)).contains(KEY_PAIR_1);
+  }
+
+  @Test
+  void saveDropsKeystoresNotSeenDuringLoad() throws IOException {
+    final Path keystore1 = KeystoreUtil.createKeystoreFile(KEY_PAIR_1, keystoreDir, "password");
+    final Path keystore2 = KeystoreUtil.createKeystoreFile(KEY_PAIR_2, keystoreDir, "password");
+    final UnlockedKeyCache cache = openCache(cachePasswordFile);
+    cache.put(keystore1, KEY_PAIR_1);
+    cache.put(keystore2, KEY_PAIR_2);
+    cache.save();
+
+    final UnlockedKeyCache secondCache = openCache(cachePasswordFile);
+    assertThat(secondCache.get(keystore1)).contains(KEY_PAIR_1);
+    secondCache.save();
+
+    final UnlockedKeyCache thirdCache = openCache(cachePasswordFile);
+    assertThat(thirdCache.get(keystore1)).contains(KEY_PAIR_1);
+    assertThat(thirdCache.get(keystore2)).isEmpty();
+  }
+
+  @Test
+  void bulkLoaderUsesCachedKeysWhenPasswordIsNoLongerValid() throws IOException {
+    KeystoreUtil.createKeystoreFile(KEY_PAIR_1, keystoreDir, "password");
+    final Path passwordFile = Files.writeString(tempDir.resolve("password.txt"), "password");
+
+    final UnlockedKeyCache cache = openCache(cachePasswordFile);
+    final MappedResults<ArtifactSigner> firstResult =
+        BlsKeystoreBulkLoader.loadKeystoresUsingPasswordFile(
+            keystoreDir, passwordFile, Optional.of(cache));
+    assertThat(firstResult.getValues()).hasSize(1);
+    cache.save();
+
+    // a cache hit must not need to decrypt the keystore
+    Files.writeString(passwordFile, "incorrectPassword");
+    final MappedResults<ArtifactSigner> secondResult =
+        BlsKeystoreBulkLoader.loadKeystoresUsingPasswordFile(
+            keystoreDir, passwordFile, Optional.of(openCache(cachePasswordFile)));
+    assertThat(secondResult.getErrorCount()).isZero();
+    assertThat(secondResult.getValues())
+        .extracting(ArtifactSigner::getIdentifier)
+        .containsExactly(KEY_PAIR_1.getPublicKey().toString());
+  }
+
+  private UnlockedKeyCache openCache(final Path passwordFile) throws IOException {
+    return UnlockedKeyCache.open(cacheFile, passwordFile, KDF_ITERATIONS);
+  }
+
+  private void writeKdfIterations(final int kdfIterations) throws IOException {
+    final byte[] content = Files.readAllBytes(cacheFile);
+    ByteBuffer.wrap(content).putInt(KDF_ITERATIONS_OFFSET, kdfIterations);
+    Files.write(cacheFile, content);
+  }
+
+  private byte[] readSalt() throws IOException {
+    final int saltOffset = KDF_ITERATIONS_OFFSET + Integer.BYTES;
+    return Arrays.copyOfRange(Files.readAllBytes(cacheFile), saltOffset, saltOffset + 32);
+  }
+}
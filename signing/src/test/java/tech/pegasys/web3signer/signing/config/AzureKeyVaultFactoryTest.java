@@ -14,6 +14,8 @@ package tech.pegasys.web3signer.signing.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import tech.pegasys.web3signer.keystorage.azure.AzureKeyVault;
+
 import java.util.concurrent.ExecutorService;
 
 import org.junit.jupiter.api.AfterEach;
@@ -108,4 +110,28 @@ class AzureKeyVaultFactoryTest {
     assertThat(executorService.isShutdown()).isTrue();
     assertThat(azureKeyVaultFactory.getExecutorServiceCache().get()).isNull();
   }
+
+  @Test
+  void reusesKeyVaultForSameParameters() {
+    final AzureKeyVault keyVault = createClientSecretKeyVault("keyVaultName");
+
+    assertThat(createClientSecretKeyVault("keyVaultName")).isSameAs(keyVault);
+  }
+
+  @Test
+  void createsSeparateKeyVaultForDifferentVaultName() {
+    final AzureKeyVault keyVault = createClientSecretKeyVault("keyVaultName");
+
+    assertThat(createClientSecretKeyVault("otherKeyVaultName")).isNotSameAs(keyVault);
+  }
+
+  private AzureKeyVault createClientSecretKeyVault(final String keyVaultName) {
+    return azureKeyVaultFactory.createAzureKeyVault(
+        "clientId",
+        "clientSecret",
+        keyVaultName,
+        "tenantId",
+        AzureAuthenticationMode.CLIENT_SECRET,
+        DEFAULT_AZURE_TIMEOUT);
+  }
 }
@@ -24,6 +24,7 @@ import tech.pegasys.web3signer.keystorage.common.MappedResults;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.ArtifactSignerProvider;
 import tech.pegasys.web3signer.signing.KeyType;
+import tech.pegasys.web3signer.signing.SignerLoadResult;
 import tech.pegasys.web3signer.signing.secp256k1.EthPublicKeyUtils;
 
 import java.io.IOException;
@@ -39,6 +40,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -83,6 +85,23 @@ class DefaultArtifactSignerProviderTest {
     assertThat(signerProvider.availableIdentifiers()).containsOnly(PUBLIC_KEY1);
   }
 
+  @Test
+  void blsSignerReturnedForMatchingPublicKeyBytes() {
+    final ArtifactSigner mockSigner = mock(ArtifactSigner.class);
+    when(mockSigner.getIdentifier()).thenReturn(PUBLIC_KEY1);
+    when(mockSigner.getKeyType()).thenReturn(KeyType.BLS);
+
+    signerProvider =
+        new DefaultArtifactSignerProvider(
+            () -> MappedResults.newInstance(List.of(mockSigner), 0),
+            Optional.empty(),
+            Optional.empty());
+    assertThatCode(() -> signerProvider.load().get()).doesNotThrowAnyException();
+
+    assertThat(signerProvider.getSigner(Bytes.fromHexString(PUBLIC_KEY1))).contains(mockSigner);
+    assertThat(signerProvider.getSigner(Bytes.fromHexString(PUBLIC_KEY2))).isEmpty();
+  }
+
   @Test
   void signerProviderOnlyHasSingleEntryIfPassedInListHasMultipleMatchingSigners() {
     final ArtifactSigner mockSigner1 = mock(ArtifactSigner.class);
@@ -167,6 +186,101 @@ class DefaultArtifactSignerProviderTest {
         .containsExactlyInAnyOrder(getCompressedSECPPublicKeysArray(key2SecpKeyPairs));
   }
 
+  @Test
+  void proxySignerReturnedForLoadedProxyIdentifier() throws IOException {
+    final KeystoresParameters commitBoostParameters =
+        new TestCommitBoostParameters(commitBoostKeystoresPath, commitBoostPasswordDir);
+    final List<BLSKeyPair> key1ProxyKeyPairs = randomBLSV4Keystores(PUBLIC_KEY1);
+    final List<ECKeyPair> key2SecpKeyPairs = randomSecpV3Keystores(PUBLIC_KEY2);
+
+    final ArtifactSigner mockSigner1 = mock(ArtifactSigner.class);
+    when(mockSigner1.getIdentifier()).thenReturn(PUBLIC_KEY1);
+    final ArtifactSigner mockSigner2 = mock(ArtifactSigner.class);
+    when(mockSigner2.getIdentifier()).thenReturn(PUBLIC_KEY2);
+
+    signerProvider =
+        new DefaultArtifactSignerProvider(
+            () -> MappedResults.newInstance(List.of(mockSigner1, mockSigner2), 0),
+            Optional.empty(),
+            Optional.of(commitBoostParameters));
+    assertThatCode(() -> signerProvider.load().get()).doesNotThrowAnyException();
+
+    for (final String proxyPublicKey : getPublicKeysArray(key1ProxyKeyPairs)) {
+      assertThat(signerProvider.getProxySigner(proxyPublicKey))
+          .hasValueSatisfying(
+              proxySigner -> assertThat(proxySigner.getIdentifier()).isEqualTo(proxyPublicKey));
+    }
+    for (final String proxyPublicKey : getCompressedSECPPublicKeysArray(key2SecpKeyPairs)) {
+      assertThat(signerProvider.getProxySigner(proxyPublicKey))
+          .hasValueSatisfying(
+              proxySigner -> assertThat(proxySigner.getIdentifier()).isEqualTo(proxyPublicKey));
+    }
+    assertThat(signerProvider.getProxySigner(PUBLIC_KEY1)).isEmpty();
+  }
+
+  @Test
+  void reloadOnlyDecryptsChangedProxyKeystoreDirectories() throws Exception {
+    final KeystoresParameters commitBoostParameters =
+        new TestCommitBoostParameters(commitBoostKeystoresPath, commitBoostPasswordDir);
+    final List<BLSKeyPair> key1ProxyKeyPairs = randomBLSV4Keystores(PUBLIC_KEY1);
+    final List<ECKeyPair> key2SecpKeyPairs = randomSecpV3Keystores(PUBLIC_KEY2);
+
+    final ArtifactSigner mockSigner1 = mock(ArtifactSigner.class);
+    when(mockSigner1.getIdentifier()).thenReturn(PUBLIC_KEY1);
+    final ArtifactSigner mockSigner2 = mock(ArtifactSigner.class);
+    when(mockSigner2.getIdentifier()).thenReturn(PUBLIC_KEY2);
+
+    signerProvider =
+        new DefaultArtifactSignerProvider(
+            () -> MappedResults.newInstance(List.of(mockSigner1, mockSigner2), 0),
+            Optional.empty(),
+            Optional.of(commitBoostParameters));
+    signerProvider.load().get();
+    final String blsProxyKey = getPublicKeysArray(key1ProxyKeyPairs)[0];
+    final String secpProxyKey = getCompressedSECPPublicKeysArray(key2SecpKeyPairs)[0];
+    final ArtifactSigner blsProxySigner = signerProvider.getProxySigner(blsProxyKey).orElseThrow();
+    final ArtifactSigner secpProxySigner =
+        signerProvider.getProxySigner(secpProxyKey).orElseThrow();
+
+    // adding a keystore only changes the BLS proxy directory of the first key
+    final BLSKeyPair addedKeyPair = BLSTestUtil.randomKeyPair(10);
+    KeystoreUtil.createKeystoreFile(
+        addedKeyPair,
+        commitBoostKeystoresPath.resolve(PUBLIC_KEY1).resolve(KeyType.BLS.name()),
+        "password");
+    signerProvider.load().get();
+
+    // unchanged proxy keystores were not decrypted again, so the same signer instance is loaded
+    assertThat(signerProvider.getProxySigner(secpProxyKey)).containsSame(secpProxySigner);
+    assertThat(signerProvider.getProxySigner(blsProxyKey).orElseThrow())
+        .isNotSameAs(blsProxySigner);
+    assertThat(signerProvider.getProxyIdentifiers(PUBLIC_KEY1).get(KeyType.BLS))
+        .contains(addedKeyPair.getPublicKey().toString())
+        .hasSize(key1ProxyKeyPairs.size() + 1);
+  }
+
+  @Test
+  void proxySignerIndexFollowsAddedProxiesAndRemovedSigners() throws Exception {
+    final ArtifactSigner mockSigner1 = mock(ArtifactSigner.class);
+    when(mockSigner1.getIdentifier()).thenReturn(PUBLIC_KEY1);
+    final ArtifactSigner proxySigner = mock(ArtifactSigner.class);
+    when(proxySigner.getIdentifier()).thenReturn(PUBLIC_KEY2);
+
+    signerProvider =
+        new DefaultArtifactSignerProvider(
+            () -> MappedResults.newInstance(List.of(mockSigner1), 0),
+            Optional.empty(),
+            Optional.empty());
+    signerProvider.load().get();
+    assertThat(signerProvider.getProxySigner(PUBLIC_KEY2)).isEmpty();
+
+    signerProvider.addProxySigner(proxySigner, PUBLIC_KEY1).get();
+    assertThat(signerProvider.getProxySigner(PUBLIC_KEY2)).contains(proxySigner);
+
+    signerProvider.removeSigner(PUBLIC_KEY1).get();
+    assertThat(signerProvider.getProxySigner(PUBLIC_KEY2)).isEmpty();
+  }
+
   @Test
   void emptyProxySignersAreLoadedSuccessfully() {
     // enable commit boost without existing proxy keys
@@ -265,6 +379,41 @@ class DefaultArtifactSignerProviderTest {
     assertThat(removedCaptures.get(1)).containsExactly(PUBLIC_KEY1);
   }
 
+  @Test
+  void loadResultReportsDeltaAndPhaseDurations() throws Exception {
+    final ArtifactSigner mockSigner1 = mock(ArtifactSigner.class);
+    when(mockSigner1.getIdentifier()).thenReturn(PUBLIC_KEY1);
+    final ArtifactSigner mockSigner2 = mock(ArtifactSigner.class);
+    when(mockSigner2.getIdentifier()).thenReturn(PUBLIC_KEY2);
+
+    final AtomicReference<List<ArtifactSigner>> signersRef =
+        new AtomicReference<>(List.of(mockSigner1));
+    signerProvider =
+        new DefaultArtifactSignerProvider(
+            () -> MappedResults.newInstance(signersRef.get(), 1),
+            Optional.of((added, removed) -> {}),
+            Optional.empty());
+
+    final SignerLoadResult firstLoad = signerProvider.load().get();
+    assertThat(firstLoad.errorCount()).isEqualTo(1);
+    assertThat(firstLoad.added()).isEqualTo(1);
+    assertThat(firstLoad.removed()).isZero();
+    assertThat(firstLoad.unchanged()).isZero();
+    assertThat(firstLoad.phaseDurations())
+        .containsOnlyKeys("load_signers", "diff", "proxy_signers", "publish", "post_loading");
+
+    signersRef.set(List.of(mockSigner2));
+    final SignerLoadResult secondLoad = signerProvider.load().get();
+    assertThat(secondLoad.added()).isEqualTo(1);
+    assertThat(secondLoad.removed()).isEqualTo(1);
+    assertThat(secondLoad.unchanged()).isZero();
+
+    final SignerLoadResult thirdLoad = signerProvider.load().get();
+    assertThat(thirdLoad.added()).isZero();
+    assertThat(thirdLoad.removed()).isZero();
+    assertThat(thirdLoad.unchanged()).isEqualTo(1);
+  }
+
   @Test
   void callbackReceivesEmptyDeltaWhenKeysUnchanged() throws Exception {
     final ArtifactSigner mockSigner1 = mock(ArtifactSigner.class);
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
@@ -763,6 +764,18 @@ class SignerLoaderTest {
     verify(spyLoader, never()).processFile(any(), any(), any(), anyInt());
   }
 
+  @Test
+  void eachFileIsReadOnceAndItsMetadataPassedToPrefetch() throws Exception {
+    createBLSRawConfigFiles(10);
+    final SignerParser spyParser = spy(signerParser);
+
+    final MappedResults<ArtifactSigner> result = signerLoader.load(spyParser);
+
+    assertThat(result.getValues()).hasSize(10);
+    verify(spyParser, times(10)).readSigningMetadata(any());
+    verify(spyParser).prefetchSecrets(argThat(metadata -> metadata.size() == 10));
+  }
+
   @Test
   void addingNewFilesProcessesOnlyNewFiles() throws Exception {
     // Initial load with 10 files
@@ -15,8 +15,13 @@ package tech.pegasys.web3signer.signing.config.metadata;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.fail;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import tech.pegasys.teku.bls.BLSKeyPair;
@@ -32,9 +37,12 @@ import tech.pegasys.web3signer.bls.keystore.model.KeyStoreData;
 import tech.pegasys.web3signer.bls.keystore.model.SCryptParam;
 import tech.pegasys.web3signer.keystorage.aws.AwsSecretsManagerProvider;
 import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnection;
+import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnection.FetchedKeys;
 import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpConnectionFactory;
+import tech.pegasys.web3signer.keystorage.hashicorp.HashicorpException;
 import tech.pegasys.web3signer.keystorage.hashicorp.VaultAuthMethod;
 import tech.pegasys.web3signer.keystorage.hashicorp.config.ConnectionParameters;
+import tech.pegasys.web3signer.keystorage.hashicorp.config.KeyDefinition;
 import tech.pegasys.web3signer.keystorage.hashicorp.config.KubernetesAuthOptions;
 import tech.pegasys.web3signer.signing.ArtifactSigner;
 import tech.pegasys.web3signer.signing.BlsArtifactSigner;
@@ -44,7 +52,11 @@ import tech.pegasys.web3signer.signing.config.AzureKeyVaultFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import io.vertx.core.Vertx;
 import org.apache.tuweni.bytes.Bytes;
@@ -249,6 +261,106 @@ class BlsArtifactSignerFactoryTest {
         .isEqualTo(configDir.resolve(relativeTokenPath));
   }
 
+  @Test
+  void secretWhichCouldNotBePrefetchedIsNotFetchedAgain() {
+    final HashicorpSigningMetadata metaData =
+        new HashicorpSigningMetadata("localhost", "keyPath", KeyType.BLS);
+    metaData.setToken("token");
+
+    final HashicorpConnection mockConnection = mock(HashicorpConnection.class);
+    when(mockConnection.fetchKeys(anyCollection(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              final Collection<KeyDefinition> keys = invocation.getArgument(0);
+              return new FetchedKeys(
+                  Map.of(),
+                  keys.stream()
+                      .collect(
+                          Collectors.toMap(
+                              key -> key, key -> new HashicorpException("Secret not found"))));
+            });
+    final BlsArtifactSignerFactory customFactory = factoryWithConnection(mockConnection);
+
+    customFactory.prefetchSecrets(List.of(metaData));
+
+    assertThatThrownBy(() -> customFactory.create(metaData))
+        .isInstanceOf(SigningMetadataException.class)
+        .hasMessage("Secret not found");
+    verify(mockConnection, never()).fetchKey(any());
+  }
+
+  @Test
+  void loginWhichCouldNotBeMadeIsNotRequestedAgain() {
+    final HashicorpSigningMetadata metaData =
+        new HashicorpSigningMetadata("localhost", "keyPath", KeyType.BLS);
+    metaData.setAuthMethod(VaultAuthMethod.KUBERNETES);
+    metaData.setKubernetesRole("my-role");
+
+    final HashicorpConnection mockConnection = mock(HashicorpConnection.class);
+    when(mockConnection.authenticateWithKubernetes(any()))
+        .thenThrow(new HashicorpException("Login failed"));
+    final BlsArtifactSignerFactory customFactory = factoryWithConnection(mockConnection);
+
+    customFactory.prefetchSecrets(List.of(metaData));
+
+    assertThatThrownBy(() -> customFactory.create(metaData))
+        .isInstanceOf(SigningMetadataException.class)
+        .hasMessage("Login failed");
+    verify(mockConnection, times(1)).authenticateWithKubernetes(any());
+    verify(mockConnection, never()).fetchKeys(anyCollection(), anyInt());
+    verify(mockConnection, never()).fetchKey(any());
+  }
+
+  @Test
+  void failedLoginDoesNotAffectOtherSignersOfSameVault() {
+    final HashicorpSigningMetadata kubernetesMetaData =
+        new HashicorpSigningMetadata("localhost", "kubernetesKeyPath", KeyType.BLS);
+    kubernetesMetaData.setAuthMethod(VaultAuthMethod.KUBERNETES);
+    kubernetesMetaData.setKubernetesRole("unknown-role");
+    final HashicorpSigningMetadata tokenMetaData =
+        new HashicorpSigningMetadata("localhost", "tokenKeyPath", KeyType.BLS);
+    tokenMetaData.setToken("token");
+
+    final HashicorpConnection mockConnection = mock(HashicorpConnection.class);
+    when(mockConnection.authenticateWithKubernetes(any()))
+        .thenThrow(new HashicorpException("Login failed"));
+    final String secret = BLS_KEY_PAIR.getSecretKey().toBytes().toHexString();
+    when(mockConnection.fetchKeys(anyCollection(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              final Collection<KeyDefinition> keys = invocation.getArgument(0);
+              return new FetchedKeys(
+                  keys.stream().collect(Collectors.toMap(key -> key, key -> secret)), Map.of());
+            });
+    final BlsArtifactSignerFactory customFactory = factoryWithConnection(mockConnection);
+
+    customFactory.prefetchSecrets(List.of(kubernetesMetaData, tokenMetaData));
+
+    assertThatThrownBy(() -> customFactory.create(kubernetesMetaData))
+        .isInstanceOf(SigningMetadataException.class)
+        .hasMessage("Login failed");
+    assertThat(fromIdentifier(customFactory.create(tokenMetaData).getIdentifier()))
+        .isEqualTo(BLS_KEY_PAIR.getPublicKey());
+    verify(mockConnection, never()).fetchKey(any());
+  }
+
+  private BlsArtifactSignerFactory factoryWithConnection(final HashicorpConnection connection) {
+    final HashicorpConnectionFactory connectionFactory =
+        new HashicorpConnectionFactory() {
+          @Override
+          public HashicorpConnection create(final ConnectionParameters connectionParameters) {
+            return connection;
+          }
+        };
+    return new BlsArtifactSignerFactory(
+        configDir,
+        new NoOpMetricsSystem(),
+        connectionFactory,
+        awsSecretsManagerProvider,
+        (args) -> new BlsArtifactSigner(args.getKeyPair(), args.getOrigin()),
+        azureKeyVaultFactory);
+  }
+
   private static void createKeyStoreFile(final Path keyStoreFilePath) {
     final KdfParam kdfParam = new SCryptParam(32, KEYSTORE_SALT);
     final CipherSpec cipher =
@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +32,7 @@ import tech.pegasys.web3signer.signing.config.metadata.AzureSecretSigningMetadat
 import tech.pegasys.web3signer.signing.config.metadata.BlsArtifactSignerFactory;
 import tech.pegasys.web3signer.signing.config.metadata.FileKeyStoreMetadata;
 import tech.pegasys.web3signer.signing.config.metadata.FileRawSigningMetadata;
+import tech.pegasys.web3signer.signing.config.metadata.HashicorpSigningMetadata;
 import tech.pegasys.web3signer.signing.config.metadata.Secp256k1ArtifactSignerFactory;
 import tech.pegasys.web3signer.signing.config.metadata.SignerOrigin;
 import tech.pegasys.web3signer.signing.config.metadata.SigningMetadata;
@@ -39,6 +41,7 @@ import tech.pegasys.web3signer.signing.config.metadata.SigningMetadataException;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +57,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -396,6 +400,47 @@ class YamlSignerParserTest {
         .withMessage("Invalid signing metadata file format");
   }
 
+  @Test
+  void prefetchSecretsPassesVaultMetadataToEachFactory() throws IOException {
+    final String hashicorpMetadata =
+        YAML_OBJECT_MAPPER.writeValueAsString(
+            Map.of(
+                "type",
+                "hashicorp",
+                "serverHost",
+                "localhost",
+                "keyPath",
+                "/v1/secret/data/key",
+                "token",
+                "token"));
+    final String rawMetadata =
+        YAML_OBJECT_MAPPER.writeValueAsString(
+            Map.of("type", "file-raw", "privateKey", PRIVATE_KEY));
+
+    final List<SigningMetadata> signingMetadata = new ArrayList<>();
+    signingMetadata.addAll(signerParser.readSigningMetadata(hashicorpMetadata));
+    signingMetadata.addAll(signerParser.readSigningMetadata(rawMetadata));
+
+    signerParser.prefetchSecrets(signingMetadata);
+
+    final ArgumentMatcher<List<SigningMetadata>> hashicorpOnly =
+        metadata -> metadata.size() == 1 && metadata.get(0) instanceof HashicorpSigningMetadata;
+    verify(blsArtifactSignerFactory).prefetchSecrets(argThat(hashicorpOnly));
+    verify(secpArtifactSignerFactory).prefetchSecrets(argThat(hashicorpOnly));
+  }
+
+  @Test
+  void prefetchSecretsIsSkippedWhenNoMetadataReferencesAVault() throws IOException {
+    final String rawMetadata =
+        YAML_OBJECT_MAPPER.writeValueAsString(
+            Map.of("type", "file-raw", "privateKey", PRIVATE_KEY));
+
+    signerParser.prefetchSecrets(signerParser.readSigningMetadata(rawMetadata));
+
+    verify(blsArtifactSignerFactory, never()).prefetchSecrets(any());
+    verify(secpArtifactSignerFactory, never()).prefetchSecrets(any());
+  }
+
   private AzureSecretSigningMetadata hasCorrectAzureMetadataArguments(
       final AzureAuthenticationMode authenticationMode) {
     return argThat(
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.web3signer.signing.secp256k1.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.web3signer.signing.config.RemoteSigningParameters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Sends signing requests to a local HTTP stub which delays or fails its responses. */
+class ResilientRemoteSigningExecutorTest {
+  private static final long FAST_RESPONSE_MILLIS = 5;
+
+  private final AtomicInteger requests = new AtomicInteger();
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+  private final Queue<Long> responseDelays = new ConcurrentLinkedQueue<>();
+  private volatile int responseStatus = 200;
+
+  private final RemoteSigningMetrics metrics = new RemoteSigningMetrics(new NoOpMetricsSystem());
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private ExecutorService serverExecutor;
+  private HttpServer server;
+
+  @BeforeEach
+  void setup() throws IOException {
+    serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::handleRequest);
+    server.setExecutor(serverExecutor);
+    server.start();
+  }
+
+  @AfterEach
+  void teardown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+    httpClient.close();
+  }
+
+  @Test
+  void requestWhichIsNotAnsweredInTimeFails() {
+    final ResilientRemoteSigningExecutor executor = executor(Duration.ofMillis(100), parameters());
+    responseDelays.add(1_000L);
+
+    final long start = System.nanoTime();
+    assertThatThrownBy(() -> executor.execute(this::sign))
+        .isInstanceOf(RemoteSigningUnavailableException.class)
+        .hasMessageContaining("timed out");
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(900));
+  }
+
+  @Test
+  void hedgedRequestIsUsedWhenFirstRequestIsSlow() {
+    final ResilientRemoteSigningExecutor executor =
+        executor(Duration.ofSeconds(5), parameters(10, true, Duration.ofSeconds(30)));
+    warmUp(executor);
+
+    responseDelays.add(3_000L);
+    final long start = System.nanoTime();
+    final String signature = executor.execute(this::sign);
+
+    // the slow request follows the warm up requests and the hedged request follows it
+    final int hedgedRequestNumber = ResilientRemoteSigningExecutor.MIN_LATENCY_SAMPLES + 2;
+    assertThat(signature).isEqualTo("signature-" + hedgedRequestNumber);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+  }
+
+  @Test
+  void requestIsNotHedgedWithoutEnoughLatencySamples() {
+    final ResilientRemoteSigningExecutor executor =
+        executor(Duration.ofSeconds(5), parameters(10, true, Duration.ofSeconds(30)));
+
+    responseDelays.add(300L);
+    assertThat(executor.execute(this::sign)).isEqualTo("signature-1");
+    assertThat(requests).hasValue(1);
+  }
+
+  @Test
+  void circuitBreakerFailsRequestsFastOnceFailureRateIsReached() {
+    final ResilientRemoteSigningExecutor executor = executor(Duration.ofSeconds(5), parameters());
+    responseStatus = 500;
+
+    for (int i = 0; i < ResilientRemoteSigningExecutor.CIRCUIT_BREAKER_WINDOW_SIZE; i++) {
+      assertThatThrownBy(() -> executor.execute(this::sign))
+          .isNotInstanceOf(RemoteSigningUnavailableException.class);
+    }
+    assertThat(executor.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    assertThatThrownBy(() -> executor.execute(this::sign))
+        .isInstanceOf(RemoteSigningUnavailableException.class)
+        .hasMessageContaining("circuit breaker is open");
+    assertThat(requests).hasValue(ResilientRemoteSigningExecutor.CIRCUIT_BREAKER_WINDOW_SIZE);
+  }
+
+  @Test
+  void circuitBreakerClosesWhenTrialRequestSucceeds() throws InterruptedException {
+    final ResilientRemoteSigningExecutor executor =
+        executor(Duration.ofSeconds(5), parameters(10, false, Duration.ofMillis(200)));
+    responseStatus = 500;
+    for (int i = 0; i < ResilientRemoteSigningExecutor.CIRCUIT_BREAKER_WINDOW_SIZE; i++) {
+      assertThatThrownBy(() -> executor.execute(this::sign)).isInstanceOf(RuntimeException.class);
+    }
+    assertThat(executor.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    responseStatus = 200;
+    Thread.sleep(300);
+
+    assertThat(executor.execute(this::sign)).startsWith("signature-");
+    assertThat(executor.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void requestsBeyondMaxConcurrentRequestsAreRejected() throws Exception {
+    final ResilientRemoteSigningExecutor executor =
+        executor(Duration.ofSeconds(5), parameters(2, false, Duration.ofSeconds(30)));
+    responseDelays.add(500L);
+    responseDelays.add(500L);
+
+    try (final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      final Future<String> first = callers.submit(() -> executor.execute(this::sign));
+      final Future<String> second = callers.submit(() -> executor.execute(this::sign));
+      awaitInFlightRequests(2);
+
+      assertThatThrownBy(() -> executor.execute(this::sign))
+          .isInstanceOf(RemoteSigningUnavailableException.class)
+          .hasMessageContaining("Too many signing requests");
+      assertThat(first.get()).startsWith("signature-");
+      assertThat(second.get()).startsWith("signature-");
+    }
+  }
+
+  private ResilientRemoteSigningExecutor executor(
+      final Duration timeout, final RemoteSigningParameters parameters) {
+    return new ResilientRemoteSigningExecutor("stub", timeout, parameters, metrics);
+  }
+
+  private static RemoteSigningParameters parameters() {
+    return parameters(10, false, Duration.ofSeconds(30));
+  }
+
+  private static RemoteSigningParameters parameters(
+      final int maxConcurrentRequests, final boolean hedgingEnabled, final Duration openDuration) {
+    return new RemoteSigningParameters() {
+      @Override
+      public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+      }
+
+      @Override
+      public boolean isHedgingEnabled() {
+        return hedgingEnabled;
+      }
+
+      @Override
+      public Duration getCircuitBreakerOpenDuration() {
+        return openDuration;
+      }
+    };
+  }
+
+  private void warmUp(final ResilientRemoteSigningExecutor executor) {
+    for (int i = 0; i < ResilientRemoteSigningExecutor.MIN_LATENCY_SAMPLES; i++) {
+      executor.execute(this::sign);
+    }
+  }
+
+  private void awaitInFlightRequests(final int expected) throws InterruptedException {
+    final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (inFlightRequests.get() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(inFlightRequests).hasValue(expected);
+  }
+
+  private String sign() {
+    final HttpRequest request =
+        HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/sign"))
+            .POST(HttpRequest.BodyPublishers.ofString("data"))
+            .build();
+    try {
+      final HttpResponse<String> response =
+          httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException("Signing failed with status " + response.statusCode());
+      }
+      return response.body();
+    } catch (final IOException e) {
+      throw new IllegalStateException("Signing request failed", e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Signing request interrupted", e);
+    }
+  }
+
+  private void handleRequest(final HttpExchange exchange) throws IOException {
+    final int requestNumber = requests.incrementAndGet();
+    final Long delay = responseDelays.poll();
+    inFlightRequests.incrementAndGet();
+    try {
+      Thread.sleep(delay == null ? FAST_RESPONSE_MILLIS : delay);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlightRequests.decrementAndGet();
+    }
+
+    final byte[] response = ("signature-" + requestNumber).getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(responseStatus, response.length);
+    try (final OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(response);
+    }
+  }
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import tech.pegasys.web3signer.signing.secp256k1.EthPublicKeyUtils;
 
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.interfaces.ECPublicKey;
@@ -28,6 +29,8 @@ import org.junit.jupiter.api.Test;
 import org.web3j.crypto.ECDSASignature;
 import org.web3j.crypto.ECKeyPair;
 import org.web3j.crypto.Hash;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
 
 public class Eth1SignatureUtilTest {
   public static final byte[] DATA_TO_SIGN = Hash.sha3("hello".getBytes(StandardCharsets.UTF_8));
@@ -75,4 +78,63 @@ public class Eth1SignatureUtilTest {
     assertThat(signature.getR()).isEqualTo(web3jSig.r);
     assertThat(signature.getS()).isEqualTo(web3jSig.s);
   }
+
+  @Test
+  void recoveryIdMatchesWeb3jForLowAndHighSValues() throws Exception {
+    final KeyPair keyPair = EthPublicKeyUtils.generateK256KeyPair();
+    final ECKeyPair web3jECKeyPair = ECKeyPair.create(keyPair);
+    final ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+
+    for (int i = 0; i < 32; i++) {
+      final byte[] hash = Hash.sha3(("message " + i).getBytes(StandardCharsets.UTF_8));
+      final Sign.SignatureData expected = Sign.signMessage(hash, web3jECKeyPair, false);
+      final BigInteger r = Numeric.toBigInt(expected.getR());
+      final BigInteger s = Numeric.toBigInt(expected.getS());
+
+      // remote signers may return either s value, which is canonicalised before recovery
+      for (final BigInteger sValue : new BigInteger[] {s, Sign.CURVE.getN().subtract(s)}) {
+        final tech.pegasys.web3signer.signing.secp256k1.Signature signature =
+            Eth1SignatureUtil.deriveSignatureFromP1363Encoded(hash, publicKey, p1363(r, sValue));
+
+        assertThat(signature.getR()).isEqualTo(r);
+        assertThat(signature.getS()).isEqualTo(s);
+        assertThat(signature.getV()).isEqualTo(Numeric.toBigInt(expected.getV()));
+      }
+    }
+  }
+
+  @Test
+  void calculatedRecoveryIdMatchesSearchedRecoveryId() throws Exception {
+    final KeyPair keyPair = EthPublicKeyUtils.generateK256KeyPair();
+    final ECKeyPair web3jECKeyPair = ECKeyPair.create(keyPair);
+    final ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+
+    for (int i = 0; i < 32; i++) {
+      final byte[] hash = Hash.sha3(("message " + i).getBytes(StandardCharsets.UTF_8));
+      final ECDSASignature signature = web3jECKeyPair.sign(hash);
+
+      assertThat(Eth1SignatureUtil.calculateRecoveryId(publicKey, signature, hash))
+          .isBetween(0, 3)
+          .isEqualTo(Eth1SignatureUtil.searchRecoveryId(publicKey, signature, hash));
+    }
+  }
+
+  @Test
+  void recoveryIdIsNotFoundForAnotherPublicKey() throws Exception {
+    final ECKeyPair web3jECKeyPair = ECKeyPair.create(EthPublicKeyUtils.generateK256KeyPair());
+    final ECPublicKey otherPublicKey =
+        (ECPublicKey) EthPublicKeyUtils.generateK256KeyPair().getPublic();
+    final ECDSASignature signature = web3jECKeyPair.sign(DATA_TO_SIGN);
+
+    assertThat(Eth1SignatureUtil.calculateRecoveryId(otherPublicKey, signature, DATA_TO_SIGN))
+        .isEqualTo(-1);
+    assertThat(Eth1SignatureUtil.searchRecoveryId(otherPublicKey, signature, DATA_TO_SIGN))
+        .isEqualTo(-1);
+  }
+
+  private static byte[] p1363(final BigInteger r, final BigInteger s) {
+    return Bytes.concatenate(
+            Bytes.wrap(Numeric.toBytesPadded(r, 32)), Bytes.wrap(Numeric.toBytesPadded(s, 32)))
+        .toArray();
+  }
 }
@@ -29,6 +29,7 @@ public final class AwsVaultParametersBuilder {
   private Collection<String> prefixesFilter = Collections.emptyList();
   private Map<String, String> tags = new LinkedHashMap<>();
   private long cacheMaximumSize = 1;
+  private int fetchConcurrency = AwsVaultParameters.DEFAULT_FETCH_CONCURRENCY;
 
   private Optional<URI> endpointURI = Optional.empty();
   private boolean enabled;
@@ -78,6 +79,11 @@ public final class AwsVaultParametersBuilder {
     return this;
   }
 
+  public AwsVaultParametersBuilder withFetchConcurrency(final int fetchConcurrency) {
+    this.fetchConcurrency = fetchConcurrency;
+    return this;
+  }
+
   public AwsVaultParametersBuilder withEndpointOverride(final Optional<URI> endpointOverride) {
     this.endpointURI = endpointOverride;
     return this;
@@ -111,6 +117,7 @@ public final class AwsVaultParametersBuilder {
         prefixesFilter,
         tags,
         cacheMaximumSize,
+        fetchConcurrency,
         endpointURI,
         enabled);
   }
@@ -123,6 +130,7 @@ public final class AwsVaultParametersBuilder {
     private final Collection<String> prefixesFilter;
     private final Map<String, String> tags;
     private final long cacheMaximumSize;
+    private final int fetchConcurrency;
     private final Optional<URI> endpointOverride;
     private final boolean enabled;
 
@@ -134,6 +142,7 @@ public final class AwsVaultParametersBuilder {
         final Collection<String> prefixesFilter,
         final Map<String, String> tags,
         final long cacheMaximumSize,
+        final int fetchConcurrency,
         final Optional<URI> endpointOverride,
         final boolean enabled) {
       this.authenticationMode = authenticationMode;
@@ -143,6 +152,7 @@ public final class AwsVaultParametersBuilder {
       this.prefixesFilter = prefixesFilter;
       this.tags = tags;
       this.cacheMaximumSize = cacheMaximumSize;
+      this.fetchConcurrency = fetchConcurrency;
       this.endpointOverride = endpointOverride;
       this.enabled = enabled;
     }
@@ -177,6 +187,11 @@ public final class AwsVaultParametersBuilder {
       return cacheMaximumSize;
     }
 
+    @Override
+    public int getFetchConcurrency() {
+      return fetchConcurrency;
+    }
+
     @Override
     public Collection<String> getPrefixesFilter() {
       return prefixesFilter;
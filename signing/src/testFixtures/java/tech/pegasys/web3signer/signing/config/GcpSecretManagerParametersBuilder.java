@@ -18,6 +18,7 @@ public final class GcpSecretManagerParametersBuilder {
   private boolean enabled;
   private String projectId;
   private Optional<String> filter = Optional.empty();
+  private int fetchConcurrency = GcpSecretManagerParameters.DEFAULT_FETCH_CONCURRENCY;
 
   private GcpSecretManagerParametersBuilder() {}
 
@@ -40,20 +41,27 @@ public final class GcpSecretManagerParametersBuilder {
     return this;
   }
 
+  public GcpSecretManagerParametersBuilder withFetchConcurrency(final int fetchConcurrency) {
+    this.fetchConcurrency = fetchConcurrency;
+    return this;
+  }
+
   public GcpSecretManagerParameters build() {
-    return new TestGcpSecretManagerParameters(enabled, projectId, filter);
+    return new TestGcpSecretManagerParameters(enabled, projectId, filter, fetchConcurrency);
   }
 
   private static class TestGcpSecretManagerParameters implements GcpSecretManagerParameters {
     private final boolean enabled;
     private final String projectId;
     private final Optional<String> filter;
+    private final int fetchConcurrency;
 
     private TestGcpSecretManagerParameters(
-        boolean enabled, String projectId, Optional<String> filter) {
+        boolean enabled, String projectId, Optional<String> filter, int fetchConcurrency) {
       this.enabled = enabled;
       this.projectId = projectId;
       this.filter = filter;
+      this.fetchConcurrency = fetchConcurrency;
     }
 
     @Override
@@ -70,5 +78,10 @@ public final class GcpSecretManagerParametersBuilder {
     public Optional<String> getFilter() {
       return filter;
     }
+
+    @Override
+    public int getFetchConcurrency() {
+      return fetchConcurrency;
+    }
   }
 }
@@ -18,7 +18,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 /** Test fixture for CommitBoostParameters */
-public class TestCommitBoostParameters implements KeystoresParameters {
+public class TestCommitBoostParameters implements CommitBoostParameters {
   private final Path keystorePath;
   private final Path passwordFile;
 
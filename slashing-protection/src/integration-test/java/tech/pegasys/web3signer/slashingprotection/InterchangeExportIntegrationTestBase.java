@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import db.DatabaseUtil;
 import db.DatabaseUtil.TestDatabaseInfo;
@@ -165,6 +166,49 @@ public class InterchangeExportIntegrationTestBase extends IntegrationTestBase {
     }
   }
 
+  @Test
+  void exportingAllIncrementallyGroupsHistoryBySpecifiedValidators() throws Exception {
+    final int VALIDATOR_COUNT = 5;
+
+    // each validator signs a different number of blocks and attestations, validator 1 signs none
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      final int validatorId = i + 1;
+      slashingProtectionContext
+          .getRegisteredValidators()
+          .registerValidators(List.of(Bytes.of(validatorId)));
+
+      for (int b = 0; b < i; b++) {
+        insertBlockAt(UInt64.valueOf(b), validatorId);
+      }
+      for (int a = 0; a < i * 2; a++) {
+        insertAttestationAt(UInt64.valueOf(a), UInt64.valueOf(a), validatorId);
+      }
+    }
+
+    final OutputStream exportOutput = new ByteArrayOutputStream();
+    final IncrementalExporter incrementalExporter =
+        slashingProtectionContext.getSlashingProtection().createIncrementalExporter(exportOutput);
+    incrementalExporter.exportAll(List.of("0x05", "0x01", "0x03", "0x04"));
+    incrementalExporter.finalise();
+    incrementalExporter.close();
+
+    final InterchangeV5Format outputObject =
+        mapper.readValue(exportOutput.toString(), InterchangeV5Format.class);
+
+    final List<SignedArtifacts> signedArtifacts = outputObject.getSignedArtifacts();
+    assertThat(signedArtifacts)
+        .extracting(SignedArtifacts::getPublicKey)
+        .containsExactly("0x01", "0x03", "0x04", "0x05");
+    for (final SignedArtifacts signedArtifact : signedArtifacts) {
+      final int i = Bytes.fromHexString(signedArtifact.getPublicKey()).toInt() - 1;
+      assertThat(signedArtifact.getSignedBlocks())
+          .extracting(SignedBlock::getSlot)
+          .containsExactlyInAnyOrderElementsOf(
+              IntStream.range(0, i).mapToObj(UInt64::valueOf).toList());
+      assertThat(signedArtifact.getSignedAttestations()).hasSize(i * 2);
+    }
+  }
+
   @Test
   void failToExportIfGenesisValidatorRootDoesNotExist() throws IOException {
     final TestDatabaseInfo testDatabaseInfo = DatabaseUtil.create();
@@ -12,9 +12,12 @@
  */
 package tech.pegasys.web3signer.slashingprotection;
 
+import tech.pegasys.web3signer.common.SigningStages;
+
 import org.jdbi.v3.core.Handle;
 
 public class DbLocker {
+  public static final String LOCK_WAIT_STAGE = "slashing_lock_wait";
 
   public enum LockType {
     BLOCK(0),
@@ -33,7 +36,9 @@ public class DbLocker {
 
   public static void lockForValidator(
       final Handle handle, final LockType lockType, final int validatorId) {
-    handle.execute("SELECT pg_advisory_xact_lock(?, ?)", lockType.lockOrdinal(), validatorId);
+    try (final SigningStages.Timer ignored = SigningStages.time(LOCK_WAIT_STAGE)) {
+      handle.execute("SELECT pg_advisory_xact_lock(?, ?)", lockType.lockOrdinal(), validatorId);
+    }
   }
 
   public static void lockAllForValidator(final Handle handle, final int validatorId) {
@@ -15,6 +15,7 @@ package tech.pegasys.web3signer.slashingprotection;
 import static org.jdbi.v3.core.transaction.TransactionIsolationLevel.READ_COMMITTED;
 import static tech.pegasys.web3signer.slashingprotection.DbLocker.lockForValidator;
 
+import tech.pegasys.web3signer.common.SigningStages;
 import tech.pegasys.web3signer.slashingprotection.DbLocker.LockType;
 import tech.pegasys.web3signer.slashingprotection.dao.HighWatermark;
 import tech.pegasys.web3signer.slashingprotection.dao.LowWatermarkDao;
@@ -35,6 +36,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,10 +44,13 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt64;
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.Jdbi;
 
 public class DbSlashingProtection implements SlashingProtection {
   private static final Logger LOG = LogManager.getLogger();
+  public static final String CHECKS_STAGE = "slashing_checks";
+  public static final String COMMIT_STAGE = "slashing_commit";
 
   private final Jdbi jdbi;
   private final ValidatorsDao validatorsDao;
@@ -156,11 +161,10 @@ public class DbSlashingProtection implements SlashingProtection {
       return false;
     }
 
-    return jdbi.inTransaction(
-        READ_COMMITTED,
+    return inTimedTransaction(
+        LockType.ATTESTATION,
+        validatorId,
         handle -> {
-          lockForValidator(handle, LockType.ATTESTATION, validatorId);
-
           if (!isEnabled(handle, validatorId)) {
             LOG.warn(
                 "Signing attempted for disabled validator {}. To sign with this validator"
@@ -210,11 +214,10 @@ public class DbSlashingProtection implements SlashingProtection {
     if (!gvrValidator.checkGenesisValidatorsRootAndInsertIfEmpty(genesisValidatorsRoot)) {
       return false;
     }
-    return jdbi.inTransaction(
-        READ_COMMITTED,
+    return inTimedTransaction(
+        LockType.BLOCK,
+        validatorId,
         h -> {
-          lockForValidator(h, LockType.BLOCK, validatorId);
-
           if (!isEnabled(h, validatorId)) {
             LOG.warn(
                 "Signing attempted for disabled validator {}. To sign with this validator"
@@ -245,6 +248,32 @@ public class DbSlashingProtection implements SlashingProtection {
         });
   }
 
+  /**
+   * Runs the slashing checks for a validator in a transaction holding its lock, timing the checks
+   * and the commit as separate stages of the signing request.
+   */
+  private boolean inTimedTransaction(
+      final LockType lockType,
+      final int validatorId,
+      final HandleCallback<Boolean, RuntimeException> checks) {
+    final AtomicLong checksCompletedAt = new AtomicLong();
+    final boolean maySign =
+        jdbi.inTransaction(
+            READ_COMMITTED,
+            handle -> {
+              lockForValidator(handle, lockType, validatorId);
+              final boolean result;
+              try (final SigningStages.Timer ignored = SigningStages.time(CHECKS_STAGE)) {
+                result = checks.withHandle(handle);
+              }
+              checksCompletedAt.set(System.nanoTime());
+              return result;
+            });
+    SigningStages.record(
+        COMMIT_STAGE, checksCompletedAt.get(), System.nanoTime() - checksCompletedAt.get());
+    return maySign;
+  }
+
   @Override
   public boolean hasSlashingProtectionDataFor(final Bytes publicKey) {
     final Optional<Integer> maybeValidatorId =
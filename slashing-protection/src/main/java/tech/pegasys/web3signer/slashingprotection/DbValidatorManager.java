@@ -17,12 +17,21 @@ import tech.pegasys.web3signer.signing.KeystoreFileRecord;
 import tech.pegasys.web3signer.signing.ValidatorManager;
 import tech.pegasys.web3signer.slashingprotection.dao.ValidatorsDao;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import org.apache.tuweni.bytes.Bytes;
 import org.jdbi.v3.core.Jdbi;
 
 public class DbValidatorManager implements ValidatorManager {
+  // two advisory locks are held for each validator, keeping a batch within the Postgres default of
+  // 64 locks per transaction
+  @VisibleForTesting static final int DELETE_BATCH_SIZE = 25;
 
   private final ValidatorManager validatorManager;
   private final RegisteredValidators registeredValidators;
@@ -51,6 +60,61 @@ public class DbValidatorManager implements ValidatorManager {
         });
   }
 
+  @Override
+  public Map<Bytes, Exception> deleteValidators(final List<Bytes> publicKeys) {
+    final Map<Bytes, Exception> failures = new LinkedHashMap<>();
+    final Map<Bytes, Integer> validatorIds = new LinkedHashMap<>();
+    for (final Bytes publicKey : publicKeys) {
+      final Optional<Integer> validatorId =
+          registeredValidators.getValidatorIdForPublicKey(publicKey);
+      if (validatorId.isPresent()) {
+        validatorIds.put(publicKey, validatorId.get());
+      } else {
+        failures.put(
+            publicKey, new IllegalStateException("Unregistered validator for " + publicKey));
+      }
+    }
+
+    // lock in validator id order so that concurrent batches cannot deadlock each other
+    final List<Map.Entry<Bytes, Integer>> sortedValidators =
+        validatorIds.entrySet().stream().sorted(Map.Entry.comparingByValue()).toList();
+    for (final List<Map.Entry<Bytes, Integer>> batch :
+        Lists.partition(sortedValidators, DELETE_BATCH_SIZE)) {
+      failures.putAll(deleteValidatorBatch(batch));
+    }
+    return failures;
+  }
+
+  /**
+   * Deletes a batch of validators in its own transaction. Each validator holds an advisory lock for
+   * each lock type until the transaction ends, so batches are kept small enough that the locks fit
+   * in the Postgres lock table.
+   */
+  private Map<Bytes, Exception> deleteValidatorBatch(
+      final List<Map.Entry<Bytes, Integer>> validators) {
+    return jdbi.inTransaction(
+        handle -> {
+          final List<Integer> validatorIds = validators.stream().map(Map.Entry::getValue).toList();
+          validatorIds.forEach(validatorId -> DbLocker.lockAllForValidator(handle, validatorId));
+          validatorsDao.setEnabledBatch(handle, validatorIds, false);
+
+          final Map<Bytes, Exception> failures = new LinkedHashMap<>();
+          final List<Integer> failedValidatorIds = new ArrayList<>();
+          for (final Map.Entry<Bytes, Integer> validator : validators) {
+            try {
+              validatorManager.deleteValidator(validator.getKey());
+            } catch (final Exception e) {
+              failures.put(validator.getKey(), e);
+              failedValidatorIds.add(validator.getValue());
+            }
+          }
+
+          // validators which could not be deleted remain active and must stay enabled
+          validatorsDao.setEnabledBatch(handle, failedValidatorIds, true);
+          return failures;
+        });
+  }
+
   @Override
   public void addValidator(
       final BlsArtifactSigner signer, final KeystoreFileRecord keystoreFileRecord) {
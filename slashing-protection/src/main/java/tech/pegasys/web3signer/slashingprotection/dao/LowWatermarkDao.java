@@ -12,12 +12,14 @@
  */
 package tech.pegasys.web3signer.slashingprotection.dao;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.tuweni.units.bigints.UInt64;
 import org.jdbi.v3.core.Handle;
 
 public class LowWatermarkDao {
+  private static final int EXPORT_FETCH_SIZE = 1000;
 
   public Optional<SigningWatermark> findLowWatermarkForValidator(
       final Handle handle, final int validatorId) {
@@ -30,6 +32,18 @@ public class LowWatermarkDao {
         .findFirst();
   }
 
+  public List<SigningWatermark> findLowWatermarksForValidators(
+      final Handle handle, final List<Integer> validatorIds) {
+    return handle
+        .createQuery(
+            "SELECT validator_id, slot, source_epoch, target_epoch "
+                + "FROM low_watermarks WHERE validator_id = ANY(:validator_ids)")
+        .bindArray("validator_ids", Integer.class, validatorIds)
+        .setFetchSize(EXPORT_FETCH_SIZE)
+        .mapToBean(SigningWatermark.class)
+        .list();
+  }
+
   public void updateEpochWatermarksFor(
       final Handle handle,
       final int validatorId,
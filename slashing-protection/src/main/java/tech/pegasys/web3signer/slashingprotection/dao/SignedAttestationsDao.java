@@ -23,6 +23,8 @@ import org.apache.tuweni.units.bigints.UInt64;
 import org.jdbi.v3.core.Handle;
 
 public class SignedAttestationsDao {
+  // the attestations of many validators are exported together, so are fetched in pages
+  private static final int EXPORT_FETCH_SIZE = 1000;
 
   public List<SignedAttestation> findAttestationsForEpochWithDifferentSigningRoot(
       final Handle handle,
@@ -121,6 +123,19 @@ public class SignedAttestationsDao {
         .stream();
   }
 
+  public Stream<SignedAttestation> findAllAttestationsSignedBy(
+      final Handle handle, final List<Integer> validatorIds) {
+    return handle
+        .createQuery(
+            "SELECT validator_id, source_epoch, target_epoch, signing_root "
+                + "FROM signed_attestations WHERE validator_id = ANY(:validator_ids) "
+                + "ORDER BY validator_id")
+        .bindArray("validator_ids", Integer.class, validatorIds)
+        .setFetchSize(EXPORT_FETCH_SIZE)
+        .mapToBean(SignedAttestation.class)
+        .stream();
+  }
+
   public void deleteAttestationsBelowWatermark(final Handle handle, final int validatorId) {
     handle
         .createUpdate(
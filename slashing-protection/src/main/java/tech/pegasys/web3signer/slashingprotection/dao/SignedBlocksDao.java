@@ -23,6 +23,7 @@ import org.apache.tuweni.units.bigints.UInt64;
 import org.jdbi.v3.core.Handle;
 
 public class SignedBlocksDao {
+  private static final int EXPORT_FETCH_SIZE = 1000;
 
   public List<SignedBlock> findBlockForSlotWithDifferentSigningRoot(
       final Handle handle, final int validatorId, final UInt64 slot, final Bytes signingRoot) {
@@ -73,6 +74,18 @@ public class SignedBlocksDao {
         .stream();
   }
 
+  public Stream<SignedBlock> findAllBlockSignedBy(
+      final Handle handle, final List<Integer> validatorIds) {
+    return handle
+        .createQuery(
+            "SELECT validator_id, slot, signing_root FROM signed_blocks "
+                + "WHERE validator_id = ANY(:validator_ids) ORDER BY validator_id")
+        .bindArray("validator_ids", Integer.class, validatorIds)
+        .setFetchSize(EXPORT_FETCH_SIZE)
+        .mapToBean(SignedBlock.class)
+        .stream();
+  }
+
   public void deleteBlocksBelowWatermark(final Handle handle, final int validatorId) {
     handle
         .createUpdate(
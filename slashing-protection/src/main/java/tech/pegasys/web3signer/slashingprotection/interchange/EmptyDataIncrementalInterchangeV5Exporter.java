@@ -19,6 +19,7 @@ import tech.pegasys.web3signer.slashingprotection.interchange.model.Metadata;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.List;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.json.JsonMapper;
@@ -49,6 +50,9 @@ public class EmptyDataIncrementalInterchangeV5Exporter implements IncrementalExp
   @Override
   public void export(final String publicKey) {}
 
+  @Override
+  public void exportAll(final List<String> publicKeys) {}
+
   @Override
   public void finalise() {}
 
@@ -13,10 +13,21 @@
 package tech.pegasys.web3signer.slashingprotection.interchange;
 
 import java.io.IOException;
+import java.util.List;
 
 public interface IncrementalExporter extends AutoCloseable {
   void export(String publicKey);
 
+  /**
+   * Exports the slashing protection data of all the given public keys. Implementations backed by a
+   * database may fetch the data for all keys together rather than one key at a time.
+   *
+   * @param publicKeys public keys to export
+   */
+  default void exportAll(final List<String> publicKeys) {
+    publicKeys.forEach(this::export);
+  }
+
   void finalise() throws IOException;
 
   @Override
@@ -14,7 +14,9 @@ package tech.pegasys.web3signer.slashingprotection.interchange;
 
 import tech.pegasys.web3signer.slashingprotection.dao.LowWatermarkDao;
 import tech.pegasys.web3signer.slashingprotection.dao.MetadataDao;
+import tech.pegasys.web3signer.slashingprotection.dao.SignedAttestation;
 import tech.pegasys.web3signer.slashingprotection.dao.SignedAttestationsDao;
+import tech.pegasys.web3signer.slashingprotection.dao.SignedBlock;
 import tech.pegasys.web3signer.slashingprotection.dao.SignedBlocksDao;
 import tech.pegasys.web3signer.slashingprotection.dao.SigningWatermark;
 import tech.pegasys.web3signer.slashingprotection.dao.Validator;
@@ -24,11 +26,21 @@ import tech.pegasys.web3signer.slashingprotection.interchange.model.Metadata;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -145,6 +157,66 @@ public class InterchangeV5Exporter {
                     }));
   }
 
+  protected void populateInterchangeData(
+      final JsonGenerator jsonGenerator, final List<String> pubkeys) {
+    final List<Bytes> publicKeys = pubkeys.stream().map(Bytes::fromHexString).toList();
+    jdbi.useTransaction(
+        h -> {
+          final List<Validator> validators = validatorsDao.retrieveValidators(h, publicKeys);
+          if (validators.isEmpty()) {
+            return;
+          }
+          final List<Integer> validatorIds = validators.stream().map(Validator::getId).toList();
+          final Map<Integer, SigningWatermark> watermarks =
+              lowWatermarkDao.findLowWatermarksForValidators(h, validatorIds).stream()
+                  .collect(Collectors.toMap(SigningWatermark::getValidatorId, Function.identity()));
+
+          try (final Stream<SignedBlock> blocks =
+                  signedBlocksDao.findAllBlockSignedBy(h, validatorIds);
+              final Stream<SignedAttestation> attestations =
+                  signedAttestationsDao.findAllAttestationsSignedBy(h, validatorIds)) {
+            final PeekingIterator<SignedBlock> blockRows =
+                Iterators.peekingIterator(blocks.iterator());
+            final PeekingIterator<SignedAttestation> attestationRows =
+                Iterators.peekingIterator(attestations.iterator());
+
+            // validators and their signing history are all ordered by validator id, so the history
+            // of each validator is the next group of rows with its id
+            for (final Validator validator : validators) {
+              final int validatorId = validator.getId();
+              try {
+                writeValidatorRecord(
+                    validator,
+                    Optional.ofNullable(watermarks.get(validatorId)),
+                    () -> nextGroup(blockRows, validatorId, SignedBlock::getValidatorId),
+                    () ->
+                        nextGroup(attestationRows, validatorId, SignedAttestation::getValidatorId),
+                    jsonGenerator);
+              } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to construct a validator entry in json", e);
+              }
+            }
+          }
+        });
+  }
+
+  private static <T> Iterator<T> nextGroup(
+      final PeekingIterator<T> rows, final int validatorId, final ToIntFunction<T> validatorIdOf) {
+    // skip rows of any earlier validator whose history was not written
+    while (rows.hasNext() && validatorIdOf.applyAsInt(rows.peek()) < validatorId) {
+      rows.next();
+    }
+    return new AbstractIterator<>() {
+      @Override
+      protected T computeNext() {
+        if (rows.hasNext() && validatorIdOf.applyAsInt(rows.peek()) == validatorId) {
+          return rows.next();
+        }
+        return endOfData();
+      }
+    };
+  }
+
   private void populateValidatorRecord(
       final Handle handle,
       final Validator validator,
@@ -157,6 +229,24 @@ public class InterchangeV5Exporter {
     }
     final Optional<SigningWatermark> watermark =
         lowWatermarkDao.findLowWatermarkForValidator(handle, validator.getId());
+    writeValidatorRecord(
+        validator,
+        watermark,
+        () -> signedBlocksDao.findAllBlockSignedBy(handle, validator.getId()).iterator(),
+        () ->
+            signedAttestationsDao
+                .findAllAttestationsSignedBy(handle, validator.getId())
+                .iterator(),
+        jsonGenerator);
+  }
+
+  private void writeValidatorRecord(
+      final Validator validator,
+      final Optional<SigningWatermark> watermark,
+      final Supplier<Iterator<SignedBlock>> blocks,
+      final Supplier<Iterator<SignedAttestation>> attestations,
+      final JsonGenerator jsonGenerator)
+      throws IOException {
     if (watermark.isEmpty()) {
       LOG.warn(
           "No low watermark available, producing empty export for validator {}",
@@ -166,15 +256,15 @@ public class InterchangeV5Exporter {
     LOG.info("Exporting entries for validator {}", validator.getPublicKey().toHexString());
     jsonGenerator.writeStartObject();
     jsonGenerator.writeStringField("pubkey", validator.getPublicKey().toHexString());
-    writeBlocks(handle, watermark.get(), validator, jsonGenerator);
-    writeAttestations(handle, watermark.get(), validator, jsonGenerator);
+    writeBlocks(watermark.get(), validator, blocks, jsonGenerator);
+    writeAttestations(watermark.get(), validator, attestations, jsonGenerator);
     jsonGenerator.writeEndObject();
   }
 
   private void writeBlocks(
-      final Handle handle,
       final SigningWatermark watermark,
       final Validator validator,
+      final Supplier<Iterator<SignedBlock>> blocks,
       final JsonGenerator jsonGenerator)
       throws IOException {
     jsonGenerator.writeArrayFieldStart("signed_blocks");
@@ -185,9 +275,9 @@ public class InterchangeV5Exporter {
           validator.getPublicKey());
     } else {
 
-      signedBlocksDao
-          .findAllBlockSignedBy(handle, validator.getId())
-          .forEach(
+      blocks
+          .get()
+          .forEachRemaining(
               block -> {
                 if (block.getSlot().compareTo(watermark.getSlot()) >= 0) {
                   final tech.pegasys.web3signer.slashingprotection.interchange.model.SignedBlock
@@ -213,9 +303,9 @@ public class InterchangeV5Exporter {
   }
 
   private void writeAttestations(
-      final Handle handle,
       final SigningWatermark watermark,
       final Validator validator,
+      final Supplier<Iterator<SignedAttestation>> attestations,
       final JsonGenerator jsonGenerator)
       throws IOException {
     jsonGenerator.writeArrayFieldStart("signed_attestations");
@@ -225,9 +315,9 @@ public class InterchangeV5Exporter {
           "Missing attestation low watermark for {}, producing empty attestation listing",
           validator.getPublicKey());
     } else {
-      signedAttestationsDao
-          .findAllAttestationsSignedBy(handle, validator.getId())
-          .forEach(
+      attestations
+          .get()
+          .forEachRemaining(
               attestation -> {
                 if ((attestation.getSourceEpoch().compareTo(watermark.getSourceEpoch()) >= 0)
                     && (attestation.getTargetEpoch().compareTo(watermark.getTargetEpoch()) >= 0)) {
@@ -271,6 +361,11 @@ public class InterchangeV5Exporter {
       populateInterchangeData(jsonGenerator, publicKey);
     }
 
+    @Override
+    public void exportAll(final List<String> publicKeys) {
+      populateInterchangeData(jsonGenerator, publicKeys);
+    }
+
     @Override
     public void finalise() throws IOException {
       finaliseInterchangeExport(jsonGenerator);
@@ -14,6 +14,7 @@ package tech.pegasys.web3signer.slashingprotection;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -29,6 +30,11 @@ import tech.pegasys.web3signer.signing.KeystoreFileRecord;
 import tech.pegasys.web3signer.signing.config.metadata.SignerOrigin;
 import tech.pegasys.web3signer.slashingprotection.dao.ValidatorsDao;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import db.DatabaseSetupExtension;
 import org.apache.tuweni.bytes.Bytes;
 import org.jdbi.v3.core.Handle;
@@ -45,6 +51,8 @@ class DbValidatorManagerTest {
   @Mock private RegisteredValidators registeredValidators;
   private static final BLSKeyPair BLS_KEY_PAIR = BLSTestUtil.randomKeyPair(1);
   private static final Bytes PUBLIC_KEY = BLS_KEY_PAIR.getPublicKey().toBytesCompressed();
+  private static final Bytes PUBLIC_KEY2 =
+      BLSTestUtil.randomKeyPair(2).getPublicKey().toBytesCompressed();
   private static final BlsArtifactSigner SIGNER =
       new BlsArtifactSigner(BLS_KEY_PAIR, SignerOrigin.FILE_KEYSTORE);
 
@@ -76,6 +84,55 @@ class DbValidatorManagerTest {
     verify(fileValidatorManager).deleteValidator(PUBLIC_KEY);
   }
 
+  @Test
+  public void batchDeleteOnlyLeavesValidatorsWithFileErrorsEnabled(
+      final Jdbi jdbi, final Handle handle) {
+    insertValidator(handle, 1, PUBLIC_KEY, true);
+    insertValidator(handle, 2, PUBLIC_KEY2, true);
+    final RuntimeException error = new RuntimeException("error");
+    doThrow(error).when(fileValidatorManager).deleteValidator(PUBLIC_KEY2);
+    when(registeredValidators.getValidatorIdForPublicKey(PUBLIC_KEY)).thenReturn(Optional.of(1));
+    when(registeredValidators.getValidatorIdForPublicKey(PUBLIC_KEY2)).thenReturn(Optional.of(2));
+
+    final ValidatorsDao validatorsDao = new ValidatorsDao();
+    final DbValidatorManager dbValidatorManager =
+        new DbValidatorManager(fileValidatorManager, registeredValidators, jdbi, validatorsDao);
+    final Map<Bytes, Exception> failures =
+        dbValidatorManager.deleteValidators(List.of(PUBLIC_KEY, PUBLIC_KEY2));
+
+    assertThat(failures).containsExactly(entry(PUBLIC_KEY2, error));
+    assertThat(validatorsDao.isEnabled(handle, 1)).isFalse();
+    assertThat(validatorsDao.isEnabled(handle, 2)).isTrue();
+    verify(fileValidatorManager).deleteValidator(PUBLIC_KEY);
+  }
+
+  @Test
+  public void batchDeleteSpanningSeveralTransactionsDisablesAllDeletedValidators(
+      final Jdbi jdbi, final Handle handle) {
+    final int validatorCount = DbValidatorManager.DELETE_BATCH_SIZE * 2 + 1;
+    final List<Bytes> publicKeys = new ArrayList<>();
+    for (int i = 1; i <= validatorCount; i++) {
+      final Bytes publicKey = BLSTestUtil.randomKeyPair(i).getPublicKey().toBytesCompressed();
+      insertValidator(handle, i, publicKey, true);
+      when(registeredValidators.getValidatorIdForPublicKey(publicKey)).thenReturn(Optional.of(i));
+      publicKeys.add(publicKey);
+    }
+    final Bytes failingPublicKey = publicKeys.get(DbValidatorManager.DELETE_BATCH_SIZE + 1);
+    final RuntimeException error = new RuntimeException("error");
+    doThrow(error).when(fileValidatorManager).deleteValidator(failingPublicKey);
+
+    final ValidatorsDao validatorsDao = new ValidatorsDao();
+    final DbValidatorManager dbValidatorManager =
+        new DbValidatorManager(fileValidatorManager, registeredValidators, jdbi, validatorsDao);
+    final Map<Bytes, Exception> failures = dbValidatorManager.deleteValidators(publicKeys);
+
+    assertThat(failures).containsExactly(entry(failingPublicKey, error));
+    for (int i = 1; i <= validatorCount; i++) {
+      final boolean failed = i == DbValidatorManager.DELETE_BATCH_SIZE + 2;
+      assertThat(validatorsDao.isEnabled(handle, i)).isEqualTo(failed);
+    }
+  }
+
   @Test
   public void enablesValidatorWhenAdding(final Jdbi jdbi, final Handle handle) {
     insertValidator(handle, 1, PUBLIC_KEY, false);